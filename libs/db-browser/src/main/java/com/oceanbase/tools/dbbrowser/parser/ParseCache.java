@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.dbbrowser.parser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongBiFunction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * {@link ParseCache}
+ *
+ * Cache of parse results bounded by the approximate memory of the entries. The key of an entry is
+ * computed from the sql, eg. a {@link SqlFingerprint}, a cached value is returned for another sql
+ * with the same key only when the value is shareable, otherwise the sql must be the same.
+ *
+ * @author agent
+ */
+public class ParseCache<T> {
+
+    /**
+     * rough size of the fields and object headers of an entry
+     */
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+    private static final long ERROR_BYTES = 1024;
+
+    @Getter
+    private final String name;
+    private final Cache<String, Entry<T>> cache;
+    private final Function<String, String> keyFunction;
+    private final Predicate<T> shareable;
+    private final ToLongBiFunction<String, T> valueWeigher;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+
+    /**
+     * @param maximumBytes approximate memory budget of the cache
+     * @param keyFunction compute the key of a sql
+     * @param shareable whether a value can be returned for other sqls with the same key
+     * @param valueWeigher estimate the memory of a value in bytes, the sql of the value is provided
+     */
+    public ParseCache(@NonNull String name, long maximumBytes, @NonNull Function<String, String> keyFunction,
+            @NonNull Predicate<T> shareable, @NonNull ToLongBiFunction<String, T> valueWeigher) {
+        this.name = name;
+        this.keyFunction = keyFunction;
+        this.shareable = shareable;
+        this.valueWeigher = valueWeigher;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .<String, Entry<T>>weigher((key, entry) -> entry.weight)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                // evict in the caller thread so that the budget is never exceeded for long
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    public T get(@NonNull String sql, @NonNull Function<String, T> loader) {
+        String key = this.keyFunction.apply(sql);
+        Entry<T> entry = this.cache.getIfPresent(key);
+        if (entry != null && entry.matches(sql)) {
+            this.hitCount.increment();
+            return entry.element.get();
+        }
+        this.missCount.increment();
+        long startTime = System.nanoTime();
+        CacheElement<T> element;
+        T value = null;
+        try {
+            value = loader.apply(sql);
+            element = value == null ? null : new CacheElement<>(value);
+        } catch (Exception e) {
+            element = new CacheElement<>(e);
+        } finally {
+            this.totalLoadNanos.add(System.nanoTime() - startTime);
+        }
+        if (element == null) {
+            return null;
+        }
+        boolean share = value != null && this.shareable.test(value);
+        long weight = ENTRY_OVERHEAD_BYTES + 2L * key.length()
+                + (share ? 0 : 2L * sql.length())
+                + (value == null ? ERROR_BYTES : this.valueWeigher.applyAsLong(sql, value));
+        this.cache.put(key, new Entry<>(share ? null : sql, element, (int) Math.min(Integer.MAX_VALUE, weight)));
+        return element.get();
+    }
+
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hit = this.hitCount.sum();
+        long total = hit + this.missCount.sum();
+        return total == 0 ? 1.0 : (double) hit / total;
+    }
+
+    public long getEvictionCount() {
+        return this.cache.stats().evictionCount();
+    }
+
+    /**
+     * @return average time cost of the parses in millis
+     */
+    public double getAverageLoadMillis() {
+        long miss = this.missCount.sum();
+        return miss == 0 ? 0 : this.totalLoadNanos.sum() / 1e6 / miss;
+    }
+
+    /**
+     * @return approximate memory of the cached entries in bytes
+     */
+    public long getWeightedSize() {
+        return this.cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    public long getMaximumBytes() {
+        return this.cache.policy().eviction().map(e -> e.getMaximum()).orElse(0L);
+    }
+
+    public void setMaximumBytes(long maximumBytes) {
+        if (maximumBytes < 0) {
+            throw new IllegalArgumentException("Maximum bytes is illegal, " + maximumBytes);
+        }
+        this.cache.policy().eviction().ifPresent(e -> e.setMaximum(maximumBytes));
+    }
+
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    private static class Entry<T> {
+        /**
+         * the parsed sql, {@code null} if the value is shareable
+         */
+        private final String sql;
+        private final CacheElement<T> element;
+        private final int weight;
+
+        private Entry(String sql, CacheElement<T> element, int weight) {
+            this.sql = sql;
+            this.element = element;
+            this.weight = weight;
+        }
+
+        private boolean matches(String sql) {
+            return this.sql == null || this.sql.equals(sql);
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.dbbrowser.parser;
+
+import lombok.NonNull;
+
+/**
+ * {@link SqlFingerprint}
+ *
+ * Normalize a sql so that statements which differ only in whitespaces or literal values share the
+ * same fingerprint. The category of a literal is kept, eg. {@code 1} and {@code 1.5} or {@code 'a'}
+ * and {@code x'0a'} have different fingerprints, comments and quoted identifiers are kept as they
+ * are. The original sql is returned when it can not be normalized safely.
+ *
+ * @author agent
+ */
+public final class SqlFingerprint {
+
+    private static final String STRING_PLACEHOLDER = "'?'";
+    private static final String NUMBER_PLACEHOLDER = "0";
+
+    private SqlFingerprint() {}
+
+    public static String of(@NonNull String sql, boolean mysqlMode) {
+        int length = sql.length();
+        StringBuilder builder = new StringBuilder(Math.min(length, 256));
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                int last = builder.length() - 1;
+                pendingSpace = last >= 0 && builder.charAt(last) != '\n';
+                i++;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            char next = i + 1 < length ? sql.charAt(i + 1) : '\0';
+            if (isLineCommentStart(c, next, i + 2 < length ? sql.charAt(i + 2) : '\n', mysqlMode)) {
+                int end = sql.indexOf('\n', i);
+                end = end < 0 ? length : end + 1;
+                builder.append(sql, i, end);
+                i = end;
+            } else if (c == '/' && next == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                if (end < 0) {
+                    return sql;
+                }
+                builder.append(sql, i, end + 2);
+                i = end + 2;
+            } else if (c == '\'') {
+                char prev = builder.length() == 0 ? '\0' : builder.charAt(builder.length() - 1);
+                if (!mysqlMode && (prev == 'q' || prev == 'Q')) {
+                    // oracle alternative quoting, eg. q'[it's]'
+                    return sql;
+                }
+                int end = skipQuoted(sql, i, mysqlMode);
+                if (end < 0) {
+                    return sql;
+                }
+                if (isWordChar(prev, mysqlMode)) {
+                    // literal with a prefix, eg. x'0a', n'abc' or _utf8mb4'abc'
+                    builder.append(sql, i, end);
+                } else {
+                    builder.append(STRING_PLACEHOLDER);
+                }
+                i = end;
+            } else if (c == '"' || (mysqlMode && c == '`')) {
+                int end = skipQuoted(sql, i, mysqlMode && c == '"');
+                if (end < 0) {
+                    return sql;
+                }
+                builder.append(sql, i, end);
+                i = end;
+            } else if (isWordChar(c, mysqlMode)) {
+                int end = i + 1;
+                boolean digits = Character.isDigit(c);
+                while (end < length && isWordChar(sql.charAt(end), mysqlMode)) {
+                    digits &= Character.isDigit(sql.charAt(end));
+                    end++;
+                }
+                if (digits) {
+                    builder.append(NUMBER_PLACEHOLDER);
+                } else {
+                    builder.append(sql, i, end);
+                }
+                i = end;
+            } else {
+                builder.append(c);
+                i++;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isLineCommentStart(char c, char next, char afterNext, boolean mysqlMode) {
+        if (mysqlMode) {
+            // mysql requires a whitespace after '--'
+            return c == '#' || (c == '-' && next == '-' && Character.isWhitespace(afterNext));
+        }
+        return c == '-' && next == '-';
+    }
+
+    /**
+     * @return index right after the closing quote, -1 if the quote is not closed
+     */
+    private static int skipQuoted(String sql, int start, boolean backslashEscape) {
+        char quote = sql.charAt(start);
+        int length = sql.length();
+        for (int i = start + 1; i < length; i++) {
+            char c = sql.charAt(i);
+            if (backslashEscape && c == '\\') {
+                i++;
+            } else if (c == quote) {
+                if (i + 1 < length && sql.charAt(i + 1) == quote) {
+                    i++;
+                } else {
+                    return i + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWordChar(char c, boolean mysqlMode) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || (!mysqlMode && c == '#');
+    }
+
+}
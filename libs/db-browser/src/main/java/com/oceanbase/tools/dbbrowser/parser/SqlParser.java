@@ -16,16 +16,19 @@
 package com.oceanbase.tools.dbbrowser.parser;
 
 import java.io.StringReader;
-import java.util.concurrent.TimeUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
 
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.apache.commons.collections4.CollectionUtils;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.oceanbase.tools.dbbrowser.parser.listener.CustomErrorListener;
 import com.oceanbase.tools.dbbrowser.parser.listener.MysqlModeSqlParserListener;
 import com.oceanbase.tools.dbbrowser.parser.listener.OracleModeSqlParserListener;
@@ -48,47 +51,83 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SqlParser {
 
-    private final static Cache<String, CacheElement<ParseSqlResult>> OB_MYSQL_PARSE_CACHE =
-            Caffeine.newBuilder()
-                    .maximumSize(1000)
-                    .expireAfterWrite(10, TimeUnit.MINUTES)
-                    .build();
-    private final static Cache<String, CacheElement<ParseSqlResult>> OB_ORACLE_PARSE_CACHE =
-            Caffeine.newBuilder()
-                    .maximumSize(1000)
-                    .expireAfterWrite(10, TimeUnit.MINUTES)
-                    .build();
-    private final static Cache<String, CacheElement<Statement>> OB_MYSQL_STMT_PARSE_CACHE =
-            Caffeine.newBuilder()
-                    .maximumSize(1000)
-                    .expireAfterWrite(10, TimeUnit.MINUTES)
-                    .build();
-    private final static Cache<String, CacheElement<Statement>> OB_ORACLE_STMT_PARSE_CACHE =
-            Caffeine.newBuilder()
-                    .maximumSize(1000)
-                    .expireAfterWrite(10, TimeUnit.MINUTES)
-                    .build();
+    /**
+     * default memory budget of all the parse caches, 64MB
+     */
+    public static final long DEFAULT_CACHE_MAXIMUM_BYTES = 64L * 1024 * 1024;
+    /**
+     * rough memory cost of each char of a sql for an ast, eg. nodes, tokens and positions
+     */
+    private static final long STATEMENT_BYTES_PER_CHAR = 128;
+    private static final long PARSE_RESULT_BYTES = 512;
+    private static final long PARSE_RESULT_ITEM_BYTES = 256;
+    /**
+     * {@link ParseSqlResult} is keyed by the {@link SqlFingerprint} so that statements which differ
+     * only in literals share one entry, a result is shared only when it holds nothing derived from a
+     * literal, eg. a column default value
+     */
+    private final static ParseCache<ParseSqlResult> OB_MYSQL_PARSE_CACHE = new ParseCache<>(
+            "ob_mysql_parse_result", DEFAULT_CACHE_MAXIMUM_BYTES / 4, sql -> SqlFingerprint.of(sql, true),
+            SqlParser::isLiteralFree, SqlParser::weighParseResult);
+    private final static ParseCache<ParseSqlResult> OB_ORACLE_PARSE_CACHE = new ParseCache<>(
+            "ob_oracle_parse_result", DEFAULT_CACHE_MAXIMUM_BYTES / 4, sql -> SqlFingerprint.of(sql, false),
+            SqlParser::isLiteralFree, SqlParser::weighParseResult);
+    /**
+     * {@link Statement} holds the literals and the positions of the sql, so that it is keyed by the sql
+     * itself
+     */
+    private final static ParseCache<Statement> OB_MYSQL_STMT_PARSE_CACHE = new ParseCache<>(
+            "ob_mysql_statement", DEFAULT_CACHE_MAXIMUM_BYTES / 4, Function.identity(),
+            stmt -> false, SqlParser::weighStatement);
+    private final static ParseCache<Statement> OB_ORACLE_STMT_PARSE_CACHE = new ParseCache<>(
+            "ob_oracle_statement", DEFAULT_CACHE_MAXIMUM_BYTES / 4, Function.identity(),
+            stmt -> false, SqlParser::weighStatement);
+    private final static List<ParseCache<?>> CACHES = Collections.unmodifiableList(Arrays.asList(
+            OB_MYSQL_PARSE_CACHE, OB_ORACLE_PARSE_CACHE, OB_MYSQL_STMT_PARSE_CACHE, OB_ORACLE_STMT_PARSE_CACHE));
+    /**
+     * try {@link org.antlr.v4.runtime.atn.PredictionMode#SLL} first and fall back to full LL only on
+     * failure, the dfa is shared with {@link OBMySQLParser#DFA_CACHE} and
+     * {@link OBOracleSQLParser#DFA_CACHE}
+     */
+    private static volatile boolean twoStageParse = false;
+
+    public static void setTwoStageParse(boolean twoStageParse) {
+        SqlParser.twoStageParse = twoStageParse;
+    }
+
+    public static boolean isTwoStageParse() {
+        return twoStageParse;
+    }
+
+    /**
+     * Set the approximate memory budget of all the parse caches, the budget is shared evenly by the
+     * caches
+     */
+    public static void setCacheMaximumBytes(long maximumBytes) {
+        if (maximumBytes < 0) {
+            throw new IllegalArgumentException("Maximum bytes is illegal, " + maximumBytes);
+        }
+        CACHES.forEach(c -> c.setMaximumBytes(maximumBytes / CACHES.size()));
+    }
+
+    public static List<ParseCache<?>> getCaches() {
+        return CACHES;
+    }
 
     public static Statement parseMysqlStatement(@NonNull String sql) {
-        CacheElement<Statement> value = OB_MYSQL_STMT_PARSE_CACHE.get(sql, s -> {
-            try {
-                return new CacheElement<>(new OBMySQLParser().parse(new StringReader(sql)));
-            } catch (Exception e) {
-                return new CacheElement<>(e);
-            }
+        return OB_MYSQL_STMT_PARSE_CACHE.get(sql, s -> {
+            OBMySQLParser parser = new OBMySQLParser();
+            parser.setTwoStageParse(twoStageParse);
+            return parser.parse(new StringReader(s));
         });
-        return value == null ? null : value.get();
     }
 
     public static Statement parseOracleStatement(@NonNull String sql) {
-        CacheElement<Statement> value = OB_ORACLE_STMT_PARSE_CACHE.get(sql, s -> {
-            try {
-                return new CacheElement<>(new OBOracleSQLParser().parse(new StringReader(sql)));
-            } catch (Exception e) {
-                return new CacheElement<>(e);
-            }
+        return OB_ORACLE_STMT_PARSE_CACHE.get(sql, s -> {
+            OBOracleSQLParser parser = new OBOracleSQLParser();
+            parser.setTwoStageParse(twoStageParse);
+            return parser.parse(new StringReader(s));
         });
-        return value == null ? null : value.get();
     }
 
     public static ParseSqlResult parseMysql(final String sql) {
@@ -96,14 +135,7 @@ public class SqlParser {
     }
 
     public static ParseSqlResult parseMysql(final String sql, long timeoutMillis) {
-        CacheElement<ParseSqlResult> value = OB_MYSQL_PARSE_CACHE.get(sql, s -> {
-            try {
-                return new CacheElement<>(doParseMysql(sql, timeoutMillis));
-            } catch (Exception e) {
-                return new CacheElement<>(e);
-            }
-        });
-        return value == null ? null : value.get();
+        return OB_MYSQL_PARSE_CACHE.get(sql, s -> doParseMysql(s, timeoutMillis));
     }
 
     private static ParseSqlResult doParseMysql(final String sql, long timeoutMillis) {
@@ -124,6 +156,9 @@ public class SqlParser {
         OBParser parser = new OBParser(tokens);
         parser.addErrorListener(new CustomErrorListener());
         log.info("Time cost for sql parsing is {}ms, sql={}", (System.currentTimeMillis() - startTime), sql);
+        if (twoStageParse) {
+            return parseMysql(OBMySQLParser.DFA_CACHE.parse(parser, OBParser::stmt));
+        }
         return parseMysql(parser.stmt());
     }
 
@@ -141,14 +176,7 @@ public class SqlParser {
     }
 
     public static ParseSqlResult parseOracle(final String sql, long timeoutMillis) {
-        CacheElement<ParseSqlResult> value = OB_ORACLE_PARSE_CACHE.get(sql, s -> {
-            try {
-                return new CacheElement<>(doParseOracle(sql, timeoutMillis));
-            } catch (Exception e) {
-                return new CacheElement<>(e);
-            }
-        });
-        return value == null ? null : value.get();
+        return OB_ORACLE_PARSE_CACHE.get(sql, s -> doParseOracle(s, timeoutMillis));
     }
 
     private static ParseSqlResult doParseOracle(final String sql, long timeoutMillis) {
@@ -171,6 +199,10 @@ public class SqlParser {
                 new com.oceanbase.tools.sqlparser.oboracle.OBParser(tokens);
         parser.addErrorListener(new CustomErrorListener());
         log.info("Time cost for sql parsing is {}ms, sql={}", (System.currentTimeMillis() - startTime), sql);
+        if (twoStageParse) {
+            return parseOracle(OBOracleSQLParser.DFA_CACHE.parse(parser,
+                    com.oceanbase.tools.sqlparser.oboracle.OBParser::stmt));
+        }
         return parseOracle(parser.stmt());
     }
 
@@ -181,4 +213,25 @@ public class SqlParser {
         return new ParseSqlResult(listener);
     }
 
+    private static boolean isLiteralFree(ParseSqlResult result) {
+        return !Boolean.TRUE.equals(result.getSyntaxError())
+                && CollectionUtils.isEmpty(result.getColumns())
+                && CollectionUtils.isEmpty(result.getIndexes())
+                && CollectionUtils.isEmpty(result.getForeignConstraint());
+    }
+
+    private static long weighParseResult(String sql, ParseSqlResult result) {
+        long items = size(result.getColumns()) + size(result.getIndexes())
+                + size(result.getForeignConstraint()) + size(result.getDbObjectNameList());
+        return PARSE_RESULT_BYTES + PARSE_RESULT_ITEM_BYTES * items;
+    }
+
+    private static long weighStatement(String sql, Statement statement) {
+        return STATEMENT_BYTES_PER_CHAR * sql.length();
+    }
+
+    private static int size(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+
 }
@@ -720,55 +720,65 @@ public class MySQLNoLessThan5700SchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, List<DBTableIndex>> listTableIndexes(String schemaName) {
-        String sql = sqlMapper.getSql(Statements.LIST_SCHEMA_INDEX);
-        Map<String, DBTableIndex> fullIndexName2Index = new LinkedHashMap<>();
-        jdbcOperations.query(sql, new Object[] {schemaName}, (rs, num) -> {
-            String tableName = rs.getString("TABLE_NAME");
-            String indexName = rs.getString("INDEX_NAME");
+        return listTableIndexes(schemaName, Collections.emptyList());
+    }
 
-            if (!fullIndexName2Index.containsKey(tableName + indexName)) {
-                DBTableIndex index = new DBTableIndex();
-                index.setSchemaName(rs.getString("TABLE_SCHEMA"));
-                index.setTableName(rs.getString("TABLE_NAME"));
-                index.setName(indexName);
-                index.setOrdinalPosition(rs.getInt("SEQ_IN_INDEX"));
-                index.setPrimary(indexName.equalsIgnoreCase("PRIMARY"));
-                index.setCardinality(rs.getLong("CARDINALITY"));
-                index.setComment(rs.getString("INDEX_COMMENT"));
-                index.setAdditionalInfo(rs.getString("COMMENT"));
-                index.setNonUnique(rs.getInt("NON_UNIQUE") != 0);
-                if (isIndexDistinguishesVisibility()) {
-                    String visible = rs.getString("IS_VISIBLE");
-                    if (Objects.nonNull(visible)) {
-                        index.setVisible(visible.equalsIgnoreCase("YES"));
+    /**
+     * Get indexes of the given tables, indexes of all tables in the schema are got if tableNames is
+     * empty
+     */
+    protected Map<String, List<DBTableIndex>> listTableIndexes(String schemaName, List<String> tableNames) {
+        Map<String, DBTableIndex> fullIndexName2Index = new LinkedHashMap<>();
+        DBSchemaAccessorUtil.partitionFind(tableNames, DBSchemaAccessorUtil.OB_MAX_IN_SIZE, names -> {
+            String sql = filterByValues(sqlMapper.getSql(Statements.LIST_SCHEMA_INDEX), "TABLE_NAME", names);
+            return jdbcOperations.query(sql, new Object[] {schemaName}, (rs, num) -> {
+                String tableName = rs.getString("TABLE_NAME");
+                String indexName = rs.getString("INDEX_NAME");
+
+                if (!fullIndexName2Index.containsKey(tableName + indexName)) {
+                    DBTableIndex index = new DBTableIndex();
+                    index.setSchemaName(rs.getString("TABLE_SCHEMA"));
+                    index.setTableName(rs.getString("TABLE_NAME"));
+                    index.setName(indexName);
+                    index.setOrdinalPosition(rs.getInt("SEQ_IN_INDEX"));
+                    index.setPrimary(indexName.equalsIgnoreCase("PRIMARY"));
+                    index.setCardinality(rs.getLong("CARDINALITY"));
+                    index.setComment(rs.getString("INDEX_COMMENT"));
+                    index.setAdditionalInfo(rs.getString("COMMENT"));
+                    index.setNonUnique(rs.getInt("NON_UNIQUE") != 0);
+                    if (isIndexDistinguishesVisibility()) {
+                        String visible = rs.getString("IS_VISIBLE");
+                        if (Objects.nonNull(visible)) {
+                            index.setVisible(visible.equalsIgnoreCase("YES"));
+                        }
+                    } else {
+                        index.setVisible(true);
                     }
-                } else {
-                    index.setVisible(true);
-                }
-                index.setCollation(rs.getString("COLLATION"));
-                index.setAlgorithm(DBIndexAlgorithm.fromString(rs.getString("INDEX_TYPE")));
-                if (index.getAlgorithm() == DBIndexAlgorithm.FULLTEXT) {
-                    index.setType(DBIndexType.FULLTEXT);
-                } else if (index.getAlgorithm() == DBIndexAlgorithm.RTREE
-                        || index.getAlgorithm() == DBIndexAlgorithm.SPATIAL) {
-                    index.setType(DBIndexType.SPATIAL);
-                } else {
-                    if (index.isNonUnique()) {
-                        index.setType(DBIndexType.NORMAL);
+                    index.setCollation(rs.getString("COLLATION"));
+                    index.setAlgorithm(DBIndexAlgorithm.fromString(rs.getString("INDEX_TYPE")));
+                    if (index.getAlgorithm() == DBIndexAlgorithm.FULLTEXT) {
+                        index.setType(DBIndexType.FULLTEXT);
+                    } else if (index.getAlgorithm() == DBIndexAlgorithm.RTREE
+                            || index.getAlgorithm() == DBIndexAlgorithm.SPATIAL) {
+                        index.setType(DBIndexType.SPATIAL);
                     } else {
-                        index.setType(DBIndexType.UNIQUE);
+                        if (index.isNonUnique()) {
+                            index.setType(DBIndexType.NORMAL);
+                        } else {
+                            index.setType(DBIndexType.UNIQUE);
+                        }
                     }
+                    List<String> columnNames = new ArrayList<>();
+                    columnNames.add(rs.getString("COLUMN_NAME"));
+                    index.setColumnNames(columnNames);
+                    index.setGlobal(true);
+                    fullIndexName2Index.put(tableName + indexName, index);
+                } else {
+                    fullIndexName2Index.get(tableName + indexName).getColumnNames()
+                            .add(rs.getString(MySQLConstants.IDX_COLUMN_NAME));
                 }
-                List<String> columnNames = new ArrayList<>();
-                columnNames.add(rs.getString("COLUMN_NAME"));
-                index.setColumnNames(columnNames);
-                index.setGlobal(true);
-                fullIndexName2Index.put(tableName + indexName, index);
-            } else {
-                fullIndexName2Index.get(tableName + indexName).getColumnNames()
-                        .add(rs.getString(MySQLConstants.IDX_COLUMN_NAME));
-            }
-            return null;
+                return null;
+            });
         });
 
         Map<String, List<DBTableIndex>> tableName2Indexes =
@@ -786,54 +796,60 @@ public class MySQLNoLessThan5700SchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, List<DBTableConstraint>> listTableConstraints(String schemaName) {
-        SqlBuilder sqlBuilder = new MySQLSqlBuilder();
-        String sql =
-                sqlBuilder
-                        .append(
-                                "select t1.CONSTRAINT_NAME, t1.CONSTRAINT_SCHEMA, t1.TABLE_NAME, t1.COLUMN_NAME, t1"
-                                        + ".ORDINAL_POSITION, "
-                                        + "t1.REFERENCED_TABLE_SCHEMA, t1.REFERENCED_TABLE_NAME, t1.REFERENCED_COLUMN_NAME, t2"
-                                        + ".CONSTRAINT_TYPE from ")
-                        .append(MySQLConstants.META_TABLE_KEY_COLUMN_USAGE)
-                        .append(" t1 left join ")
-                        .append(MySQLConstants.META_TABLE_TABLE_CONSTRAINTS)
-                        .append(
-                                " t2 on t1.table_name=t2.table_name and t1.table_schema=t2.table_schema and t1.constraint_name=t2"
-                                        + ".constraint_name")
-                        .append(" where t1.table_schema=")
-                        .value(schemaName)
-                        .append(" order by t1.CONSTRAINT_NAME, t1.ORDINAL_POSITION asc;")
-                        .toString();
-        Map<String, DBTableConstraint> fullConstraintName2Constraint = new LinkedHashMap<>();
-        jdbcOperations.query(sql, (rs, num) -> {
-            String constraintName = rs.getString(MySQLConstants.CONS_NAME);
-            String tableName = rs.getString(MySQLConstants.COL_TABLE_NAME);
-            if (!fullConstraintName2Constraint.containsKey(tableName + constraintName)) {
-                DBTableConstraint constraint = new DBTableConstraint();
-                constraint.setName(constraintName);
-                List<String> columnNames = new ArrayList<>();
-                columnNames.add(rs.getString(MySQLConstants.CONS_COL_NAME));
-                constraint.setColumnNames(columnNames);
-                constraint.setOrdinalPosition(rs.getInt(MySQLConstants.COL_ORDINAL_POSITION));
-                constraint.setOwner(rs.getString(MySQLConstants.CONS_CONSTRAINT_SCHEMA));
-                constraint.setSchemaName(schemaName);
-                constraint.setTableName(tableName);
-                constraint.setReferenceSchemaName(rs.getString(MySQLConstants.CONS_REFERENCED_TABLE_SCHEMA));
-                constraint.setReferenceTableName(rs.getString(MySQLConstants.CONS_REFERENCED_TABLE_NAME));
-                constraint.setType(DBConstraintType.fromValue(rs.getString(MySQLConstants.CONS_TYPE)));
-                List<String> referencedColumnNames = new ArrayList<>();
-                referencedColumnNames.add(rs.getString(MySQLConstants.CONS_REFERENCED_COLUMN_NAME));
-                constraint.setReferenceColumnNames(referencedColumnNames);
+        return listTableConstraints(schemaName, Collections.emptyList());
+    }
 
-                fullConstraintName2Constraint.put(tableName + constraintName, constraint);
-            } else {
-                fullConstraintName2Constraint.get(tableName + constraintName).getColumnNames()
-                        .add(rs.getString(MySQLConstants.CONS_COL_NAME));
-                fullConstraintName2Constraint.get(tableName + constraintName).getReferenceColumnNames()
-                        .add(rs.getString(MySQLConstants.CONS_REFERENCED_COLUMN_NAME));
-            }
+    /**
+     * Get constraints of the given tables, constraints of all tables in the schema are got if
+     * tableNames is empty
+     */
+    protected Map<String, List<DBTableConstraint>> listTableConstraints(String schemaName, List<String> tableNames) {
+        Map<String, DBTableConstraint> fullConstraintName2Constraint = new LinkedHashMap<>();
+        DBSchemaAccessorUtil.partitionFind(tableNames, DBSchemaAccessorUtil.OB_MAX_IN_SIZE, names -> {
+            SqlBuilder sqlBuilder = new MySQLSqlBuilder();
+            sqlBuilder.append("select t1.CONSTRAINT_NAME, t1.CONSTRAINT_SCHEMA, t1.TABLE_NAME, t1.COLUMN_NAME, t1"
+                    + ".ORDINAL_POSITION, "
+                    + "t1.REFERENCED_TABLE_SCHEMA, t1.REFERENCED_TABLE_NAME, t1.REFERENCED_COLUMN_NAME, t2"
+                    + ".CONSTRAINT_TYPE from ")
+                    .append(MySQLConstants.META_TABLE_KEY_COLUMN_USAGE)
+                    .append(" t1 left join ")
+                    .append(MySQLConstants.META_TABLE_TABLE_CONSTRAINTS)
+                    .append(" t2 on t1.table_name=t2.table_name and t1.table_schema=t2.table_schema and t1.constraint_name=t2"
+                            + ".constraint_name")
+                    .append(" where t1.table_schema=")
+                    .value(schemaName);
+            appendTableNameFilter(sqlBuilder, "t1.table_name", names);
+            String sql = sqlBuilder.append(" order by t1.CONSTRAINT_NAME, t1.ORDINAL_POSITION asc;").toString();
+            return jdbcOperations.query(sql, (rs, num) -> {
+                String constraintName = rs.getString(MySQLConstants.CONS_NAME);
+                String tableName = rs.getString(MySQLConstants.COL_TABLE_NAME);
+                if (!fullConstraintName2Constraint.containsKey(tableName + constraintName)) {
+                    DBTableConstraint constraint = new DBTableConstraint();
+                    constraint.setName(constraintName);
+                    List<String> columnNames = new ArrayList<>();
+                    columnNames.add(rs.getString(MySQLConstants.CONS_COL_NAME));
+                    constraint.setColumnNames(columnNames);
+                    constraint.setOrdinalPosition(rs.getInt(MySQLConstants.COL_ORDINAL_POSITION));
+                    constraint.setOwner(rs.getString(MySQLConstants.CONS_CONSTRAINT_SCHEMA));
+                    constraint.setSchemaName(schemaName);
+                    constraint.setTableName(tableName);
+                    constraint.setReferenceSchemaName(rs.getString(MySQLConstants.CONS_REFERENCED_TABLE_SCHEMA));
+                    constraint.setReferenceTableName(rs.getString(MySQLConstants.CONS_REFERENCED_TABLE_NAME));
+                    constraint.setType(DBConstraintType.fromValue(rs.getString(MySQLConstants.CONS_TYPE)));
+                    List<String> referencedColumnNames = new ArrayList<>();
+                    referencedColumnNames.add(rs.getString(MySQLConstants.CONS_REFERENCED_COLUMN_NAME));
+                    constraint.setReferenceColumnNames(referencedColumnNames);
+
+                    fullConstraintName2Constraint.put(tableName + constraintName, constraint);
+                } else {
+                    fullConstraintName2Constraint.get(tableName + constraintName).getColumnNames()
+                            .add(rs.getString(MySQLConstants.CONS_COL_NAME));
+                    fullConstraintName2Constraint.get(tableName + constraintName).getReferenceColumnNames()
+                            .add(rs.getString(MySQLConstants.CONS_REFERENCED_COLUMN_NAME));
+                }
 
-            return constraintName;
+                return constraintName;
+            });
         });
         for (DBTableConstraint constraint : fullConstraintName2Constraint.values()) {
             if (Objects.nonNull(constraint.getReferenceColumnNames())) {
@@ -851,6 +867,14 @@ public class MySQLNoLessThan5700SchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, DBTableOptions> listTableOptions(String schemaName) {
+        return listTableOptions(schemaName, Collections.emptyList());
+    }
+
+    /**
+     * Get options of the given tables, options of all tables in the schema are got if tableNames is
+     * empty
+     */
+    protected Map<String, DBTableOptions> listTableOptions(String schemaName, List<String> tableNames) {
         // 查询 collation 和 charset 的映射关系，加载到内存
         String collationAndCharsetQuery =
                 "select COLLATION_NAME, CHARACTER_SET_NAME from information_schema.collation_character_set_applicability";
@@ -862,22 +886,26 @@ public class MySQLNoLessThan5700SchemaAccessor implements DBSchemaAccessor {
         });
 
         Map<String, DBTableOptions> tableName2TableOptions = new LinkedHashMap<>();
-        String sql = new MySQLSqlBuilder().append("select `TABLE_NAME`, `CREATE_TIME`, `UPDATE_TIME`, `AUTO_INCREMENT`,"
-                + " `TABLE_COLLATION`, `TABLE_COMMENT` from `information_schema`.`tables` where table_schema=")
-                .value(schemaName).toString();
-        jdbcOperations.query(sql, t -> {
-            String tableName = t.getString("TABLE_NAME");
-            DBTableOptions options = new DBTableOptions();
-            tableName2TableOptions.putIfAbsent(tableName, options);
-
-            options.setCreateTime(t.getTimestamp("CREATE_TIME"));
-            options.setUpdateTime(t.getTimestamp("UPDATE_TIME"));
-            options.setAutoIncrementInitialValue(t.getLong("AUTO_INCREMENT"));
-            options.setComment(t.getString("TABLE_COMMENT"));
-            options.setCollationName(t.getString("TABLE_COLLATION"));
-            if (collation2Charset.containsKey(options.getCollationName())) {
-                options.setCharsetName(collation2Charset.get(options.getCollationName()));
-            }
+        DBSchemaAccessorUtil.partitionFind(tableNames, DBSchemaAccessorUtil.OB_MAX_IN_SIZE, names -> {
+            SqlBuilder sqlBuilder = new MySQLSqlBuilder().append("select `TABLE_NAME`, `CREATE_TIME`, `UPDATE_TIME`,"
+                    + " `AUTO_INCREMENT`, `TABLE_COLLATION`, `TABLE_COMMENT` from `information_schema`.`tables`"
+                    + " where table_schema=").value(schemaName);
+            appendTableNameFilter(sqlBuilder, "table_name", names);
+            return jdbcOperations.query(sqlBuilder.toString(), (t, num) -> {
+                String tableName = t.getString("TABLE_NAME");
+                DBTableOptions options = new DBTableOptions();
+                tableName2TableOptions.putIfAbsent(tableName, options);
+
+                options.setCreateTime(t.getTimestamp("CREATE_TIME"));
+                options.setUpdateTime(t.getTimestamp("UPDATE_TIME"));
+                options.setAutoIncrementInitialValue(t.getLong("AUTO_INCREMENT"));
+                options.setComment(t.getString("TABLE_COMMENT"));
+                options.setCollationName(t.getString("TABLE_COLLATION"));
+                if (collation2Charset.containsKey(options.getCollationName())) {
+                    options.setCharsetName(collation2Charset.get(options.getCollationName()));
+                }
+                return null;
+            });
         });
         return tableName2TableOptions;
     }
@@ -1019,7 +1047,8 @@ public class MySQLNoLessThan5700SchemaAccessor implements DBSchemaAccessor {
             List<Map<String, Object>> group = partiName2Res.keySet().stream().map(partiName -> {
                 List<Map<String, Object>> rows = partiName2Res.get(partiName);
                 Map<String, Object> row = rows.get(0);
-                row.put("SUB_NUM", rows.size() == 1 ? 0 : rows.size());
+                // same as COUNT(SUBPARTITION_NAME) of the per-table query
+                row.put("SUB_NUM", (int) rows.stream().filter(r -> r.get("SUBPARTITION_NAME") != null).count());
                 return row;
             }).collect(Collectors.toList());
             return getFromResultSet(group, schemaName, e.getKey());
@@ -1031,6 +1060,17 @@ public class MySQLNoLessThan5700SchemaAccessor implements DBSchemaAccessor {
         throw new UnsupportedOperationException("Not supported yet");
     }
 
+    private void appendTableNameFilter(SqlBuilder sqlBuilder, String colName, List<String> tableNames) {
+        if (CollectionUtils.isEmpty(tableNames)) {
+            return;
+        }
+        sqlBuilder.append(" and ").append(colName).append(" in (");
+        for (int i = 0; i < tableNames.size(); i++) {
+            sqlBuilder.append(i == 0 ? "" : ",").value(tableNames.get(i));
+        }
+        sqlBuilder.append(")");
+    }
+
     protected String filterByValues(String target, String colName, List<String> candidates) {
         if (CollectionUtils.isEmpty(candidates)) {
             return target;
@@ -1453,16 +1493,18 @@ public class MySQLNoLessThan5700SchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, DBTable> getTables(@NonNull String schemaName, List<String> tableNames) {
-        // TODO: Only query the table information of tableNames passed upstream
         Map<String, DBTable> returnVal = new HashMap<>();
-        tableNames = showTables(schemaName);
+        boolean filtered = CollectionUtils.isNotEmpty(tableNames);
+        tableNames = DBSchemaAccessorUtil.filterTableNames(showTables(schemaName), tableNames);
         if (tableNames.isEmpty()) {
             return returnVal;
         }
-        Map<String, List<DBTableColumn>> tableName2Columns = listTableColumns(schemaName, Collections.emptyList());
-        Map<String, List<DBTableIndex>> tableName2Indexes = listTableIndexes(schemaName);
-        Map<String, List<DBTableConstraint>> tableName2Constraints = listTableConstraints(schemaName);
-        Map<String, DBTableOptions> tableName2Options = listTableOptions(schemaName);
+        List<String> filter = filtered ? tableNames : Collections.emptyList();
+        Map<String, List<DBTableColumn>> tableName2Columns = listTableColumns(schemaName, filter);
+        Map<String, List<DBTableIndex>> tableName2Indexes = listTableIndexes(schemaName, filter);
+        Map<String, List<DBTableConstraint>> tableName2Constraints = listTableConstraints(schemaName, filter);
+        Map<String, DBTableOptions> tableName2Options = listTableOptions(schemaName, filter);
+        Map<String, DBTablePartition> tableName2Partition = getTablePartitions(schemaName, tableNames, filtered);
         for (String tableName : tableNames) {
             if (!tableName2Columns.containsKey(tableName)) {
                 continue;
@@ -1475,10 +1517,39 @@ public class MySQLNoLessThan5700SchemaAccessor implements DBSchemaAccessor {
             table.setIndexes(tableName2Indexes.getOrDefault(tableName, new ArrayList<>()));
             table.setConstraints(tableName2Constraints.getOrDefault(tableName, new ArrayList<>()));
             table.setTableOptions(tableName2Options.getOrDefault(tableName, new DBTableOptions()));
-            table.setPartition(getPartition(schemaName, tableName));
+            table.setPartition(tableName2Partition.get(tableName));
             table.setDDL(getTableDDL(schemaName, tableName));
             returnVal.put(tableName, table);
         }
         return returnVal;
     }
+
+    /**
+     * Partitions of the tables are listed by one dictionary query, a table which is absent from the
+     * result is not partitioned. Partitions are got table by table if the query fails.
+     *
+     * @param filtered whether to query partitions of the given tables only or of the whole schema
+     */
+    protected Map<String, DBTablePartition> getTablePartitions(String schemaName, List<String> tableNames,
+            boolean filtered) {
+        Map<String, DBTablePartition> tableName2Partition = new HashMap<>();
+        try {
+            Map<String, DBTablePartition> partitions =
+                    listTablePartitions(schemaName, filtered ? tableNames : Collections.emptyList());
+            tableNames.forEach(tableName -> tableName2Partition.put(tableName, partitions.containsKey(tableName)
+                    ? partitions.get(tableName)
+                    : getFromResultSet(Collections.emptyList(), schemaName, tableName)));
+            return tableName2Partition;
+        } catch (Exception e) {
+            log.warn("Failed to list table partitions, schemaName={}", schemaName, e);
+        }
+        for (String tableName : tableNames) {
+            try {
+                tableName2Partition.put(tableName, getPartition(schemaName, tableName));
+            } catch (Exception e) {
+                log.warn("Failed to get table partition, schemaName={}, tableName={}", schemaName, tableName, e);
+            }
+        }
+        return tableName2Partition;
+    }
 }
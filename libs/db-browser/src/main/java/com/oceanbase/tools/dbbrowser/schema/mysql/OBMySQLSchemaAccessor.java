@@ -45,6 +45,7 @@ import com.oceanbase.tools.dbbrowser.model.DBTable.DBTableOptions;
 import com.oceanbase.tools.dbbrowser.model.DBTableColumn;
 import com.oceanbase.tools.dbbrowser.model.DBTableConstraint;
 import com.oceanbase.tools.dbbrowser.model.DBTableIndex;
+import com.oceanbase.tools.dbbrowser.model.DBTablePartition;
 import com.oceanbase.tools.dbbrowser.parser.SqlParser;
 import com.oceanbase.tools.dbbrowser.parser.result.ParseSqlResult;
 import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessorSqlMappers;
@@ -318,8 +319,8 @@ public class OBMySQLSchemaAccessor extends MySQLNoLessThan5700SchemaAccessor {
     }
 
     @Override
-    public Map<String, List<DBTableIndex>> listTableIndexes(String schemaName) {
-        Map<String, List<DBTableIndex>> tableName2Indexes = super.listTableIndexes(schemaName);
+    protected Map<String, List<DBTableIndex>> listTableIndexes(String schemaName, List<String> tableNames) {
+        Map<String, List<DBTableIndex>> tableName2Indexes = super.listTableIndexes(schemaName, tableNames);
         for (Map.Entry<String, List<DBTableIndex>> entry : tableName2Indexes.entrySet()) {
             fillIndexInfo(entry.getValue(), schemaName, entry.getKey());
             for (DBTableIndex index : entry.getValue()) {
@@ -331,15 +332,17 @@ public class OBMySQLSchemaAccessor extends MySQLNoLessThan5700SchemaAccessor {
         return tableName2Indexes;
     }
 
+    /**
+     * list indexes of the tables in tableName2Ddl only, index info is parsed from the ddl
+     */
     public Map<String, List<DBTableIndex>> listTableIndexes(String schemaName, Map<String, String> tableName2Ddl) {
-        Map<String, List<DBTableIndex>> tableName2Indexes = super.listTableIndexes(schemaName);
-        tableName2Indexes.keySet().forEach(tableName -> {
-            if (tableName2Ddl.containsKey(tableName)) {
-                parseDdlToSetIndexInfo(tableName2Ddl.get(tableName), tableName2Indexes.get(tableName));
-            } else {
-                fillIndexInfo(tableName2Indexes.get(tableName), schemaName, tableName);
-            }
-        });
+        if (tableName2Ddl.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<String, List<DBTableIndex>> tableName2Indexes =
+                super.listTableIndexes(schemaName, new ArrayList<>(tableName2Ddl.keySet()));
+        tableName2Indexes.forEach(
+                (tableName, indexes) -> parseDdlToSetIndexInfo(tableName2Ddl.get(tableName), indexes));
         return tableName2Indexes;
     }
 
@@ -441,19 +444,21 @@ public class OBMySQLSchemaAccessor extends MySQLNoLessThan5700SchemaAccessor {
 
     @Override
     public Map<String, DBTable> getTables(@NonNull String schemaName, List<String> tableNames) {
-        // TODO: Only query the table information of tableNames passed upstream
         Map<String, DBTable> returnVal = new HashMap<>();
-        tableNames = showTables(schemaName);
+        boolean filtered = CollectionUtils.isNotEmpty(tableNames);
+        tableNames = DBSchemaAccessorUtil.filterTableNames(showTables(schemaName), tableNames);
         if (tableNames.isEmpty()) {
             return returnVal;
         }
         Map<String, String> tableName2Ddl = new HashMap<>();
         tableNames.stream()
                 .forEach(tableName -> tableName2Ddl.put(tableName, getTableDDL(schemaName, tableName)));
-        Map<String, List<DBTableColumn>> tableName2Columns = listTableColumns(schemaName, Collections.emptyList());
+        List<String> filter = filtered ? tableNames : Collections.emptyList();
+        Map<String, List<DBTableColumn>> tableName2Columns = listTableColumns(schemaName, filter);
         Map<String, List<DBTableIndex>> tableName2Indexes = listTableIndexes(schemaName, tableName2Ddl);
-        Map<String, List<DBTableConstraint>> tableName2Constraints = listTableConstraints(schemaName);
-        Map<String, DBTableOptions> tableName2Options = listTableOptions(schemaName);
+        Map<String, List<DBTableConstraint>> tableName2Constraints = listTableConstraints(schemaName, filter);
+        Map<String, DBTableOptions> tableName2Options = listTableOptions(schemaName, filter);
+        Map<String, DBTablePartition> tableName2Partition = getTablePartitions(schemaName, tableNames, filtered);
         for (String tableName : tableNames) {
             if (!tableName2Columns.containsKey(tableName)) {
                 continue;
@@ -467,11 +472,7 @@ public class OBMySQLSchemaAccessor extends MySQLNoLessThan5700SchemaAccessor {
             table.setConstraints(tableName2Constraints.getOrDefault(tableName, new ArrayList<>()));
             table.setTableOptions(tableName2Options.getOrDefault(tableName, new DBTableOptions()));
             table.setColumnGroups(listTableColumnGroups(tableName2Ddl.get(tableName)));
-            try {
-                table.setPartition(getPartition(schemaName, tableName));
-            } catch (Exception e) {
-                log.warn("Failed to set table partition", e);
-            }
+            table.setPartition(tableName2Partition.get(tableName));
             table.setDDL(tableName2Ddl.get(tableName));
             returnVal.put(tableName, table);
         }
@@ -126,7 +126,7 @@ public class ODPOBMySQLSchemaAccessor extends MySQLNoLessThan5700SchemaAccessor
     }
 
     @Override
-    public Map<String, List<DBTableConstraint>> listTableConstraints(String schemaName) {
+    protected Map<String, List<DBTableConstraint>> listTableConstraints(String schemaName, List<String> tableNames) {
         // key_column_usage is not supported
         return new HashMap<>();
     }
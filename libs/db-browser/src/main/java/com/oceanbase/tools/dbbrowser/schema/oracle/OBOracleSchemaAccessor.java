@@ -17,7 +17,6 @@ package com.oceanbase.tools.dbbrowser.schema.oracle;
 
 import java.sql.ResultSetMetaData;
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -201,8 +200,8 @@ public class OBOracleSchemaAccessor extends OracleSchemaAccessor {
     }
 
     @Override
-    public Map<String, List<DBTableIndex>> listTableIndexes(String schemaName) {
-        Map<String, List<DBTableIndex>> tableName2Indexes = super.listTableIndexes(schemaName);
+    protected Map<String, List<DBTableIndex>> listTableIndexes(String schemaName, List<String> tableNames) {
+        Map<String, List<DBTableIndex>> tableName2Indexes = super.listTableIndexes(schemaName, tableNames);
         List<DBTableIndex> indexList =
                 tableName2Indexes.values().stream().flatMap(List::stream).collect(Collectors.toList());
         fillIndexInfo(indexList);
@@ -1018,35 +1017,9 @@ public class OBOracleSchemaAccessor extends OracleSchemaAccessor {
 
     @Override
     public Map<String, DBTable> getTables(@NonNull String schemaName, List<String> tableNames) {
-        // TODO: Only query the table information of tableNames passed upstream
-        Map<String, DBTable> returnVal = new HashMap<>();
-        tableNames = showTables(schemaName);
-        if (tableNames.isEmpty()) {
-            return returnVal;
-        }
-        Map<String, List<DBTableColumn>> tableName2Columns = listTableColumns(schemaName, Collections.emptyList());
-        Map<String, List<DBTableIndex>> tableName2Indexes = listTableIndexes(schemaName);
-        Map<String, List<DBTableConstraint>> tableName2Constraints = listTableConstraints(schemaName);
-        Map<String, DBTableOptions> tableName2Options = listTableOptions(schemaName);
-        for (String tableName : tableNames) {
-            if (!tableName2Columns.containsKey(tableName)) {
-                continue;
-            }
-            DBTable table = new DBTable();
-            table.setSchemaName(schemaName);
-            table.setOwner(schemaName);
-            table.setName(tableName);
-            List<DBTableColumn> columns = tableName2Columns.getOrDefault(tableName, new ArrayList<>());
-            List<DBTableIndex> indexes = tableName2Indexes.getOrDefault(tableName, new ArrayList<>());
-            table.setColumns(columns);
-            table.setIndexes(indexes);
-            table.setConstraints(tableName2Constraints.getOrDefault(tableName, new ArrayList<>()));
-            table.setTableOptions(tableName2Options.getOrDefault(tableName, new DBTableOptions()));
-            table.setPartition(getPartition(schemaName, tableName));
-            table.setDDL(getTableDDL(schemaName, tableName, columns, indexes));
-            table.setColumnGroups(listTableColumnGroups(getTableDDLOnly(schemaName, tableName)));
-            returnVal.put(tableName, table);
-        }
+        Map<String, DBTable> returnVal = super.getTables(schemaName, tableNames);
+        returnVal.forEach((tableName, table) -> table
+                .setColumnGroups(listTableColumnGroups(getTableDDLOnly(schemaName, tableName))));
         return returnVal;
     }
 
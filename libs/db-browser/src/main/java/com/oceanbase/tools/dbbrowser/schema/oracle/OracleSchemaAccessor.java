@@ -715,27 +715,37 @@ public class OracleSchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, List<DBTableIndex>> listTableIndexes(String schemaName) {
+        return listTableIndexes(schemaName, Collections.emptyList());
+    }
+
+    /**
+     * Get indexes of the given tables, indexes of all tables in the schema are got if tableNames is
+     * empty
+     */
+    protected Map<String, List<DBTableIndex>> listTableIndexes(String schemaName, List<String> tableNames) {
         Map<String, List<DBTableIndex>> tableName2Indexes = new LinkedHashMap<>();
-        String sql = sqlMapper.getSql(Statements.LIST_SCHEMA_INDEX);
-        jdbcOperations.query(sql, new Object[] {schemaName}, (rs, num) -> {
-            String indexName = rs.getString(OracleConstants.INDEX_NAME);
-            String tableName = rs.getString(OracleConstants.INDEX_TABLE_NAME);
-            if (tableName2Indexes.containsKey(tableName)) {
-                List<DBTableIndex> tableIndexes = tableName2Indexes.get(tableName);
-                Optional<DBTableIndex> existingIndex = tableIndexes.stream()
-                        .filter(idx -> idx.getName().equals(indexName))
-                        .findFirst();
-                if (existingIndex.isPresent()) {
-                    List<String> columnNames = existingIndex.get().getColumnNames();
-                    columnNames.add(rs.getString("COLUMN_NAME"));
+        DBSchemaAccessorUtil.partitionFind(tableNames, DBSchemaAccessorUtil.OB_MAX_IN_SIZE, names -> {
+            String sql = filterByValues(sqlMapper.getSql(Statements.LIST_SCHEMA_INDEX), "TABLE_NAME", names);
+            return jdbcOperations.query(sql, new Object[] {schemaName}, (rs, num) -> {
+                String indexName = rs.getString(OracleConstants.INDEX_NAME);
+                String tableName = rs.getString(OracleConstants.INDEX_TABLE_NAME);
+                if (tableName2Indexes.containsKey(tableName)) {
+                    List<DBTableIndex> tableIndexes = tableName2Indexes.get(tableName);
+                    Optional<DBTableIndex> existingIndex = tableIndexes.stream()
+                            .filter(idx -> idx.getName().equals(indexName))
+                            .findFirst();
+                    if (existingIndex.isPresent()) {
+                        List<String> columnNames = existingIndex.get().getColumnNames();
+                        columnNames.add(rs.getString("COLUMN_NAME"));
+                    } else {
+                        tableIndexes.add(createIndexByResultSet(rs, num));
+                    }
                 } else {
-                    tableIndexes.add(createIndexByResultSet(rs, num));
+                    tableName2Indexes.put(tableName,
+                            new ArrayList<>(Collections.singletonList(createIndexByResultSet(rs, num))));
                 }
-            } else {
-                tableName2Indexes.put(tableName,
-                        new ArrayList<>(Collections.singletonList(createIndexByResultSet(rs, num))));
-            }
-            return null;
+                return null;
+            });
         });
         fillFunctionBasedIndexInfo(
                 tableName2Indexes.values().stream().flatMap(List::stream).collect(Collectors.toList()));
@@ -769,29 +779,40 @@ public class OracleSchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, List<DBTableConstraint>> listTableConstraints(String schemaName) {
-        String sql = this.sqlMapper.getSql(Statements.LIST_SCHEMA_CONSTRAINTS);
+        return listTableConstraints(schemaName, Collections.emptyList());
+    }
+
+    /**
+     * Get constraints of the given tables, constraints of all tables in the schema are got if
+     * tableNames is empty
+     */
+    protected Map<String, List<DBTableConstraint>> listTableConstraints(String schemaName, List<String> tableNames) {
         Map<String, List<DBTableConstraint>> tableName2Constraints = new LinkedHashMap<>();
-        jdbcOperations.query(sql, new Object[] {schemaName}, (rs, num) -> {
-            String tableName = rs.getString("TABLE_NAME");
-            String constraintName = rs.getString(OracleConstants.CONS_NAME);
-            if (tableName2Constraints.containsKey(tableName)) {
-                Map<String, DBTableConstraint> constraintName2Constraint =
-                        tableName2Constraints.get(tableName).stream().collect(
-                                Collectors.toMap(DBTableConstraint::getName, cons -> cons));
-                int currentPosition = constraintName2Constraint.size();
-                if (!constraintName2Constraint.containsKey(constraintName)) {
-                    tableName2Constraints.get(tableName).add(createConstraintByResultSet(rs, currentPosition + 1));
+        DBSchemaAccessorUtil.partitionFind(tableNames, DBSchemaAccessorUtil.OB_MAX_IN_SIZE, names -> {
+            String sql = filterByValues(this.sqlMapper.getSql(Statements.LIST_SCHEMA_CONSTRAINTS), "TABLE_NAME",
+                    names);
+            return jdbcOperations.query(sql, new Object[] {schemaName}, (rs, num) -> {
+                String tableName = rs.getString("TABLE_NAME");
+                String constraintName = rs.getString(OracleConstants.CONS_NAME);
+                if (tableName2Constraints.containsKey(tableName)) {
+                    Map<String, DBTableConstraint> constraintName2Constraint =
+                            tableName2Constraints.get(tableName).stream().collect(
+                                    Collectors.toMap(DBTableConstraint::getName, cons -> cons));
+                    int currentPosition = constraintName2Constraint.size();
+                    if (!constraintName2Constraint.containsKey(constraintName)) {
+                        tableName2Constraints.get(tableName).add(createConstraintByResultSet(rs, currentPosition + 1));
+                    } else {
+                        constraintName2Constraint.get(constraintName).getColumnNames()
+                                .add(rs.getString("COLUMN_NAME"));
+                        constraintName2Constraint.get(constraintName).getReferenceColumnNames()
+                                .add(rs.getString(OracleConstants.CONS_R_COLUMN_NAME));
+                    }
                 } else {
-                    constraintName2Constraint.get(constraintName).getColumnNames()
-                            .add(rs.getString("COLUMN_NAME"));
-                    constraintName2Constraint.get(constraintName).getReferenceColumnNames()
-                            .add(rs.getString(OracleConstants.CONS_R_COLUMN_NAME));
+                    tableName2Constraints.put(tableName,
+                            new ArrayList<>(Collections.singletonList(createConstraintByResultSet(rs, 1))));
                 }
-            } else {
-                tableName2Constraints.put(tableName,
-                        new ArrayList<>(Collections.singletonList(createConstraintByResultSet(rs, 1))));
-            }
-            return constraintName;
+                return constraintName;
+            });
         });
 
         filterConstraintColumns(
@@ -801,18 +822,33 @@ public class OracleSchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, DBTableOptions> listTableOptions(String schemaName) {
+        return listTableOptions(schemaName, Collections.emptyList());
+    }
+
+    /**
+     * Get options of the given tables, options of all tables in the schema are got if tableNames is
+     * empty
+     */
+    protected Map<String, DBTableOptions> listTableOptions(String schemaName, List<String> tableNames) {
         Map<String, DBTableOptions> tableName2Options = new LinkedHashMap<>();
-        OracleSqlBuilder sb = new OracleSqlBuilder();
-        sb.append("SELECT OWNER, TABLE_NAME, COMMENTS FROM ")
-                .append(dataDictTableNames.TAB_COMMENTS())
-                .append(" WHERE TABLE_TYPE='TABLE' AND OWNER=")
-                .value(schemaName)
-                .append(" ORDER BY OWNER, TABLE_NAME ASC");
-        jdbcOperations.query(sb.toString(), (rs, num) -> {
-            DBTableOptions options = new DBTableOptions();
-            options.setComment(rs.getString("COMMENTS"));
-            tableName2Options.put(rs.getString("TABLE_NAME"), options);
-            return null;
+        DBSchemaAccessorUtil.partitionFind(tableNames, DBSchemaAccessorUtil.OB_MAX_IN_SIZE, names -> {
+            OracleSqlBuilder sb = new OracleSqlBuilder();
+            sb.append("SELECT OWNER, TABLE_NAME, COMMENTS FROM ")
+                    .append(dataDictTableNames.TAB_COMMENTS())
+                    .append(" WHERE TABLE_TYPE='TABLE' AND OWNER=")
+                    .value(schemaName);
+            if (CollectionUtils.isNotEmpty(names)) {
+                sb.append(" AND TABLE_NAME IN (").append(names.stream()
+                        .map(name -> new OracleSqlBuilder().value(name).toString()).collect(Collectors.joining(",")))
+                        .append(")");
+            }
+            sb.append(" ORDER BY OWNER, TABLE_NAME ASC");
+            return jdbcOperations.query(sb.toString(), (rs, num) -> {
+                DBTableOptions options = new DBTableOptions();
+                options.setComment(rs.getString("COMMENTS"));
+                tableName2Options.put(rs.getString("TABLE_NAME"), options);
+                return null;
+            });
         });
 
         List<DBTableOptions> tableOptions = new ArrayList<>(tableName2Options.values());
@@ -1887,8 +1923,78 @@ public class OracleSchemaAccessor implements DBSchemaAccessor {
     }
 
     @Override
-    public Map<String, DBTable> getTables(String schemaName, List<String> tableNames) {
-        throw new UnsupportedOperationException("Not supported for oracle mode");
+    public Map<String, DBTable> getTables(@NonNull String schemaName, List<String> tableNames) {
+        Map<String, DBTable> returnVal = new HashMap<>();
+        boolean filtered = CollectionUtils.isNotEmpty(tableNames);
+        tableNames = DBSchemaAccessorUtil.filterTableNames(showTables(schemaName), tableNames);
+        if (tableNames.isEmpty()) {
+            return returnVal;
+        }
+        List<String> filter = filtered ? tableNames : Collections.emptyList();
+        Map<String, List<DBTableColumn>> tableName2Columns = listTableColumns(schemaName, filter);
+        Map<String, List<DBTableIndex>> tableName2Indexes = listTableIndexes(schemaName, filter);
+        Map<String, List<DBTableConstraint>> tableName2Constraints = listTableConstraints(schemaName, filter);
+        Map<String, DBTableOptions> tableName2Options = listTableOptions(schemaName, filter);
+        Map<String, DBTablePartition> tableName2Partition = getTablePartitions(schemaName, tableNames, filtered);
+        for (String tableName : tableNames) {
+            if (!tableName2Columns.containsKey(tableName)) {
+                continue;
+            }
+            DBTable table = new DBTable();
+            table.setSchemaName(schemaName);
+            table.setOwner(schemaName);
+            table.setName(tableName);
+            List<DBTableColumn> columns = tableName2Columns.getOrDefault(tableName, new ArrayList<>());
+            List<DBTableIndex> indexes = tableName2Indexes.getOrDefault(tableName, new ArrayList<>());
+            table.setColumns(columns);
+            table.setIndexes(indexes);
+            table.setConstraints(tableName2Constraints.getOrDefault(tableName, new ArrayList<>()));
+            table.setTableOptions(tableName2Options.getOrDefault(tableName, new DBTableOptions()));
+            table.setPartition(tableName2Partition.get(tableName));
+            table.setDDL(getTableDDL(schemaName, tableName, columns, indexes));
+            returnVal.put(tableName, table);
+        }
+        return returnVal;
+    }
+
+    /**
+     * Partitions of the tables are listed by dictionary queries, a table which is absent from the
+     * result is not partitioned. Partitions are got table by table if the queries fail.
+     *
+     * @param filtered whether to query partitions of the given tables only or of the whole schema
+     */
+    protected Map<String, DBTablePartition> getTablePartitions(String schemaName, List<String> tableNames,
+            boolean filtered) {
+        Map<String, DBTablePartition> tableName2Partition = new HashMap<>();
+        try {
+            Map<String, DBTablePartition> partitions =
+                    listTablePartitions(schemaName, filtered ? tableNames : Collections.emptyList());
+            tableNames.forEach(tableName -> tableName2Partition.put(tableName, partitions.containsKey(tableName)
+                    ? partitions.get(tableName)
+                    : getNotPartitioned(schemaName, tableName)));
+            return tableName2Partition;
+        } catch (Exception e) {
+            log.warn("Failed to list table partitions, schemaName={}", schemaName, e);
+        }
+        for (String tableName : tableNames) {
+            try {
+                tableName2Partition.put(tableName, getPartition(schemaName, tableName));
+            } catch (Exception e) {
+                log.warn("Failed to get table partition, schemaName={}, tableName={}", schemaName, tableName, e);
+            }
+        }
+        return tableName2Partition;
+    }
+
+    private DBTablePartition getNotPartitioned(String schemaName, String tableName) {
+        DBTablePartition partition = new DBTablePartition();
+        partition.setSchemaName(schemaName);
+        partition.setTableName(tableName);
+        DBTablePartitionOption option = new DBTablePartitionOption();
+        option.setType(DBTablePartitionType.NOT_PARTITIONED);
+        partition.setPartitionOption(option);
+        partition.setPartitionDefinitions(new ArrayList<>());
+        return partition;
     }
 
     protected String getSynonymDDL(DBSynonym synonym) {
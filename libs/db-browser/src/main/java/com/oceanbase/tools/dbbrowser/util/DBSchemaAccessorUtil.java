@@ -18,8 +18,10 @@ package com.oceanbase.tools.dbbrowser.util;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -234,4 +236,15 @@ public class DBSchemaAccessorUtil {
                 .flatMap(Collection::stream).collect(Collectors.toList());
     }
 
+    /**
+     * keep the table names which are in the candidates, all of them are kept if there is no candidate
+     */
+    public static List<String> filterTableNames(@NonNull List<String> tableNames, List<String> candidates) {
+        if (CollectionUtils.isEmpty(candidates)) {
+            return tableNames;
+        }
+        Set<String> candidateSet = new HashSet<>(candidates);
+        return tableNames.stream().filter(candidateSet::contains).collect(Collectors.toList());
+    }
+
 }
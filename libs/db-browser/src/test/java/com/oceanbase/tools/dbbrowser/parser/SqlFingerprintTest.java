@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.dbbrowser.parser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link SqlFingerprint}
+ *
+ * @author agent
+ */
+public class SqlFingerprintTest {
+
+    @Test
+    public void of_differentLiterals_sameFingerprint() {
+        Assert.assertEquals(SqlFingerprint.of("select * from t where id = 1 and name = 'a'", true),
+                SqlFingerprint.of("select *  from t\twhere id = 200 and name = 'it''s'", true));
+    }
+
+    @Test
+    public void of_differentLiteralCategories_differentFingerprint() {
+        Assert.assertNotEquals(SqlFingerprint.of("select 1 from dual", false),
+                SqlFingerprint.of("select '1' from dual", false));
+        Assert.assertNotEquals(SqlFingerprint.of("select 1 from dual", false),
+                SqlFingerprint.of("select 1.5 from dual", false));
+    }
+
+    @Test
+    public void of_prefixedString_keptAsItIs() {
+        Assert.assertEquals("select x'0a', n'abc' from dual",
+                SqlFingerprint.of("select x'0a', n'abc' from dual", true));
+    }
+
+    @Test
+    public void of_identifiersAndComments_keptAsItIs() {
+        String sql = "select `a 1`, \"b 2\" /* 'c' */ from t1 -- 'd' 1\n";
+        Assert.assertEquals(sql, SqlFingerprint.of(sql, true));
+    }
+
+    @Test
+    public void of_mysqlBackslashEscape_literalReplaced() {
+        Assert.assertEquals("select '?' from t", SqlFingerprint.of("select 'a\\'b' from t", true));
+    }
+
+    @Test
+    public void of_oracleAlternativeQuoting_originalSqlReturned() {
+        String sql = "select q'[it's]' from dual";
+        Assert.assertEquals(sql, SqlFingerprint.of(sql, false));
+    }
+
+    @Test
+    public void of_unclosedQuote_originalSqlReturned() {
+        String sql = "select 'abc from dual";
+        Assert.assertEquals(sql, SqlFingerprint.of(sql, false));
+    }
+
+}
@@ -23,6 +23,7 @@ import com.oceanbase.tools.dbbrowser.model.DBObjectType;
 import com.oceanbase.tools.dbbrowser.parser.constant.SqlType;
 import com.oceanbase.tools.dbbrowser.parser.result.ParseSqlResult;
 import com.oceanbase.tools.sqlparser.SyntaxErrorException;
+import com.oceanbase.tools.sqlparser.statement.Statement;
 
 /**
  * @author wenniu.ly
@@ -54,6 +55,29 @@ public class SqlParserTest {
     }
 
 
+    @Test
+    public void testParseMysqlSelectTwoStage() {
+        SqlParser.setTwoStageParse(true);
+        try {
+            ParseSqlResult result = SqlParser.parseMysql("select * from test_two_stage;");
+            Assert.assertTrue(result.isSupportLimit());
+            Assert.assertEquals(SqlType.SELECT, result.getSqlType());
+        } finally {
+            SqlParser.setTwoStageParse(false);
+        }
+    }
+
+    @Test
+    public void testParseOracleSelectTwoStage() {
+        SqlParser.setTwoStageParse(true);
+        try {
+            ParseSqlResult result = SqlParser.parseOracle("select * from test_two_stage where rownum<10;");
+            Assert.assertTrue(result.isWhereClause());
+        } finally {
+            SqlParser.setTwoStageParse(false);
+        }
+    }
+
     @Test
     public void testParseOracleSelect() {
         String sql = "select * from test;";
@@ -404,4 +428,40 @@ public class SqlParserTest {
         Assert.assertEquals(SqlType.DROP, actual.getSqlType());
     }
 
+    @Test
+    public void parseMysql_sameFingerprintWithoutLiteralResult_cachedResultShared() {
+        ParseSqlResult r1 = SqlParser.parseMysql("select * from fingerprint_t where id = 1");
+        ParseSqlResult r2 = SqlParser.parseMysql("select * from   fingerprint_t where id = 2");
+        Assert.assertSame(r1, r2);
+    }
+
+    @Test
+    public void parseMysql_sameFingerprintWithColumnDefinitions_notShared() {
+        ParseSqlResult r1 = SqlParser.parseMysql("create table fingerprint_t(c1 int default 1)");
+        ParseSqlResult r2 = SqlParser.parseMysql("create table fingerprint_t(c1 int default 2)");
+        Assert.assertNotSame(r1, r2);
+        Assert.assertSame(r2, SqlParser.parseMysql("create table fingerprint_t(c1 int default 2)"));
+    }
+
+    @Test
+    public void parseOracleStatement_sameFingerprint_notShared() {
+        Statement s1 = SqlParser.parseOracleStatement("select 1 from fingerprint_t");
+        Statement s2 = SqlParser.parseOracleStatement("select 2 from fingerprint_t");
+        Assert.assertNotSame(s1, s2);
+        Assert.assertEquals("select 2 from fingerprint_t", s2.getText());
+    }
+
+    @Test
+    public void setCacheMaximumBytes_zero_nothingCached() {
+        try {
+            SqlParser.setCacheMaximumBytes(0);
+            ParseSqlResult r1 = SqlParser.parseOracle("select * from fingerprint_zero");
+            ParseSqlResult r2 = SqlParser.parseOracle("select * from fingerprint_zero");
+            Assert.assertNotSame(r1, r2);
+            SqlParser.getCaches().forEach(c -> Assert.assertEquals(0, c.getWeightedSize()));
+        } finally {
+            SqlParser.setCacheMaximumBytes(SqlParser.DEFAULT_CACHE_MAXIMUM_BYTES);
+        }
+    }
+
 }
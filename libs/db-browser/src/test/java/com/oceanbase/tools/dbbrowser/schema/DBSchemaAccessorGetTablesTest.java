@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.dbbrowser.schema;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.oceanbase.tools.dbbrowser.model.DBTablePartition;
+import com.oceanbase.tools.dbbrowser.schema.mysql.MySQLNoLessThan5700SchemaAccessor;
+import com.oceanbase.tools.dbbrowser.schema.mysql.OBMySQLSchemaAccessor;
+import com.oceanbase.tools.dbbrowser.schema.oracle.OracleSchemaAccessor;
+import com.oceanbase.tools.dbbrowser.util.ALLDataDictTableNames;
+
+/**
+ * Test cases for {@link DBSchemaAccessor#getTables(String, List)}, the sqls sent to the database
+ * are captured by a mocked {@link JdbcOperations}
+ *
+ * @author agent
+ */
+public class DBSchemaAccessorGetTablesTest {
+
+    private static final List<String> TABLE_NAMES = Arrays.asList("t1", "t2", "t3");
+
+    @Test
+    public void getTables_mysqlTablesSpecified_onlySpecifiedTablesQueried() {
+        List<String> sqls = new ArrayList<>();
+        new MySQLNoLessThan5700SchemaAccessor(getJdbcOperations(sqls)).getTables("db", Arrays.asList("t1", "t2"));
+        assertFiltered(sqls, "information_schema.statistics", "'t1','t2'");
+        assertFiltered(sqls, "information_schema.KEY_COLUMN_USAGE", "'t1','t2'");
+        assertFiltered(sqls, "`information_schema`.`tables`", "'t1','t2'");
+    }
+
+    @Test
+    public void getTables_mysqlNoTableSpecified_wholeSchemaQueried() {
+        List<String> sqls = new ArrayList<>();
+        new MySQLNoLessThan5700SchemaAccessor(getJdbcOperations(sqls)).getTables("db", null);
+        assertNotFiltered(sqls, "information_schema.statistics");
+        assertNotFiltered(sqls, "information_schema.KEY_COLUMN_USAGE");
+        assertNotFiltered(sqls, "`information_schema`.`tables`");
+    }
+
+    @Test
+    public void getTables_obmysqlTablesSpecified_onlySpecifiedTablesQueried() {
+        List<String> sqls = new ArrayList<>();
+        new OBMySQLSchemaAccessor(getJdbcOperations(sqls)).getTables("db", Arrays.asList("t1", "t2"));
+        assertFiltered(sqls, "information_schema.statistics", "'t1','t2'");
+        assertFiltered(sqls, "information_schema.KEY_COLUMN_USAGE", "'t1','t2'");
+        assertFiltered(sqls, "`information_schema`.`tables`", "'t1','t2'");
+    }
+
+    @Test
+    public void getTables_oracleTablesSpecified_onlySpecifiedTablesQueried() {
+        List<String> sqls = new ArrayList<>();
+        new OracleSchemaAccessor(getJdbcOperations(sqls), new ALLDataDictTableNames())
+                .getTables("DB", Arrays.asList("t1", "t2"));
+        assertFiltered(sqls, "ALL_IND_COLUMNS", "'t1','t2'");
+        assertFiltered(sqls, "ALL_CONSTRAINTS", "'t1','t2'");
+        assertFiltered(sqls, "ALL_TAB_COMMENTS", "'t1','t2'");
+    }
+
+    @Test
+    public void getTables_oracleNoTableSpecified_wholeSchemaQueried() {
+        List<String> sqls = new ArrayList<>();
+        new OracleSchemaAccessor(getJdbcOperations(sqls), new ALLDataDictTableNames()).getTables("DB", null);
+        assertNotFiltered(sqls, "ALL_IND_COLUMNS");
+        assertNotFiltered(sqls, "ALL_CONSTRAINTS");
+        assertNotFiltered(sqls, "ALL_TAB_COMMENTS");
+    }
+
+    @Test
+    public void listTablePartitions_mysqlSingleSubpartition_sameAsGetPartition() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("TABLE_NAME", "t1");
+        row.put("PARTITION_NAME", "p0");
+        row.put("PARTITION_ORDINAL_POSITION", 1);
+        row.put("PARTITION_METHOD", "RANGE");
+        row.put("PARTITION_EXPRESSION", "c1");
+        row.put("PARTITION_DESCRIPTION", "10");
+        row.put("SUBPARTITION_NAME", "p0sp0");
+        row.put("SUBPARTITION_METHOD", "HASH");
+        row.put("SUBPARTITION_EXPRESSION", "c2");
+        Map<String, Object> aggregated = new HashMap<>(row);
+        aggregated.put("SUB_NUM", 1);
+        Map<String, List<Map<String, Object>>> sql2Rows = new HashMap<>();
+        sql2Rows.put("PARTITION_NAME is not null", Arrays.asList(row));
+        sql2Rows.put("COUNT(SUBPARTITION_NAME)", Arrays.asList(aggregated));
+        MySQLNoLessThan5700SchemaAccessor accessor =
+                new MySQLNoLessThan5700SchemaAccessor(getJdbcOperations(new ArrayList<>(), sql2Rows));
+
+        DBTablePartition expect = accessor.getPartition("db", "t1");
+        DBTablePartition actual = accessor.listTablePartitions("db", Arrays.asList("t1")).get("t1");
+        Assert.assertEquals(Integer.valueOf(1), expect.getSubpartition().getPartitionOption().getPartitionsNum());
+        Assert.assertEquals(expect.getSubpartition().getPartitionOption().getPartitionsNum(),
+                actual.getSubpartition().getPartitionOption().getPartitionsNum());
+    }
+
+    private void assertFiltered(List<String> sqls, String target, String tableNames) {
+        List<String> matched = getSqls(sqls, target);
+        Assert.assertEquals(1, matched.size());
+        Assert.assertTrue(matched.get(0), matched.get(0).contains(tableNames));
+        Assert.assertFalse(matched.get(0), matched.get(0).contains("'t3'"));
+    }
+
+    private void assertNotFiltered(List<String> sqls, String target) {
+        List<String> matched = getSqls(sqls, target);
+        Assert.assertEquals(1, matched.size());
+        Assert.assertFalse(matched.get(0), matched.get(0).contains("'t1'"));
+    }
+
+    private List<String> getSqls(List<String> sqls, String target) {
+        return sqls.stream().filter(sql -> sql.toUpperCase().contains(target.toUpperCase()))
+                .collect(Collectors.toList());
+    }
+
+    private JdbcOperations getJdbcOperations(List<String> sqls) {
+        return getJdbcOperations(sqls, new HashMap<>());
+    }
+
+    /**
+     * tables of the schema are returned for the table listing query, the given rows are mapped for the
+     * queries containing their keys, nothing is returned for the others
+     */
+    private JdbcOperations getJdbcOperations(List<String> sqls, Map<String, List<Map<String, Object>>> sql2Rows) {
+        return (JdbcOperations) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[] {JdbcOperations.class}, (proxy, method, args) -> {
+                    if (args == null || !(args[0] instanceof String)) {
+                        return null;
+                    }
+                    String sql = (String) args[0];
+                    sqls.add(sql);
+                    if (!List.class.isAssignableFrom(method.getReturnType())) {
+                        return null;
+                    }
+                    if (sql.startsWith("SHOW FULL TABLES") || sql.startsWith("SELECT TABLE_NAME FROM")) {
+                        return new ArrayList<>(TABLE_NAMES);
+                    }
+                    RowMapper<?> rowMapper = (RowMapper<?>) Arrays.stream(args)
+                            .filter(arg -> arg instanceof RowMapper).findFirst().orElse(null);
+                    List<Object> results = new ArrayList<>();
+                    for (Map.Entry<String, List<Map<String, Object>>> entry : sql2Rows.entrySet()) {
+                        if (rowMapper != null && sql.contains(entry.getKey())) {
+                            for (Map<String, Object> row : entry.getValue()) {
+                                results.add(rowMapper.mapRow(getResultSet(row), results.size()));
+                            }
+                        }
+                    }
+                    return results;
+                });
+    }
+
+    private ResultSet getResultSet(Map<String, Object> row) {
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[] {ResultSet.class}, (proxy, method, args) -> {
+                    Object value = row.get((String) args[0]);
+                    if ("getInt".equals(method.getName())) {
+                        return value == null ? 0 : value;
+                    }
+                    return value;
+                });
+    }
+
+}
@@ -654,6 +654,15 @@ public class OBMySQLSchemaAccessorTest extends BaseTestEnv {
         Assert.assertTrue(tables.size() > 0);
     }
 
+    @Test
+    public void getTables_filterByTableName_Success() {
+        Map<String, DBTable> tables = accessor.getTables(getOBMySQLDataBaseName(),
+                Arrays.asList("part_hash", "part_list", "not_exists"));
+        Assert.assertEquals(2, tables.size());
+        Assert.assertNotNull(tables.get("part_hash").getPartition());
+        Assert.assertNotNull(tables.get("part_list").getDDL());
+    }
+
     private static void initVerifyColumnAttributes() {
         columnAttributes.addAll(Arrays.asList(
                 ColumnAttributes.of("col1", false, false, true, null, "col1_comments"),
@@ -20,20 +20,20 @@ import java.io.IOException;
 import java.io.Reader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Parameter;
 import java.net.JarURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
@@ -43,11 +43,11 @@ import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.oceanbase.tools.sqlparser.adapter.StatementFactory;
 import com.oceanbase.tools.sqlparser.statement.Statement;
+import com.oceanbase.tools.sqlparser.util.ParserDFACache;
 import com.oceanbase.tools.sqlparser.util.TimeoutTokenStream;
 
 import lombok.Getter;
@@ -62,9 +62,19 @@ import lombok.Setter;
  */
 public abstract class BaseSQLParser<T extends Lexer, V extends Parser> implements SQLParser {
 
+    private static final Map<String, Map<Class<?>, Constructor<? extends StatementFactory<? extends Statement>>>> STATEMENT_FACTORY_CONSTRUCTORS =
+            new ConcurrentHashMap<>();
+
     @Getter
     @Setter
     private long timeoutMillis = -1;
+    /**
+     * try {@link org.antlr.v4.runtime.atn.PredictionMode#SLL} first and fall back to full LL only on
+     * failure, the dfa is managed by {@link #getDFACache()}
+     */
+    @Getter
+    @Setter
+    private boolean twoStageParse = false;
 
     protected abstract ParseTree doParse(V parser);
 
@@ -100,7 +110,11 @@ public abstract class BaseSQLParser<T extends Lexer, V extends Parser> implement
         parser.removeErrorListeners();
         parser.addErrorListener(new FastFailErrorListener());
         parser.setErrorHandler(new FastFailErrorStrategy());
-        return doParse(parser);
+        ParserDFACache dfaCache = getDFACache();
+        if (!this.twoStageParse || dfaCache == null) {
+            return doParse(parser);
+        }
+        return dfaCache.parse(parser, this::doParse);
     }
 
     @Override
@@ -109,14 +123,36 @@ public abstract class BaseSQLParser<T extends Lexer, V extends Parser> implement
     }
 
     public Statement buildStatement(ParseTree root) {
+        Constructor<? extends StatementFactory<? extends Statement>> constructor =
+                getStatementFactoryConstructors().get(root.getClass());
+        if (constructor == null) {
+            return null;
+        }
+        try {
+            return constructor.newInstance(root).generate();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    /**
+     * the dispatch table is built only once for each base package, scanning the package and reflecting
+     * on constructors for every statement is too expensive to be done per parse
+     */
+    protected Map<Class<?>, Constructor<? extends StatementFactory<? extends Statement>>> getStatementFactoryConstructors() {
         String basePkg = getStatementFactoryBasePackage();
         if (StringUtils.isEmpty(basePkg)) {
             throw new IllegalStateException("Base package dir is empty, " + basePkg);
         }
-        basePkg = basePkg.replace('.', '/');
-        URL url = BaseSQLParser.class.getClassLoader().getResource(basePkg);
+        return STATEMENT_FACTORY_CONSTRUCTORS.computeIfAbsent(basePkg, this::buildStatementFactoryConstructors);
+    }
+
+    private Map<Class<?>, Constructor<? extends StatementFactory<? extends Statement>>> buildStatementFactoryConstructors(
+            String basePkg) {
+        String pkgPath = basePkg.replace('.', '/');
+        URL url = BaseSQLParser.class.getClassLoader().getResource(pkgPath);
         if (url == null) {
-            throw new IllegalStateException("Can not load package for path, " + basePkg);
+            throw new IllegalStateException("Can not load package for path, " + pkgPath);
         }
         URI uri;
         try {
@@ -133,28 +169,18 @@ public abstract class BaseSQLParser<T extends Lexer, V extends Parser> implement
         } else {
             throw new IllegalArgumentException("UnSupported scheme " + scheme);
         }
-        Optional<Class<? extends StatementFactory<? extends Statement>>> optional = classes.stream().filter(clazz -> {
-            return getSupportedParameters(clazz).stream().anyMatch(items -> {
-                if (CollectionUtils.isEmpty(items)) {
-                    return false;
-                } else if (items.size() != 1) {
-                    return false;
+        Map<Class<?>, Constructor<? extends StatementFactory<? extends Statement>>> constructors = new HashMap<>();
+        for (Class<? extends StatementFactory<? extends Statement>> clazz : classes) {
+            for (Constructor<?> constructor : clazz.getConstructors()) {
+                Class<?>[] types = constructor.getParameterTypes();
+                if (types.length != 1 || !ParseTree.class.isAssignableFrom(types[0])) {
+                    continue;
                 }
-                return items.get(0).equals(root.getClass());
-            });
-        }).findFirst();
-        if (!optional.isPresent()) {
-            return null;
-        }
-        Class<? extends StatementFactory<? extends Statement>> clazz = optional.get();
-        try {
-            Constructor<? extends StatementFactory<? extends Statement>> constructor =
-                    clazz.getConstructor(root.getClass());
-            return constructor.newInstance(root).generate();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException
-                | NoSuchMethodException e) {
-            return null;
+                constructors.putIfAbsent(types[0],
+                        (Constructor<? extends StatementFactory<? extends Statement>>) constructor);
+            }
         }
+        return Collections.unmodifiableMap(constructors);
     }
 
     private Set<Class<? extends StatementFactory<? extends Statement>>> loadClassesFromLocal(URI uri) {
@@ -207,18 +233,10 @@ public abstract class BaseSQLParser<T extends Lexer, V extends Parser> implement
                 .map(c -> (Class<? extends StatementFactory<? extends Statement>>) c).collect(Collectors.toSet());
     }
 
-    private List<List<Class<?>>> getSupportedParameters(Class<?> clazz) {
-        Constructor<?>[] constructors = clazz.getConstructors();
-        if (constructors.length == 0) {
-            return Collections.emptyList();
-        }
-        List<List<Class<?>>> types = new ArrayList<>();
-        for (Constructor<?> constructor : constructors) {
-            types.add(Arrays.stream(constructor.getParameters()).map(Parameter::getType).collect(Collectors.toList()));
-        }
-        return types;
-    }
-
     protected abstract String getStatementFactoryBasePackage();
 
+    protected ParserDFACache getDFACache() {
+        return null;
+    }
+
 }
@@ -24,6 +24,7 @@ import org.antlr.v4.runtime.tree.ParseTree;
 
 import com.oceanbase.tools.sqlparser.obmysql.OBLexer;
 import com.oceanbase.tools.sqlparser.obmysql.OBParser;
+import com.oceanbase.tools.sqlparser.util.ParserDFACache;
 
 /**
  * {@link OBMySQLParser}
@@ -35,6 +36,8 @@ import com.oceanbase.tools.sqlparser.obmysql.OBParser;
  */
 public class OBMySQLParser extends BaseSQLParser<OBLexer, OBParser> {
 
+    public static final ParserDFACache DFA_CACHE = new ParserDFACache(OBParser._ATN);
+
     @Override
     protected OBLexer getLexer(Reader statementReader) throws IOException {
         return new OBLexer(CharStreams.fromReader(statementReader));
@@ -55,5 +58,10 @@ public class OBMySQLParser extends BaseSQLParser<OBLexer, OBParser> {
         return parser.sql_stmt().stmt_list().stmt().getChild(0);
     }
 
+    @Override
+    protected ParserDFACache getDFACache() {
+        return DFA_CACHE;
+    }
+
 }
 
@@ -24,6 +24,7 @@ import org.antlr.v4.runtime.tree.ParseTree;
 
 import com.oceanbase.tools.sqlparser.oboracle.OBLexer;
 import com.oceanbase.tools.sqlparser.oboracle.OBParser;
+import com.oceanbase.tools.sqlparser.util.ParserDFACache;
 
 /**
  * {@link OBOracleSQLParser}
@@ -35,6 +36,8 @@ import com.oceanbase.tools.sqlparser.oboracle.OBParser;
  */
 public class OBOracleSQLParser extends BaseSQLParser<OBLexer, OBParser> {
 
+    public static final ParserDFACache DFA_CACHE = new ParserDFACache(OBParser._ATN);
+
     @Override
     protected OBLexer getLexer(Reader statementReader) throws IOException {
         return new OBLexer(CharStreams.fromReader(statementReader));
@@ -50,6 +53,11 @@ public class OBOracleSQLParser extends BaseSQLParser<OBLexer, OBParser> {
         return parser.sql_stmt().stmt_list().stmt().getChild(0);
     }
 
+    @Override
+    protected ParserDFACache getDFACache() {
+        return DFA_CACHE;
+    }
+
     @Override
     protected String getStatementFactoryBasePackage() {
         return "com.oceanbase.tools.sqlparser.adapter.oracle";
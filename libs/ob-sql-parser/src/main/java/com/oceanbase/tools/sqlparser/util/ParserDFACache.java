@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.sqlparser.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.ANTLRErrorStrategy;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import com.oceanbase.tools.sqlparser.SyntaxErrorException;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * {@link ParserDFACache}
+ *
+ * A bounded DFA and prediction context cache shared by parsers of the same grammar. The generated
+ * parsers keep their DFA in static fields which grow without limit, this cache owns a private copy
+ * and drops the whole generation once the number of DFA states exceeds the bound, the parsers
+ * running on the old generation are not affected.
+ *
+ * @author agent
+ */
+public class ParserDFACache {
+
+    public static final int DEFAULT_MAX_DFA_STATES = 50000;
+
+    private final ATN atn;
+    @Getter
+    private final int maxDFAStates;
+    private volatile Generation generation;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong sllParseCount = new AtomicLong();
+    private final AtomicLong llFallbackCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public ParserDFACache(@NonNull ATN atn) {
+        this(atn, DEFAULT_MAX_DFA_STATES);
+    }
+
+    public ParserDFACache(@NonNull ATN atn, int maxDFAStates) {
+        if (maxDFAStates <= 0) {
+            throw new IllegalArgumentException("Max dfa states is illegal, " + maxDFAStates);
+        }
+        this.atn = atn;
+        this.maxDFAStates = maxDFAStates;
+        this.generation = new Generation(atn);
+    }
+
+    /**
+     * Parse with the two-stage strategy: try {@link PredictionMode#SLL} with bail-out first and fall
+     * back to {@link PredictionMode#LL} only when the sll stage fails. The parser's token stream must
+     * be seekable.
+     */
+    public <T extends Parser, R> R parse(@NonNull T parser, @NonNull Function<T, R> doParse) {
+        Generation current = this.generation;
+        CountingATNSimulator simulator = new CountingATNSimulator(parser, this.atn, current);
+        parser.setInterpreter(simulator);
+        ANTLRErrorStrategy errorStrategy = parser.getErrorHandler();
+        try {
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            if (!(errorStrategy instanceof BailErrorStrategy)) {
+                parser.setErrorHandler(new BailErrorStrategy());
+            }
+            try {
+                R result = doParse.apply(parser);
+                this.sllParseCount.incrementAndGet();
+                return result;
+            } catch (SyntaxErrorException e) {
+                this.llFallbackCount.incrementAndGet();
+            } catch (ParseCancellationException e) {
+                if (!(e.getCause() instanceof RecognitionException)) {
+                    // timeout or other cancellation, no need to retry
+                    throw e;
+                }
+                this.llFallbackCount.incrementAndGet();
+            }
+            TokenStream tokens = parser.getTokenStream();
+            tokens.seek(0);
+            parser.reset();
+            parser.setErrorHandler(errorStrategy);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return doParse.apply(parser);
+        } finally {
+            parser.setErrorHandler(errorStrategy);
+            release(current, simulator.addedStates);
+        }
+    }
+
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    public long getSllParseCount() {
+        return this.sllParseCount.get();
+    }
+
+    public long getLlFallbackCount() {
+        return this.llFallbackCount.get();
+    }
+
+    public long getEvictionCount() {
+        return this.evictionCount.get();
+    }
+
+    public int getStateCount() {
+        return this.generation.getStateCount();
+    }
+
+    public void clear() {
+        this.generation = new Generation(this.atn);
+    }
+
+    /**
+     * a parse which does not add any state to the dfa is counted as a hit
+     */
+    private void release(Generation current, int addedStates) {
+        if (addedStates == 0) {
+            this.hitCount.incrementAndGet();
+        } else {
+            this.missCount.incrementAndGet();
+        }
+        if (current.getStateCount() > this.maxDFAStates && this.generation == current) {
+            synchronized (this) {
+                if (this.generation == current) {
+                    this.generation = new Generation(this.atn);
+                    this.evictionCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static class Generation {
+        private final DFA[] decisionToDFA;
+        private final PredictionContextCache contextCache;
+        private final AtomicInteger stateCount = new AtomicInteger();
+
+        private Generation(ATN atn) {
+            this.decisionToDFA = new DFA[atn.getNumberOfDecisions()];
+            for (int i = 0; i < this.decisionToDFA.length; i++) {
+                this.decisionToDFA[i] = new DFA(atn.getDecisionState(i), i);
+            }
+            this.contextCache = new PredictionContextCache();
+        }
+
+        private int getStateCount() {
+            return this.stateCount.get();
+        }
+    }
+
+    /**
+     * counts the dfa states added by one parse and by the whole generation as they are added, so that
+     * no dfa has to be walked on the parse path
+     */
+    private static class CountingATNSimulator extends ParserATNSimulator {
+        private final Generation generation;
+        private int addedStates = 0;
+
+        private CountingATNSimulator(Parser parser, ATN atn, Generation generation) {
+            super(parser, atn, generation.decisionToDFA, generation.contextCache);
+            this.generation = generation;
+        }
+
+        @Override
+        protected DFAState addDFAState(DFA dfa, DFAState D) {
+            DFAState state = super.addDFAState(dfa, D);
+            if (state == D && D != ERROR) {
+                this.addedStates++;
+                this.generation.stateCount.incrementAndGet();
+            }
+            return state;
+        }
+    }
+
+}
@@ -147,6 +147,14 @@ public class OBMySQLParserTest {
         Assert.assertEquals(expect, actual);
     }
 
+    @Test
+    public void getStatementFactoryConstructors_parseTwice_dispatchTableReused() {
+        OBMySQLParser parser = new OBMySQLParser();
+        Assert.assertTrue(parser.getStatementFactoryConstructors().containsKey(Create_table_stmtContext.class));
+        Assert.assertSame(parser.getStatementFactoryConstructors(),
+                new OBMySQLParser().getStatementFactoryConstructors());
+    }
+
     private Create_table_stmtContext getCreateTableContext(String expr) {
         OBLexer lexer = new OBLexer(CharStreams.fromString(expr));
         CommonTokenStream tokens = new CommonTokenStream(lexer);
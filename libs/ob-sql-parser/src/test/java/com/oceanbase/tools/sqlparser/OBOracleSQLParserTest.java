@@ -153,6 +153,15 @@ public class OBOracleSQLParserTest {
         Assert.assertEquals(expect, actual);
     }
 
+    @Test
+    public void getStatementFactoryConstructors_parseTwice_dispatchTableReused() {
+        OBOracleSQLParser parser = new OBOracleSQLParser();
+        Assert.assertTrue(parser.getStatementFactoryConstructors()
+                .containsKey(com.oceanbase.tools.sqlparser.oboracle.OBParser.Create_table_stmtContext.class));
+        Assert.assertSame(parser.getStatementFactoryConstructors(),
+                new OBOracleSQLParser().getStatementFactoryConstructors());
+    }
+
     private Create_table_stmtContext getCreateTableContext(String expr) {
         OBLexer lexer = new OBLexer(CharStreams.fromString(expr));
         CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.sqlparser.util;
+
+import java.io.StringReader;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.tools.sqlparser.FastFailErrorListener;
+import com.oceanbase.tools.sqlparser.OBMySQLParser;
+import com.oceanbase.tools.sqlparser.OBOracleSQLParser;
+import com.oceanbase.tools.sqlparser.SQLParser;
+import com.oceanbase.tools.sqlparser.SyntaxErrorException;
+import com.oceanbase.tools.sqlparser.obmysql.OBLexer;
+import com.oceanbase.tools.sqlparser.obmysql.OBParser;
+import com.oceanbase.tools.sqlparser.statement.Statement;
+
+/**
+ * Test cases for {@link ParserDFACache}
+ *
+ * @author agent
+ */
+public class ParserDFACacheTest {
+
+    @Test
+    public void parse_mysqlTwoStageParse_sameAsDefault() {
+        String sql =
+                "select a.col1, count(*) from tab a left join tab2 b on a.id=b.id where a.col2 > 10 group by a.col1";
+        OBMySQLParser parser = new OBMySQLParser();
+        parser.setTwoStageParse(true);
+        Statement actual = parser.parse(new StringReader(sql));
+        Statement expect = new OBMySQLParser().parse(new StringReader(sql));
+        Assert.assertEquals(expect, actual);
+    }
+
+    @Test
+    public void parse_oracleTwoStageParse_sameAsDefault() {
+        String sql = "update tab set col1=1, col2='abc' where id in (select id from tab2 where rownum < 10)";
+        OBOracleSQLParser parser = new OBOracleSQLParser();
+        parser.setTwoStageParse(true);
+        Statement actual = parser.parse(new StringReader(sql));
+        Statement expect = new OBOracleSQLParser().parse(new StringReader(sql));
+        Assert.assertEquals(expect, actual);
+    }
+
+    @Test(expected = SyntaxErrorException.class)
+    public void parse_twoStageParseWrongSql_expThrown() {
+        OBMySQLParser parser = new OBMySQLParser();
+        parser.setTwoStageParse(true);
+        parser.parse(new StringReader("select from where"));
+    }
+
+    @Test
+    public void parse_sameSqlTwice_hitCountIncreased() {
+        ParserDFACache cache = new ParserDFACache(OBParser._ATN);
+        String sql = "insert into tab(col1, col2) values(1, 'abc')";
+        cache.parse(getParser(sql), OBParser::sql_stmt);
+        Assert.assertEquals(1, cache.getMissCount());
+        int stateCount = cache.getStateCount();
+        Assert.assertTrue(stateCount > 0);
+        cache.parse(getParser(sql), OBParser::sql_stmt);
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(stateCount, cache.getStateCount());
+        Assert.assertEquals(2, cache.getSllParseCount());
+    }
+
+    @Test
+    public void parse_exceedMaxDFAStates_evicted() {
+        ParserDFACache cache = new ParserDFACache(OBParser._ATN, 1);
+        cache.parse(getParser("delete from tab where id=1"), OBParser::sql_stmt);
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertEquals(0, cache.getStateCount());
+    }
+
+    @Test
+    public void parse_sqlParserWithTimeout_parseSucceed() {
+        OBMySQLParser parser = new OBMySQLParser();
+        parser.setTwoStageParse(true);
+        parser.setTimeoutMillis(10000);
+        SQLParser sqlParser = parser;
+        Assert.assertNotNull(sqlParser.parse(new StringReader("select 1 from dual")));
+    }
+
+    private OBParser getParser(String sql) {
+        OBParser parser = new OBParser(new CommonTokenStream(new OBLexer(CharStreams.fromString(sql))));
+        parser.removeErrorListeners();
+        parser.addErrorListener(new FastFailErrorListener());
+        return parser;
+    }
+
+}
@@ -34,6 +34,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.oceanbase.odc.common.json.JacksonFactory;
 
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -63,6 +64,17 @@ public class CSVUtils {
         return stringBuilder.toString();
     }
 
+    /**
+     * write CSV format data to the output directly, the output will not be closed
+     */
+    public static void writeCSVFormatData(@NonNull Appendable out, List<String> header, List<List<Object>> records)
+            throws IOException {
+        CSVPrinter csvPrinter = new CSVPrinter(out, csvFormat);
+        csvPrinter.printRecord(header);
+        csvPrinter.printRecords(records);
+        csvPrinter.flush();
+    }
+
     public static <T> String buildCSVFormatData(Iterable<T> records, Class<T> clazz) {
         StringBuilder stringBuilder = new StringBuilder();
         Field[] declaredFields = clazz.getDeclaredFields();
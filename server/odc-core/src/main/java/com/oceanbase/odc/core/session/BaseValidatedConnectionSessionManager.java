@@ -64,7 +64,8 @@ public abstract class BaseValidatedConnectionSessionManager extends BaseConnecti
     public synchronized void enableAsyncRefreshSessionManager() {
         if (!asyncTaskHasBeenStarted) {
             asyncTaskHasBeenStarted = true;
-            taskManager.submit(new ConnectionSessionValidateTask(this, this.validators, scanIntervalMillis));
+            taskManager.submit(
+                    new ConnectionSessionValidateTask(this, this.validators, scanIntervalMillis, taskManager));
         }
     }
 
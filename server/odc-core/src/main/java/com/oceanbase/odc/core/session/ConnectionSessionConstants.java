@@ -84,6 +84,11 @@ public class ConnectionSessionConstants {
      * in the form of attributes, this is the key
      */
     public static final String QUERY_CACHE_KEY = "QUERY_CACHE";
+    /**
+     * The {@link com.oceanbase.odc.core.sql.execute.cache.ResultSetCacheQuota} shared by the query
+     * caches of a database session, this is the key
+     */
+    public static final String RESULT_SET_CACHE_QUOTA_KEY = "RESULT_SET_CACHE_QUOTA";
     public static final String FUTURE_JDBC_RESULT_KEY = "FUTURE_JDBC_RESULT";
     public static final String ASYNC_EXECUTE_CONTEXT_KEY = "ASYNC_EXECUTE_CONTEXT";
     /**
@@ -55,7 +55,9 @@ import com.oceanbase.odc.core.shared.model.OdcDBSession;
 import com.oceanbase.odc.core.sql.execute.GeneralSyncJdbcExecutor;
 import com.oceanbase.odc.core.sql.execute.SyncJdbcExecutor;
 import com.oceanbase.odc.core.sql.execute.cache.BinaryDataManager;
+import com.oceanbase.odc.core.sql.execute.cache.ResultSetCacheQuota;
 import com.oceanbase.odc.core.sql.execute.cache.model.BinaryContentMetaData;
+import com.oceanbase.odc.core.sql.execute.cache.table.ResultSetVirtualTable;
 import com.oceanbase.odc.core.sql.execute.cache.table.VirtualTable;
 import com.oceanbase.odc.core.sql.split.SqlCommentProcessor;
 import com.oceanbase.odc.core.sql.util.OdcDBSessionRowMapper;
@@ -388,6 +390,51 @@ public class ConnectionSessionUtil {
         return queryCache.get(sqlId);
     }
 
+    @SuppressWarnings("all")
+    public static void removeQueryCache(@NonNull ConnectionSession connectionSession, @NonNull String sqlId) {
+        Map<String, VirtualTable> queryCache =
+                (Map<String, VirtualTable>) connectionSession.getAttribute(ConnectionSessionConstants.QUERY_CACHE_KEY);
+        if (queryCache != null) {
+            queryCache.remove(sqlId);
+        }
+    }
+
+    /**
+     * Get the cache quota shared by all the query caches of a session, the quota will be created if
+     * absent. Query caches will be removed from the session and their binary contents will be released
+     * once they are evicted by the quota
+     *
+     * @param maxCachedSize max cached size of the session, negative means unlimited
+     */
+    public static synchronized ResultSetCacheQuota getOrCreateResultSetCacheQuota(
+            @NonNull ConnectionSession connectionSession, long maxCachedSize) {
+        ResultSetCacheQuota quota = getResultSetCacheQuota(connectionSession);
+        if (quota == null) {
+            quota = new ResultSetCacheQuota(maxCachedSize, sqlId -> evictQueryCache(connectionSession, sqlId));
+            connectionSession.setAttribute(ConnectionSessionConstants.RESULT_SET_CACHE_QUOTA_KEY, quota);
+        }
+        return quota;
+    }
+
+    private static void evictQueryCache(@NonNull ConnectionSession connectionSession, @NonNull String sqlId) {
+        VirtualTable virtualTable = getQueryCache(connectionSession, sqlId);
+        removeQueryCache(connectionSession, sqlId);
+        BinaryDataManager dataManager = getBinaryDataManager(connectionSession);
+        if (!(virtualTable instanceof ResultSetVirtualTable) || dataManager == null) {
+            return;
+        }
+        try {
+            ((ResultSetVirtualTable) virtualTable).release(dataManager);
+        } catch (Exception e) {
+            log.warn("Failed to release the evicted query cache, sqlId={}", sqlId, e);
+        }
+    }
+
+    public static ResultSetCacheQuota getResultSetCacheQuota(@NonNull ConnectionSession connectionSession) {
+        return (ResultSetCacheQuota) connectionSession
+                .getAttribute(ConnectionSessionConstants.RESULT_SET_CACHE_QUOTA_KEY);
+    }
+
     public static void setLogicalSession(@NonNull ConnectionSession connectionSession,
             @NonNull Boolean logicalSession) {
         connectionSession.setAttribute(ConnectionSessionConstants.IS_LOGICAL_SESSION, logicalSession);
@@ -15,13 +15,17 @@
  */
 package com.oceanbase.odc.core.session;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 
 import org.apache.commons.lang3.Validate;
 
 import com.oceanbase.odc.core.shared.Verify;
+import com.oceanbase.odc.core.task.TaskManager;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -41,31 +45,32 @@ public class ConnectionSessionValidateTask implements Runnable {
     private final ValidatedConnectionSessionManager sessionManager;
     private final long sessionScanIntervalMillis;
     private final List<Predicate<ConnectionSession>> validatePredicates;
+    /**
+     * Invalid sessions are expired in parallel by this task manager, closing the datasources of a
+     * session may be slow. Sessions will be expired one by one if it is null
+     */
+    private final TaskManager expireTaskManager;
 
     public ConnectionSessionValidateTask(@NonNull ValidatedConnectionSessionManager sessionManager,
             @NonNull List<Predicate<ConnectionSession>> validatePredicates, long intervalMillis) {
+        this(sessionManager, validatePredicates, intervalMillis, null);
+    }
+
+    public ConnectionSessionValidateTask(@NonNull ValidatedConnectionSessionManager sessionManager,
+            @NonNull List<Predicate<ConnectionSession>> validatePredicates, long intervalMillis,
+            TaskManager expireTaskManager) {
         this.sessionManager = sessionManager;
         this.validatePredicates = validatePredicates;
         Validate.isTrue(intervalMillis > 0, "SessionScanIntervalMillis can not be negative");
         this.sessionScanIntervalMillis = intervalMillis;
+        this.expireTaskManager = expireTaskManager;
     }
 
     @Override
     public void run() {
         while (!Thread.currentThread().isInterrupted()) {
             try {
-                Collection<ConnectionSession> sessions = sessionManager.retrieveAllSessions();
-                Verify.notNull(sessions, "Sessions");
-                ConnectionSessionValidateTask that = this;
-                sessions.stream().filter(s -> that.validatePredicates.stream().anyMatch(p -> !p.test(s)))
-                        .forEach(session -> {
-                            try {
-                                log.info("Session failed to pass verification, sessionId={}", session.getId());
-                                session.expire();
-                            } catch (Exception e) {
-                                log.warn("Failed to remove a session from manager, sessionId={}", session.getId(), e);
-                            }
-                        });
+                validateAndExpire();
                 Thread.sleep(sessionScanIntervalMillis);
             } catch (InterruptedException e) {
                 log.warn("Validate connection session task is interrupted, task exit", e);
@@ -76,4 +81,36 @@ public class ConnectionSessionValidateTask implements Runnable {
         }
     }
 
+    protected void validateAndExpire() throws InterruptedException {
+        Collection<ConnectionSession> sessions = sessionManager.retrieveAllSessions();
+        Verify.notNull(sessions, "Sessions");
+        List<Future<?>> futures = new ArrayList<>();
+        for (ConnectionSession session : sessions) {
+            if (this.validatePredicates.stream().allMatch(p -> p.test(session))) {
+                continue;
+            }
+            log.info("Session failed to pass verification, sessionId={}", session.getId());
+            Runnable expireTask = () -> {
+                try {
+                    session.expire();
+                } catch (Exception e) {
+                    log.warn("Failed to remove a session from manager, sessionId={}", session.getId(), e);
+                }
+            };
+            if (this.expireTaskManager == null) {
+                expireTask.run();
+            } else {
+                futures.add(this.expireTaskManager.submit(expireTask));
+            }
+        }
+        // wait for all the sessions expired, avoid expiring a session twice in the next round
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.warn("Failed to expire a session", e.getCause());
+            }
+        }
+    }
+
 }
@@ -66,6 +66,17 @@ public class DefaultConnectionSession extends AbstractConnectionSession {
             TaskManagerFactory<SqlExecuteTaskManager> taskManagerFactory, long sessionTimeoutMillis,
             @NonNull ConnectType connectType, boolean defaultAutoCommit,
             @NonNull SessionOperations sessionOperations) throws IOException {
+        this(id, taskManagerFactory, sessionTimeoutMillis, connectType, defaultAutoCommit, sessionOperations, false);
+    }
+
+    /**
+     * @param memoryMappedBinaryData store the binary data of the session in memory-mapped files, see
+     *        {@link com.oceanbase.odc.core.sql.execute.cache.MappedPageManager}
+     */
+    public DefaultConnectionSession(@NonNull String id,
+            TaskManagerFactory<SqlExecuteTaskManager> taskManagerFactory, long sessionTimeoutMillis,
+            @NonNull ConnectType connectType, boolean defaultAutoCommit,
+            @NonNull SessionOperations sessionOperations, boolean memoryMappedBinaryData) throws IOException {
         super(id, connectType, sessionTimeoutMillis);
         this.defaultAutoCommit = defaultAutoCommit;
         if (taskManagerFactory == null) {
@@ -75,7 +86,7 @@ public class DefaultConnectionSession extends AbstractConnectionSession {
             this.taskManagerWrapper = new TaskManagerWrapper(taskManagerFactory);
         }
         this.dataSourceWrapperMap = new HashMap<>();
-        initBinaryDataManager();
+        initBinaryDataManager(memoryMappedBinaryData);
         this.sessionOperations = sessionOperations;
     }
 
@@ -175,9 +186,9 @@ public class DefaultConnectionSession extends AbstractConnectionSession {
         }
     }
 
-    private void initBinaryDataManager() throws IOException {
+    private void initBinaryDataManager(boolean memoryMapped) throws IOException {
         File workingDir = ConnectionSessionUtil.getSessionDataManagerDir(this);
-        this.dataManager = new FileBaseBinaryDataManager(workingDir.getAbsolutePath());
+        this.dataManager = new FileBaseBinaryDataManager(workingDir.getAbsolutePath(), memoryMapped);
         ConnectionSessionUtil.setBinaryDataManager(this, this.dataManager);
         log.info("Init binary data manager completed.");
     }
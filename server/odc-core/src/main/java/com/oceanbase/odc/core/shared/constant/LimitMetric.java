@@ -51,7 +51,8 @@ public enum LimitMetric implements Translatable {
     DLM_ROW_LIMIT,
     DLM_DATA_SIZE_LIMIT,
     DASHBOARD_COUNT_IN_WORKSPACE,
-    CHART_COUNT_IN_DASHBOARD;
+    CHART_COUNT_IN_DASHBOARD,
+    RESULT_PUSH_CHANNEL_COUNT;
 
     @Override
     public String code() {
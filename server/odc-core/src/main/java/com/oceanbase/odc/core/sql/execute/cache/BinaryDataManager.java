@@ -49,5 +49,14 @@ public interface BinaryDataManager extends AutoCloseable {
      */
     InputStream read(@NonNull BinaryContentMetaData metaData) throws IOException;
 
+    /**
+     * Release binary data which will never be read again, the storage is reclaimed once all the data
+     * stored with it are released. Managers which can not reclaim storage ignore it.
+     *
+     * @param metaData {@code BinaryTypeMetaData}
+     * @throws IOException some errors may happend
+     */
+    default void release(@NonNull BinaryContentMetaData metaData) throws IOException {}
+
 }
 
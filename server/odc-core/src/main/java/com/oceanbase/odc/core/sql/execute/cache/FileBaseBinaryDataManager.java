@@ -21,6 +21,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -49,9 +51,20 @@ public class FileBaseBinaryDataManager implements BinaryDataManager {
      * 512 MB
      */
     private static final int MAX_SINGLE_STORAGE_FILE_SIZE = 1024 * 1024 * 512;
-    private PagedRandomAccessFile currentWriteFile;
+    private volatile PagedRandomAccessFile currentWriteFile;
+    /**
+     * count of the binary data not released yet in each file, guarded by this
+     */
+    private final Map<String, Integer> filePath2LiveCount = new HashMap<>();
 
     public FileBaseBinaryDataManager(@NonNull String workingDir) throws IOException {
+        this(workingDir, false);
+    }
+
+    /**
+     * @param memoryMapped store the pages in memory-mapped files, see {@link MappedPageManager}
+     */
+    public FileBaseBinaryDataManager(@NonNull String workingDir, boolean memoryMapped) throws IOException {
         this.workingDir = new File(workingDir);
         if (!this.workingDir.exists()) {
             throw new FileNotFoundException("Input path does not exist, workingDir=" + workingDir);
@@ -59,7 +72,7 @@ public class FileBaseBinaryDataManager implements BinaryDataManager {
         if (!this.workingDir.isDirectory()) {
             throw new IllegalArgumentException("Input string is not a directory, workingDir=" + workingDir);
         }
-        this.pageManager = new PageManager(workingDir);
+        this.pageManager = memoryMapped ? new MappedPageManager(workingDir) : new PageManager(workingDir);
     }
 
     @Override
@@ -76,6 +89,7 @@ public class FileBaseBinaryDataManager implements BinaryDataManager {
                 length = inputStream.read(buffer, 0, length);
             }
             inputStream.close();
+            this.filePath2LiveCount.merge(this.currentWriteFile.getPath(), 1, Integer::sum);
             return new BinaryContentMetaData(this.currentWriteFile.getPath(), offset, fileSize);
         } finally {
             currentWriteFile.remove();
@@ -85,7 +99,8 @@ public class FileBaseBinaryDataManager implements BinaryDataManager {
     @Override
     public InputStream read(@NonNull BinaryContentMetaData metaData) throws IOException {
         PagedRandomAccessFile pagedRandomAccessFile = currentWriteFile;
-        if (!Objects.equals(metaData.getFilePath(), currentWriteFile.getPath())) {
+        if (pagedRandomAccessFile == null
+                || !Objects.equals(metaData.getFilePath(), pagedRandomAccessFile.getPath())) {
             pagedRandomAccessFile = new PagedRandomAccessFile(metaData.getFilePath(), pageManager);
         }
         try {
@@ -117,6 +132,29 @@ public class FileBaseBinaryDataManager implements BinaryDataManager {
         }
     }
 
+    /**
+     * The pages of a file are released and the file is deleted once all the binary data in it are
+     * released
+     */
+    @Override
+    public synchronized void release(@NonNull BinaryContentMetaData metaData) throws IOException {
+        String filePath = metaData.getFilePath();
+        Integer liveCount = this.filePath2LiveCount.computeIfPresent(filePath, (path, count) -> count - 1);
+        if (liveCount == null || liveCount > 0) {
+            return;
+        }
+        this.filePath2LiveCount.remove(filePath);
+        PagedRandomAccessFile target;
+        if (this.currentWriteFile != null && Objects.equals(filePath, this.currentWriteFile.getPath())) {
+            target = this.currentWriteFile;
+            this.currentWriteFile = null;
+        } else {
+            target = new PagedRandomAccessFile(filePath, this.pageManager);
+        }
+        target.release();
+        FileUtils.deleteQuietly(new File(filePath));
+    }
+
     @Override
     public void close() throws Exception {
         if (this.currentWriteFile != null) {
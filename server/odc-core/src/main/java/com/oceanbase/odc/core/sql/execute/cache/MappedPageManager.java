@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.sql.execute.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.Validate;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link MappedPageManager}
+ *
+ * Paging manager which memory-maps the storage files and serves the pages from the mapped regions.
+ * Contents are neither held on heap nor copied between heap and file. The files are mapped by
+ * segments of up to {@link #MAX_PAGE_COUNT_IN_SEGMENT} pages, at most {@code maxPageCountInMem}
+ * pages are mapped at the same time and the least recently used segments are unmapped beyond that.
+ * An unmapped segment is mapped again when one of its pages is accessed.
+ *
+ * @author agent
+ * @see PageManager
+ */
+@Slf4j
+public class MappedPageManager extends PageManager {
+
+    private static final int MAX_PAGE_COUNT_IN_SEGMENT = 32;
+    private final File workingDirectory;
+    private final int maxSingleFileSize;
+    private final int pageCountInSingleFile;
+    private final int pageCountInSegment;
+    private final int maxMappedSegmentCount;
+    private final Map<Long, File> offsetCount2StorageFile = new ConcurrentHashMap<>();
+    private final Map<Integer, Segment> segmentId2Segment = new ConcurrentHashMap<>();
+    private final Map<Integer, Page> pageId2Page = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> offsetCount2ReleasedSegmentCount = new ConcurrentHashMap<>();
+    /**
+     * mapped segments in access order, guarded by itself
+     */
+    private final LinkedHashMap<Integer, Segment> mappedSegments = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicInteger pageIdGenerator = new AtomicInteger(0);
+    private volatile boolean closed = false;
+
+    public MappedPageManager(@NonNull String workingDir) throws IOException {
+        this(workingDir, 512);
+    }
+
+    public MappedPageManager(@NonNull String workingDir, int maxPageCountInMem) throws IOException {
+        this(workingDir, maxPageCountInMem, MAX_SINGLE_FILE_SIZE_IN_BYTES);
+    }
+
+    /**
+     * @param maxPageCountInMem max count of the pages mapped at the same time, rounded up to whole
+     *        segments
+     */
+    public MappedPageManager(@NonNull String workingDir, int maxPageCountInMem, int maxSingleFileSize)
+            throws IOException {
+        super(workingDir, maxPageCountInMem, maxSingleFileSize);
+        this.workingDirectory = new File(workingDir);
+        int pageCount = maxSingleFileSize / STORAGE_LAYER_PAGE_SIZE_BYTE;
+        if (maxSingleFileSize % STORAGE_LAYER_PAGE_SIZE_BYTE != 0) {
+            pageCount++;
+        }
+        this.pageCountInSingleFile = pageCount;
+        this.maxSingleFileSize = pageCount * STORAGE_LAYER_PAGE_SIZE_BYTE;
+        // a segment never crosses two storage files
+        int pageCountInSegment = Math.min(MAX_PAGE_COUNT_IN_SEGMENT, pageCount);
+        while (pageCount % pageCountInSegment != 0) {
+            pageCountInSegment--;
+        }
+        this.pageCountInSegment = pageCountInSegment;
+        this.maxMappedSegmentCount = Math.max(1, maxPageCountInMem / pageCountInSegment);
+    }
+
+    @Override
+    public Page create() throws IOException {
+        closedCheck();
+        int pageId = this.pageIdGenerator.getAndIncrement();
+        Segment segment = getSegment(pageId / this.pageCountInSegment);
+        segment.pageCount.incrementAndGet();
+        Page page = Page.mappedPage(pageId,
+                segment, (pageId % this.pageCountInSegment) * STORAGE_LAYER_PAGE_SIZE_BYTE);
+        this.pageId2Page.put(pageId, page);
+        return page;
+    }
+
+    @Override
+    public List<Page> create(int pageCount) throws IOException {
+        closedCheck();
+        Validate.isTrue(pageCount > 0, "Page Count can not be negative");
+        List<Page> createdPages = new ArrayList<>(pageCount);
+        for (int i = 0; i < pageCount; i++) {
+            createdPages.add(create());
+        }
+        return createdPages;
+    }
+
+    @Override
+    public Page get(int pageId) throws IOException {
+        closedCheck();
+        Page page = this.pageId2Page.get(pageId);
+        if (page == null) {
+            throw new NullPointerException("Page with Id " + pageId + " does not exist");
+        }
+        page.seekForRead(0);
+        page.seekForWrite(0);
+        return page;
+    }
+
+    @Override
+    public List<Page> get(@NonNull Collection<Integer> pageIds) throws IOException {
+        closedCheck();
+        List<Page> returnVal = new ArrayList<>(pageIds.size());
+        for (Integer pageId : pageIds) {
+            returnVal.add(get(pageId));
+        }
+        return returnVal;
+    }
+
+    @Override
+    public Page modify(@NonNull Page page) throws IOException {
+        Page target = get(page.getPhysicalPageId());
+        target.copyFrom(page);
+        return target;
+    }
+
+    @Override
+    public List<Page> modify(@NonNull Collection<Page> pages) throws IOException {
+        closedCheck();
+        List<Page> returnVal = new ArrayList<>(pages.size());
+        for (Page page : pages) {
+            returnVal.add(modify(page));
+        }
+        return returnVal;
+    }
+
+    /**
+     * Write the mapped contents back to the storage files and unmap the segments, segments being
+     * accessed are skipped
+     */
+    @Override
+    public void flush() {
+        List<Segment> segments;
+        synchronized (this.mappedSegments) {
+            segments = new ArrayList<>(this.mappedSegments.values());
+        }
+        int unmapped = 0;
+        for (Segment segment : segments) {
+            if (segment.unmap(false, true)) {
+                unmapped++;
+                synchronized (this.mappedSegments) {
+                    this.mappedSegments.remove(segment.id, segment);
+                }
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("MappedPageManager has been flushed successfully, filePath={}, unmappedSegments={}",
+                    this.workingDirectory.getAbsolutePath(), unmapped);
+        }
+    }
+
+    /**
+     * Release pages which will never be accessed again. A segment is unmapped once all of its pages are
+     * released, and a storage file is deleted once all of its segments are released.
+     */
+    @Override
+    public void release(@NonNull Collection<Integer> pageIds) throws IOException {
+        closedCheck();
+        for (Integer pageId : pageIds) {
+            if (this.pageId2Page.remove(pageId) == null) {
+                continue;
+            }
+            Segment segment = this.segmentId2Segment.get(pageId / this.pageCountInSegment);
+            if (segment == null || segment.releasedPageCount.incrementAndGet() < this.pageCountInSegment) {
+                continue;
+            }
+            segment.release();
+            this.segmentId2Segment.remove(segment.id, segment);
+            synchronized (this.mappedSegments) {
+                this.mappedSegments.remove(segment.id, segment);
+            }
+            long offsetCount = (long) segment.id * this.pageCountInSegment / this.pageCountInSingleFile;
+            int releasedSegmentCount = this.offsetCount2ReleasedSegmentCount
+                    .computeIfAbsent(offsetCount, c -> new AtomicInteger()).incrementAndGet();
+            if (releasedSegmentCount >= this.pageCountInSingleFile / this.pageCountInSegment) {
+                this.offsetCount2ReleasedSegmentCount.remove(offsetCount);
+                File storageFile = this.offsetCount2StorageFile.remove(offsetCount);
+                if (storageFile != null && !storageFile.delete()) {
+                    throw new IOException("Failed to delete the storage file " + storageFile.getAbsolutePath());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return count of the pages mapped currently
+     */
+    @Override
+    public int size() {
+        synchronized (this.mappedSegments) {
+            return this.mappedSegments.values().stream().mapToInt(s -> s.pageCount.get()).sum();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.segmentId2Segment.values().forEach(Segment::release);
+        this.segmentId2Segment.clear();
+        synchronized (this.mappedSegments) {
+            this.mappedSegments.clear();
+        }
+        this.pageId2Page.clear();
+        log.info("Mapped page manager closed successfully, workingDir={}", this.workingDirectory.getAbsolutePath());
+    }
+
+    @Override
+    public String toString() {
+        return "MappedPageManager: " + this.workingDirectory.getAbsolutePath();
+    }
+
+    private void closedCheck() {
+        if (this.closed) {
+            throw new IllegalStateException("Page manager is closed");
+        }
+    }
+
+    private Segment getSegment(int segmentId) throws IOException {
+        Segment segment = this.segmentId2Segment.get(segmentId);
+        if (segment != null) {
+            return segment;
+        }
+        long offsetCount = (long) segmentId * this.pageCountInSegment / this.pageCountInSingleFile;
+        File storageFile = getStorageFile(offsetCount);
+        long position = (long) segmentId * this.pageCountInSegment % this.pageCountInSingleFile
+                * STORAGE_LAYER_PAGE_SIZE_BYTE;
+        return this.segmentId2Segment.computeIfAbsent(segmentId, id -> new Segment(id, storageFile, position,
+                this.pageCountInSegment * STORAGE_LAYER_PAGE_SIZE_BYTE));
+    }
+
+    private File getStorageFile(long offsetCount) throws IOException {
+        File storageFile = this.offsetCount2StorageFile.get(offsetCount);
+        if (storageFile != null) {
+            return storageFile;
+        }
+        synchronized (this.offsetCount2StorageFile) {
+            storageFile = this.offsetCount2StorageFile.get(offsetCount);
+            if (storageFile != null) {
+                return storageFile;
+            }
+            storageFile = new File(this.workingDirectory.getAbsolutePath() + "/" + generateFileName());
+            if (!storageFile.createNewFile()) {
+                throw new IOException("Failed to create a file, fileName " + storageFile.getAbsolutePath());
+            }
+            try (RandomAccessFile file = new RandomAccessFile(storageFile, "rw")) {
+                // the file is sparse, disk blocks are allocated only when the pages are written
+                file.setLength(this.maxSingleFileSize);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("The storage file is created successfully, filePath={}, offsetCount={}",
+                        storageFile.getAbsolutePath(), offsetCount);
+            }
+            this.offsetCount2StorageFile.put(offsetCount, storageFile);
+            return storageFile;
+        }
+    }
+
+    private String generateFileName() {
+        return this.getClass().getSimpleName().toLowerCase() + "_" + UUID.randomUUID().toString().replaceAll("-", "")
+                + ".data";
+    }
+
+    /**
+     * Record a newly mapped segment and unmap the least recently used ones beyond the bound. Segments
+     * being accessed can not be unmapped, they stay mapped and are retried next time.
+     */
+    private void onMapped(Segment segment) {
+        List<Segment> victims = new ArrayList<>();
+        synchronized (this.mappedSegments) {
+            this.mappedSegments.put(segment.id, segment);
+            Iterator<Segment> iterator = this.mappedSegments.values().iterator();
+            int exceeded = this.mappedSegments.size() - this.maxMappedSegmentCount;
+            while (exceeded > 0 && iterator.hasNext()) {
+                Segment victim = iterator.next();
+                if (victim != segment) {
+                    victims.add(victim);
+                    iterator.remove();
+                    exceeded--;
+                }
+            }
+        }
+        for (Segment victim : victims) {
+            if (!victim.unmap(false, false)) {
+                synchronized (this.mappedSegments) {
+                    this.mappedSegments.put(victim.id, victim);
+                }
+            }
+        }
+    }
+
+    private void onAccessed(Segment segment) {
+        synchronized (this.mappedSegments) {
+            this.mappedSegments.get(segment.id);
+        }
+    }
+
+    /**
+     * Release the mapping eagerly, otherwise the memory and the file are held until the buffer is
+     * garbage collected
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                // jdk 8
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+                return;
+            }
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            invokeCleaner.invoke(field.get(null), buffer);
+        } catch (Exception e) {
+            log.warn("Failed to unmap the storage file, it will be released by gc", e);
+        }
+    }
+
+    /**
+     * A region of a storage file which is mapped and unmapped as a whole. A mapped region can not be
+     * accessed once it is unmapped, otherwise the jvm may crash, so that accesses hold the read lock
+     * and unmapping holds the write lock.
+     */
+    class Segment {
+
+        private final int id;
+        private final File storageFile;
+        private final long position;
+        private final int size;
+        private final AtomicInteger pageCount = new AtomicInteger(0);
+        private final AtomicInteger releasedPageCount = new AtomicInteger(0);
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private MappedByteBuffer buffer;
+        private boolean released = false;
+
+        private Segment(int id, File storageFile, long position, int size) {
+            this.id = id;
+            this.storageFile = storageFile;
+            this.position = position;
+            this.size = size;
+        }
+
+        void access(int offset, @NonNull Consumer<ByteBuffer> consumer) {
+            while (true) {
+                this.lock.readLock().lock();
+                try {
+                    if (this.released) {
+                        throw new IllegalStateException("Segment is released, segmentId=" + this.id);
+                    }
+                    if (this.buffer != null) {
+                        ByteBuffer target = this.buffer.duplicate();
+                        target.position(offset);
+                        target.limit(offset + STORAGE_LAYER_PAGE_SIZE_BYTE);
+                        consumer.accept(target.slice());
+                        break;
+                    }
+                } finally {
+                    this.lock.readLock().unlock();
+                }
+                map();
+            }
+            onAccessed(this);
+        }
+
+        private void map() {
+            boolean mapped = false;
+            this.lock.writeLock().lock();
+            try {
+                if (this.released) {
+                    throw new IllegalStateException("Segment is released, segmentId=" + this.id);
+                }
+                if (this.buffer == null) {
+                    try (RandomAccessFile file = new RandomAccessFile(this.storageFile, "rw")) {
+                        this.buffer = file.getChannel().map(MapMode.READ_WRITE, this.position, this.size);
+                    }
+                    mapped = true;
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to map the storage file " + this.storageFile, e);
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+            if (mapped) {
+                onMapped(this);
+            }
+        }
+
+        /**
+         * @param wait wait for the accesses to finish, otherwise give up if the segment is being accessed
+         * @param force write the contents back to the storage file before unmapping
+         * @return {@code false} if the segment is being accessed
+         */
+        private boolean unmap(boolean wait, boolean force) {
+            Lock writeLock = this.lock.writeLock();
+            if (wait) {
+                writeLock.lock();
+            } else if (!writeLock.tryLock()) {
+                return false;
+            }
+            try {
+                if (this.buffer != null) {
+                    if (force) {
+                        this.buffer.force();
+                    }
+                    MappedPageManager.unmap(this.buffer);
+                    this.buffer = null;
+                }
+                return true;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private void release() {
+            this.lock.writeLock().lock();
+            try {
+                unmap(true, false);
+                this.released = true;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+    }
+
+}
@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,6 +31,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
@@ -43,6 +45,7 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.Validate;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -84,6 +87,10 @@ public class PageManager implements Closeable {
     private final static int MAX_RETRY_COUNT = 3;
     private final Semaphore pageCountSemaphore;
     private final static int TRY_LOCK_TIMEOUT_SECONDS = 3;
+    private final int pageCountInSingleFile;
+    private final Set<Integer> releasedPageIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> offsetCount2ReleasedPageCount = new HashMap<>();
+    private final Set<Long> deletedOffsetCounts = ConcurrentHashMap.newKeySet();
 
     public PageManager(@NonNull String workingDir) throws IOException {
         this(workingDir, 512);
@@ -109,6 +116,7 @@ public class PageManager implements Closeable {
             maxPageCountInSingleFile++;
         }
         this.maxSingleFileSize = maxPageCountInSingleFile * STORAGE_LAYER_PAGE_SIZE_BYTE;
+        this.pageCountInSingleFile = maxPageCountInSingleFile;
         this.pageCountSemaphore = new Semaphore(maxPageCountInMem);
     }
 
@@ -290,6 +298,34 @@ public class PageManager implements Closeable {
         return returnVal;
     }
 
+    /**
+     * Release pages which will never be accessed again. Released pages are dropped from memory without
+     * being swapped out, and a storage file is deleted once all of its pages are released.
+     *
+     * @param pageIds ids of the pages to be released
+     */
+    public void release(@NonNull Collection<Integer> pageIds) throws IOException {
+        closedCheck();
+        List<Integer> toBeReleased = pageIds.stream()
+                .filter(pageId -> isPageExists(pageId) && this.releasedPageIds.add(pageId))
+                .collect(Collectors.toList());
+        for (Map.Entry<Long, List<Integer>> entry : getOffsetCount2PageIds(toBeReleased).entrySet()) {
+            for (Integer pageId : entry.getValue()) {
+                if (this.pagesInMemory.removeById(pageId) != null) {
+                    this.pageCountSemaphore.release();
+                }
+            }
+            int releasedCount;
+            synchronized (this.offsetCount2ReleasedPageCount) {
+                releasedCount = this.offsetCount2ReleasedPageCount.merge(entry.getKey(),
+                        entry.getValue().size(), Integer::sum);
+            }
+            if (releasedCount >= this.pageCountInSingleFile) {
+                deleteStorageFile(entry.getKey());
+            }
+        }
+    }
+
     @Override
     public synchronized void close() throws IOException {
         if (this.isClosed) {
@@ -469,6 +505,34 @@ public class PageManager implements Closeable {
         }
     }
 
+    private void deleteStorageFile(long offsetCount) throws IOException {
+        Lock lock = getStorageFileLock(offsetCount);
+        if (!acquireLock(lock, TRY_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Failed to acquire the lock");
+        }
+        try {
+            File storageFile = this.offsetCount2StorageFile.remove(offsetCount);
+            if (storageFile != null && storageFile.exists() && !storageFile.delete()) {
+                throw new IOException("Failed to delete the storage file " + storageFile.getAbsolutePath());
+            }
+            // released page ids of a deleted file are no longer kept one by one
+            this.deletedOffsetCounts.add(offsetCount);
+            int beginPageId = (int) (offsetCount * this.pageCountInSingleFile);
+            for (int pageId = beginPageId; pageId < beginPageId + this.pageCountInSingleFile; pageId++) {
+                this.releasedPageIds.remove(pageId);
+            }
+            synchronized (this.offsetCount2ReleasedPageCount) {
+                this.offsetCount2ReleasedPageCount.remove(offsetCount);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("All pages of the storage file are released, file is deleted, offsetCount={}",
+                        offsetCount);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private List<Page> swapIn(Collection<Integer> pageIds) throws IOException {
         return swapIn(pageIds, page -> false, null);
     }
@@ -605,7 +669,7 @@ public class PageManager implements Closeable {
                         if (currentPosition != destPosition) {
                             internalFile.seek(destPosition);
                         }
-                        internalFile.write(pageToBeSwappedOut.content);
+                        internalFile.write(pageToBeSwappedOut.array());
                         currentPosition = destPosition + STORAGE_LAYER_PAGE_SIZE_BYTE;
                         returnVal.add(pageToBeSwappedOut);
                     } finally {
@@ -642,8 +706,7 @@ public class PageManager implements Closeable {
     }
 
     private void deepCopyPage(@NonNull Page srcPage, @NonNull Page destPage) {
-        int maxPosition = Math.min(srcPage.content.length, destPage.content.length);
-        System.arraycopy(srcPage.content, 0, destPage.content, 0, maxPosition);
+        destPage.copyFrom(srcPage);
     }
 
     private boolean isPageExistsInMemory(int pageId) {
@@ -651,7 +714,8 @@ public class PageManager implements Closeable {
     }
 
     private boolean isPageExists(int pageId) {
-        return pageId < pageIdGenerator.get();
+        return pageId < pageIdGenerator.get() && !this.releasedPageIds.contains(pageId)
+                && !this.deletedOffsetCounts.contains(getStorageFileOffsetCount(pageId));
     }
 
     private Page consumePageInMemory(int pageId, boolean ifLock, Consumer<Page> consumer) {
@@ -929,25 +993,43 @@ public class PageManager implements Closeable {
     @EqualsAndHashCode(of = "physicalPageId")
     public static class Page {
         private final int physicalPageId;
-        private final byte[] content;
+        /**
+         * content of a heap page, {@code null} for a mapped page
+         */
+        @Getter(AccessLevel.NONE)
+        private final ByteBuffer content;
+        /**
+         * segment which the content is mapped from, {@code null} for a heap page
+         */
+        @Getter(AccessLevel.NONE)
+        private final MappedPageManager.Segment segment;
+        @Getter(AccessLevel.NONE)
+        private final int offsetInSegment;
         private final ThreadLocal<Integer> readPointer;
         private final ThreadLocal<Integer> writePointer;
         private final ReentrantLock modifyLock = new ReentrantLock();
 
         private static Page newPage(int pageId, @NonNull byte[] content) {
-            return new Page(pageId, content);
+            Validate.isTrue(content.length == STORAGE_LAYER_PAGE_SIZE_BYTE,
+                    "Content's length is illegal, has to be equal to " + STORAGE_LAYER_PAGE_SIZE_BYTE);
+            return new Page(pageId, ByteBuffer.wrap(content), null, 0);
+        }
+
+        static Page mappedPage(int pageId, @NonNull MappedPageManager.Segment segment, int offsetInSegment) {
+            return new Page(pageId, null, segment, offsetInSegment);
         }
 
         public static Page emptyPage(int pageId) {
-            return new Page(pageId, new byte[STORAGE_LAYER_PAGE_SIZE_BYTE]);
+            return newPage(pageId, new byte[STORAGE_LAYER_PAGE_SIZE_BYTE]);
         }
 
-        private Page(int physicalPageId, @NonNull byte[] content) {
+        private Page(int physicalPageId, ByteBuffer content, MappedPageManager.Segment segment,
+                int offsetInSegment) {
             Validate.isTrue(physicalPageId >= 0, "PageId can not be negative");
-            Validate.isTrue(content.length == STORAGE_LAYER_PAGE_SIZE_BYTE,
-                    "Content's length is illegal, has to be equal to " + STORAGE_LAYER_PAGE_SIZE_BYTE);
             this.physicalPageId = physicalPageId;
             this.content = content;
+            this.segment = segment;
+            this.offsetInSegment = offsetInSegment;
             this.readPointer = ThreadLocal.withInitial(() -> 0);
             this.writePointer = ThreadLocal.withInitial(() -> 0);
         }
@@ -971,11 +1053,14 @@ public class PageManager implements Closeable {
                 throw new IOException("Offset can not bigger than buffer's length");
             }
             int actualLength = Math.min(buffer.length - offset, length);
-            int capacity = this.content.length - this.writePointer.get();
+            int capacity = STORAGE_LAYER_PAGE_SIZE_BYTE - this.writePointer.get();
             if (actualLength > capacity) {
                 throw new IOException("Capacity " + capacity + " is smaller than length " + actualLength);
             }
-            System.arraycopy(buffer, offset, this.content, this.writePointer.get(), actualLength);
+            access(target -> {
+                target.position(this.writePointer.get());
+                target.put(buffer, offset, actualLength);
+            });
             this.writePointer.set(this.writePointer.get() + actualLength);
         }
 
@@ -988,9 +1073,12 @@ public class PageManager implements Closeable {
                 throw new IOException("Offset can not bigger than buffer's length");
             }
             int bufferCapacity = Math.min(buffer.length - offset, length);
-            int pageCapacity = this.content.length - this.readPointer.get();
+            int pageCapacity = STORAGE_LAYER_PAGE_SIZE_BYTE - this.readPointer.get();
             int actualLength = Math.min(pageCapacity, bufferCapacity);
-            System.arraycopy(this.content, this.readPointer.get(), buffer, offset, actualLength);
+            access(target -> {
+                target.position(this.readPointer.get());
+                target.get(buffer, offset, actualLength);
+            });
             this.readPointer.set(this.readPointer.get() + actualLength);
             if (actualLength == 0) {
                 return -1;
@@ -1002,6 +1090,36 @@ public class PageManager implements Closeable {
             this.readPointer.remove();
             this.writePointer.remove();
         }
+
+        /**
+         * Copy the whole content of the source page into this page
+         */
+        void copyFrom(@NonNull Page srcPage) {
+            if (srcPage == this || (this.content != null && srcPage.content == this.content)) {
+                return;
+            }
+            srcPage.access(src -> access(dest -> dest.put(src)));
+        }
+
+        /**
+         * Access the content through a duplicated buffer so that concurrent readers and writers do not
+         * share the position of the buffer
+         */
+        private void access(Consumer<ByteBuffer> consumer) {
+            if (this.segment == null) {
+                consumer.accept(this.content.duplicate());
+                return;
+            }
+            this.segment.access(this.offsetInSegment, consumer);
+        }
+
+        /**
+         * @return content of the page, only available for a heap page
+         */
+        private byte[] array() {
+            Validate.isTrue(this.segment == null, "Content of a mapped page is not backed by an array");
+            return this.content.array();
+        }
     }
 
 
@@ -169,9 +169,27 @@ public class PagedRandomAccessFile implements Closeable {
     }
 
     @Override
-    public void close() throws IOException {
+    public synchronized void close() throws IOException {
         pageManager.modify(pageBuffer);
         MetaInfo.write(this.filePath, this.metaInfo);
+        // pages created in advance will never be written since the file is closed
+        if (!this.preCreatedPages.isEmpty()) {
+            pageManager.release(this.preCreatedPages.stream().map(Page::getPhysicalPageId)
+                    .collect(Collectors.toList()));
+            this.preCreatedPages.clear();
+        }
+    }
+
+    /**
+     * Release all the pages of the file from the {@link PageManager}, the file can not be accessed any
+     * more
+     */
+    public synchronized void release() throws IOException {
+        List<Integer> pageIds = new LinkedList<>(this.metaInfo.getPageTable().values());
+        this.preCreatedPages.forEach(page -> pageIds.add(page.getPhysicalPageId()));
+        this.preCreatedPages.clear();
+        this.pageBuffer.clear();
+        pageManager.release(pageIds);
     }
 
     public void remove() {
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.sql.execute.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ResultSetCacheQuota}
+ *
+ * Cache quota shared by all the result sets cached in a database session. The size of binary data
+ * cached by each result set is accounted here, when the quota is exhausted the earliest cached
+ * result sets are evicted to make room for the latest one.
+ *
+ * @author agent
+ * @see com.oceanbase.odc.core.sql.execute.cache.table.ResultSetVirtualTable
+ */
+@Slf4j
+public class ResultSetCacheQuota {
+
+    /**
+     * max cached size in bytes of a session, negative means unlimited
+     */
+    @Getter
+    private final long maxCachedSize;
+    private final Consumer<String> evictListener;
+    private final Map<String, Long> tableId2CachedSize = new LinkedHashMap<>();
+    @Getter
+    private long totalCachedSize = 0;
+
+    public ResultSetCacheQuota(long maxCachedSize, @NonNull Consumer<String> evictListener) {
+        this.maxCachedSize = maxCachedSize;
+        this.evictListener = evictListener;
+    }
+
+    /**
+     * Try to make room for a result set, result sets cached earlier than it will be evicted if the
+     * quota is exhausted
+     *
+     * @param tableId id of the result set which is being cached
+     * @return {@code false} if the quota is still exhausted, which means the result set itself has used
+     *         up the quota
+     */
+    public boolean ensureRoom(@NonNull String tableId) {
+        List<String> evictedTableIds = new ArrayList<>();
+        synchronized (this) {
+            for (String id : new ArrayList<>(this.tableId2CachedSize.keySet())) {
+                if (!isExhausted()) {
+                    break;
+                }
+                if (id.equals(tableId)) {
+                    continue;
+                }
+                this.totalCachedSize -= this.tableId2CachedSize.remove(id);
+                evictedTableIds.add(id);
+            }
+        }
+        for (String id : evictedTableIds) {
+            log.info("Cached result set is evicted, tableId={}, totalCachedSize={}, maxCachedSize={}",
+                    id, this.totalCachedSize, this.maxCachedSize);
+            this.evictListener.accept(id);
+        }
+        return !isExhausted();
+    }
+
+    public synchronized void acquire(@NonNull String tableId, long size) {
+        if (size <= 0) {
+            return;
+        }
+        this.tableId2CachedSize.merge(tableId, size, Long::sum);
+        this.totalCachedSize += size;
+    }
+
+    public synchronized void release(@NonNull String tableId) {
+        Long size = this.tableId2CachedSize.remove(tableId);
+        if (size != null) {
+            this.totalCachedSize -= size;
+        }
+    }
+
+    public synchronized long getCachedSize(@NonNull String tableId) {
+        return this.tableId2CachedSize.getOrDefault(tableId, 0L);
+    }
+
+    public synchronized boolean isExhausted() {
+        return this.maxCachedSize >= 0 && this.totalCachedSize >= this.maxCachedSize;
+    }
+
+}
@@ -46,20 +46,32 @@ public class ResultSetCachedElementFactory implements VirtualElementFactory {
      */
     private final ResultSet resultSet;
     private final BinaryDataManager dataManager;
-    private final ResultSetMetaData metaData;
+    /**
+     * column type names and labels are resolved once, the factory can be reused for all rows of the
+     * {@code ResultSet}
+     */
+    private final String[] columnTypeNames;
+    private final String[] columnLabels;
 
     public ResultSetCachedElementFactory(@NonNull ResultSet resultSet, @NonNull BinaryDataManager dataManager)
             throws SQLException {
         this.resultSet = resultSet;
         this.dataManager = dataManager;
-        this.metaData = resultSet.getMetaData();
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        this.columnTypeNames = new String[columnCount];
+        this.columnLabels = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            this.columnTypeNames[i] = metaData.getColumnTypeName(i + 1);
+            this.columnLabels[i] = metaData.getColumnLabel(i + 1);
+        }
     }
 
     @Override
     public VirtualElement generateElement(@NonNull String tableId, @NonNull Long rowId, @NonNull Integer columnId) {
         try {
-            String dataType = this.metaData.getColumnTypeName(columnId + 1);
-            String columnName = this.metaData.getColumnLabel(columnId + 1);
+            String dataType = this.columnTypeNames[columnId];
+            String columnName = this.columnLabels[columnId];
             if (DataTypeUtil.isBinaryType(dataType)) {
                 InputStream inputStream = resultSet.getBinaryStream(columnId + 1);
                 if (inputStream == null) {
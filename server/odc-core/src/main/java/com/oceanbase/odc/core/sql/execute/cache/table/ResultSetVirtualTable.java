@@ -15,12 +15,18 @@
  */
 package com.oceanbase.odc.core.sql.execute.cache.table;
 
+import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiPredicate;
 
+import com.oceanbase.odc.core.sql.execute.cache.BinaryDataManager;
+import com.oceanbase.odc.core.sql.execute.cache.ResultSetCacheQuota;
 import com.oceanbase.odc.core.sql.execute.cache.VirtualElementFactory;
+import com.oceanbase.odc.core.sql.execute.cache.model.BinaryContentMetaData;
 import com.oceanbase.odc.core.sql.execute.cache.model.BinaryVirtualElement;
 import com.oceanbase.odc.core.sql.execute.cache.model.CachedBinaryVirtualElement;
 
@@ -47,6 +53,19 @@ public class ResultSetVirtualTable extends CrossLinkedVirtualTable {
     private int totalCachedLines = 0;
     @Getter(AccessLevel.NONE)
     private final BiPredicate<Integer, ResultSetMetaData> columnPredicate;
+    @Getter(AccessLevel.NONE)
+    private boolean[] cachedColumns;
+    /**
+     * quota shared by all the result sets cached in the same session, may be null
+     */
+    @Getter(AccessLevel.NONE)
+    private final ResultSetCacheQuota sessionQuota;
+    /**
+     * binary contents stored by the {@link BinaryDataManager}, released with the table
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<BinaryContentMetaData> binaryContents = new ArrayList<>();
+    private boolean released = false;
 
     /**
      * Default constructor, used to construct {@code VirtualTable}
@@ -69,35 +88,77 @@ public class ResultSetVirtualTable extends CrossLinkedVirtualTable {
             int maxCachedLines,
             long maxCachedSize,
             @NonNull BiPredicate<Integer, ResultSetMetaData> columnPredicate) {
+        this(sqlId, maxCachedLines, maxCachedSize, columnPredicate, null);
+    }
+
+    /**
+     * Constructor with a session quota, the cached size of this table is also accounted by the quota
+     *
+     * @param sqlId Id for a sql
+     * @param columnPredicate Column predicate, the predicate determines which columns will be cached
+     * @param sessionQuota quota shared by the result sets of a session
+     */
+    public ResultSetVirtualTable(@NonNull String sqlId,
+            int maxCachedLines,
+            long maxCachedSize,
+            @NonNull BiPredicate<Integer, ResultSetMetaData> columnPredicate,
+            ResultSetCacheQuota sessionQuota) {
         super(sqlId);
         this.columnPredicate = columnPredicate;
         this.maxCachedSize = maxCachedSize;
         this.maxCachedLines = maxCachedLines;
+        this.sessionQuota = sessionQuota;
         refreshCacheFlag();
     }
 
     public synchronized VirtualLine addLine(@NonNull Long rowNum,
             @NonNull ResultSet resultSet,
             @NonNull VirtualElementFactory factory) throws SQLException {
-        if (!cacheFlag) {
+        if (!cacheFlag || released) {
+            return null;
+        }
+        if (cachedColumns == null) {
+            ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+            cachedColumns = new boolean[resultSetMetaData.getColumnCount()];
+            boolean anyCachedColumn = false;
+            for (int i = 0; i < cachedColumns.length; i++) {
+                cachedColumns[i] = columnPredicate.test(i, resultSetMetaData);
+                anyCachedColumn |= cachedColumns[i];
+            }
+            if (!anyCachedColumn) {
+                // nothing to be cached, skip the rest lines of the result set
+                cacheFlag = false;
+                return null;
+            }
+        }
+        if (sessionQuota != null && !sessionQuota.ensureRoom(tableId())) {
+            cacheFlag = false;
             return null;
         }
-        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-        int columnCount = resultSetMetaData.getColumnCount();
-        for (int i = 0; i < columnCount; i++) {
-            if (!columnPredicate.test(i, resultSetMetaData)) {
+        long lineCachedSize = 0;
+        for (int i = 0; i < cachedColumns.length; i++) {
+            if (!cachedColumns[i]) {
                 continue;
             }
             VirtualElement element = factory.generateElement(tableId(), rowNum, i);
             if (element != null) {
+                BinaryContentMetaData content = null;
                 if (element instanceof CachedBinaryVirtualElement) {
-                    totalCachedSize += ((CachedBinaryVirtualElement) element).getContent().getSizeInBytes();
+                    content = ((CachedBinaryVirtualElement) element).getContent();
                 } else if (element instanceof BinaryVirtualElement) {
-                    totalCachedSize += ((BinaryVirtualElement) element).getContent().getSizeInBytes();
+                    content = ((BinaryVirtualElement) element).getContent();
+                }
+                if (content != null) {
+                    lineCachedSize += content.getSizeInBytes();
+                    binaryContents.add(content);
                 }
                 put(element);
             }
         }
+        totalCachedSize += lineCachedSize;
+        if (sessionQuota != null) {
+            sessionQuota.acquire(tableId(), lineCachedSize);
+        }
         LineNode lineNode = findLineNode(rowNum);
         if (lineNode == null) {
             return null;
@@ -110,6 +171,23 @@ public class ResultSetVirtualTable extends CrossLinkedVirtualTable {
         return new LinkedVirtualLine(lineNode);
     }
 
+    /**
+     * Release the binary contents cached by this table, the table will not cache any more lines
+     *
+     * @param dataManager manager which stores the binary contents
+     */
+    public synchronized void release(@NonNull BinaryDataManager dataManager) throws IOException {
+        released = true;
+        cacheFlag = false;
+        try {
+            for (BinaryContentMetaData content : binaryContents) {
+                dataManager.release(content);
+            }
+        } finally {
+            binaryContents.clear();
+        }
+    }
+
     private void refreshCacheFlag() {
         if (maxCachedLines >= 0 && totalCachedLines >= maxCachedLines) {
             cacheFlag = false;
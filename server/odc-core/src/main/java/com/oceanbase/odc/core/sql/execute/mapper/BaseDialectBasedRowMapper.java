@@ -66,6 +66,22 @@ public abstract class BaseDialectBasedRowMapper implements JdbcRowMapper {
         return line;
     }
 
+    @Override
+    public JdbcRowMapper bind(@NonNull ResultSetMetaData metaData) throws SQLException {
+        Collection<JdbcColumnMapper> mappers = getColumnDataMappers(dialectType);
+        if (mappers == null) {
+            throw new NullPointerException("Mappers is null by " + dialectType);
+        }
+        int columnCount = metaData.getColumnCount();
+        DataType[] dataTypes = new DataType[columnCount];
+        JdbcColumnMapper[] columnMappers = new JdbcColumnMapper[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            dataTypes[i] = new JdbcDataTypeFactory(metaData, i).generate();
+            columnMappers[i] = getColumnMapper(dataTypes[i], mappers);
+        }
+        return new BoundRowMapper(dataTypes, columnMappers);
+    }
+
     private JdbcColumnMapper getColumnMapper(DataType dataType, Collection<JdbcColumnMapper> candidateMappers) {
         for (JdbcColumnMapper mapper : candidateMappers) {
             if (mapper.supports(dataType)) {
@@ -75,6 +91,35 @@ public abstract class BaseDialectBasedRowMapper implements JdbcRowMapper {
         return new EmptyJdbcColumnMapper();
     }
 
+    /**
+     * {@link JdbcRowMapper} whose data types and column mappers are resolved once for a result set
+     * rather than for each row
+     */
+    private static class BoundRowMapper implements JdbcRowMapper {
+
+        private final DataType[] dataTypes;
+        private final JdbcColumnMapper[] columnMappers;
+
+        private BoundRowMapper(DataType[] dataTypes, JdbcColumnMapper[] columnMappers) {
+            this.dataTypes = dataTypes;
+            this.columnMappers = columnMappers;
+        }
+
+        @Override
+        public List<Object> mapRow(@NonNull ResultSet resultSet) throws SQLException, IOException {
+            List<Object> line = new ArrayList<>(columnMappers.length);
+            for (int i = 0; i < columnMappers.length; i++) {
+                line.add(columnMappers[i].mapCell(new CellData(resultSet, i, dataTypes[i])));
+            }
+            return line;
+        }
+
+        @Override
+        public JdbcRowMapper bind(@NonNull ResultSetMetaData metaData) {
+            throw new IllegalStateException("Row mapper is already bound");
+        }
+    }
+
     private static class EmptyJdbcColumnMapper implements JdbcColumnMapper {
 
         @Override
@@ -17,6 +17,7 @@ package com.oceanbase.odc.core.sql.execute.mapper;
 
 import java.io.IOException;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -39,4 +40,15 @@ public interface JdbcRowMapper {
      */
     List<Object> mapRow(@NonNull ResultSet resultSet) throws SQLException, IOException;
 
+    /**
+     * Bind the mapper to the {@link ResultSetMetaData} of a result set, the returned mapper can only be
+     * used to map rows of result sets with the same metadata
+     *
+     * @param metaData {@link ResultSetMetaData}
+     * @return mapper which may resolve column related info only once
+     */
+    default JdbcRowMapper bind(@NonNull ResultSetMetaData metaData) throws SQLException {
+        return this;
+    }
+
 }
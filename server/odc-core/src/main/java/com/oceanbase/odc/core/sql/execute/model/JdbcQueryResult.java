@@ -19,7 +19,7 @@ import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.oceanbase.odc.core.sql.execute.mapper.JdbcRowMapper;
@@ -40,10 +40,10 @@ public class JdbcQueryResult {
     private final JdbcResultSetMetaData metaData;
     @Getter(AccessLevel.NONE)
     private final JdbcRowMapper mapper;
-    private final List<List<Object>> rows = new LinkedList<>();
+    private final List<List<Object>> rows = new ArrayList<>();
 
     public JdbcQueryResult(@NonNull ResultSetMetaData metaData, @NonNull JdbcRowMapper mapper) throws SQLException {
-        this.mapper = mapper;
+        this.mapper = mapper.bind(metaData);
         this.metaData = new JdbcResultSetMetaData(metaData);
     }
 
@@ -57,7 +57,7 @@ public class JdbcQueryResult {
         }
         List<Object> columns = this.rows.get(rowIndex);
         if (colIndex >= columns.size()) {
-            throw new ArrayIndexOutOfBoundsException("ColIndex " + rowIndex);
+            throw new ArrayIndexOutOfBoundsException("ColIndex " + colIndex);
         }
         return columns.get(colIndex);
     }
@@ -15,28 +15,24 @@
  */
 package com.oceanbase.odc.core.sql.split;
 
-import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import com.oceanbase.odc.common.lang.Holder;
 import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.shared.constant.DialectType;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 /**
  * 该类用于SQL预处理，去除注释以及进行SQL断句
@@ -50,7 +46,7 @@ import lombok.NoArgsConstructor;
  */
 public class SqlCommentProcessor {
 
-    private static final String DELIMITER_NAME = "delimiter";
+    private static final char[] DELIMITER_PREFIX = "delimiter ".toCharArray();
     /**
      * 是否保留格式
      */
@@ -73,9 +69,6 @@ public class SqlCommentProcessor {
     @Getter
     private boolean preserveMultiComments = false;
 
-    private static Pattern pattern = Pattern.compile("\\r\\n|\\r|\\n");
-
-
     public SqlCommentProcessor(boolean preserveFormat, String delimiter) {
         this.delimiter = delimiter;
         this.preserveFormat = preserveFormat;
@@ -115,17 +108,16 @@ public class SqlCommentProcessor {
     public static List<OffsetString> removeSqlComments(String originalSql,
             String delimiter, DialectType dbMode, boolean preserveFormat) {
         SqlCommentProcessor sqlCommentProcessor = new SqlCommentProcessor(preserveFormat, delimiter);
-        StringBuffer buffer = new StringBuffer();
+        StringBuilder buffer = new StringBuilder();
         List<OffsetString> offsetStrings = new ArrayList<>();
-        List<List<OrderChar>> lines = splitLine(originalSql);
         Holder<Integer> bufferOrder = new Holder<>(0);
-        for (List<OrderChar> item : lines) {
+        forEachLine(originalSql, line -> {
             if (Objects.nonNull(dbMode) && dbMode.isMysql()) {
-                sqlCommentProcessor.addLineMysql(offsetStrings, buffer, bufferOrder, item);
+                sqlCommentProcessor.addLineMysql(offsetStrings, buffer, bufferOrder, line);
             } else {
-                sqlCommentProcessor.addLineOracle(offsetStrings, buffer, bufferOrder, item);
+                sqlCommentProcessor.addLineOracle(offsetStrings, buffer, bufferOrder, line);
             }
-        }
+        });
 
         String bufferStr = buffer.toString();
         if (bufferStr.trim().length() != 0) {
@@ -151,26 +143,31 @@ public class SqlCommentProcessor {
         return offsetStrings;
     }
 
+    /**
+     * @see #split(StringBuilder, CharSequence)
+     */
     public synchronized List<OffsetString> split(StringBuffer buffer, String sqlScript) {
+        StringBuilder builder = new StringBuilder(buffer);
+        try {
+            return split(builder, sqlScript);
+        } finally {
+            buffer.setLength(0);
+            buffer.append(builder);
+        }
+    }
+
+    /**
+     * Split the script into sqls, the script is scanned line by line and the chars which do not belong
+     * to a complete sql are left in the buffer
+     */
+    public synchronized List<OffsetString> split(StringBuilder buffer, CharSequence sqlScript) {
         if (StringUtils.isBlank(sqlScript)) {
             return new ArrayList<>();
         }
         try {
             List<OffsetString> offsetStrings = new ArrayList<>();
-
-            List<List<OrderChar>> lines = splitLine(sqlScript);
             Holder<Integer> bufferOrder = new Holder<>(0);
-            for (List<OrderChar> item : lines) {
-                if (Objects.nonNull(this.dialectType) && this.dialectType.isMysql()) {
-                    addLineMysql(offsetStrings, buffer, bufferOrder, item);
-                } else if (Objects.nonNull(this.dialectType) && this.dialectType.isOracle()) {
-                    addLineOracle(offsetStrings, buffer, bufferOrder, item);
-                } else if (Objects.nonNull(this.dialectType) && this.dialectType.isDoris()) {
-                    addLineMysql(offsetStrings, buffer, bufferOrder, item);
-                } else {
-                    throw new IllegalArgumentException("dialect type is illegal");
-                }
-            }
+            forEachLine(sqlScript, line -> addLine(offsetStrings, buffer, bufferOrder, line));
             return offsetStrings;
         } finally {
             mlComment = false;
@@ -179,22 +176,23 @@ public class SqlCommentProcessor {
         }
     }
 
-    private synchronized void addLineMysql(List<OffsetString> sqls, StringBuffer buffer, Holder<Integer> bufferOrder,
-            List<OrderChar> line) {
+    private void addLineMysql(List<OffsetString> sqls, StringBuilder buffer, Holder<Integer> bufferOrder,
+            LineBuffer line) {
         int pos, out;
         boolean needSpace = false;
         // 标识量，用于标识当前是否处于HINT，CONDITIONAL中
         SSC ssComment = SSC.NONE;
         boolean isSameLine = false;
-        int lineLength = line.size();
-        OrderChar[] lines = line.toArray(new OrderChar[lineLength + 1]);
-        if ((lines.length == 0 || lines[0] == null || lines[0].getCh() == 0) && buffer.length() == 0) {
+        int lineLength = line.length;
+        if ((lineLength == 0 || line.chars[0] == 0) && buffer.length() == 0) {
             return;
         }
-        lines[lineLength] = new OrderChar((char) 0, lineLength);
+        line.seal();
+        char[] lines = line.chars;
+        int[] orders = line.orders;
         for (pos = out = 0; pos < lineLength; pos++) {
-            OrderChar inOrderChar = lines[pos];
-            char inChar = inOrderChar.getCh();
+            char inChar = lines[pos];
+            int inOrder = orders[pos];
             // 去掉每一行SQL语句最开始的空格
             if (inChar == ' ' && out == 0 && buffer.length() == 0 && !preserveFormat) {
                 continue;
@@ -202,15 +200,15 @@ public class SqlCommentProcessor {
             int delimiterBegin = 0;
             if (preserveFormat) {
                 for (; delimiterBegin < out
-                        && (lines[delimiterBegin].getCh() == ' '
-                                || lines[delimiterBegin].getCh() == '\t'); delimiterBegin++) {
+                        && (lines[delimiterBegin] == ' '
+                                || lines[delimiterBegin] == '\t'); delimiterBegin++) {
                 }
             }
-            if (equalsIgnoreCase((DELIMITER_NAME + " ").toCharArray(), lines, delimiterBegin, (out - delimiterBegin))) {
+            if (equalsIgnoreCase(DELIMITER_PREFIX, lines, delimiterBegin, (out - delimiterBegin))) {
                 // 检测到"delimiter "字符串，且不在多行注释以及多行字符串中，说明有设定分隔符的语句
                 StringBuilder newDelimiter = new StringBuilder();
                 for (; pos < lineLength; pos++) {
-                    char tempChar = lines[pos].getCh();
+                    char tempChar = lines[pos];
                     if (tempChar != ' ') {
                         newDelimiter.append(tempChar);
                     } else if (newDelimiter.length() != 0) {
@@ -223,30 +221,29 @@ public class SqlCommentProcessor {
             }
             // 扫描到转义字符，可能出现指令
             if ((!mlComment && inChar == '\\')) {
-                inOrderChar = lines[++pos];
-                inChar = inOrderChar.getCh();
+                inChar = lines[++pos];
                 if (inChar == 0) {
                     break;
                 }
                 if (inString != '\0' || inChar == 'N') {
-                    lines[out++] = OrderChar.newOrderChar(lines[pos - 1]);
+                    line.copy(out++, pos - 1);
                     if (inChar == '`' && inString == inChar) {
                         pos--;
                     } else {
-                        lines[out++] = OrderChar.newOrderChar(lines[pos]);
+                        line.copy(out++, pos);
                     }
                     continue;
                 }
                 // 非mysql model或没有检索到正确的命令，直接将转义符号及转义字符放入缓冲
-                lines[out++] = OrderChar.newOrderChar(lines[pos - 1]);
-                lines[out++] = OrderChar.newOrderChar(lines[pos]);
+                line.copy(out++, pos - 1);
+                line.copy(out++, pos);
             } else if (!mlComment && inString == '\0' && ssComment != SSC.HINT
-                    && isPrefix(lines, pos, delimiter)) {
+                    && isPrefix(lines, lineLength + 1, pos, delimiter)) {
                 // 不是多行注释，未在字符串中，不是hint且以delimiter开头，通常是扫描到了sql的末尾
                 pos += delimiter.length();
                 if (out != 0) {
                     if (buffer.length() == 0) {
-                        bufferOrder.setValue(lines[0].getOrder());
+                        bufferOrder.setValue(orders[0]);
                     }
                     append(buffer, lines, 0, out);
                     out = 0;
@@ -259,24 +256,24 @@ public class SqlCommentProcessor {
                 isSameLine = true;
                 inNormalSql = false;
             } else if (!mlComment
-                    && (inString == '\0' && (inChar == '#' || (inChar == '-' && lines[pos + 1].getCh() == '-'
-                            && ((lines[pos + 2].getCh() == ' ' || lines[pos + 2].getCh() == '\0')))))) {
+                    && (inString == '\0' && (inChar == '#' || (inChar == '-' && lines[pos + 1] == '-'
+                            && ((lines[pos + 2] == ' ' || lines[pos + 2] == '\0')))))) {
                 // 处于单行注释中
                 if (buffer.length() == 0) {
-                    bufferOrder.setValue(lines[0].getOrder());
+                    bufferOrder.setValue(orders[0]);
                 }
                 append(buffer, lines, 0, out);
                 out = 0;
                 if (preserveSingleComments) {
                     // 如果保留单行注释则需要将注释完整地拷贝到缓冲中不能丢弃
                     for (; pos < lineLength; pos++) {
-                        lines[out++] = OrderChar.newOrderChar(lines[pos]);
+                        line.copy(out++, pos);
                     }
                     if (isOnlyWhiteSpace(buffer)) {
                         // 缓冲中全部是空格，或者缓冲为空说明注释要么处于第一行要么处于个已经完结的sql语句之后
                         if (sqls.size() != 0) {
                             if (buffer.length() == 0) {
-                                bufferOrder.setValue(lines[0].getOrder());
+                                bufferOrder.setValue(orders[0]);
                             }
                             // 说明注释处于一个已经完结的sql之后，且该sql已经被加入到sql集合中，此处的注释需要追加到最后一句sql中
                             append(buffer, lines, 0, out);
@@ -289,47 +286,47 @@ public class SqlCommentProcessor {
                             sqls.set(lastIndex, new OffsetString(sqls.get(lastIndex).getOffset(), lastSql));
                             buffer.setLength(0);
                         } else {
-                            lines[out++].setCh('\n');
+                            lines[out++] = '\n';
                             if (buffer.length() == 0) {
-                                bufferOrder.setValue(lines[0].getOrder());
+                                bufferOrder.setValue(orders[0]);
                             }
                             append(buffer, lines, 0, out - 1);
                         }
                     } else {
-                        lines[out++].setCh('\n');
+                        lines[out++] = '\n';
                         if (buffer.length() == 0) {
-                            bufferOrder.setValue(lines[0].getOrder());
+                            bufferOrder.setValue(orders[0]);
                         }
                         append(buffer, lines, 0, out - 1);
                     }
                     out = 0;
                 }
                 break;
-            } else if (inString == '\0' && (inChar == '/' && lines[pos + 1].getCh() == '*')
+            } else if (inString == '\0' && (inChar == '/' && lines[pos + 1] == '*')
             // 此处注意，Oracle模式下没有Conditional，故这里要做规避。Mysql模式下的Conditional在Oracle模式在要识别为注释去掉
-                    && lines[pos + 2].getCh() != '!'
-                    && lines[pos + 2].getCh() != '+' && ssComment != SSC.HINT) {
+                    && lines[pos + 2] != '!'
+                    && lines[pos + 2] != '+' && ssComment != SSC.HINT) {
                 // 处于多行注释中，注意规避了HINT和CONDITIONAL，Oracle模式下没有conditional
                 if (preserveMultiComments) {
-                    lines[out++].setCh('/');
-                    lines[out++].setCh('*');
+                    lines[out++] = '/';
+                    lines[out++] = '*';
                 }
                 pos++;
                 mlComment = true;
-            } else if (mlComment && ssComment == SSC.NONE && inChar == '*' && lines[pos + 1].getCh() == '/') {
+            } else if (mlComment && ssComment == SSC.NONE && inChar == '*' && lines[pos + 1] == '/') {
                 // 多行注释结束
                 pos++;
                 mlComment = false;
                 if (buffer.length() == 0) {
-                    bufferOrder.setValue(lines[0].getOrder());
+                    bufferOrder.setValue(orders[0]);
                 }
                 append(buffer, lines, 0, out);
                 out = 0;
                 if (preserveMultiComments) {
-                    lines[out++].setCh('*');
-                    lines[out++].setCh('/');
+                    lines[out++] = '*';
+                    lines[out++] = '/';
                     if (buffer.length() == 0) {
-                        bufferOrder.setValue(lines[0].getOrder());
+                        bufferOrder.setValue(orders[0]);
                     }
                     append(buffer, lines, 0, out);
                     out = 0;
@@ -342,16 +339,16 @@ public class SqlCommentProcessor {
                 }
                 needSpace = true;
             } else {
-                if (inString == '\0' && inChar == '/' && lines[pos + 1].getCh() == '*') {
-                    if (lines[pos + 2].getCh() == '!') {
+                if (inString == '\0' && inChar == '/' && lines[pos + 1] == '*') {
+                    if (lines[pos + 2] == '!') {
                         // 处于CONDITIONAL中
                         ssComment = SSC.CONDITIONAL;
-                    } else if (lines[pos + 2].getCh() == '+') {
+                    } else if (lines[pos + 2] == '+') {
                         // 处于HINT中
                         ssComment = SSC.HINT;
                     }
                 } else if (inString == '\0' && ssComment != SSC.NONE && inChar == '*'
-                        && lines[pos + 1].getCh() == '/') {
+                        && lines[pos + 1] == '/') {
                     // HINT或CONDITIONAL结束
                     ssComment = SSC.NONE;
                 }
@@ -365,31 +362,31 @@ public class SqlCommentProcessor {
                 }
                 if (!mlComment) {
                     if (needSpace && inChar == ' ') {
-                        lines[out++].setCh(' ');
+                        lines[out++] = ' ';
                     }
                     needSpace = false;
                     // 正常的SQL语句，将其放入line缓冲当中，在合适的实际flush如buffer缓存
-                    lines[out++] = OrderChar.newOrderChar(inOrderChar);
+                    line.set(out++, inChar, inOrder);
                     if (inChar != ' ') {
                         inNormalSql = true;
                     }
                 } else if (preserveMultiComments) {
                     // 保留多行注释
-                    lines[out++] = OrderChar.newOrderChar(inOrderChar);
+                    line.set(out++, inChar, inOrder);
                 }
             }
         }
         // 拦截性的处理，如果out指针没有为0，说明lines中还有内容没有被刷入到buffer，在这里进行flush
         if (out != 0 || buffer.length() != 0) {
-            lines[out++].setCh('\n');
+            lines[out++] = '\n';
             if (buffer.length() == 0) {
-                bufferOrder.setValue(lines[0].getOrder());
+                bufferOrder.setValue(orders[0]);
             }
             append(buffer, lines, 0, out);
         }
     }
 
-    private boolean isOnlyWhiteSpace(StringBuffer buffer) {
+    private boolean isOnlyWhiteSpace(StringBuilder buffer) {
         if (buffer == null) {
             return false;
         }
@@ -402,23 +399,24 @@ public class SqlCommentProcessor {
         return true;
     }
 
-    public synchronized void addLineOracle(List<OffsetString> sqls, StringBuffer buffer, Holder<Integer> bufferOrder,
-            List<OrderChar> line) {
+    private void addLineOracle(List<OffsetString> sqls, StringBuilder buffer, Holder<Integer> bufferOrder,
+            LineBuffer line) {
         int pos, out;
         boolean needSpace = false;
         // 标识量，用于标识当前是否处于HINT，CONDITIONAL中
         SSC ssComment = SSC.NONE;
 
         boolean isSameLine = false;
-        int lineLength = line.size();
-        OrderChar[] lines = line.toArray(new OrderChar[lineLength + 1]);
-        if ((lines.length == 0 || lines[0] == null || lines[0].getCh() == 0) && buffer.length() == 0) {
+        int lineLength = line.length;
+        if ((lineLength == 0 || line.chars[0] == 0) && buffer.length() == 0) {
             return;
         }
-        lines[lineLength] = new OrderChar((char) 0, lineLength);
+        line.seal();
+        char[] lines = line.chars;
+        int[] orders = line.orders;
         for (pos = out = 0; pos < lineLength; pos++) {
-            OrderChar inOrderChar = lines[pos];
-            char inChar = inOrderChar.getCh();
+            char inChar = lines[pos];
+            int inOrder = orders[pos];
             // 去掉每一行SQL语句最开始的空格
             if (inChar == ' ' && out == 0 && buffer.length() == 0 && !preserveFormat) {
                 continue;
@@ -426,15 +424,15 @@ public class SqlCommentProcessor {
             int delimiterBegin = 0;
             if (preserveFormat) {
                 for (; delimiterBegin < out
-                        && (lines[delimiterBegin].getCh() == ' '
-                                || lines[delimiterBegin].getCh() == '\t'); delimiterBegin++) {
+                        && (lines[delimiterBegin] == ' '
+                                || lines[delimiterBegin] == '\t'); delimiterBegin++) {
                 }
             }
-            if (equalsIgnoreCase((DELIMITER_NAME + " ").toCharArray(), lines, delimiterBegin, (out - delimiterBegin))) {
+            if (equalsIgnoreCase(DELIMITER_PREFIX, lines, delimiterBegin, (out - delimiterBegin))) {
                 // 检测到"delimiter "字符串，且不在多行注释以及多行字符串中，说明有设定分隔符的语句
                 StringBuilder newDelimiter = new StringBuilder();
                 for (; pos < lineLength; pos++) {
-                    char tempChar = lines[pos].getCh();
+                    char tempChar = lines[pos];
                     if (tempChar != ' ') {
                         newDelimiter.append(tempChar);
                     } else if (newDelimiter.length() != 0) {
@@ -445,12 +443,13 @@ public class SqlCommentProcessor {
                 this.delimiter = newDelimiter.toString();
                 continue;
             }
-            if (!mlComment && inString == '\0' && ssComment != SSC.HINT && isPrefix(lines, pos, delimiter)) {
+            if (!mlComment && inString == '\0' && ssComment != SSC.HINT
+                    && isPrefix(lines, lineLength + 1, pos, delimiter)) {
                 // 不是多行注释，未在字符串中，不是hint且以delimiter开头，通常是扫描到了sql的末尾
                 pos += delimiter.length();
                 if (out != 0) {
                     if (buffer.length() == 0) {
-                        bufferOrder.setValue(lines[0].getOrder());
+                        bufferOrder.setValue(orders[0]);
                     }
                     append(buffer, lines, 0, out);
                     out = 0;
@@ -462,25 +461,25 @@ public class SqlCommentProcessor {
                 buffer.setLength(0);
                 isSameLine = true;
                 inNormalSql = false;
-            } else if (!mlComment && (inString == '\0' && (inChar == '-' && lines[pos + 1].getCh() == '-'
-                    && (lines[pos + 2].getCh() != '+' || (lines[pos + 2].getCh() == ' '
-                            || lines[pos + 2].getCh() == '\0'))))) {
+            } else if (!mlComment && (inString == '\0' && (inChar == '-' && lines[pos + 1] == '-'
+                    && (lines[pos + 2] != '+' || (lines[pos + 2] == ' '
+                            || lines[pos + 2] == '\0'))))) {
                 // 处于单行注释中，注意规避单行HINT
                 if (buffer.length() == 0) {
-                    bufferOrder.setValue(lines[0].getOrder());
+                    bufferOrder.setValue(orders[0]);
                 }
                 append(buffer, lines, 0, out);
                 out = 0;
                 if (preserveSingleComments) {
                     // 如果保留单行注释则需要将注释完整地拷贝到缓冲中不能丢弃
                     for (; pos < lineLength; pos++) {
-                        lines[out++] = OrderChar.newOrderChar(lines[pos]);
+                        line.copy(out++, pos);
                     }
                     if (isOnlyWhiteSpace(buffer)) {
                         // 缓冲中全部是空格，或者缓冲为空说明注释要么处于第一行要么处于个已经完结的sql语句之后
                         if (sqls.size() != 0) {
                             if (buffer.length() == 0) {
-                                bufferOrder.setValue(lines[0].getOrder());
+                                bufferOrder.setValue(orders[0]);
                             }
                             // 说明注释处于一个已经完结的sql之后，且该sql已经被加入到sql集合中，此处的注释需要追加到最后一句sql中
                             append(buffer, lines, 0, out);
@@ -493,46 +492,46 @@ public class SqlCommentProcessor {
                             sqls.set(lastIndex, new OffsetString(sqls.get(lastIndex).getOffset(), lastSql));
                             buffer.setLength(0);
                         } else {
-                            lines[out++].setCh('\n');
+                            lines[out++] = '\n';
                             if (buffer.length() == 0) {
-                                bufferOrder.setValue(lines[0].getOrder());
+                                bufferOrder.setValue(orders[0]);
                             }
                             append(buffer, lines, 0, out - 1);
                         }
                     } else {
-                        lines[out++].setCh('\n');
+                        lines[out++] = '\n';
                         if (buffer.length() == 0) {
-                            bufferOrder.setValue(lines[0].getOrder());
+                            bufferOrder.setValue(orders[0]);
                         }
                         append(buffer, lines, 0, out - 1);
                     }
                     out = 0;
                 }
                 break;
-            } else if (inString == '\0' && (inChar == '/' && lines[pos + 1].getCh() == '*')
-                    && lines[pos + 2].getCh() != '+'
+            } else if (inString == '\0' && (inChar == '/' && lines[pos + 1] == '*')
+                    && lines[pos + 2] != '+'
                     && ssComment != SSC.HINT) {
                 // 处于多行注释中，注意规避了HINT和CONDITIONAL，Oracle模式下没有conditional
                 if (preserveMultiComments) {
-                    lines[out++].setCh('/');
-                    lines[out++].setCh('*');
+                    lines[out++] = '/';
+                    lines[out++] = '*';
                 }
                 pos++;
                 mlComment = true;
-            } else if (mlComment && ssComment == SSC.NONE && inChar == '*' && lines[pos + 1].getCh() == '/') {
+            } else if (mlComment && ssComment == SSC.NONE && inChar == '*' && lines[pos + 1] == '/') {
                 // 多行注释结束
                 pos++;
                 mlComment = false;
                 if (buffer.length() == 0) {
-                    bufferOrder.setValue(lines[0].getOrder());
+                    bufferOrder.setValue(orders[0]);
                 }
                 append(buffer, lines, 0, out);
                 out = 0;
                 if (preserveMultiComments) {
-                    lines[out++].setCh('*');
-                    lines[out++].setCh('/');
+                    lines[out++] = '*';
+                    lines[out++] = '/';
                     if (buffer.length() == 0) {
-                        bufferOrder.setValue(lines[0].getOrder());
+                        bufferOrder.setValue(orders[0]);
                     }
                     append(buffer, lines, 0, out);
                     out = 0;
@@ -545,17 +544,17 @@ public class SqlCommentProcessor {
                 }
                 needSpace = true;
             } else {
-                if (inString == '\0' && inChar == '/' && lines[pos + 1].getCh() == '*') {
-                    if (lines[pos + 2].getCh() == '+') {
+                if (inString == '\0' && inChar == '/' && lines[pos + 1] == '*') {
+                    if (lines[pos + 2] == '+') {
                         // 处于HINT中
                         ssComment = SSC.HINT;
                     }
                 } else if (inString == '\0' && ssComment != SSC.NONE && inChar == '*'
-                        && lines[pos + 1].getCh() == '/') {
+                        && lines[pos + 1] == '/') {
                     // HINT或CONDITIONAL结束
                     ssComment = SSC.NONE;
-                } else if (inString == '\0' && inChar == '-' && lines[pos + 1].getCh() == '-'
-                        && lines[pos + 2].getCh() == '+') {
+                } else if (inString == '\0' && inChar == '-' && lines[pos + 1] == '-'
+                        && lines[pos + 2] == '+') {
                     // 在Oracle模式下Hint有单行Hint和多行Hint之分，这里处理Oracle模式下的单行Hint
                     ssComment = SSC.HINT;
                 }
@@ -563,7 +562,7 @@ public class SqlCommentProcessor {
                     // 字符指针出字符串或表达式
                     if (escapeString == '\0') {
                         inString = '\0';
-                    } else if (pos >= 1 && matchQEscape(lines[pos - 1].getCh())) {
+                    } else if (pos >= 1 && matchQEscape(lines[pos - 1])) {
                         inString = '\0';
                         escapeString = '\0';
                     }
@@ -571,38 +570,38 @@ public class SqlCommentProcessor {
                         && (inChar == '\'' || inChar == '"' || inChar == '`')) {
                     // 字符指针进入字符串或者表达式
                     inString = inChar;
-                    if (pos >= 1 && (lines[pos - 1].getCh() == 'q' || lines[pos - 1].getCh() == 'Q')) {
+                    if (pos >= 1 && (lines[pos - 1] == 'q' || lines[pos - 1] == 'Q')) {
                         // oracle 特有语法，Q 转义
-                        escapeString = lines[pos + 1].getCh();
+                        escapeString = lines[pos + 1];
                     }
                 }
                 if (!mlComment) {
                     if (needSpace && inChar == ' ') {
-                        lines[out++].setCh(' ');
+                        lines[out++] = ' ';
                     }
                     needSpace = false;
                     // 正常的SQL语句，将其放入line缓冲当中，在合适的实际flush如buffer缓存
-                    lines[out++] = new OrderChar(inOrderChar.getCh(), inOrderChar.getOrder());
+                    line.set(out++, inChar, inOrder);
                     if (inChar != ' ') {
                         inNormalSql = true;
                     }
                 } else if (preserveMultiComments) {
                     // 保留多行注释
-                    lines[out++] = new OrderChar(inOrderChar.getCh(), inOrderChar.getOrder());
+                    line.set(out++, inChar, inOrder);
                 }
             }
         }
         // 拦截性的处理，如果out指针没有为0，说明lines中还有内容没有被刷入到buffer，在这里进行flush
         if (out != 0 || buffer.length() != 0) {
-            lines[out++].setCh('\n');
+            lines[out++] = '\n';
             if (buffer.length() == 0) {
-                bufferOrder.setValue(lines[0].getOrder());
+                bufferOrder.setValue(orders[0]);
             }
             append(buffer, lines, 0, out);
         }
     }
 
-    private boolean equalsIgnoreCase(char[] src, OrderChar[] dest, int begin, int count) {
+    private boolean equalsIgnoreCase(char[] src, char[] dest, int begin, int count) {
         if (src == null && dest == null) {
             return true;
         } else if (src != null && dest != null) {
@@ -611,7 +610,7 @@ public class SqlCommentProcessor {
             }
             for (int i = 0; i < count; i++) {
                 char c1 = src[i];
-                char c2 = dest[begin + i].getCh();
+                char c2 = dest[begin + i];
                 if (c1 == c2) {
                     continue;
                 }
@@ -632,23 +631,29 @@ public class SqlCommentProcessor {
 
     /**
      * 当前SQL是否是以分隔符开头
+     *
+     * @param length length of the line including the trailing sentinel
      */
-    private boolean isPrefix(OrderChar[] line, int pos, String delim) {
-        StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < line.length - pos; i++) {
-            builder.append(line[pos + i].getCh());
+    private boolean isPrefix(char[] line, int length, int pos, String delim) {
+        int delimLength = delim.length();
+        if (delimLength > length - pos) {
+            return false;
+        }
+        for (int i = 0; i < delimLength; i++) {
+            if (line[pos + i] != delim.charAt(i)) {
+                return false;
+            }
         }
-        boolean res = builder.toString().startsWith(delim);
-        if (!res || !"/".equals(delim) || line.length <= 1) {
-            return res;
+        if (!"/".equals(delim) || length <= 1) {
+            return true;
         }
         // 匹配到分隔符，分隔符为正斜杠且当前行的大小大于 1，需要注意规避多行注释
         if (pos == 0) {
-            return !(line[pos + 1].getCh() == '*');
-        } else if (line.length - 1 == pos) {
-            return !(line[pos - 1].getCh() == '*');
+            return !(line[pos + 1] == '*');
+        } else if (length - 1 == pos) {
+            return !(line[pos - 1] == '*');
         }
-        return !(line[pos + 1].getCh() == '*' || line[pos - 1].getCh() == '*');
+        return !(line[pos + 1] == '*' || line[pos - 1] == '*');
     }
 
     private boolean matchQEscape(char escapeChar) {
@@ -669,37 +674,45 @@ public class SqlCommentProcessor {
         }
     }
 
-    private void append(StringBuffer buffer, OrderChar[] chars, int begin, int count) {
-        for (int i = begin; i < count; i++) {
-            buffer.append(chars[i].getCh());
+    private void append(StringBuilder buffer, char[] chars, int begin, int count) {
+        buffer.append(chars, begin, count - begin);
+    }
+
+    private void addLine(List<OffsetString> sqls, StringBuilder buffer, Holder<Integer> bufferOrder,
+            LineBuffer line) {
+        if (Objects.nonNull(this.dialectType) && this.dialectType.isMysql()) {
+            addLineMysql(sqls, buffer, bufferOrder, line);
+        } else if (Objects.nonNull(this.dialectType) && this.dialectType.isOracle()) {
+            addLineOracle(sqls, buffer, bufferOrder, line);
+        } else if (Objects.nonNull(this.dialectType) && this.dialectType.isDoris()) {
+            addLineMysql(sqls, buffer, bufferOrder, line);
+        } else {
+            throw new IllegalArgumentException("dialect type is illegal");
         }
     }
 
-    private static List<List<OrderChar>> splitLine(String sqlScript) {
-        List<List<OrderChar>> lines = new ArrayList<>();
-        List<OrderChar> currentList = new ArrayList<>();
-        Matcher matcher = pattern.matcher(sqlScript);
-        int start = 0;
-        while (matcher.find()) {
-            int end = matcher.start();
-            for (int i = start; i < end; i++) {
-                OrderChar orderChar = new OrderChar(sqlScript.charAt(i), i);
-                currentList.add(orderChar);
-            }
-            lines.add(currentList);
-            currentList = new ArrayList<>();
-            start = matcher.end();
-        }
-        if (start < sqlScript.length()) {
-            for (int i = start; i < sqlScript.length(); i++) {
-                OrderChar orderChar = new OrderChar(sqlScript.charAt(i), i);
-                currentList.add(orderChar);
+    /**
+     * Feed the script to the consumer line by line, the line breaks (\r\n, \r or \n) are dropped and
+     * the order of each char is its offset in the script. The line buffer is reused between lines.
+     */
+    private static void forEachLine(CharSequence sqlScript, Consumer<LineBuffer> consumer) {
+        LineBuffer line = new LineBuffer();
+        int length = sqlScript.length();
+        for (int i = 0; i < length; i++) {
+            char c = sqlScript.charAt(i);
+            if (c == '\r' || c == '\n') {
+                consumer.accept(line);
+                line.clear();
+                if (c == '\r' && i + 1 < length && sqlScript.charAt(i + 1) == '\n') {
+                    i++;
+                }
+            } else {
+                line.append(c, i);
             }
         }
-        if (!currentList.isEmpty()) {
-            lines.add(currentList);
+        if (line.length != 0) {
+            consumer.accept(line);
         }
-        return lines;
     }
 
     public String getDelimiter() {
@@ -735,20 +748,29 @@ public class SqlCommentProcessor {
         }
     }
 
+    /**
+     * Reads the input line by line into a reused {@link LineBuffer}, only the sqls which are not
+     * consumed yet and the unfinished sql are kept in memory.
+     */
     private static class SqlCommentProcessorIterator implements SqlStatementIterator {
 
-        private final BufferedReader reader;
-        private final StringBuffer buffer = new StringBuffer();
+        private final Reader reader;
+        private final char[] readBuffer = new char[8192];
+        private final StringBuilder buffer = new StringBuilder();
         private final LinkedList<OffsetString> holder = new LinkedList<>();
         private final Holder<Integer> bufferOrder = new Holder<>(0);
         private final SqlCommentProcessor processor;
+        private final LineBuffer line = new LineBuffer();
 
         private OffsetString current;
         private int lastLineOrder = 0;
         private long iteratedBytes = 0;
+        private boolean skipLF = false;
+        private int readPos = 0;
+        private int readLimit = 0;
 
         public SqlCommentProcessorIterator(InputStream input, Charset charset, SqlCommentProcessor processor) {
-            this.reader = new BufferedReader(new InputStreamReader(input, charset));
+            this.reader = new InputStreamReader(input, charset);
             this.processor = processor;
         }
 
@@ -783,29 +805,20 @@ public class SqlCommentProcessor {
                 if (!holder.isEmpty()) {
                     return holder.poll();
                 }
-                String line;
-                while (holder.isEmpty() && (line = reader.readLine()) != null) {
-                    if (processor.dialectType.isMysql()) {
-                        processor.addLineMysql(holder, buffer, bufferOrder, line.chars()
-                                .mapToObj(c -> new OrderChar((char) c, lastLineOrder++))
-                                .collect(Collectors.toList()));
+                while (holder.isEmpty() && readLine()) {
+                    if (processor.dialectType.isMysql() || processor.dialectType.isDoris()) {
+                        processor.addLineMysql(holder, buffer, bufferOrder, line);
                     } else if (processor.dialectType.isOracle()) {
-                        processor.addLineOracle(holder, buffer, bufferOrder, line.chars()
-                                .mapToObj(c -> new OrderChar((char) c, lastLineOrder++))
-                                .collect(Collectors.toList()));
-                    } else if (processor.dialectType.isDoris()) {
-                        processor.addLineMysql(holder, buffer, bufferOrder, line.chars()
-                                .mapToObj(c -> new OrderChar((char) c, lastLineOrder++))
-                                .collect(Collectors.toList()));
+                        processor.addLineOracle(holder, buffer, bufferOrder, line);
                     }
                     // consider \n in the end of each line
                     lastLineOrder++;
-                    iteratedBytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                    iteratedBytes++;
                 }
                 if (!holder.isEmpty()) {
                     return holder.poll();
                 }
-                if (buffer.toString().trim().isEmpty()) {
+                if (StringUtils.isBlank(buffer)) {
                     return null;
                 }
                 String sql = buffer.toString();
@@ -816,17 +829,113 @@ public class SqlCommentProcessor {
             }
         }
 
+        /**
+         * read the next line into the line buffer, the line breaks are the same as
+         * {@link java.io.BufferedReader#readLine()}
+         *
+         * @return false if the end of the input is reached
+         */
+        private boolean readLine() throws IOException {
+            line.clear();
+            int c;
+            boolean eof = true;
+            while ((c = read()) != -1) {
+                if (skipLF) {
+                    skipLF = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                eof = false;
+                if (c == '\n') {
+                    return true;
+                } else if (c == '\r') {
+                    skipLF = true;
+                    return true;
+                }
+                line.append((char) c, lastLineOrder++);
+                iteratedBytes += utf8Length((char) c);
+            }
+            return !eof;
+        }
+
+        private int read() throws IOException {
+            if (readPos >= readLimit) {
+                readLimit = reader.read(readBuffer, 0, readBuffer.length);
+                readPos = 0;
+                if (readLimit <= 0) {
+                    return -1;
+                }
+            }
+            return readBuffer[readPos++];
+        }
+
+        /**
+         * a supplementary code point is encoded in 4 bytes, they are all counted on its high surrogate
+         */
+        private static int utf8Length(char c) {
+            if (c < 0x80) {
+                return 1;
+            } else if (c < 0x800) {
+                return 2;
+            } else if (Character.isHighSurrogate(c)) {
+                return 4;
+            } else if (Character.isLowSurrogate(c)) {
+                return 0;
+            }
+            return 3;
+        }
+
     }
 
-    @Data
-    @AllArgsConstructor
-    @NoArgsConstructor
-    static class OrderChar {
-        private char ch;
-        private int order;
+    /**
+     * Chars of a single line and their offsets in the script, stored in two parallel arrays which are
+     * reused between lines. A zero char is put right after the line as a sentinel.
+     */
+    private static class LineBuffer {
+        private static final int INITIAL_CAPACITY = 256;
+        private char[] chars = new char[INITIAL_CAPACITY];
+        private int[] orders = new int[INITIAL_CAPACITY];
+        private int length = 0;
+
+        private void append(char ch, int order) {
+            ensureCapacity(this.length + 1);
+            this.chars[this.length] = ch;
+            this.orders[this.length] = order;
+            this.length++;
+        }
+
+        private void clear() {
+            this.length = 0;
+        }
 
-        static OrderChar newOrderChar(OrderChar orderChar) {
-            return new OrderChar(orderChar.getCh(), orderChar.getOrder());
+        /**
+         * put the sentinel after the line, the scanner may look ahead up to two chars
+         */
+        private void seal() {
+            ensureCapacity(this.length + 2);
+            this.chars[this.length] = 0;
+            this.orders[this.length] = this.length;
+            this.chars[this.length + 1] = 0;
+        }
+
+        private void set(int index, char ch, int order) {
+            this.chars[index] = ch;
+            this.orders[index] = order;
+        }
+
+        private void copy(int to, int from) {
+            this.chars[to] = this.chars[from];
+            this.orders[to] = this.orders[from];
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= this.chars.length) {
+                return;
+            }
+            int newCapacity = Math.max(capacity, this.chars.length << 1);
+            this.chars = Arrays.copyOf(this.chars, newCapacity);
+            this.orders = Arrays.copyOf(this.orders, newCapacity);
         }
     }
 
@@ -16,6 +16,7 @@
 package com.oceanbase.odc.core.sql.split;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
@@ -23,22 +24,21 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.Set;
 import java.util.Stack;
-import java.util.stream.Collectors;
 
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.UnbufferedCharStream;
 import org.apache.commons.lang3.ArrayUtils;
 
 import com.google.common.collect.ImmutableMap;
@@ -47,7 +47,6 @@ import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.shared.PreConditions;
 import com.oceanbase.odc.core.shared.Verify;
 import com.oceanbase.odc.core.shared.exception.UnsupportedException;
-import com.oceanbase.odc.core.sql.split.SqlCommentProcessor.OrderChar;
 import com.oceanbase.tools.sqlparser.oracle.PlSqlLexer;
 
 import lombok.Getter;
@@ -127,6 +126,7 @@ public class SqlSplitter {
      * 为避免每次匹配拆句关键字重复解析，每次 delimiter 变化时同步计算对应的 tokens，和 delimiter 一致
      */
     private Token[] delimiterTokens;
+    private final Token[] defaultDelimiterTokens;
 
     /**
      * 是否移除 注释前缀，用于绕过部分 OB 版本 PL 语句带注释前缀报错的问（OB 3.1.x）<br>
@@ -153,6 +153,7 @@ public class SqlSplitter {
 
     private String sql;
     private Boolean whileForLoopFlag = false;
+    private int labelRightCount = 0;
 
     private Holder<Integer> currentOffset = new Holder<>(0);
 
@@ -240,6 +241,7 @@ public class SqlSplitter {
                 : new int[] {definition.REGULAR_ID(), definition.DELIMITED_ID()};
 
         this.delimiterTokens = innerUtils.extractDelimiterTokens(delimiter);
+        this.defaultDelimiterTokens = innerUtils.extractDelimiterTokens(DEFAULT_SQL_DELIMITER);
     }
 
     public String getDelimiter() {
@@ -256,121 +258,139 @@ public class SqlSplitter {
         /**
          * Antlr Lexer 拆词后的 token 列表
          */
-        Token[] tokens = innerUtils.initTokens(sql);
+        TokenBuffer tokens = new ArrayTokenBuffer(innerUtils.initTokens(sql));
+        int pos = 0;
+        while (tokens.contains(pos)) {
+            pos = process(tokens, pos) + 1;
+        }
+        addStmtWhileStmtEnd(tokens, tokens.size());
+        return stmts;
+    }
 
-        int tokenCount = tokens.length;
-        int labelRightCount = 0;
-        for (int pos = 0; pos < tokenCount; pos++) {
-            Token token = tokens[pos];
-            int type = token.getType();
-            if (type < Token.MIN_USER_TOKEN_TYPE) {
-                // invalid token type
-                continue;
+    /**
+     * Split the statements from the input stream lazily, tokens are pulled from the lexer on demand and
+     * a statement is returned as soon as it ends, only the tokens of the current statement are kept in
+     * memory.
+     */
+    public SqlStatementIterator iterate(InputStream in, Charset charset) {
+        PreConditions.notNull(in, "input");
+        clear();
+        return new StreamingIterator(new StreamingTokenBuffer(new ScriptCharStream(in, charset)));
+    }
+
+    /**
+     * process the token at pos
+     *
+     * @return position of the last processed token
+     */
+    private int process(TokenBuffer tokens, int pos) {
+        Token token = tokens.get(pos);
+        int type = token.getType();
+        if (type < Token.MIN_USER_TOKEN_TYPE) {
+            // invalid token type
+            return pos;
+        }
+
+        String text = token.getText();
+        int offset = token.getStartIndex();
+        if (">".equals(text)) {
+            labelRightCount++;
+        } else {
+            labelRightCount = 0;
+        }
+        if (this.removeCommentPrefix
+                && 0 == currentStmtBuilder.length()
+                && innerUtils.isBlankOrComment(type)) {
+            return pos;
+        }
+        if (innerUtils.isPLStartPatternIgnoreTypes(type)) {
+            if (StringUtils.isBlank(currentStmtBuilder) && type != tokenDefinition.SPACES()) {
+                currentOffset.setValue(offset);
             }
+            // skip analysis blank, comment and other PL block start math pattern ignore types
+            currentStmtBuilder.append(text);
+            return pos;
+        }
 
-            String text = token.getText();
-            int offset = token.getStartIndex();
-            if (">".equals(text)) {
-                labelRightCount++;
-            } else {
-                labelRightCount = 0;
+        if (this.state == State.SQL_STMT) {
+            if (cacheTokenTypes.size() < MAX_PL_PATTEN_TYPE_SIZE) {
+                cacheTokenTypes.add(type);
             }
-            if (this.removeCommentPrefix
-                    && 0 == currentStmtBuilder.length()
-                    && innerUtils.isBlankOrComment(type)) {
-                continue;
+            if (cacheTokenTypes.size() == 1 && innerUtils.isDelimiterCommand(token)) {
+                return executeDelimiterCommand(tokens, pos);
             }
-            if (innerUtils.isPLStartPatternIgnoreTypes(type)) {
-                if (StringUtils.isBlank(currentStmtBuilder.toString()) && type != tokenDefinition.SPACES()) {
+            if (isPLBlockStart()) {
+                pushToStack(cacheTokenTypes);
+                if (StringUtils.isBlank(currentStmtBuilder) && type != tokenDefinition.SPACES()) {
                     currentOffset.setValue(offset);
                 }
-                // skip analysis blank, comment and other PL block start math pattern ignore types
                 currentStmtBuilder.append(text);
-                continue;
+                this.state = State.PL_STMT;
+                cacheTokenTypes.clear();
+            } else if (isStmtEnd(tokens, pos)) {
+                pos = addStmtWhileStmtEnd(tokens, pos);
+            } else {
+                if (StringUtils.isBlank(currentStmtBuilder) && type != tokenDefinition.SPACES()) {
+                    currentOffset.setValue(offset);
+                }
+                currentStmtBuilder.append(text);
+            }
+        } else if (this.state == State.PL_STMT) {
+            // sql statement inside PL block end
+            if (SQL_DELIMITER == type || PL_ELSE == type || PL_THEN == type || PL_RIGHTPAREN == type
+                    || (labelRightCount == 2 && PL_GREATER_THAN_OP == type) || PL_LEFTPAREN == type) {
+                plCacheTokenTypes.clear();
+                labelRightCount = 0;
+            } else if (plCacheTokenTypes.size() < MAX_PL_PATTEN_TYPE_SIZE) {
+                plCacheTokenTypes.add(type);
+            }
+            if (!subPLStack.empty() && (type == tokenDefinition.EXTERNAL() || type == tokenDefinition.LANGUAGE())) {
+                subPLStack.peek().matchExternalOrLanguage = true;
+            } else if (!subPLStack.empty() && (type == tokenDefinition.IS() || type == tokenDefinition.AS())) {
+                // `IS` may run into case like `cursor cur1 is select col from for_loop_cursor_t;`
+                // in this case, it does not have parent pl block
+                subPLStack.peek().matchIsOrAs = true;
+            } else if (!subPLStack.empty() && subPLStack.peek().startSymbol == PLStartSymbol.CREATE_TYPE
+                    && (type == tokenDefinition.MEMBER() || type == tokenDefinition.STATIC())) {
+                // temporarily set matchMemberOrStatic in parent subPLLevel
+                // when encounters sub Function / Procedure in create type
+                // set sub Function / Procedure's matchMemberOrStatic
+                // and recover parent subPLLevel matchMemberOrStatic value to false
+                subPLStack.peek().matchMemberOrStatic = true;
             }
 
-            if (this.state == State.SQL_STMT) {
-                if (cacheTokenTypes.size() < MAX_PL_PATTEN_TYPE_SIZE) {
-                    cacheTokenTypes.add(type);
-                }
-                if (cacheTokenTypes.size() == 1 && innerUtils.isDelimiterCommand(token)) {
-                    pos = executeDelimiterCommand(tokens, pos);
-                    continue;
-                }
-                if (isPLBlockStart()) {
-                    pushToStack(cacheTokenTypes);
-                    if (StringUtils.isBlank(currentStmtBuilder.toString()) && type != tokenDefinition.SPACES()) {
-                        currentOffset.setValue(offset);
-                    }
-                    currentStmtBuilder.append(text);
-                    this.state = State.PL_STMT;
-                    cacheTokenTypes.clear();
-                } else if (isStmtEnd(tokens, pos)) {
-                    pos = addStmtWhileStmtEnd(tokens, pos);
-                } else {
-                    if (StringUtils.isBlank(currentStmtBuilder.toString()) && type != tokenDefinition.SPACES()) {
-                        currentOffset.setValue(offset);
-                    }
-                    currentStmtBuilder.append(text);
+            if (isStmtEnd(tokens, pos)) {
+                pos = addStmtWhileStmtEnd(tokens, pos);
+                this.state = State.SQL_STMT;
+            } else {
+                if (isSubPLBlockStart()) {
+                    pushToStack(plCacheTokenTypes);
+                    plCacheTokenTypes.clear();
                 }
-            } else if (this.state == State.PL_STMT) {
-                // sql statement inside PL block end
-                if (SQL_DELIMITER == type || PL_ELSE == type || PL_THEN == type || PL_RIGHTPAREN == type
-                        || (labelRightCount == 2 && PL_GREATER_THAN_OP == type) || PL_LEFTPAREN == type) {
+                int posShift = isPLBlockEnd(tokens, pos);
+                if (posShift >= 0) {
+                    pos += posShift;
+                    subPLStack.pop();
                     plCacheTokenTypes.clear();
-                    labelRightCount = 0;
-                } else if (plCacheTokenTypes.size() < MAX_PL_PATTEN_TYPE_SIZE) {
-                    plCacheTokenTypes.add(type);
                 }
-                if (!subPLStack.empty() && (type == tokenDefinition.EXTERNAL() || type == tokenDefinition.LANGUAGE())) {
-                    subPLStack.peek().matchExternalOrLanguage = true;
-                } else if (!subPLStack.empty() && (type == tokenDefinition.IS() || type == tokenDefinition.AS())) {
-                    // `IS` may run into case like `cursor cur1 is select col from for_loop_cursor_t;`
-                    // in this case, it does not have parent pl block
-                    subPLStack.peek().matchIsOrAs = true;
-                } else if (!subPLStack.empty() && subPLStack.peek().startSymbol == PLStartSymbol.CREATE_TYPE
-                        && (type == tokenDefinition.MEMBER() || type == tokenDefinition.STATIC())) {
-                    // temporarily set matchMemberOrStatic in parent subPLLevel
-                    // when encounters sub Function / Procedure in create type
-                    // set sub Function / Procedure's matchMemberOrStatic
-                    // and recover parent subPLLevel matchMemberOrStatic value to false
-                    subPLStack.peek().matchMemberOrStatic = true;
+                if (StringUtils.isBlank(currentStmtBuilder) && type != tokenDefinition.SPACES()) {
+                    currentOffset.setValue(offset);
                 }
-
-                if (isStmtEnd(tokens, pos)) {
-                    pos = addStmtWhileStmtEnd(tokens, pos);
-                    this.state = State.SQL_STMT;
-                } else {
-                    if (isSubPLBlockStart()) {
-                        pushToStack(plCacheTokenTypes);
-                        plCacheTokenTypes.clear();
-                    }
-                    int posShift = isPLBlockEnd(tokens, pos);
-                    if (posShift >= 0) {
-                        pos += posShift;
-                        subPLStack.pop();
-                        plCacheTokenTypes.clear();
-                    }
-                    if (StringUtils.isBlank(currentStmtBuilder.toString()) && type != tokenDefinition.SPACES()) {
-                        currentOffset.setValue(offset);
-                    }
-                    currentStmtBuilder.append(text);
-                    // add additional tokens in which may contains in pl block ending tokens
-                    // like end[;] / end [object_name;] / end [loop;] / end [if;] / end [case;]
-                    if (posShift > 0) {
-                        for (int index = 1; index <= posShift; index++) {
-                            if (StringUtils.isBlank(currentStmtBuilder.toString())
-                                    && type != tokenDefinition.SPACES()) {
-                                currentOffset.setValue(offset);
-                            }
-                            currentStmtBuilder.append(tokens[pos - posShift + index].getText());
+                currentStmtBuilder.append(text);
+                // add additional tokens in which may contains in pl block ending tokens
+                // like end[;] / end [object_name;] / end [loop;] / end [if;] / end [case;]
+                if (posShift > 0) {
+                    for (int index = 1; index <= posShift; index++) {
+                        if (StringUtils.isBlank(currentStmtBuilder)
+                                && type != tokenDefinition.SPACES()) {
+                            currentOffset.setValue(offset);
                         }
+                        currentStmtBuilder.append(tokens.get(pos - posShift + index).getText());
                     }
                 }
             }
         }
-        addStmtWhileStmtEnd(tokens, tokenCount);
-        return stmts;
+        return pos;
     }
 
     public static SqlStatementIterator iterator(InputStream in, Charset charset, String delimiter) {
@@ -379,7 +399,7 @@ public class SqlSplitter {
 
     public static SqlStatementIterator iterator(InputStream in, Charset charset, String delimiter,
             boolean addDelimiter) {
-        return new SqlSplitterIterator(in, charset, delimiter, addDelimiter);
+        return new SqlSplitter(PlSqlLexer.class, delimiter, addDelimiter).iterate(in, charset);
     }
 
     private void clear() {
@@ -387,15 +407,16 @@ public class SqlSplitter {
         this.cacheTokenTypes.clear();
         this.currentStmtBuilder.setLength(0);
         this.state = State.SQL_STMT;
+        this.labelRightCount = 0;
     }
 
-    private int addStmtWhileStmtEnd(Token[] tokens, int pos) {
+    private int addStmtWhileStmtEnd(TokenBuffer tokens, int pos) {
         String currentStmt = currentStmtBuilder.toString();
         boolean notDefaultSqlDelimiter = false;
         if (StringUtils.isNotBlank(currentStmt)) {
             if (addDelimiter) {
-                for (int cursor = pos - 1; cursor > 0; cursor--) {
-                    Token token = tokens[cursor];
+                for (int cursor = pos - 1; cursor > 0 && cursor >= tokens.start(); cursor--) {
+                    Token token = tokens.get(cursor);
                     if (innerUtils.isEOF(token.getType()) || innerUtils.isBlankOrComment(token.getType())) {
                         continue;
                     }
@@ -416,17 +437,17 @@ public class SqlSplitter {
         return pos + delimiterTokens.length - 1;
     }
 
-    private int executeDelimiterCommand(Token[] tokens, int pos) {
+    private int executeDelimiterCommand(TokenBuffer tokens, int pos) {
         // delimiter command identified, will ignore built-in pl delimiter logic,
         // examples:
         // - delimiter $$
         // - delimiter /
-        if (pos + 2 >= tokens.length) {
+        if (!tokens.contains(pos + 2)) {
             // invalid syntax
             throw new IllegalArgumentException("Invalid delimiter command syntax");
         }
         pos++;
-        Token expectBlank = tokens[pos];
+        Token expectBlank = tokens.get(pos);
         if (expectBlank.getType() != tokenDefinition.SPACES()) {
             throw new IllegalArgumentException(
                     "Invalid delimiter command syntax, expect blank after 'delimiter'");
@@ -436,8 +457,8 @@ public class SqlSplitter {
 
         // ignore multiple blanks between delimiter keyword and value of delimiter
         boolean hasDelimiterValue = false;
-        while (++pos < tokens.length) {
-            Token delimiterToken = tokens[pos];
+        while (tokens.contains(++pos)) {
+            Token delimiterToken = tokens.get(pos);
             int delimiterTokenType = delimiterToken.getType();
             if (delimiterTokenType > Token.MIN_USER_TOKEN_TYPE && delimiterTokenType != tokenDefinition.SPACES()) {
                 hasDelimiterValue = true;
@@ -452,8 +473,8 @@ public class SqlSplitter {
         }
 
         // extract value of delimiter, may multiple tokens
-        while (++pos < tokens.length) {
-            Token delimiterToken = tokens[pos];
+        while (tokens.contains(++pos)) {
+            Token delimiterToken = tokens.get(pos);
             int delimiterTokenType = delimiterToken.getType();
             if (delimiterTokenType > Token.MIN_USER_TOKEN_TYPE && delimiterTokenType != tokenDefinition.SPACES()) {
                 delimiterTokensToSet.add(delimiterToken);
@@ -578,8 +599,8 @@ public class SqlSplitter {
      * value > 0 means is end and pos needs moving forward according to value
      * </pre>
      */
-    private int isPLBlockEnd(Token[] tokens, int pos) {
-        if (pos >= tokens.length || subPLStack.empty()) {
+    private int isPLBlockEnd(TokenBuffer tokens, int pos) {
+        if (!tokens.contains(pos) || subPLStack.empty()) {
             return -1;
         }
 
@@ -600,14 +621,14 @@ public class SqlSplitter {
             case CREATE_TYPE_BODY:
             case TRIGGER:
             case CREATE_TRIGGER:
-                isEnd = tokens[pos].getType() == this.tokenDefinition.END();
+                isEnd = tokens.get(pos).getType() == this.tokenDefinition.END();
                 break;
             case FUNCTION:
             case PROCEDURE:
                 // member or static function && procedure declare in type which does not contain IS or AS
                 // should end with `)` or `,`
                 if (peekLevel.matchMemberOrStatic && !peekLevel.matchIsOrAs) {
-                    isEnd = tokens[pos].getText().equals(")") || tokens[pos].getText().equals(",");
+                    isEnd = tokens.get(pos).getText().equals(")") || tokens.get(pos).getText().equals(",");
                     break;
                 }
             case PACKAGE:
@@ -623,7 +644,7 @@ public class SqlSplitter {
                     // 2. `IS` or `AS` is matched but `EXTERNAL` or `LANGUAGE` is also matched
                     isEnd = !peekLevel.matchIsOrAs || peekLevel.matchExternalOrLanguage;
                 } else {
-                    isEnd = tokens[pos].getType() == this.tokenDefinition.END();
+                    isEnd = tokens.get(pos).getType() == this.tokenDefinition.END();
                 }
                 break;
             case FOR:
@@ -651,22 +672,21 @@ public class SqlSplitter {
         return -1;
     }
 
-    private boolean matchPLBlockEnd(Token[] tokens, int pos, Integer endObjectType) {
-        boolean match = tokens[pos].getType() == this.tokenDefinition.END();
-        int tokensLength = tokens.length;
+    private boolean matchPLBlockEnd(TokenBuffer tokens, int pos, Integer endObjectType) {
+        boolean match = tokens.get(pos).getType() == this.tokenDefinition.END();
         if (Objects.nonNull(endObjectType)) {
             if (endObjectType != Token.MIN_USER_TOKEN_TYPE) {
                 // use MIN_USER_TOKEN_TYPE means place holder here
                 // in which we can recognize `end object_name;` as pl block ending
-                match &= (pos + 2 < tokensLength) && tokens[pos + 2].getType() == endObjectType;
+                match &= tokens.contains(pos + 2) && tokens.get(pos + 2).getType() == endObjectType;
             }
         }
         return match;
     }
 
-    private boolean isStmtEnd(Token[] tokens, int pos) {
+    private boolean isStmtEnd(TokenBuffer tokens, int pos) {
         // only use Div `/` as while in PL stmt and use `;` as delimiter
-        if (pos >= tokens.length) {
+        if (!tokens.contains(pos)) {
             return false;
         }
         if (!subPLStack.empty()) {
@@ -677,23 +697,22 @@ public class SqlSplitter {
             if (!DEFAULT_SQL_DELIMITER.equals(delimiter)) {
                 return matchDelimiterTokens(tokens, pos);
             }
-            return tokens[pos].getType() == DEFAULT_PL_END_DELIMITER;
+            return tokens.get(pos).getType() == DEFAULT_PL_END_DELIMITER;
         }
         return matchDelimiterTokens(tokens, pos);
     }
 
-    private boolean matchDelimiterTokens(Token[] tokens, int pos) {
+    private boolean matchDelimiterTokens(TokenBuffer tokens, int pos) {
         Token[] dt = delimiterTokens;
         if (this.state == State.PL_STMT && !subPLStack.empty()) {
-            dt = innerUtils.extractDelimiterTokens(DEFAULT_SQL_DELIMITER);
+            dt = defaultDelimiterTokens;
         }
         int delimiterLength = dt.length;
-        int tokensLength = tokens.length;
-        if (pos + delimiterLength > tokensLength) {
+        if (!tokens.contains(pos + delimiterLength - 1)) {
             return false;
         }
         for (int i = 0; i < delimiterLength; i++) {
-            if (!innerUtils.isTokenEquals(dt[i], tokens[pos + i])) {
+            if (!innerUtils.isTokenEquals(dt[i], tokens.get(pos + i))) {
                 return false;
             }
         }
@@ -793,10 +812,16 @@ public class SqlSplitter {
 
         private List<Token> generateInvalidTokens(String sql, int start, int end) {
             Verify.lessThan(start, end, "start < end");
-            String invalidStr = StringUtils.substring(sql, start, end);
+            return generateInvalidTokens(StringUtils.substring(sql, start, end), start);
+        }
+
+        /**
+         * @param startIndex index of the invalid string in the script
+         */
+        private List<Token> generateInvalidTokens(String invalidStr, int startIndex) {
             char[] chars = invalidStr.toCharArray();
             if (chars.length == 1) {
-                Token token = new CommonToken(PL_IDENT_TYPES[0], invalidStr);
+                Token token = invalidToken(false, invalidStr, 0, 1, startIndex);
                 return Collections.singletonList(token);
             }
             List<Token> invalidTokens = new ArrayList<>();
@@ -806,21 +831,23 @@ public class SqlSplitter {
             for (int i = 1; i < chars.length; i++) {
                 currentCharSpace = ArrayUtils.contains(SPACES_CHARS, chars[i]);
                 if (lastCharSpace != currentCharSpace) {
-                    invalidTokens.add(invalidToken(lastCharSpace, invalidStr, charProcessPos, i));
+                    invalidTokens.add(invalidToken(lastCharSpace, invalidStr, charProcessPos, i, startIndex));
                     charProcessPos = i;
                 }
                 lastCharSpace = currentCharSpace;
             }
             if (charProcessPos <= chars.length - 1) {
-                invalidTokens.add(invalidToken(lastCharSpace, invalidStr, charProcessPos, chars.length));
+                invalidTokens.add(invalidToken(lastCharSpace, invalidStr, charProcessPos, chars.length, startIndex));
             }
             return invalidTokens;
         }
 
-        private Token invalidToken(boolean spaces, String str, int start, int end) {
+        private Token invalidToken(boolean spaces, String str, int start, int end, int startIndex) {
             String text = StringUtils.substring(str, start, end);
-            Token token = spaces ? new CommonToken(tokenDefinition.SPACES(), text)
+            CommonToken token = spaces ? new CommonToken(tokenDefinition.SPACES(), text)
                     : new CommonToken(PL_IDENT_TYPES[0], text);
+            token.setStartIndex(startIndex + start);
+            token.setStopIndex(startIndex + end - 1);
             return token;
         }
 
@@ -863,29 +890,256 @@ public class SqlSplitter {
 
     }
 
-    private static class SqlSplitterIterator implements SqlStatementIterator {
+    /**
+     * Tokens of the script visited by their positions in the script
+     */
+    private interface TokenBuffer {
 
-        private final BufferedReader reader;
-        private final StringBuilder buffer = new StringBuilder();
-        private final LinkedList<OffsetString> holder = new LinkedList<>();
-        private final boolean addDelimiter;
+        Token get(int pos);
 
-        private OffsetString current;
-        private String delimiter;
-        private boolean firstLine = true;
-        private List<String> sqls = new ArrayList<>();
-        private long iteratedBytes = 0;
-        private int offset = 0;
+        /**
+         * @return whether there is a token at pos, tokens may be pulled from the source
+         */
+        boolean contains(int pos);
+
+        /**
+         * @return the first position which is still available
+         */
+        int start();
+
+        /**
+         * @return count of the tokens, only accurate after {@link #contains(int)} returned false
+         */
+        int size();
+
+    }
+
+    private static class ArrayTokenBuffer implements TokenBuffer {
+
+        private final Token[] tokens;
+
+        private ArrayTokenBuffer(Token[] tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public Token get(int pos) {
+            return tokens[pos];
+        }
+
+        @Override
+        public boolean contains(int pos) {
+            return pos < tokens.length;
+        }
+
+        @Override
+        public int start() {
+            return 0;
+        }
+
+        @Override
+        public int size() {
+            return tokens.length;
+        }
+
+    }
+
+    /**
+     * Pull tokens from the lexer on demand. Tokens before the current position are released except
+     * those after the last non-blank one, which are needed to decide whether the delimiter should be
+     * appended to the statement.
+     */
+    private class StreamingTokenBuffer implements TokenBuffer {
+
+        private static final int MIN_COMPACT_SIZE = 1024;
+        private final ScriptCharStream input;
+        private final Lexer lexer;
+        private final List<Token> window = new ArrayList<>();
+        private int head = 0;
+        private int start = 0;
+        private int lastStopIndex = -1;
+        private boolean eof = false;
+
+        private StreamingTokenBuffer(ScriptCharStream input) {
+            this.input = input;
+            this.lexer = lexerFactory.create(input);
+            this.lexer.setTokenFactory(new CommonTokenFactory(true));
+        }
+
+        @Override
+        public Token get(int pos) {
+            if (pos < start || !contains(pos)) {
+                throw new IndexOutOfBoundsException("Token is not available, pos=" + pos + ", start=" + start);
+            }
+            return window.get(head + pos - start);
+        }
+
+        @Override
+        public boolean contains(int pos) {
+            while (!eof && pos >= size()) {
+                fetch();
+            }
+            return pos < size();
+        }
+
+        @Override
+        public int start() {
+            return start;
+        }
+
+        @Override
+        public int size() {
+            return start + window.size() - head;
+        }
+
+        private void release(int pos) {
+            for (int i = Math.min(pos, size()) - 1; i > start; i--) {
+                int type = get(i).getType();
+                if (!innerUtils.isEOF(type) && !innerUtils.isBlankOrComment(type)) {
+                    head += i - start;
+                    start = i;
+                    break;
+                }
+            }
+            if (head >= MIN_COMPACT_SIZE && head * 2 >= window.size()) {
+                window.subList(0, head).clear();
+                head = 0;
+            }
+        }
+
+        private void fetch() {
+            Token token = lexer.nextToken();
+            if (token.getStartIndex() - lastStopIndex > 1) {
+                window.addAll(innerUtils.generateInvalidTokens(
+                        input.getConsumedText(lastStopIndex + 1, token.getStartIndex()), lastStopIndex + 1));
+            }
+            window.add(token);
+            lastStopIndex = token.getStopIndex();
+            input.discardConsumed(lastStopIndex + 1);
+            eof = token.getType() == Token.EOF;
+        }
+
+    }
+
+    /**
+     * Char stream of a script, line breaks are normalized to {@code \n} just like the lines read by
+     * {@link java.io.BufferedReader#readLine()}. Consumed chars are kept until they are discarded so
+     * that the text skipped by the lexer can be recovered, the last few chars are also kept for the
+     * look-behind predicates of the lexer, eg. {@code IsNewlineAtPos(-4)}.
+     */
+    private static class ScriptCharStream extends UnbufferedCharStream {
+
+        private static final int LOOK_BEHIND_SIZE = 8;
+        private final int[] lookBehind = new int[LOOK_BEHIND_SIZE];
+        private final StringBuilder consumed = new StringBuilder();
+        private int consumedStart = 0;
+        private int consumedEnd = 0;
+        /**
+         * the first char is read in the constructor of the super class, the fields used by
+         * {@link #nextChar()} must not be initialized explicitly, otherwise they will be reset
+         */
+        private boolean skipLF;
+        private long readBytes;
+
+        private ScriptCharStream(InputStream input, Charset charset) {
+            super(new BufferedReader(new InputStreamReader(input, charset)));
+        }
+
+        @Override
+        public void consume() {
+            int c = LA(1);
+            int index = index();
+            super.consume();
+            // the lexer may seek back and consume the same chars again
+            if (index == consumedEnd && c != EOF) {
+                consumed.appendCodePoint(c);
+                lookBehind[consumedEnd % LOOK_BEHIND_SIZE] = c;
+                consumedEnd++;
+            }
+        }
+
+        @Override
+        public int LA(int i) {
+            if (i >= 0) {
+                return super.LA(i);
+            }
+            int index = index() + i;
+            if (index < 0) {
+                return EOF;
+            } else if (index < consumedEnd - LOOK_BEHIND_SIZE) {
+                throw new IndexOutOfBoundsException("Look behind too far, LA(" + i + ")");
+            }
+            return lookBehind[index % LOOK_BEHIND_SIZE];
+        }
+
+        @Override
+        protected int nextChar() throws IOException {
+            int c = super.nextChar();
+            if (skipLF) {
+                skipLF = false;
+                if (c == '\n') {
+                    readBytes++;
+                    c = super.nextChar();
+                }
+            }
+            if (c == '\r') {
+                skipLF = true;
+                c = '\n';
+            }
+            if (c != EOF) {
+                readBytes += utf8Length((char) c);
+            }
+            return c;
+        }
+
+        /**
+         * @return text of the consumed chars between [start, end)
+         */
+        private String getConsumedText(int start, int end) {
+            Verify.lessThan(start, end, "start < end");
+            int begin = consumed.offsetByCodePoints(0, start - consumedStart);
+            return consumed.substring(begin, consumed.offsetByCodePoints(begin, end - start));
+        }
+
+        /**
+         * discard the consumed chars before index
+         */
+        private void discardConsumed(int index) {
+            if (index <= consumedStart) {
+                return;
+            }
+            consumed.delete(0, consumed.offsetByCodePoints(0, Math.min(index, consumedEnd) - consumedStart));
+            consumedStart = Math.min(index, consumedEnd);
+        }
+
+        /**
+         * a supplementary code point is encoded in 4 bytes, they are all counted on its high surrogate
+         */
+        private static int utf8Length(char c) {
+            if (c < 0x80) {
+                return 1;
+            } else if (c < 0x800) {
+                return 2;
+            } else if (Character.isHighSurrogate(c)) {
+                return 4;
+            } else if (Character.isLowSurrogate(c)) {
+                return 0;
+            }
+            return 3;
+        }
+
+    }
 
-        private static final Character SQL_SEPARATOR_CHAR = '/';
-        private static final Character LINE_SEPARATOR_CHAR = '\n';
-        private static final String SQL_MULTI_LINE_COMMENT_PREFIX = "/*";
-        private static final Set<Character> DELIMITER_CHARACTERS = new HashSet<>(Arrays.asList(';', '/', '$'));
+    private class StreamingIterator implements SqlStatementIterator {
 
-        public SqlSplitterIterator(InputStream input, Charset charset, String delimiter, boolean addDelimiter) {
-            this.reader = new BufferedReader(new InputStreamReader(input, charset));
-            this.delimiter = delimiter;
-            this.addDelimiter = addDelimiter;
+        private final StreamingTokenBuffer tokens;
+        private final LinkedList<OffsetString> holder = new LinkedList<>();
+        private OffsetString current;
+        private int pos = 0;
+        private boolean finished = false;
+
+        private StreamingIterator(StreamingTokenBuffer tokens) {
+            this.tokens = tokens;
         }
 
         @Override
@@ -911,83 +1165,28 @@ public class SqlSplitter {
 
         @Override
         public long iteratedBytes() {
-            return this.iteratedBytes;
+            return this.tokens.input.readBytes;
         }
 
         private OffsetString parseNext() {
             try {
-                if (!this.holder.isEmpty()) {
-                    return this.holder.poll();
-                }
-                String line;
-                while (this.holder.isEmpty() && (line = this.reader.readLine()) != null) {
-                    this.iteratedBytes += line.getBytes(Charset.defaultCharset()).length + 1;
-                    addLineToBuffer(line);
-                    SqlCommentProcessor processor = new SqlCommentProcessor();
-                    LinkedList<OffsetString> innerHolder = new LinkedList<>();
-                    StringBuffer innerBuffer = new StringBuffer();
-                    Holder<Integer> bufferOrder = new Holder<>(0);
-                    processor.addLineOracle(innerHolder, innerBuffer, bufferOrder,
-                            line.chars().mapToObj(c -> new OrderChar((char) c, -1)).collect(Collectors.toList()));
-                    while (processor.isMlComment() && (line = reader.readLine()) != null) {
-                        this.iteratedBytes += line.getBytes(Charset.defaultCharset()).length + 1;
-                        addLineToBuffer(line);
-                        processor.addLineOracle(innerHolder, innerBuffer, bufferOrder,
-                                line.chars().mapToObj(c -> new OrderChar((char) c, -1)).collect(Collectors.toList()));
-                    }
-                    // SqlSplitter is non-reentrant, so we need to create a new one for each loop
-                    SqlSplitter splitter = createSplitter();
-                    this.sqls = splitter.split(this.buffer.toString()).stream().map(OffsetString::getStr)
-                            .collect(Collectors.toList());
-                    while (this.sqls.size() > 1) {
-                        String sql = this.sqls.remove(0);
-                        int index = this.buffer.indexOf(sql.substring(0, sql.length() - 1));
-                        this.holder.addLast(new OffsetString(this.offset + index, sql));
-                        this.buffer.delete(0, index + sql.length());
-                        this.offset += index + sql.length();
-                        clearUselessPrefix();
-                        this.delimiter = splitter.getDelimiter();
+                while (this.holder.isEmpty() && !this.finished) {
+                    if (this.tokens.contains(this.pos)) {
+                        this.pos = process(this.tokens, this.pos) + 1;
+                        this.tokens.release(this.pos);
+                    } else {
+                        addStmtWhileStmtEnd(this.tokens, this.tokens.size());
+                        this.finished = true;
                     }
+                    this.holder.addAll(stmts);
+                    stmts.clear();
                 }
-                if (!this.holder.isEmpty()) {
-                    return this.holder.poll();
-                }
-                if (this.sqls.isEmpty()) {
-                    return null;
-                }
-                return new OffsetString(this.offset, this.sqls.remove(0));
+                return this.holder.poll();
             } catch (Exception e) {
                 throw new RuntimeException("Failed to parse input. reason: " + e.getMessage(), e);
             }
         }
 
-        private void addLineToBuffer(String line) {
-            if (this.firstLine) {
-                this.buffer.append(line);
-                this.firstLine = false;
-            } else {
-                this.buffer.append(LINE_SEPARATOR_CHAR).append(line);
-            }
-        }
-
-        private void clearUselessPrefix() {
-            while (this.buffer.length() > 0 && DELIMITER_CHARACTERS.contains(this.buffer.charAt(0))
-                    && !(this.buffer.toString().startsWith(SQL_MULTI_LINE_COMMENT_PREFIX))) {
-                this.buffer.deleteCharAt(0);
-                this.offset++;
-            }
-            while ((this.buffer.length() > 0 && (Character.isWhitespace(this.buffer.charAt(0)))) ||
-                    (this.buffer.toString().startsWith(SQL_SEPARATOR_CHAR.toString())
-                            && !this.buffer.toString().startsWith(SQL_MULTI_LINE_COMMENT_PREFIX))) {
-                this.buffer.deleteCharAt(0);
-                this.offset++;
-            }
-        }
-
-        private SqlSplitter createSplitter() {
-            return new SqlSplitter(PlSqlLexer.class, this.delimiter, addDelimiter);
-        }
-
     }
 
 }
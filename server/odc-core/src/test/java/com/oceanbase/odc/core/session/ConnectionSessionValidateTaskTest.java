@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.oceanbase.odc.core.task.DefaultTaskManager;
+
+/**
+ * Test cases for {@link ConnectionSessionValidateTask}
+ *
+ * @author agent
+ */
+public class ConnectionSessionValidateTaskTest {
+
+    @Test
+    public void validateAndExpire_invalidSessions_expiredInParallel() throws Exception {
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicInteger counter = new AtomicInteger();
+        ConnectionSession s1 = getSession("s1", latch, counter);
+        ConnectionSession s2 = getSession("s2", latch, counter);
+        ValidatedConnectionSessionManager manager = Mockito.mock(ValidatedConnectionSessionManager.class);
+        Mockito.when(manager.retrieveAllSessions()).thenReturn(Arrays.asList(s1, s2));
+        DefaultTaskManager taskManager = new DefaultTaskManager("test-session-validate");
+        try {
+            ConnectionSessionValidateTask task = new ConnectionSessionValidateTask(manager,
+                    Collections.singletonList(s -> false), 1000, taskManager);
+            task.validateAndExpire();
+            Assert.assertEquals(2, counter.get());
+        } finally {
+            taskManager.close();
+        }
+    }
+
+    @Test
+    public void validateAndExpire_validSession_notExpired() throws Exception {
+        ConnectionSession session = Mockito.mock(ConnectionSession.class);
+        ValidatedConnectionSessionManager manager = Mockito.mock(ValidatedConnectionSessionManager.class);
+        Mockito.when(manager.retrieveAllSessions()).thenReturn(Collections.singletonList(session));
+        ConnectionSessionValidateTask task = new ConnectionSessionValidateTask(manager,
+                Collections.singletonList(s -> true), 1000);
+        task.validateAndExpire();
+        Mockito.verify(session, Mockito.never()).expire();
+    }
+
+    private ConnectionSession getSession(String id, CountDownLatch latch, AtomicInteger counter) {
+        ConnectionSession session = Mockito.mock(ConnectionSession.class);
+        Mockito.when(session.getId()).thenReturn(id);
+        Mockito.doAnswer(invocation -> {
+            // both sessions have to be expiring at the same time to pass the latch
+            latch.countDown();
+            if (latch.await(5, TimeUnit.SECONDS)) {
+                counter.incrementAndGet();
+            }
+            return null;
+        }).when(session).expire();
+        return session;
+    }
+
+}
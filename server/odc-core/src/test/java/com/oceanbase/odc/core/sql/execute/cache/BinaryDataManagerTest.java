@@ -100,6 +100,37 @@ public class BinaryDataManagerTest {
         }
     }
 
+    @Test
+    public void read_memoryMappedPages_readSucceed() throws Exception {
+        FileBaseBinaryDataManager dataManager = new FileBaseBinaryDataManager(getBinaryFilePath(), true);
+        String content = getInputContent();
+        BinaryContentMetaData metaData = dataManager.write(getInputContentStream(content));
+        InputStream inputStream = dataManager.read(metaData);
+        Assert.assertEquals(content, String.join("", IOUtils.readLines(inputStream)));
+        dataManager.close();
+    }
+
+    @Test
+    public void release_allContentsOfFileReleased_fileDeleted() throws Exception {
+        FileBaseBinaryDataManager dataManager = getDataManager();
+        String content = getInputContent();
+        BinaryContentMetaData first = dataManager.write(getInputContentStream(getInputContent()));
+        BinaryContentMetaData second = dataManager.write(getInputContentStream(content));
+        File file = new File(first.getFilePath());
+        Assert.assertEquals(first.getFilePath(), second.getFilePath());
+
+        dataManager.release(first);
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(content, String.join("", IOUtils.readLines(dataManager.read(second))));
+        dataManager.release(second);
+        Assert.assertFalse(file.exists());
+
+        BinaryContentMetaData third = dataManager.write(getInputContentStream(content));
+        Assert.assertNotEquals(first.getFilePath(), third.getFilePath());
+        Assert.assertEquals(content, String.join("", IOUtils.readLines(dataManager.read(third))));
+        dataManager.close();
+    }
+
     private FileBaseBinaryDataManager getDataManager() throws IOException {
         return new FileBaseBinaryDataManager(getBinaryFilePath());
     }
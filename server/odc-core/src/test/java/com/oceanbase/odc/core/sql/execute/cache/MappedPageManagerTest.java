@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.sql.execute.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.ResourceUtils;
+
+import com.oceanbase.odc.core.sql.execute.cache.PageManager.Page;
+
+/**
+ * Test cases for {@link MappedPageManager}
+ *
+ * @author agent
+ */
+public class MappedPageManagerTest {
+
+    private static final String DATA_DIR_NAME = "MappedPageManagerTest".toLowerCase();
+    private static final int SINGLE_FILE_SIZE = PageManager.STORAGE_LAYER_PAGE_SIZE_BYTE * 4;
+
+    @Before
+    public void setUp() throws IOException {
+        File dataDir = new File(getBinaryFilePath());
+        for (File file : dataDir.listFiles()) {
+            FileUtils.forceDelete(file);
+        }
+    }
+
+    @Test
+    public void create_pagesAcrossFiles_storageFilesCreated() throws IOException {
+        PageManager pageManager = getPageManager();
+        List<Page> pages = pageManager.create(9);
+        Assert.assertEquals(9, pages.size());
+        Assert.assertEquals(3, new File(getBinaryFilePath()).listFiles().length);
+        pageManager.close();
+    }
+
+    @Test
+    public void modify_writeToPageDirectly_getModifiedContent() throws IOException {
+        PageManager pageManager = getPageManager();
+        List<Page> pages = pageManager.create(6);
+        Page page = pages.get(5);
+        String content = "abcdefg1234567";
+        page.seekForWrite(3);
+        page.write(content.getBytes());
+        Assert.assertSame(page, pageManager.modify(page));
+
+        Page readPage = pageManager.get(page.getPhysicalPageId());
+        byte[] buffer = new byte[content.length()];
+        readPage.seekForRead(3);
+        readPage.read(buffer);
+        Assert.assertEquals(content, new String(buffer));
+        pageManager.close();
+    }
+
+    @Test
+    public void modify_heapPage_contentCopied() throws IOException {
+        PageManager pageManager = getPageManager();
+        Page created = pageManager.create();
+        Page heapPage = Page.emptyPage(created.getPhysicalPageId());
+        heapPage.write("abc".getBytes());
+        pageManager.modify(heapPage);
+
+        byte[] buffer = new byte[3];
+        pageManager.get(created.getPhysicalPageId()).read(buffer);
+        Assert.assertEquals("abc", new String(buffer));
+        pageManager.close();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void get_nonExistPage_expThrown() throws IOException {
+        PageManager pageManager = getPageManager();
+        pageManager.create();
+        pageManager.get(1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void read_pageManagerClosed_expThrown() throws IOException {
+        PageManager pageManager = getPageManager();
+        Page page = pageManager.create();
+        pageManager.close();
+        page.read(new byte[1]);
+    }
+
+    @Test
+    public void size_moreSegmentsAccessed_mappedPagesBounded() throws IOException {
+        PageManager pageManager = new MappedPageManager(getBinaryFilePath(), 8, SINGLE_FILE_SIZE);
+        List<Page> pages = pageManager.create(16);
+        for (int i = 0; i < pages.size(); i++) {
+            pages.get(i).write(("page" + i).getBytes());
+            Assert.assertTrue(pageManager.size() <= 8);
+        }
+        Assert.assertEquals(8, pageManager.size());
+        pageManager.close();
+    }
+
+    @Test
+    public void get_segmentUnmapped_contentMappedAgain() throws IOException {
+        PageManager pageManager = new MappedPageManager(getBinaryFilePath(), 4, SINGLE_FILE_SIZE);
+        List<Page> pages = pageManager.create(12);
+        for (int i = 0; i < pages.size(); i++) {
+            pages.get(i).write(("page" + i).getBytes());
+        }
+        byte[] buffer = new byte[5];
+        pageManager.get(0).read(buffer);
+        Assert.assertEquals("page0", new String(buffer));
+        Assert.assertEquals(4, pageManager.size());
+        pageManager.close();
+    }
+
+    @Test
+    public void flush_pagesMapped_allUnmapped() throws IOException {
+        PageManager pageManager = getPageManager();
+        Page page = pageManager.create();
+        page.write("abc".getBytes());
+        Assert.assertEquals(1, pageManager.size());
+        pageManager.flush();
+        Assert.assertEquals(0, pageManager.size());
+
+        byte[] buffer = new byte[3];
+        pageManager.get(page.getPhysicalPageId()).read(buffer);
+        Assert.assertEquals("abc", new String(buffer));
+        pageManager.close();
+    }
+
+    @Test
+    public void release_allPagesOfFileReleased_unmappedAndFileDeleted() throws IOException {
+        PageManager pageManager = getPageManager();
+        List<Page> pages = pageManager.create(8);
+        for (Page page : pages) {
+            page.write("abc".getBytes());
+        }
+        Assert.assertEquals(8, pageManager.size());
+        Assert.assertEquals(2, new File(getBinaryFilePath()).listFiles().length);
+
+        pageManager.release(Arrays.asList(0, 1, 2, 3));
+        Assert.assertEquals(4, pageManager.size());
+        Assert.assertEquals(1, new File(getBinaryFilePath()).listFiles().length);
+        pageManager.release(Arrays.asList(4, 5, 6, 7));
+        Assert.assertEquals(0, pageManager.size());
+        Assert.assertEquals(0, new File(getBinaryFilePath()).listFiles().length);
+        pageManager.close();
+    }
+
+    private PageManager getPageManager() throws IOException {
+        return new MappedPageManager(getBinaryFilePath(), 512, SINGLE_FILE_SIZE);
+    }
+
+    private String getBinaryFilePath() {
+        File file;
+        try {
+            file = new File(ResourceUtils.getURL("classpath:").getPath() + "/" + DATA_DIR_NAME);
+            if (!file.exists()) {
+                if (!file.mkdir()) {
+                    throw new Exception("Failed to create dir");
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("fail to get dir");
+        }
+        return file.getAbsolutePath();
+    }
+
+}
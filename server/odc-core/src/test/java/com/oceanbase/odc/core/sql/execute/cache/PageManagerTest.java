@@ -17,6 +17,8 @@ package com.oceanbase.odc.core.sql.execute.cache;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -453,6 +455,28 @@ public class PageManagerTest {
         pageManager.close();
     }
 
+    @Test
+    public void release_allPagesOfFileReleased_memoryAndFileReclaimed() throws IOException {
+        PageManager pageManager = new PageManager(getBinaryFilePath(), 4, PageManager.STORAGE_LAYER_PAGE_SIZE_BYTE * 4);
+        pageManager.create(8);
+        Assert.assertEquals(4, pageManager.size());
+        Assert.assertEquals(1, new File(getBinaryFilePath()).listFiles().length);
+
+        pageManager.release(Arrays.asList(0, 1, 2, 3));
+        Assert.assertEquals(0, new File(getBinaryFilePath()).listFiles().length);
+        pageManager.release(Arrays.asList(4, 5, 6, 7));
+        Assert.assertEquals(0, pageManager.size());
+        pageManager.close();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void get_pageReleased_expThrown() throws IOException {
+        PageManager pageManager = getPageManager();
+        Page page = pageManager.create();
+        pageManager.release(Collections.singletonList(page.getPhysicalPageId()));
+        pageManager.get(page.getPhysicalPageId());
+    }
+
     private PageManager getPageManager(int maxPageCount) throws IOException {
         return new PageManager(getBinaryFilePath(), maxPageCount);
     }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.sql.execute.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ResultSetCacheQuota}
+ *
+ * @author agent
+ */
+public class ResultSetCacheQuotaTest {
+
+    @Test
+    public void ensureRoom_quotaExhausted_earliestTablesEvicted() {
+        List<String> evicted = new ArrayList<>();
+        ResultSetCacheQuota quota = new ResultSetCacheQuota(100, evicted::add);
+        quota.acquire("t1", 40);
+        quota.acquire("t2", 40);
+        quota.acquire("t3", 40);
+        Assert.assertTrue(quota.ensureRoom("t4"));
+        Assert.assertEquals(Collections.singletonList("t1"), evicted);
+        Assert.assertEquals(80, quota.getTotalCachedSize());
+    }
+
+    @Test
+    public void ensureRoom_exhaustedByItself_returnFalse() {
+        List<String> evicted = new ArrayList<>();
+        ResultSetCacheQuota quota = new ResultSetCacheQuota(100, evicted::add);
+        quota.acquire("t1", 10);
+        quota.acquire("t2", 100);
+        Assert.assertFalse(quota.ensureRoom("t2"));
+        Assert.assertEquals(Arrays.asList("t1"), evicted);
+        Assert.assertEquals(100, quota.getCachedSize("t2"));
+    }
+
+    @Test
+    public void ensureRoom_unlimited_nothingEvicted() {
+        List<String> evicted = new ArrayList<>();
+        ResultSetCacheQuota quota = new ResultSetCacheQuota(-1, evicted::add);
+        quota.acquire("t1", Long.MAX_VALUE / 2);
+        Assert.assertTrue(quota.ensureRoom("t2"));
+        Assert.assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    public void release_tableCached_sizeReleased() {
+        ResultSetCacheQuota quota = new ResultSetCacheQuota(100, id -> {
+        });
+        quota.acquire("t1", 60);
+        quota.acquire("t1", 40);
+        Assert.assertTrue(quota.isExhausted());
+        quota.release("t1");
+        Assert.assertFalse(quota.isExhausted());
+        Assert.assertEquals(0, quota.getTotalCachedSize());
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.sql.execute.model;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.core.sql.execute.mapper.BaseDialectBasedRowMapper;
+import com.oceanbase.odc.core.sql.execute.mapper.JdbcColumnMapper;
+
+import lombok.NonNull;
+
+/**
+ * Test cases for {@link JdbcQueryResult}
+ *
+ * @author agent
+ */
+public class JdbcQueryResultTest {
+
+    @Test
+    public void addLine_multiRows_getSucceed() throws SQLException, IOException {
+        ResultSetMetaData metaData = getMetaData();
+        JdbcQueryResult queryResult = new JdbcQueryResult(metaData, new TestRowMapper());
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getMetaData()).thenReturn(metaData);
+        for (int i = 0; i < 100; i++) {
+            Mockito.when(resultSet.getString(1)).thenReturn("id_" + i);
+            Mockito.when(resultSet.getString(2)).thenReturn("name_" + i);
+            queryResult.addLine(resultSet);
+        }
+        Assert.assertEquals(100, queryResult.getRows().size());
+        Assert.assertEquals("id_99", queryResult.get(99, 0));
+        Assert.assertEquals("name_50", queryResult.get(50, 1));
+    }
+
+    @Test
+    public void addLine_multiRows_metaDataResolvedOnce() throws SQLException, IOException {
+        ResultSetMetaData metaData = getMetaData();
+        JdbcQueryResult queryResult = new JdbcQueryResult(metaData, new TestRowMapper());
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getMetaData()).thenReturn(metaData);
+        Mockito.clearInvocations(metaData);
+        for (int i = 0; i < 10; i++) {
+            queryResult.addLine(resultSet);
+        }
+        Mockito.verify(metaData, Mockito.never()).getColumnTypeName(Mockito.anyInt());
+        Mockito.verify(resultSet, Mockito.never()).getMetaData();
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void get_colIndexOutOfBounds_expThrown() throws SQLException, IOException {
+        ResultSetMetaData metaData = getMetaData();
+        JdbcQueryResult queryResult = new JdbcQueryResult(metaData, new TestRowMapper());
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        queryResult.addLine(resultSet);
+        queryResult.get(0, 2);
+    }
+
+    private ResultSetMetaData getMetaData() throws SQLException {
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(metaData.getColumnCount()).thenReturn(2);
+        Mockito.when(metaData.getColumnTypeName(1)).thenReturn("VARCHAR");
+        Mockito.when(metaData.getColumnTypeName(2)).thenReturn("VARCHAR");
+        return metaData;
+    }
+
+    private static class TestRowMapper extends BaseDialectBasedRowMapper {
+
+        public TestRowMapper() {
+            super(DialectType.OB_MYSQL);
+        }
+
+        @Override
+        protected Collection<JdbcColumnMapper> getColumnDataMappers(@NonNull DialectType dialectType) {
+            return Collections.emptyList();
+        }
+    }
+
+}
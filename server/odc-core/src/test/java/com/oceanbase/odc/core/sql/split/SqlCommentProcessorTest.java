@@ -16,12 +16,15 @@
 package com.oceanbase.odc.core.sql.split;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -160,6 +163,40 @@ public class SqlCommentProcessorTest {
         Assert.assertEquals(sqls, actual);
     }
 
+    @Test
+    public void iterator_repeatedMysqlStatements_allIterated() {
+        String stmt = "INSERT INTO `t_dump` VALUES (1,'a;b',/* comment */ 'c\\'d'), (2,'e','f'); -- tail\n";
+        assertAllIterated(DialectType.OB_MYSQL, stmt, 100);
+    }
+
+    @Test
+    public void iterator_repeatedOracleStatements_allIterated() {
+        String stmt = "-- head\nINSERT INTO \"T_DUMP\" VALUES (1, q'[a;b]', /* comment */ 'c''d');\n";
+        assertAllIterated(DialectType.OB_ORACLE, stmt, 100);
+    }
+
+    @Test
+    public void iterator_supplementaryChars_bytesCounted() {
+        String stmt = "INSERT INTO `t` VALUES ('\uD83D\uDE00', '中'); -- \uD83D\uDE01\n";
+        assertAllIterated(DialectType.OB_MYSQL, stmt, 10);
+    }
+
+    private void assertAllIterated(DialectType dialectType, String stmt, int count) {
+        byte[] bytes = stmt.getBytes(StandardCharsets.UTF_8);
+        InputStream in = new SequenceInputStream(Collections.enumeration(
+                Collections.nCopies(count, bytes).stream().map(ByteArrayInputStream::new)
+                        .collect(Collectors.toList())));
+        SqlStatementIterator iterator = SqlCommentProcessor.iterator(in, StandardCharsets.UTF_8,
+                new SqlCommentProcessor(dialectType, true, true, true));
+        List<String> actual = new ArrayList<>();
+        while (iterator.hasNext()) {
+            actual.add(iterator.next().getStr());
+        }
+        Assert.assertEquals(count, actual.size());
+        Assert.assertEquals(1, actual.stream().distinct().count());
+        Assert.assertEquals((long) bytes.length * count, iterator.iteratedBytes());
+    }
+
     private String getSqlFromFile(String fileName) throws IOException {
         InputStream input = this.getClass().getClassLoader().getResourceAsStream(fileName);
         assert input != null;
@@ -21,9 +21,11 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -327,6 +329,53 @@ public class SqlSplitterIteratorTest {
         }
     }
 
+    @Test
+    public void iterator_largePackageBodyStream_returnedBeforeReadingAll() {
+        String body = "create or replace package body pkg as\n"
+                + "  procedure p(a int) is\n"
+                + "  begin\n"
+                + "    if a > 0 then\n"
+                + "      insert into t values (a); -- ;\n"
+                + "    end if;\n"
+                + "  end;\n"
+                + "end;\n"
+                + "/\n";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        int count = 20000;
+        InputStream in = new SequenceInputStream(Collections.enumeration(
+                Collections.nCopies(count, bytes).stream().map(ByteArrayInputStream::new)
+                        .collect(Collectors.toList())));
+        SqlStatementIterator iterator = SqlSplitter.iterator(in, StandardCharsets.UTF_8, ";");
+        Assert.assertTrue(iterator.hasNext());
+        OffsetString first = iterator.next();
+        Assert.assertEquals(sqlSplitter().split(body).get(0), first);
+        Assert.assertTrue(iterator.iteratedBytes() < (long) bytes.length * count / 100);
+        int actual = 1;
+        while (iterator.hasNext()) {
+            OffsetString sql = iterator.next();
+            Assert.assertEquals(first.getStr(), sql.getStr());
+            actual++;
+        }
+        Assert.assertEquals(count, actual);
+        Assert.assertEquals((long) bytes.length * count, iterator.iteratedBytes());
+    }
+
+    @Test
+    public void iterator_supplementaryChars_sameAsSplitAndBytesCounted() {
+        String sql = "insert into t values ('\uD83D\uDE00', '中');\n"
+                + "select '\uD83D\uDE00\uD83D\uDE01' from dual;\n"
+                + "select 1 from dual;\n";
+        byte[] bytes = sql.getBytes(StandardCharsets.UTF_8);
+        SqlStatementIterator iterator =
+                SqlSplitter.iterator(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, ";");
+        List<OffsetString> actual = new ArrayList<>();
+        while (iterator.hasNext()) {
+            actual.add(iterator.next());
+        }
+        Assert.assertEquals(sqlSplitter().split(sql), actual);
+        Assert.assertEquals(bytes.length, iterator.iteratedBytes());
+    }
+
     private String getSqlFromFile(String fileName) throws IOException {
         InputStream input = this.getClass().getClassLoader().getResourceAsStream(fileName);
         assert input != null;
@@ -60,11 +60,12 @@ class TaskMonitor {
     private final TaskContainer<?> taskContainer;
     private final CloudObjectStorageService cloudObjectStorageService;
     private ScheduledExecutorService reportScheduledExecutor;
-    private ScheduledExecutorService heartScheduledExecutor;
     private Map<String, String> logMetadata = new HashMap<>();
     private AtomicLong logMetaCollectedMillis = new AtomicLong(0L);
     private Lock reportLock = new ReentrantLock();
     private AtomicBoolean metaDataReported = new AtomicBoolean(false);
+    private TaskResult lastReportedResult;
+    private long lastResultReportedMillis = 0L;
 
     public TaskMonitor(TaskContainer<?> task, TaskReporter taskReporter,
             CloudObjectStorageService cloudObjectStorageService) {
@@ -84,9 +85,12 @@ class TaskMonitor {
     public void monitor() {
         log.info("monitor starting, jobId={}", getJobId());
         initReportScheduler();
-        initHeartbeatScheduler();
     }
 
+    /**
+     * result and heartbeat are reported by one scheduler, only one message is sent to odc server each
+     * tick, the result implies a heartbeat
+     */
     private void initReportScheduler() {
         ThreadFactory threadFactory =
                 new TraceDecoratorThreadFactory(new TaskThreadFactory(("Task-Monitor-Job-" + getJobId())));
@@ -98,36 +102,24 @@ class TaskMonitor {
             }
             try {
                 if (JobUtils.getExecutorPort().isPresent()) {
-                    reportTaskResult();
+                    report();
                 }
             } catch (Throwable e) {
                 log.warn("Update task info failed, id: {}", getJobId(), e);
             }
-        }, JobConstants.REPORT_TASK_INFO_DELAY_SECONDS,
-                JobConstants.REPORT_TASK_INFO_INTERVAL_SECONDS,
+        }, JobConstants.REPORT_TASK_HEART_DELAY_SECONDS,
+                JobConstants.REPORT_TASK_HEART_INTERVAL_SECONDS,
                 TimeUnit.SECONDS);
         log.info("Task monitor init success");
     }
 
-    private void initHeartbeatScheduler() {
-        if (JobUtils.getExecutorPort().isPresent() && JobUtils.isReportEnabled()) {
-            heartScheduledExecutor = Executors.newSingleThreadScheduledExecutor(
-                    new TaskThreadFactory(("Task-Heart-Job-" + getJobId())));
-
-            heartScheduledExecutor.scheduleAtFixedRate(() -> {
-                try {
-                    if (JobUtils.getExecutorPort().isPresent() && JobUtils.isReportEnabled()) {
-                        getReporter().report(JobServerUrls.TASK_HEARTBEAT, buildHeartRequest());
-                    }
-                } catch (Throwable e) {
-                    log.warn("Update heart info failed, id: {}", getJobId(), e);
-                }
-            }, JobConstants.REPORT_TASK_HEART_DELAY_SECONDS,
-                    JobConstants.REPORT_TASK_HEART_INTERVAL_SECONDS,
-                    TimeUnit.SECONDS);
-            log.info("Task heart init success");
-        } else {
-            log.info("heart beat not needed, cause report not needed");
+    @VisibleForTesting
+    protected void report() {
+        if (JobUtils.isReportDisabled()) {
+            return;
+        }
+        if (!reportTaskResult()) {
+            getReporter().report(JobServerUrls.TASK_HEARTBEAT, buildHeartRequest());
         }
     }
 
@@ -136,7 +128,6 @@ class TaskMonitor {
             doFinal();
         } finally {
             destroy(reportScheduledExecutor);
-            destroy(heartScheduledExecutor);
         }
     }
 
@@ -150,16 +141,27 @@ class TaskMonitor {
         }
     }
 
+    /**
+     * report task result if the result changed or has not been reported for
+     * {@link JobConstants#REPORT_TASK_INFO_INTERVAL_SECONDS}
+     *
+     * @return {@code false} if the result is not reported
+     */
     @VisibleForTesting
-    protected void reportTaskResult() {
+    protected boolean reportTaskResult() {
         if (JobUtils.isReportDisabled()) {
-            return;
+            return false;
         }
         TaskResult taskResult = DefaultTaskResultBuilder.build(getTaskContainer());
         if (taskResult.getStatus().isTerminated()) {
             log.info("job {} status {} is terminate, monitor report be ignored.",
                     taskResult.getJobIdentity().getId(), taskResult.getStatus());
-            return;
+            return false;
+        }
+        if (!taskResult.isProgressChanged(lastReportedResult) && System.currentTimeMillis()
+                - lastResultReportedMillis < TimeUnit.SECONDS
+                        .toMillis(JobConstants.REPORT_TASK_INFO_INTERVAL_SECONDS)) {
+            return false;
         }
         // 1. exclusive report
         // 2. if doFinal called, ignore following report
@@ -168,11 +170,16 @@ class TaskMonitor {
             if (metaDataReported.get()) {
                 log.info("doFinal has called, monitor report be ignored., jobId = {}, status = {}",
                         taskResult.getJobIdentity().getId(), taskResult.getStatus());
-                return;
+                return false;
+            }
+            if (!getReporter().report(JobServerUrls.TASK_UPLOAD_RESULT, taskResult)) {
+                return false;
             }
-            getReporter().report(JobServerUrls.TASK_UPLOAD_RESULT, taskResult);
+            this.lastReportedResult = taskResult;
+            this.lastResultReportedMillis = System.currentTimeMillis();
             log.info("Report task info, id: {}, status: {}, progress: {}%, result: {}", getJobId(),
                     taskResult.getStatus(), String.format("%.2f", taskResult.getProgress()), getTask().getTaskResult());
+            return true;
         } finally {
             reportLock.unlock();
         }
@@ -26,6 +26,7 @@ import javax.validation.constraints.Min;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,6 +38,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.service.common.response.ListResponse;
@@ -120,6 +122,14 @@ public class ConnectSessionController {
         return Responses.success(consoleService.getMoreResults(SidUtils.getSessionId(sessionId), requestId));
     }
 
+    @ApiOperation(value = "pushResults", notes = "push the results of a stream execution as server-sent events")
+    @RequestMapping(value = "/sessions/{sessionId}/sqls/pushResults", method = RequestMethod.GET,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @StatefulRoute(stateName = StateName.DB_SESSION, stateIdExpression = "#sessionId")
+    public SseEmitter pushResults(@PathVariable String sessionId, @RequestParam String requestId) {
+        return consoleService.pushResults(SidUtils.getSessionId(sessionId), requestId);
+    }
+
     /**
      * 对 sql 脚本的内容进行静态检查
      *
@@ -30,7 +30,7 @@ import com.oceanbase.odc.service.task.base.databasechange.QuerySensitiveColumnRe
 import com.oceanbase.odc.service.task.base.databasechange.QuerySensitiveColumnResp;
 import com.oceanbase.odc.service.task.executor.HeartbeatRequest;
 import com.oceanbase.odc.service.task.executor.TaskResult;
-import com.oceanbase.odc.service.task.service.TaskFrameworkService;
+import com.oceanbase.odc.service.task.service.TaskReportBuffer;
 
 import io.swagger.annotations.ApiOperation;
 import lombok.extern.slf4j.Slf4j;
@@ -46,7 +46,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TaskController {
 
     @Autowired
-    private TaskFrameworkService taskFrameworkService;
+    private TaskReportBuffer taskReportBuffer;
 
     @Autowired
     private DataMaskingService dataMaskingService;
@@ -57,14 +57,14 @@ public class TaskController {
         if (log.isDebugEnabled()) {
             log.debug("Accept task result {}.", JsonUtils.toJson(taskResult));
         }
-        taskFrameworkService.handleResult(taskResult);
+        taskReportBuffer.offerResult(taskResult);
         return Responses.success("ok");
     }
 
     @ApiOperation(value = "heartbeat", notes = "update heartbeat request")
     @RequestMapping(value = {"/heartbeat", "/heart"}, method = RequestMethod.POST)
     public SuccessResponse<String> heartbeat(@RequestBody HeartbeatRequest heartbeat) {
-        taskFrameworkService.handleHeart(heartbeat);
+        taskReportBuffer.offerHeart(heartbeat);
         return Responses.success("ok");
     }
 
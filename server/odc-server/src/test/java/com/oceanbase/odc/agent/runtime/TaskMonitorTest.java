@@ -23,12 +23,16 @@ import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
+import com.oceanbase.odc.core.shared.constant.TaskStatus;
 import com.oceanbase.odc.service.objectstorage.cloud.CloudObjectStorageService;
 import com.oceanbase.odc.service.task.Task;
 import com.oceanbase.odc.service.task.caller.JobContext;
+import com.oceanbase.odc.service.task.constants.JobEnvKeyConstants;
 import com.oceanbase.odc.service.task.constants.JobParametersKeyConstants;
+import com.oceanbase.odc.service.task.constants.JobServerUrls;
 import com.oceanbase.odc.service.task.executor.TaskResult;
 import com.oceanbase.odc.service.task.schedule.JobIdentity;
+import com.oceanbase.odc.service.task.util.JobUtils;
 
 /**
  * @author longpeng.zlp
@@ -73,6 +77,27 @@ public class TaskMonitorTest {
         Assert.assertTrue(!taskMonitor.isTimeout());
     }
 
+    @Test
+    public void testTaskMonitorReportResultNotChangedHeartbeatReported() {
+        TaskReporter taskReporter = Mockito.mock(TaskReporter.class);
+        Mockito.when(taskReporter.report(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(true);
+        TaskContainer<?> taskContainer = createContainer(System.currentTimeMillis() + 100000);
+        Mockito.when(taskContainer.getStatus()).thenReturn(TaskStatus.RUNNING);
+        TaskMonitor taskMonitor = new TaskMonitor(taskContainer, taskReporter, Mockito.mock(
+                CloudObjectStorageService.class));
+        JobUtils.setExecutorPort(8989);
+        try {
+            taskMonitor.report();
+            taskMonitor.report();
+        } finally {
+            System.clearProperty(JobEnvKeyConstants.ODC_EXECUTOR_PORT);
+        }
+        Mockito.verify(taskReporter).report(ArgumentMatchers.eq(JobServerUrls.TASK_UPLOAD_RESULT),
+                ArgumentMatchers.any());
+        Mockito.verify(taskReporter).report(ArgumentMatchers.eq(JobServerUrls.TASK_HEARTBEAT),
+                ArgumentMatchers.any());
+    }
+
     protected TaskContainer createContainer(long endTimeMs) {
         TaskContainer taskContainer = Mockito.mock(TaskContainer.class);
         Task task = Mockito.mock(Task.class);
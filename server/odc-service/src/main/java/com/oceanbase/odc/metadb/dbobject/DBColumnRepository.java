@@ -35,6 +35,8 @@ import com.oceanbase.tools.dbbrowser.util.DBSchemaAccessorUtil;
  */
 public interface DBColumnRepository extends OdcJpaRepository<DBColumnEntity, Long> {
 
+    List<DBColumnEntity> findByDatabaseId(Long databaseId);
+
     List<DBColumnEntity> findByDatabaseIdAndObjectIdIn(Long databaseId, Collection<Long> objectIds);
 
     @Modifying
@@ -37,6 +37,8 @@ public interface DBObjectRepository extends OdcJpaRepository<DBObjectEntity, Lon
 
     List<DBObjectEntity> findByIdIn(Collection<Long> ids);
 
+    List<DBObjectEntity> findByDatabaseId(Long databaseId);
+
     List<DBObjectEntity> findByDatabaseIdAndType(Long databaseId, DBObjectType type);
 
     List<DBObjectEntity> findByDatabaseIdAndTypeOrderByNameAsc(Long databaseId, DBObjectType type);
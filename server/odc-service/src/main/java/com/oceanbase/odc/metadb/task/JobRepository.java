@@ -15,17 +15,18 @@
  */
 package com.oceanbase.odc.metadb.task;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.oceanbase.odc.config.jpa.OdcJpaRepository;
 import com.oceanbase.odc.service.task.enums.JobStatus;
 
 /**
@@ -34,8 +35,7 @@ import com.oceanbase.odc.service.task.enums.JobStatus;
  * @since 4.2.4
  */
 @Repository
-public interface JobRepository extends JpaRepository<JobEntity, Long>,
-        JpaSpecificationExecutor<JobEntity> {
+public interface JobRepository extends OdcJpaRepository<JobEntity, Long> {
 
     @Transactional
     @Query(value = "update job_job set "
@@ -97,4 +97,32 @@ public interface JobRepository extends JpaRepository<JobEntity, Long>,
 
     @Query(value = "SELECT * FROM job_job WHERE id = ?1", nativeQuery = true)
     Optional<JobEntity> findByIdNative(Long id);
+
+    /**
+     * update progress of running jobs in batch, a job is updated only if its status is still the status
+     * of the entity
+     *
+     * @return affected rows of each entity
+     */
+    @Transactional
+    default int[] batchUpdateReportProgress(List<JobEntity> entities) {
+        String sql = "update job_job set progress_percentage=?, result_json=?, last_report_time=?, last_heart_time=?"
+                + " where id=? and status=?";
+        return getJdbcTemplate().batchUpdate(sql, entities.stream().map(e -> new Object[] {
+                e.getProgressPercentage(), e.getResultJson(), e.getLastReportTime(), e.getLastHeartTime(),
+                e.getId(), e.getStatus().name()}).collect(Collectors.toList()));
+    }
+
+    /**
+     * update lastHeartTime in batch, a job is updated only if it is still executed by the executor
+     * endpoint of the entity
+     *
+     * @return affected rows of each entity
+     */
+    @Transactional
+    default int[] batchUpdateHeartbeatTime(List<JobEntity> entities) {
+        String sql = "update job_job set last_heart_time=? where id=? and executor_endpoint=?";
+        return getJdbcTemplate().batchUpdate(sql, entities.stream().map(e -> new Object[] {
+                e.getLastHeartTime(), e.getId(), e.getExecutorEndpoint()}).collect(Collectors.toList()));
+    }
 }
@@ -16,7 +16,6 @@
 package com.oceanbase.odc.service.audit;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -32,7 +31,6 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.logging.log4j.util.Strings;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Around;
@@ -60,8 +58,6 @@ import com.oceanbase.odc.core.shared.constant.AuditEventResult;
 import com.oceanbase.odc.core.shared.constant.AuditEventType;
 import com.oceanbase.odc.core.shared.constant.ResourceType;
 import com.oceanbase.odc.core.shared.exception.NotFoundException;
-import com.oceanbase.odc.core.sql.execute.model.SqlExecuteStatus;
-import com.oceanbase.odc.metadb.audit.AuditEventEntity;
 import com.oceanbase.odc.metadb.connection.DatabaseEntity;
 import com.oceanbase.odc.metadb.connection.DatabaseRepository;
 import com.oceanbase.odc.service.audit.model.AuditEvent;
@@ -82,7 +78,6 @@ import com.oceanbase.odc.service.session.ConnectSessionService;
 import com.oceanbase.odc.service.session.factory.DefaultConnectSessionIdGenerator;
 import com.oceanbase.odc.service.session.model.AsyncExecuteResultResp;
 import com.oceanbase.odc.service.session.model.SqlAsyncExecuteResp;
-import com.oceanbase.odc.service.session.model.SqlExecuteResult;
 import com.oceanbase.odc.service.session.model.SqlTuplesWithViolation;
 
 import lombok.extern.slf4j.Slf4j;
@@ -130,6 +125,9 @@ public class AuditEventAspect {
     @Autowired
     private AuditEventHandler auditEventHandler;
 
+    @Autowired
+    private SqlExecuteAuditEventRecorder sqlExecuteAuditEventRecorder;
+
     private AuditEventMapper mapper = AuditEventMapper.INSTANCE;
 
     @Pointcut("execution(public * com.oceanbase.odc.server.web.controller.*.*.*(..))")
@@ -171,53 +169,12 @@ public class AuditEventAspect {
                 return;
             }
             AsyncExecuteResultResp data = (AsyncExecuteResultResp) ((SuccessResponse) returnValue).getData();
-            List<SqlExecuteResult> results = data.getResults();
-            if (results.isEmpty()) {
-                return;
-            }
-            List<AuditEventEntity> events = new ArrayList<>();
-            for (SqlExecuteResult result : results) {
-                AuditEventResult auditEventResult = getAuditEventResultFromResult(result);
-                if (AuditEventResult.UNFINISHED != auditEventResult) {
-                    AuditEventAction action = AuditUtils.getSqlTypeFromResult(result.getSqlType());
-                    String detail = truncateDetail(getDetailFromResult(result));
-                    String taskId = result.getSqlId();
-                    // The sql id of resultSet has suffix "-" + increment number, @See SqlTuple#softCopy
-                    int last = result.getSqlId().lastIndexOf("-");
-                    if (last > 0) {
-                        taskId = result.getSqlId().substring(0, last);
-                    }
-                    AuditEventEntity eventEntity =
-                            auditEventService.updateSqlExecuteEvent(taskId, action, detail, auditEventResult);
-                    if (eventEntity != null) {
-                        events.add(eventEntity);
-                    }
-                }
-            }
-            this.auditEventHandler.handle(events, servletRequest);
+            sqlExecuteAuditEventRecorder.record(data.getResults(), servletRequest);
         } catch (Exception ex) {
             log.warn("update async sql execute audit events failed, ex=", ex);
         }
     }
 
-    private AuditEventResult getAuditEventResultFromResult(SqlExecuteResult result) {
-        if (SqlExecuteStatus.SUCCESS == result.getStatus()) {
-            return AuditEventResult.SUCCESS;
-        } else if (SqlExecuteStatus.RUNNING == result.getStatus()) {
-            return AuditEventResult.UNFINISHED;
-        } else {
-            return AuditEventResult.FAILED;
-        }
-    }
-
-    private String getDetailFromResult(SqlExecuteResult result) {
-        if (Objects.nonNull(result)) {
-            return result.getExecuteSql();
-        }
-        return Strings.EMPTY;
-    }
-
-
     private void saveAuditEvents(AuditEvent auditEvent, Object processResult) {
         try {
             List<String> taskIds = parseTaskIds(auditEvent, processResult);
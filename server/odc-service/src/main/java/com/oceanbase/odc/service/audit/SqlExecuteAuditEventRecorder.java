@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.oceanbase.odc.core.shared.constant.AuditEventAction;
+import com.oceanbase.odc.core.shared.constant.AuditEventResult;
+import com.oceanbase.odc.core.sql.execute.model.SqlExecuteStatus;
+import com.oceanbase.odc.metadb.audit.AuditEventEntity;
+import com.oceanbase.odc.service.audit.util.AuditUtils;
+import com.oceanbase.odc.service.session.model.SqlExecuteResult;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Update the audit events of async sql executions with their results, shared by
+ * {@link AuditEventAspect} for polled results and
+ * {@link com.oceanbase.odc.service.session.ConnectConsoleService} for pushed results
+ *
+ * @author agent
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "odc.audit.enabled", havingValue = "true")
+public class SqlExecuteAuditEventRecorder {
+
+    private static final int MAX_DETAIL_LENGTH = 20000;
+
+    @Autowired
+    private AuditEventService auditEventService;
+
+    @Autowired
+    private AuditEventHandler auditEventHandler;
+
+    /**
+     * @param results results of async sql executions, the unfinished ones are ignored
+     * @param servletRequest request which the results are returned to
+     */
+    public void record(@NonNull List<SqlExecuteResult> results, @NonNull HttpServletRequest servletRequest) {
+        if (results.isEmpty()) {
+            return;
+        }
+        List<AuditEventEntity> events = new ArrayList<>();
+        for (SqlExecuteResult result : results) {
+            AuditEventResult auditEventResult = getAuditEventResultFromResult(result);
+            if (AuditEventResult.UNFINISHED != auditEventResult) {
+                AuditEventAction action = AuditUtils.getSqlTypeFromResult(result.getSqlType());
+                String detail = truncateDetail(getDetailFromResult(result));
+                String taskId = result.getSqlId();
+                // The sql id of resultSet has suffix "-" + increment number, @See SqlTuple#softCopy
+                int last = result.getSqlId().lastIndexOf("-");
+                if (last > 0) {
+                    taskId = result.getSqlId().substring(0, last);
+                }
+                AuditEventEntity eventEntity =
+                        auditEventService.updateSqlExecuteEvent(taskId, action, detail, auditEventResult);
+                if (eventEntity != null) {
+                    events.add(eventEntity);
+                }
+            }
+        }
+        this.auditEventHandler.handle(events, servletRequest);
+    }
+
+    private AuditEventResult getAuditEventResultFromResult(SqlExecuteResult result) {
+        if (SqlExecuteStatus.SUCCESS == result.getStatus()) {
+            return AuditEventResult.SUCCESS;
+        } else if (SqlExecuteStatus.RUNNING == result.getStatus()) {
+            return AuditEventResult.UNFINISHED;
+        } else {
+            return AuditEventResult.FAILED;
+        }
+    }
+
+    private String getDetailFromResult(SqlExecuteResult result) {
+        if (Objects.nonNull(result)) {
+            return result.getExecuteSql();
+        }
+        return Strings.EMPTY;
+    }
+
+    private String truncateDetail(String detail) {
+        return detail == null ? null : detail.substring(0, Math.min(detail.length(), MAX_DETAIL_LENGTH));
+    }
+
+}
@@ -121,6 +121,7 @@ import com.oceanbase.odc.service.connection.model.ConnectionSyncErrorReason;
 import com.oceanbase.odc.service.connection.model.ConnectionSyncResult;
 import com.oceanbase.odc.service.connection.model.InnerQueryConnectionParams;
 import com.oceanbase.odc.service.db.DBSchemaService;
+import com.oceanbase.odc.service.db.schema.DBSchemaSyncService;
 import com.oceanbase.odc.service.db.schema.DBSchemaSyncTaskManager;
 import com.oceanbase.odc.service.db.schema.GlobalSearchProperties;
 import com.oceanbase.odc.service.db.schema.model.DBObjectSyncStatus;
@@ -230,6 +231,9 @@ public class DatabaseService {
     @Autowired
     private DBSchemaSyncTaskManager dbSchemaSyncTaskManager;
 
+    @Autowired
+    private DBSchemaSyncService dbSchemaSyncService;
+
     @Autowired
     private DBSchemaSyncProperties dbSchemaSyncProperties;
 
@@ -570,6 +574,7 @@ public class DatabaseService {
         dbColumnRepository.deleteByDatabaseIdIn(req.getDatabaseIds());
         dbObjectRepository.deleteByDatabaseIdIn(req.getDatabaseIds());
         databaseRepository.deleteAll(saved);
+        dbSchemaSyncService.removeFingerprints(databaseIds);
         return true;
     }
 
@@ -841,6 +846,7 @@ public class DatabaseService {
         deleteDatabaseRelatedPermissionByIds(databaseIds);
         dbColumnRepository.deleteByDatabaseIdIn(databaseIds);
         dbObjectRepository.deleteByDatabaseIdIn(databaseIds);
+        dbSchemaSyncService.removeFingerprints(databaseIds);
         return databaseRepository.deleteByConnectionIds(dataSourceId);
     }
 
@@ -855,6 +861,7 @@ public class DatabaseService {
         deleteDatabaseRelatedPermissionByIds(databaseIds);
         dbColumnRepository.deleteByDatabaseIdIn(databaseIds);
         dbObjectRepository.deleteByDatabaseIdIn(databaseIds);
+        dbSchemaSyncService.removeFingerprints(databaseIds);
         return databaseRepository.deleteByConnectionId(dataSourceId);
     }
 
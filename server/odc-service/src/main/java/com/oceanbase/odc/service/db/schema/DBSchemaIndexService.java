@@ -92,6 +92,10 @@ public class DBSchemaIndexService {
     private DBObjectRepository dbObjectRepository;
     @Autowired
     private DBSchemaSyncTaskManager dbSchemaSyncTaskManager;
+    @Autowired
+    private DBSchemaSearchIndex dbSchemaSearchIndex;
+    @Autowired
+    private GlobalSearchProperties globalSearchProperties;
 
     private static final int MAX_SEARCH_SIZE = 5000;
     private static final int MAX_RETURN_SIZE_PER_TYPE = 200;
@@ -167,10 +171,16 @@ public class DBSchemaIndexService {
         }
         Pageable pageable = PageRequest.of(0, MAX_SEARCH_SIZE);
         if (CollectionUtils.isEmpty(params.getTypes()) || params.getTypes().contains(DBObjectType.COLUMN)) {
-            Specification<DBColumnEntity> columnSpec =
-                    SpecificationUtil.columnIn(DBColumnEntity_.DATABASE_ID, queryDatabaseIds);
-            columnSpec = columnSpec.and(SpecificationUtil.columnLike(DBColumnEntity_.NAME, searchKey));
-            List<DBColumnEntity> matches = dbColumnRepository.findAll(columnSpec, pageable).getContent();
+            List<DBColumnEntity> matches;
+            if (globalSearchProperties.isEnableIndex()) {
+                matches = dbColumnRepository.findAllById(
+                        dbSchemaSearchIndex.searchColumns(databases, searchKey, MAX_RETURN_SIZE_PER_TYPE));
+            } else {
+                Specification<DBColumnEntity> columnSpec =
+                        SpecificationUtil.columnIn(DBColumnEntity_.DATABASE_ID, queryDatabaseIds);
+                columnSpec = columnSpec.and(SpecificationUtil.columnLike(DBColumnEntity_.NAME, searchKey));
+                matches = dbColumnRepository.findAll(columnSpec, pageable).getContent();
+            }
             Ordering<DBColumnEntity> ordering = Ordering.natural().onResultOf(e -> e.getName().length());
             ordering = ordering.compound(Ordering.natural().onResultOf(DBColumnEntity::getName));
             matches = ordering.leastOf(matches, MAX_RETURN_SIZE_PER_TYPE);
@@ -180,13 +190,20 @@ public class DBSchemaIndexService {
                             .collect(Collectors.toMap(OdcDBObject::getId, e -> e, (e1, e2) -> e1));
             resp.setDbColumns(columnEntitiesToModels(matches, id2Object));
         }
-        Specification<DBObjectEntity> objectSpec =
-                SpecificationUtil.columnIn(DBObjectEntity_.DATABASE_ID, queryDatabaseIds);
-        objectSpec = objectSpec.and(SpecificationUtil.columnLike(DBObjectEntity_.NAME, searchKey));
-        if (CollectionUtils.isNotEmpty(params.getTypes())) {
-            objectSpec = objectSpec.and(SpecificationUtil.columnIn(DBObjectEntity_.TYPE, params.getTypes()));
+        List<DBObjectEntity> matches;
+        if (globalSearchProperties.isEnableIndex()) {
+            List<Long> objectIds = dbSchemaSearchIndex.searchObjects(databases, searchKey, params.getTypes(),
+                    MAX_RETURN_SIZE_PER_TYPE).values().stream().flatMap(List::stream).collect(Collectors.toList());
+            matches = objectIds.isEmpty() ? new ArrayList<>() : dbObjectRepository.findByIdIn(objectIds);
+        } else {
+            Specification<DBObjectEntity> objectSpec =
+                    SpecificationUtil.columnIn(DBObjectEntity_.DATABASE_ID, queryDatabaseIds);
+            objectSpec = objectSpec.and(SpecificationUtil.columnLike(DBObjectEntity_.NAME, searchKey));
+            if (CollectionUtils.isNotEmpty(params.getTypes())) {
+                objectSpec = objectSpec.and(SpecificationUtil.columnIn(DBObjectEntity_.TYPE, params.getTypes()));
+            }
+            matches = dbObjectRepository.findAll(objectSpec, pageable).getContent();
         }
-        List<DBObjectEntity> matches = dbObjectRepository.findAll(objectSpec, pageable).getContent();
         Map<DBObjectType, List<DBObjectEntity>> type2Objects =
                 matches.stream().collect(Collectors.groupingBy(DBObjectEntity::getType));
         Ordering<DBObjectEntity> ordering = Ordering.natural().onResultOf(e -> e.getName().length());
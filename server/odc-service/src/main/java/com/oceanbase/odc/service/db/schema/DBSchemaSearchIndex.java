@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.db.schema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Ordering;
+import com.oceanbase.odc.common.jpa.SpecificationUtil;
+import com.oceanbase.odc.metadb.dbobject.DBColumnEntity;
+import com.oceanbase.odc.metadb.dbobject.DBColumnEntity_;
+import com.oceanbase.odc.metadb.dbobject.DBColumnRepository;
+import com.oceanbase.odc.metadb.dbobject.DBObjectEntity;
+import com.oceanbase.odc.metadb.dbobject.DBObjectEntity_;
+import com.oceanbase.odc.metadb.dbobject.DBObjectRepository;
+import com.oceanbase.odc.service.connection.database.model.Database;
+import com.oceanbase.tools.dbbrowser.model.DBObjectType;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link DBSchemaSearchIndex}
+ *
+ * In-memory trigram index of the object and column names of databases, used by the global search.
+ * The index of a database is built from metadb once the database is synced on this node and kept up
+ * to date by the schema syncers of this node. Databases without an index, or synced by another node
+ * since their index is refreshed, are searched in metadb instead, so nothing is loaded on the
+ * search path.
+ *
+ * @author agent
+ * @see DBSchemaIndexService
+ */
+@Slf4j
+@Component
+public class DBSchemaSearchIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final int MAX_FALLBACK_SEARCH_SIZE = 5000;
+    private static final Ordering<IndexEntry> ORDERING = Ordering.natural()
+            .<IndexEntry>onResultOf(e -> e.name.length()).compound(Ordering.natural().onResultOf(e -> e.name));
+
+    private final DBObjectRepository dbObjectRepository;
+    private final DBColumnRepository dbColumnRepository;
+    private final Cache<Long, DatabaseIndex> databaseId2Index;
+    private final LongAdder queryCount = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+
+    @Autowired
+    public DBSchemaSearchIndex(@NonNull DBObjectRepository dbObjectRepository,
+            @NonNull DBColumnRepository dbColumnRepository, @NonNull GlobalSearchProperties properties) {
+        this.dbObjectRepository = dbObjectRepository;
+        this.dbColumnRepository = dbColumnRepository;
+        this.databaseId2Index = CacheBuilder.newBuilder()
+                .maximumWeight(properties.getIndexMaxEntries())
+                .weigher((Long id, DatabaseIndex index) -> Math.max(1, index.size()))
+                .expireAfterWrite(properties.getIndexExpireMinutes(), TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * search objects whose names contain the key ignoring case, at most {@code limitPerType} objects
+     * with the shortest names are returned for each type
+     *
+     * @return ids of the matched objects
+     */
+    public Map<DBObjectType, List<Long>> searchObjects(@NonNull Collection<Database> databases,
+            @NonNull String key, Collection<DBObjectType> types, int limitPerType) {
+        long start = System.nanoTime();
+        try {
+            String lowerKey = key.toLowerCase();
+            List<IndexEntry> entries = new ArrayList<>();
+            List<Long> unindexedDatabaseIds = new ArrayList<>();
+            for (Database database : databases) {
+                DatabaseIndex index = getIndex(database);
+                if (index == null) {
+                    unindexedDatabaseIds.add(database.getId());
+                } else {
+                    entries.addAll(index.searchObjects(lowerKey));
+                }
+            }
+            entries.addAll(searchObjectsInMetadb(unindexedDatabaseIds, key, types));
+            Map<DBObjectType, List<IndexEntry>> type2Matches = new HashMap<>();
+            for (IndexEntry entry : entries) {
+                if (CollectionUtils.isEmpty(types) || types.contains(entry.type)) {
+                    type2Matches.computeIfAbsent(entry.type, t -> new ArrayList<>()).add(entry);
+                }
+            }
+            Map<DBObjectType, List<Long>> type2Ids = new HashMap<>();
+            type2Matches.forEach((type, matches) -> type2Ids.put(type, ORDERING.leastOf(matches, limitPerType)
+                    .stream().map(e -> e.id).collect(Collectors.toList())));
+            return type2Ids;
+        } finally {
+            recordQuery(start);
+        }
+    }
+
+    /**
+     * search columns whose names contain the key ignoring case, at most {@code limit} columns with the
+     * shortest names are returned
+     *
+     * @return ids of the matched columns
+     */
+    public List<Long> searchColumns(@NonNull Collection<Database> databases, @NonNull String key, int limit) {
+        long start = System.nanoTime();
+        try {
+            String lowerKey = key.toLowerCase();
+            List<IndexEntry> matches = new ArrayList<>();
+            List<Long> unindexedDatabaseIds = new ArrayList<>();
+            for (Database database : databases) {
+                DatabaseIndex index = getIndex(database);
+                if (index == null) {
+                    unindexedDatabaseIds.add(database.getId());
+                } else {
+                    matches.addAll(index.searchColumns(lowerKey));
+                }
+            }
+            matches.addAll(searchColumnsInMetadb(unindexedDatabaseIds, key));
+            return ORDERING.leastOf(matches, limit).stream().map(e -> e.id).collect(Collectors.toList());
+        } finally {
+            recordQuery(start);
+        }
+    }
+
+    /**
+     * build the index of a database from metadb once it is synced on this node, the index is reused if
+     * the database is not synced by other nodes since the index is refreshed
+     *
+     * @param database the database with the sync time before this sync
+     */
+    public void refresh(@NonNull Database database) {
+        Date refreshTime = new Date();
+        DatabaseIndex index = getIndex(database);
+        if (index == null) {
+            index = new DatabaseIndex(refreshTime);
+            this.dbObjectRepository.findByDatabaseId(database.getId()).forEach(index::addObject);
+            this.dbColumnRepository.findByDatabaseId(database.getId()).forEach(index::addColumn);
+            this.loadCount.increment();
+            log.debug("Search index of database loaded, databaseId={}, size={}", database.getId(), index.size());
+        } else {
+            index.refreshTime = refreshTime;
+        }
+        this.databaseId2Index.put(database.getId(), index);
+    }
+
+    public void addObjects(@NonNull Long databaseId, @NonNull Collection<DBObjectEntity> objects) {
+        DatabaseIndex index = this.databaseId2Index.getIfPresent(databaseId);
+        if (index != null) {
+            objects.forEach(index::addObject);
+            reweigh(databaseId, index);
+        }
+    }
+
+    /**
+     * remove objects and their columns from the index
+     */
+    public void removeObjects(@NonNull Long databaseId, @NonNull Collection<Long> objectIds) {
+        DatabaseIndex index = this.databaseId2Index.getIfPresent(databaseId);
+        if (index != null) {
+            index.removeObjects(objectIds);
+            reweigh(databaseId, index);
+        }
+    }
+
+    public void addColumns(@NonNull Long databaseId, @NonNull Collection<DBColumnEntity> columns) {
+        DatabaseIndex index = this.databaseId2Index.getIfPresent(databaseId);
+        if (index != null) {
+            columns.forEach(index::addColumn);
+            reweigh(databaseId, index);
+        }
+    }
+
+    public void removeColumns(@NonNull Long databaseId, @NonNull Collection<Long> columnIds) {
+        DatabaseIndex index = this.databaseId2Index.getIfPresent(databaseId);
+        if (index != null) {
+            index.removeColumns(columnIds);
+            reweigh(databaseId, index);
+        }
+    }
+
+    public long getEntryCount() {
+        return this.databaseId2Index.asMap().values().stream().mapToLong(DatabaseIndex::size).sum();
+    }
+
+    public long getLoadCount() {
+        return this.loadCount.sum();
+    }
+
+    public double getAverageQueryMillis() {
+        long count = this.queryCount.sum();
+        return count == 0 ? 0 : this.queryNanos.sum() / 1000000D / count;
+    }
+
+    /**
+     * @return {@code null} if the database is not indexed or synced by another node since its index is
+     *         refreshed
+     */
+    private DatabaseIndex getIndex(Database database) {
+        DatabaseIndex index = this.databaseId2Index.getIfPresent(database.getId());
+        if (index == null || database.getObjectLastSyncTime() == null
+                || !database.getObjectLastSyncTime().after(index.refreshTime)) {
+            return index;
+        }
+        return null;
+    }
+
+    /**
+     * the weight of an index is only computed when it is written, write it again once its size changed
+     */
+    private void reweigh(Long databaseId, DatabaseIndex index) {
+        this.databaseId2Index.asMap().replace(databaseId, index, index);
+    }
+
+    private List<IndexEntry> searchObjectsInMetadb(List<Long> databaseIds, String key,
+            Collection<DBObjectType> types) {
+        if (databaseIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Specification<DBObjectEntity> spec = SpecificationUtil.columnIn(DBObjectEntity_.DATABASE_ID, databaseIds);
+        spec = spec.and(SpecificationUtil.columnLike(DBObjectEntity_.NAME, key));
+        if (CollectionUtils.isNotEmpty(types)) {
+            spec = spec.and(SpecificationUtil.columnIn(DBObjectEntity_.TYPE, types));
+        }
+        return this.dbObjectRepository.findAll(spec, PageRequest.of(0, MAX_FALLBACK_SEARCH_SIZE)).getContent()
+                .stream().map(e -> new IndexEntry(e.getId(), e.getName(), e.getType(), null))
+                .collect(Collectors.toList());
+    }
+
+    private List<IndexEntry> searchColumnsInMetadb(List<Long> databaseIds, String key) {
+        if (databaseIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Specification<DBColumnEntity> spec = SpecificationUtil.columnIn(DBColumnEntity_.DATABASE_ID, databaseIds);
+        spec = spec.and(SpecificationUtil.columnLike(DBColumnEntity_.NAME, key));
+        return this.dbColumnRepository.findAll(spec, PageRequest.of(0, MAX_FALLBACK_SEARCH_SIZE)).getContent()
+                .stream().map(e -> new IndexEntry(e.getId(), e.getName(), null, e.getObjectId()))
+                .collect(Collectors.toList());
+    }
+
+    private void recordQuery(long startNanos) {
+        this.queryCount.increment();
+        this.queryNanos.add(System.nanoTime() - startNanos);
+    }
+
+    private static Set<String> grams(String lowerName) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= lowerName.length(); i++) {
+            grams.add(lowerName.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static class IndexEntry {
+        private final Long id;
+        private final String name;
+        private final String lowerName;
+        private final DBObjectType type;
+        private final Long objectId;
+
+        IndexEntry(Long id, String name, DBObjectType type, Long objectId) {
+            this.id = id;
+            this.name = name;
+            this.lowerName = name.toLowerCase();
+            this.type = type;
+            this.objectId = objectId;
+        }
+    }
+
+    /**
+     * Names of a database, each kind of name has its own posting lists
+     */
+    private static class DatabaseIndex {
+        private final Postings objects = new Postings();
+        private final Postings columns = new Postings();
+        private volatile Date refreshTime;
+
+        DatabaseIndex(Date refreshTime) {
+            this.refreshTime = refreshTime;
+        }
+
+        synchronized void addObject(DBObjectEntity entity) {
+            if (entity.getId() != null && entity.getName() != null) {
+                this.objects.add(new IndexEntry(entity.getId(), entity.getName(), entity.getType(), null));
+            }
+        }
+
+        synchronized void addColumn(DBColumnEntity entity) {
+            if (entity.getId() != null && entity.getName() != null) {
+                this.columns.add(new IndexEntry(entity.getId(), entity.getName(), null, entity.getObjectId()));
+            }
+        }
+
+        synchronized void removeObjects(Collection<Long> objectIds) {
+            objectIds.forEach(this.objects::remove);
+            Set<Long> objectIdSet = new HashSet<>(objectIds);
+            this.columns.id2Entry.values().stream().filter(e -> objectIdSet.contains(e.objectId))
+                    .map(e -> e.id).collect(Collectors.toList()).forEach(this.columns::remove);
+        }
+
+        synchronized void removeColumns(Collection<Long> columnIds) {
+            columnIds.forEach(this.columns::remove);
+        }
+
+        synchronized List<IndexEntry> searchObjects(String lowerKey) {
+            return this.objects.search(lowerKey);
+        }
+
+        synchronized List<IndexEntry> searchColumns(String lowerKey) {
+            return this.columns.search(lowerKey);
+        }
+
+        synchronized int size() {
+            return this.objects.id2Entry.size() + this.columns.id2Entry.size();
+        }
+    }
+
+    private static class Postings {
+        private final Map<Long, IndexEntry> id2Entry = new HashMap<>();
+        private final Map<String, Set<Long>> gram2Ids = new HashMap<>();
+
+        void add(IndexEntry entry) {
+            remove(entry.id);
+            this.id2Entry.put(entry.id, entry);
+            for (String gram : grams(entry.lowerName)) {
+                this.gram2Ids.computeIfAbsent(gram, g -> new HashSet<>()).add(entry.id);
+            }
+        }
+
+        void remove(Long id) {
+            IndexEntry entry = this.id2Entry.remove(id);
+            if (entry == null) {
+                return;
+            }
+            for (String gram : grams(entry.lowerName)) {
+                Set<Long> ids = this.gram2Ids.get(gram);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    this.gram2Ids.remove(gram);
+                }
+            }
+        }
+
+        List<IndexEntry> search(String lowerKey) {
+            if (lowerKey.length() < GRAM_SIZE) {
+                return this.id2Entry.values().stream().filter(e -> e.lowerName.contains(lowerKey))
+                        .collect(Collectors.toList());
+            }
+            // candidates of the rarest gram are verified, which is the same as intersecting all grams
+            Set<Long> candidates = null;
+            for (String gram : grams(lowerKey)) {
+                Set<Long> ids = this.gram2Ids.getOrDefault(gram, Collections.emptySet());
+                if (candidates == null || ids.size() < candidates.size()) {
+                    candidates = ids;
+                }
+            }
+            List<IndexEntry> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                IndexEntry entry = this.id2Entry.get(id);
+                if (entry != null && entry.lowerName.contains(lowerKey)) {
+                    matches.add(entry);
+                }
+            }
+            return matches;
+        }
+    }
+
+}
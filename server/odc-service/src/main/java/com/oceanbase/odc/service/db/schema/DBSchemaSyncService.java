@@ -18,9 +18,16 @@ package com.oceanbase.odc.service.db.schema;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
@@ -35,16 +42,24 @@ import org.springframework.stereotype.Service;
 import com.oceanbase.odc.core.authority.util.SkipAuthorize;
 import com.oceanbase.odc.core.datasource.SingleConnectionDataSource;
 import com.oceanbase.odc.core.shared.PreConditions;
+import com.oceanbase.odc.core.shared.constant.DialectType;
 import com.oceanbase.odc.core.shared.constant.ErrorCodes;
 import com.oceanbase.odc.core.shared.exception.ConflictException;
 import com.oceanbase.odc.core.shared.exception.NotImplementedException;
 import com.oceanbase.odc.core.shared.exception.UnsupportedException;
+import com.oceanbase.odc.metadb.connection.DatabaseEntity;
+import com.oceanbase.odc.metadb.connection.DatabaseRepository;
 import com.oceanbase.odc.service.connection.ConnectionService;
 import com.oceanbase.odc.service.connection.database.model.Database;
 import com.oceanbase.odc.service.connection.model.ConnectionConfig;
+import com.oceanbase.odc.service.db.schema.model.DBObjectSyncStatus;
+import com.oceanbase.odc.service.db.schema.syncer.DBSchemaChangeDetector;
+import com.oceanbase.odc.service.db.schema.syncer.DBSchemaSyncProperties;
 import com.oceanbase.odc.service.db.schema.syncer.DBSchemaSyncer;
 import com.oceanbase.odc.service.session.factory.OBConsoleDataSourceFactory;
+import com.oceanbase.tools.dbbrowser.model.DBObjectType;
 
+import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -66,7 +81,29 @@ public class DBSchemaSyncService {
     @Autowired
     private JdbcLockRegistry jdbcLockRegistry;
 
+    @Autowired
+    private DBSchemaSyncProperties syncProperties;
+
+    @Autowired
+    private DBSchemaChangeDetector changeDetector;
+
+    @Autowired
+    private DatabaseRepository databaseRepository;
+
+    /**
+     * columns are synced by the ids of their objects, they have to be synced again once these objects
+     * are synced
+     */
+    private static final Set<DBObjectType> COLUMN_OWNER_TYPES = EnumSet.of(DBObjectType.TABLE,
+            DBObjectType.VIEW, DBObjectType.EXTERNAL_TABLE, DBObjectType.MATERIALIZED_VIEW);
+
     private List<DBSchemaSyncer> syncers;
+    /**
+     * fingerprints of the object types which are synced successfully by this node, keyed by database
+     * id. They are trusted only if object_last_sync_time is still the one written by that sync,
+     * otherwise the database may have been synced by another node since then
+     */
+    private final Map<Long, SyncedFingerprints> databaseId2Fingerprints = new ConcurrentHashMap<>();
 
     @PostConstruct
     public void init() {
@@ -84,33 +121,109 @@ public class DBSchemaSyncService {
             throw new ConflictException(ErrorCodes.ResourceModifying, "Can not acquire jdbc lock");
         }
         try {
+            Date lastSyncTime = databaseRepository.findById(database.getId())
+                    .map(DatabaseEntity::getObjectLastSyncTime).orElse(null);
             ConnectionConfig config = connectionService.getForConnectionSkipPermissionCheck(dataSourceId);
             OBConsoleDataSourceFactory factory = new OBConsoleDataSourceFactory(config, true);
             try (SingleConnectionDataSource dataSource = (SingleConnectionDataSource) factory.getDataSource();
                     Connection conn = dataSource.getConnection()) {
-                boolean success = true;
-                for (DBSchemaSyncer syncer : syncers) {
-                    if (syncer.supports(config.getDialectType(), conn)) {
-                        try {
-                            syncer.sync(conn, database, config.getDialectType());
-                        } catch (UnsupportedOperationException | UnsupportedException | NotImplementedException e) {
-                            // ignore unsupported exception
-                        } catch (Exception e) {
-                            success = false;
-                            log.warn("Failed to synchronize {} for database id={}", syncer.getObjectType(),
-                                    database.getId(), e);
-                        }
-                    }
-                }
-                return success;
+                return syncObjects(conn, database, config.getDialectType(), lastSyncTime);
             }
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * sync the object types whose fingerprints are changed since the last successful sync, the sync
+     * time and status are written to metadb under the sync lock
+     *
+     * @param lastSyncTime object_last_sync_time of the database read under the sync lock
+     * @return {@code false} if any object type failed to be synced
+     */
+    boolean syncObjects(@NonNull Connection conn, @NonNull Database database, @NonNull DialectType dialectType,
+            Date lastSyncTime) {
+        Map<DBObjectType, String> latestFingerprints = syncProperties.isIncrementalSyncEnabled()
+                ? changeDetector.getFingerprints(conn, database, dialectType)
+                : Collections.emptyMap();
+        Map<DBObjectType, String> lastFingerprints = getLastFingerprints(database.getId(), lastSyncTime);
+        Map<DBObjectType, String> syncedFingerprints = new HashMap<>(latestFingerprints);
+        boolean success = true;
+        // whether objects owning columns are synced after the columns
+        boolean columnsOutdated = false;
+        for (DBSchemaSyncer syncer : syncers) {
+            DBObjectType objectType = syncer.getObjectType();
+            String fingerprint = latestFingerprints.get(objectType);
+            if (fingerprint != null && fingerprint.equals(lastFingerprints.get(objectType))
+                    && !(objectType == DBObjectType.COLUMN && columnsOutdated)) {
+                continue;
+            }
+            if (COLUMN_OWNER_TYPES.contains(objectType)) {
+                columnsOutdated = true;
+            } else if (objectType == DBObjectType.COLUMN) {
+                columnsOutdated = false;
+            }
+            if (syncer.supports(dialectType, conn)) {
+                try {
+                    syncer.sync(conn, database, dialectType);
+                } catch (UnsupportedOperationException | UnsupportedException | NotImplementedException e) {
+                    // ignore unsupported exception
+                } catch (Exception e) {
+                    success = false;
+                    syncedFingerprints.remove(objectType);
+                    if (COLUMN_OWNER_TYPES.contains(objectType)) {
+                        syncedFingerprints.remove(DBObjectType.COLUMN);
+                    }
+                    log.warn("Failed to synchronize {} for database id={}", syncer.getObjectType(),
+                            database.getId(), e);
+                }
+            }
+        }
+        if (columnsOutdated) {
+            syncedFingerprints.remove(DBObjectType.COLUMN);
+        }
+        Date syncTime = getNextSyncTime(lastSyncTime);
+        databaseRepository.setObjectLastSyncTimeAndStatusById(database.getId(), syncTime,
+                success ? DBObjectSyncStatus.SYNCED : DBObjectSyncStatus.FAILED);
+        databaseId2Fingerprints.put(database.getId(), new SyncedFingerprints(syncTime, syncedFingerprints));
+        return success;
+    }
+
+    private Map<DBObjectType, String> getLastFingerprints(@NonNull Long databaseId, Date lastSyncTime) {
+        SyncedFingerprints synced = databaseId2Fingerprints.get(databaseId);
+        if (synced == null || lastSyncTime == null || synced.syncTime.getTime() != lastSyncTime.getTime()) {
+            return Collections.emptyMap();
+        }
+        return synced.fingerprints;
+    }
+
+    /**
+     * object_last_sync_time is a datetime column in seconds, the time is truncated to seconds and
+     * always after the last one so that the sync which wrote it can be told from the others
+     */
+    static Date getNextSyncTime(Date lastSyncTime) {
+        long syncTime = System.currentTimeMillis() / 1000 * 1000;
+        if (lastSyncTime != null && syncTime <= lastSyncTime.getTime()) {
+            syncTime = lastSyncTime.getTime() / 1000 * 1000 + 1000;
+        }
+        return new Date(syncTime);
+    }
+
+    /**
+     * forget the fingerprints of deleted databases
+     */
+    public void removeFingerprints(@NonNull Collection<Long> databaseIds) {
+        databaseIds.forEach(databaseId2Fingerprints::remove);
+    }
+
     public String getSyncDBObjectLockKey(@NonNull Long dataSourceId, @NonNull Long databaseId) {
         return "sync-datasource-" + dataSourceId + "-database-" + databaseId;
     }
 
+    @AllArgsConstructor
+    private static class SyncedFingerprints {
+        private final Date syncTime;
+        private final Map<DBObjectType, String> fingerprints;
+    }
+
 }
@@ -83,6 +83,9 @@ public class DBSchemaSyncTaskManager {
     @Autowired
     private GlobalSearchProperties globalSearchProperties;
 
+    @Autowired
+    private DBSchemaSearchIndex dbSchemaSearchIndex;
+
     @Value("${odc.integration.bastion.enabled:false}")
     private boolean bastionEnabled;
 
@@ -136,10 +139,10 @@ public class DBSchemaSyncTaskManager {
                 SecurityContextUtils.setCurrentUser(user.getId(), user.getOrganizationId(), user.getAccountName());
                 databaseService.updateObjectSyncStatus(Collections.singleton(database.getId()),
                         DBObjectSyncStatus.SYNCING);
-                if (dbSchemaSyncService.sync(database)) {
-                    databaseService.updateObjectLastSyncTimeAndStatus(database.getId(), DBObjectSyncStatus.SYNCED);
-                } else {
-                    databaseService.updateObjectLastSyncTimeAndStatus(database.getId(), DBObjectSyncStatus.FAILED);
+                // the sync time and status are written by the sync itself
+                dbSchemaSyncService.sync(database);
+                if (globalSearchProperties.isEnableIndex()) {
+                    dbSchemaSearchIndex.refresh(database);
                 }
             } catch (ConflictException e) {
                 // Ignore conflict exception because it means the database is being synchronized by another thread
@@ -39,11 +39,25 @@ public class GlobalSearchProperties {
     private boolean enableGlobalSearch;
     @Value("${odc.database.schema.global-search.max-pending-hours:1}")
     private long maxPendingHours;
+    @Value("${odc.database.schema.global-search.index-enabled:true}")
+    private boolean enableIndex;
+    @Value("${odc.database.schema.global-search.index-max-entries:2000000}")
+    private long indexMaxEntries;
+    @Value("${odc.database.schema.global-search.index-expire-minutes:60}")
+    private long indexExpireMinutes;
 
     public long getMaxPendingHours() {
         return this.maxPendingHours <= 0 ? 1 : this.maxPendingHours;
     }
 
+    public long getIndexMaxEntries() {
+        return this.indexMaxEntries <= 0 ? 2000000 : this.indexMaxEntries;
+    }
+
+    public long getIndexExpireMinutes() {
+        return this.indexExpireMinutes <= 0 ? 60 : this.indexExpireMinutes;
+    }
+
     public long getMaxPendingMillis() {
         return TimeUnit.MILLISECONDS.convert(getMaxPendingHours(), TimeUnit.HOURS);
     }
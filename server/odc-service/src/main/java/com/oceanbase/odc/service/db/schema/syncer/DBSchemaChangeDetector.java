@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.db.schema.syncer;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.stereotype.Component;
+
+import com.oceanbase.odc.common.util.JdbcOperationsUtil;
+import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.service.connection.database.model.Database;
+import com.oceanbase.tools.dbbrowser.model.DBObjectType;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link DBSchemaChangeDetector}
+ *
+ * Detector of the changes of a schema. Only names of objects and columns are synced, so the
+ * fingerprint of an object type is a checksum of the names read from the data dictionary by one
+ * aggregate query. The sync of an object type can be skipped if its fingerprint is the same as the
+ * one of the last successful sync.
+ *
+ * @author agent
+ * @see DBSchemaSyncer
+ */
+@Slf4j
+@Component
+public class DBSchemaChangeDetector {
+
+    private static final List<Part> MYSQL_PARTS = Arrays.asList(
+            new Part(EnumSet.of(DBObjectType.TABLE, DBObjectType.VIEW, DBObjectType.EXTERNAL_TABLE),
+                    "SELECT COUNT(*), IFNULL(SUM(CRC32(CONCAT(TABLE_TYPE, '.', TABLE_NAME))), 0) "
+                            + "FROM information_schema.TABLES WHERE TABLE_SCHEMA = ?"),
+            new Part(EnumSet.of(DBObjectType.COLUMN),
+                    "SELECT COUNT(*), IFNULL(SUM(CRC32(CONCAT(TABLE_NAME, '.', COLUMN_NAME))), 0) "
+                            + "FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ?"),
+            new Part(EnumSet.of(DBObjectType.FUNCTION, DBObjectType.PROCEDURE),
+                    "SELECT COUNT(*), IFNULL(SUM(CRC32(CONCAT(ROUTINE_TYPE, '.', ROUTINE_NAME))), 0) "
+                            + "FROM information_schema.ROUTINES WHERE ROUTINE_SCHEMA = ?"),
+            new Part(EnumSet.of(DBObjectType.TRIGGER),
+                    "SELECT COUNT(*), IFNULL(SUM(CRC32(CONCAT(EVENT_OBJECT_TABLE, '.', TRIGGER_NAME))), 0) "
+                            + "FROM information_schema.TRIGGERS WHERE TRIGGER_SCHEMA = ?"));
+    private static final List<Part> ORACLE_PARTS = Arrays.asList(
+            new Part(EnumSet.of(DBObjectType.TABLE, DBObjectType.VIEW, DBObjectType.EXTERNAL_TABLE,
+                    DBObjectType.MATERIALIZED_VIEW, DBObjectType.FUNCTION, DBObjectType.PROCEDURE,
+                    DBObjectType.PACKAGE, DBObjectType.TYPE, DBObjectType.TRIGGER, DBObjectType.SEQUENCE,
+                    DBObjectType.SYNONYM),
+                    "SELECT COUNT(*), SUM(ORA_HASH(OBJECT_TYPE || '.' || OBJECT_NAME)) "
+                            + "FROM ALL_OBJECTS WHERE OWNER = ?"),
+            new Part(EnumSet.of(DBObjectType.COLUMN),
+                    "SELECT COUNT(*), SUM(ORA_HASH(TABLE_NAME || '.' || COLUMN_NAME)) "
+                            + "FROM ALL_TAB_COLUMNS WHERE OWNER = ?"));
+
+    /**
+     * Read fingerprints of the object types of a database. An object type is absent from the result if
+     * its fingerprint can not be read, it has to be synced anyway.
+     *
+     * @return fingerprint of each object type
+     */
+    public Map<DBObjectType, String> getFingerprints(@NonNull Connection connection, @NonNull Database database,
+            @NonNull DialectType dialectType) {
+        List<Part> parts = getParts(dialectType);
+        if (parts.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        JdbcOperations jdbcOperations = JdbcOperationsUtil.getJdbcOperations(connection);
+        Map<DBObjectType, String> type2Fingerprint = new HashMap<>();
+        for (Part part : parts) {
+            try {
+                String fingerprint = jdbcOperations.queryForObject(part.sql,
+                        (rs, rowNum) -> rs.getLong(1) + ":" + rs.getString(2), database.getName());
+                part.objectTypes.forEach(type -> type2Fingerprint.put(type, fingerprint));
+            } catch (Exception e) {
+                log.warn("Failed to read schema fingerprint, databaseId={}, objectTypes={}, reason={}",
+                        database.getId(), part.objectTypes, e.getMessage());
+            }
+        }
+        return type2Fingerprint;
+    }
+
+    private List<Part> getParts(DialectType dialectType) {
+        switch (dialectType) {
+            case MYSQL:
+            case OB_MYSQL:
+                return MYSQL_PARTS;
+            case ORACLE:
+            case OB_ORACLE:
+                return ORACLE_PARTS;
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    private static class Part {
+        private final Set<DBObjectType> objectTypes;
+        private final String sql;
+
+        Part(Set<DBObjectType> objectTypes, String sql) {
+            this.objectTypes = objectTypes;
+            this.sql = sql;
+        }
+    }
+
+}
@@ -43,6 +43,10 @@ public class DBSchemaSyncProperties {
     private boolean blockExclusionsWhenSyncDbToProject;
     private boolean blockExclusionsWhenSyncDbSchemas;
     private Map<String, List<String>> excludeSchemas;
+    /**
+     * skip syncing object types whose fingerprints are not changed since the last successful sync
+     */
+    private boolean incrementalSyncEnabled = true;
 
     public List<String> getExcludeSchemas(@NonNull DialectType dialect) {
         if (excludeSchemas == null || excludeSchemas.isEmpty()) {
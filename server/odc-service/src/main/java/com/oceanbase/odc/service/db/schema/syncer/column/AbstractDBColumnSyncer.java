@@ -37,6 +37,7 @@ import com.oceanbase.odc.metadb.dbobject.DBObjectEntity;
 import com.oceanbase.odc.metadb.dbobject.DBObjectRepository;
 import com.oceanbase.odc.service.connection.database.model.Database;
 import com.oceanbase.odc.service.connection.database.model.DatabaseType;
+import com.oceanbase.odc.service.db.schema.DBSchemaSearchIndex;
 import com.oceanbase.odc.service.db.schema.syncer.DBSchemaSyncer;
 import com.oceanbase.odc.service.plugin.SchemaPluginUtil;
 import com.oceanbase.tools.dbbrowser.model.DBObjectType;
@@ -55,6 +56,9 @@ public abstract class AbstractDBColumnSyncer<T extends ExtensionPoint> implement
     @Autowired
     private DBColumnRepository dbColumnRepository;
 
+    @Autowired
+    private DBSchemaSearchIndex dbSchemaSearchIndex;
+
     private static final int BATCH_SIZE = 1000;
 
     @Override
@@ -106,11 +110,13 @@ public abstract class AbstractDBColumnSyncer<T extends ExtensionPoint> implement
             }
         }
         if (CollectionUtils.isNotEmpty(toBeInserted)) {
-            dbColumnRepository.batchCreate(toBeInserted, BATCH_SIZE);
+            dbSchemaSearchIndex.addColumns(database.getId(),
+                    dbColumnRepository.batchCreate(toBeInserted, BATCH_SIZE));
         }
         if (CollectionUtils.isNotEmpty(toBeDeleted)) {
-            dbColumnRepository
-                    .deleteByIds(toBeDeleted.stream().map(DBColumnEntity::getId).collect(Collectors.toList()));
+            List<Long> toBeDeletedIds = toBeDeleted.stream().map(DBColumnEntity::getId).collect(Collectors.toList());
+            dbColumnRepository.deleteByIds(toBeDeletedIds);
+            dbSchemaSearchIndex.removeColumns(database.getId(), toBeDeletedIds);
         }
     }
 
@@ -31,6 +31,7 @@ import com.oceanbase.odc.metadb.dbobject.DBObjectEntity;
 import com.oceanbase.odc.metadb.dbobject.DBObjectRepository;
 import com.oceanbase.odc.service.connection.database.model.Database;
 import com.oceanbase.odc.service.connection.database.model.DatabaseType;
+import com.oceanbase.odc.service.db.schema.DBSchemaSearchIndex;
 import com.oceanbase.odc.service.db.schema.syncer.DBSchemaSyncer;
 import com.oceanbase.odc.service.plugin.SchemaPluginUtil;
 
@@ -48,6 +49,9 @@ public abstract class AbstractDBObjectSyncer<T extends ExtensionPoint> implement
     @Autowired
     protected DBColumnRepository dbColumnRepository;
 
+    @Autowired
+    private DBSchemaSearchIndex dbSchemaSearchIndex;
+
     private static final int BATCH_SIZE = 1000;
 
     @Override
@@ -75,7 +79,8 @@ public abstract class AbstractDBObjectSyncer<T extends ExtensionPoint> implement
                     return entity;
                 }).collect(Collectors.toList());
         if (CollectionUtils.isNotEmpty(toBeInserted)) {
-            dbObjectRepository.batchCreate(toBeInserted, BATCH_SIZE);
+            dbSchemaSearchIndex.addObjects(database.getId(),
+                    dbObjectRepository.batchCreate(toBeInserted, BATCH_SIZE));
         }
         // Delete objects that are not in the latest object list
         List<DBObjectEntity> toBeDeleted = existingObjects.stream()
@@ -85,6 +90,7 @@ public abstract class AbstractDBObjectSyncer<T extends ExtensionPoint> implement
             dbObjectRepository.deleteByIds(toBeDeletedIds);
             preDelete(toBeDeletedIds);
             dbColumnRepository.deleteByDatabaseIdAndObjectIdIn(database.getId(), toBeDeletedIds);
+            dbSchemaSearchIndex.removeObjects(database.getId(), toBeDeletedIds);
         }
     }
 
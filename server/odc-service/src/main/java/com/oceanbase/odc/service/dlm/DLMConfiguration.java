@@ -57,4 +57,7 @@ public class DLMConfiguration {
     @Value("${odc.task.dlm.session-limiting-ratio:25}")
     private int sessionLimitingRatio;
 
+    @Value("${odc.task.dlm.default-table-concurrency:1}")
+    private int defaultTableConcurrency;
+
 }
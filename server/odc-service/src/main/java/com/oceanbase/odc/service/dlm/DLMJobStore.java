@@ -19,12 +19,20 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import com.alibaba.druid.pool.DruidDataSource;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.oceanbase.odc.common.json.JsonUtils;
 import com.oceanbase.odc.service.connection.model.ConnectionConfig;
 import com.oceanbase.odc.service.dlm.model.DlmTableUnit;
@@ -37,7 +45,7 @@ import com.oceanbase.tools.migrator.core.meta.BoundPrimaryKey;
 import com.oceanbase.tools.migrator.core.meta.TaskMeta;
 import com.oceanbase.tools.migrator.core.store.IJobStore;
 
-import lombok.Setter;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -48,10 +56,40 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DLMJobStore implements IJobStore {
 
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+    private static final int FLUSH_THRESHOLD = 256;
+    private static final long FLUSH_TERMINATION_TIMEOUT_MILLIS = 10000L;
+    private static final String UPSERT_TASK_GENERATOR_SQL = "INSERT INTO dlm_task_generator "
+            + "(generator_id,job_id,processed_data_size,processed_row_count,status,type,task_count,"
+            + "primary_key_save_point,partition_save_point,partition_min_key,partition_max_key)"
+            + " VALUES (?,?,?,?,?,?,?,?,?,?,?) ON DUPLICATE KEY UPDATE "
+            + "status=values(status),task_count=values(task_count),partition_save_point=values(partition_save_point),"
+            + "processed_row_count=values(processed_row_count),processed_data_size=values(processed_data_size),"
+            + "primary_key_save_point=values(primary_key_save_point),"
+            + "partition_min_key=values(partition_min_key),partition_max_key=values(partition_max_key)";
+    private static final String UPSERT_TASK_UNIT_SQL = "INSERT INTO dlm_task_unit "
+            + "(task_index,job_id,generator_id,status,lower_bound_primary_key,upper_bound_primary_key,"
+            + "primary_key_cursor,partition_name)"
+            + " VALUES (?,?,?,?,?,?,?,?) ON DUPLICATE KEY UPDATE "
+            + "status=values(status),partition_name=values(partition_name),"
+            + "lower_bound_primary_key=values(lower_bound_primary_key),"
+            + "upper_bound_primary_key=values(upper_bound_primary_key),primary_key_cursor=values(primary_key_cursor)";
+
     private DruidDataSource dataSource;
+    /**
+     * never turned on by {@link #DLMJobStore(ConnectionConfig)} yet, checkpoints are neither buffered
+     * nor written until breakpoint recovery is enabled for the metadb datasource
+     */
     private boolean enableBreakpointRecovery = false;
-    @Setter
-    private DlmTableUnit dlmTableUnit;
+    // table units may be processed concurrently, the id of a table unit is the id of its migrator job
+    private final Map<String, DlmTableUnit> jobId2TableUnit = new ConcurrentHashMap<>();
+    private volatile DlmTableUnit lastTableUnit;
+    // checkpoints are written behind, only the latest one of a task unit or a task generator is kept
+    private final Map<String, Object[]> taskKey2Row = new LinkedHashMap<>();
+    private final Map<String, Object[]> generatorId2Row = new LinkedHashMap<>();
+    private final Object bufferLock = new Object();
+    private final Object flushLock = new Object();
+    private ScheduledExecutorService flushScheduler;
 
     public DLMJobStore(ConnectionConfig metaDBConfig) {
         // only supports odc meta db to record save points
@@ -71,10 +109,118 @@ public class DLMJobStore implements IJobStore {
 
     }
 
+    @VisibleForTesting
+    DLMJobStore(DruidDataSource dataSource) {
+        this.dataSource = dataSource;
+        this.enableBreakpointRecovery = true;
+    }
+
+    public void setDlmTableUnit(@NonNull DlmTableUnit dlmTableUnit) {
+        this.jobId2TableUnit.put(dlmTableUnit.getDlmTableUnitId(), dlmTableUnit);
+        this.lastTableUnit = dlmTableUnit;
+    }
+
+    /**
+     * write the buffered checkpoints to metadb, task units are written before task generators so that a
+     * saved generator never points to a task unit which is not saved
+     */
+    public void flush() throws SQLException {
+        if (!enableBreakpointRecovery) {
+            return;
+        }
+        synchronized (this.flushLock) {
+            Map<String, Object[]> taskKey2Row;
+            Map<String, Object[]> generatorId2Row;
+            synchronized (this.bufferLock) {
+                taskKey2Row = new LinkedHashMap<>(this.taskKey2Row);
+                generatorId2Row = new LinkedHashMap<>(this.generatorId2Row);
+                this.taskKey2Row.clear();
+                this.generatorId2Row.clear();
+            }
+            if (taskKey2Row.isEmpty() && generatorId2Row.isEmpty()) {
+                return;
+            }
+            try (Connection conn = dataSource.getConnection()) {
+                batchUpsert(conn, UPSERT_TASK_UNIT_SQL, taskKey2Row.values());
+                batchUpsert(conn, UPSERT_TASK_GENERATOR_SQL, generatorId2Row.values());
+            } catch (SQLException e) {
+                // newer checkpoints buffered in the meantime win
+                synchronized (this.bufferLock) {
+                    taskKey2Row.forEach(this.taskKey2Row::putIfAbsent);
+                    generatorId2Row.forEach(this.generatorId2Row::putIfAbsent);
+                }
+                throw e;
+            }
+            log.debug("Flush checkpoints success,taskCount={},generatorCount={}", taskKey2Row.size(),
+                    generatorId2Row.size());
+        }
+    }
+
+    private void batchUpsert(Connection conn, String sql, Collection<Object[]> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    ps.setObject(i + 1, row[i]);
+                }
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void buffer(Map<String, Object[]> key2Row, String key, Object[] row) throws SQLException {
+        int size;
+        synchronized (this.bufferLock) {
+            key2Row.put(key, row);
+            size = this.taskKey2Row.size() + this.generatorId2Row.size();
+            if (this.flushScheduler == null) {
+                this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder().setNameFormat("dlm-checkpoint-flusher-%d").setDaemon(true).build());
+                this.flushScheduler.scheduleWithFixedDelay(this::flushQuietly, FLUSH_INTERVAL_MILLIS,
+                        FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (size >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Flush checkpoints failed, will retry later, errorMsg={}", e.getMessage());
+        }
+    }
+
+    private DlmTableUnit getDlmTableUnit(String jobId) {
+        DlmTableUnit dlmTableUnit = jobId == null ? null : this.jobId2TableUnit.get(jobId);
+        return dlmTableUnit == null ? this.lastTableUnit : dlmTableUnit;
+    }
+
     public void destroy() {
         if (dataSource == null) {
             return;
         }
+        if (this.flushScheduler != null) {
+            // let a running flush finish instead of interrupting it, the rest is flushed below
+            this.flushScheduler.shutdown();
+            try {
+                if (!this.flushScheduler.awaitTermination(FLUSH_TERMINATION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    log.warn("Wait for the running checkpoint flush timeout");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Flush checkpoints failed before closing meta datasource", e);
+        }
         try {
             dataSource.close();
         } catch (Exception e) {
@@ -85,6 +231,7 @@ public class DLMJobStore implements IJobStore {
     @Override
     public TaskGenerator getTaskGenerator(String jobId) throws SQLException {
         if (enableBreakpointRecovery) {
+            flush();
             try (Connection conn = dataSource.getConnection();
                     PreparedStatement ps = conn.prepareStatement(
                             "select * from dlm_task_generator where job_id = ?")) {
@@ -124,38 +271,21 @@ public class DLMJobStore implements IJobStore {
 
     @Override
     public void storeTaskGenerator(TaskGenerator taskGenerator) throws SQLException {
+        DlmTableUnit dlmTableUnit = getDlmTableUnit(taskGenerator.getJobId());
         taskGenerator.getPartName2MaxKey()
                 .forEach((k, v) -> dlmTableUnit.getStatistic().getPartName2MaxKey().put(k, v.getSqlString()));
         taskGenerator.getPartName2MinKey()
                 .forEach((k, v) -> dlmTableUnit.getStatistic().getPartName2MinKey().put(k, v.getSqlString()));
         if (enableBreakpointRecovery) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("INSERT INTO dlm_task_generator ");
-            sb.append(
-                    "(generator_id,job_id,processed_data_size,processed_row_count,status,type,task_count,primary_key_save_point,partition_save_point,partition_min_key,partition_max_key)");
-            sb.append(" VALUES (?,?,?,?,?,?,?,?,?,?,?) ON DUPLICATE KEY UPDATE ");
-            sb.append(
-                    "status=values(status),task_count=values(task_count),partition_save_point=values(partition_save_point),");
-            sb.append(
-                    "processed_row_count=values(processed_row_count),processed_data_size=values(processed_data_size),primary_key_save_point=values(primary_key_save_point)");
-            sb.append(",partition_min_key=values(partition_min_key),partition_max_key=values(partition_max_key)");
             log.debug("start to store task generator:{}", taskGenerator);
-            try (Connection conn = dataSource.getConnection();
-                    PreparedStatement ps = conn.prepareStatement(sb.toString())) {
-                ps.setString(1, taskGenerator.getId());
-                ps.setString(2, taskGenerator.getJobId());
-                ps.setLong(3, taskGenerator.getProcessedDataSize());
-                ps.setLong(4, taskGenerator.getProcessedRowCount());
-                ps.setString(5, taskGenerator.getGeneratorStatus().name());
-                ps.setString(6, "");
-                ps.setLong(7, taskGenerator.getTaskCount());
-                ps.setString(8, taskGenerator.getPrimaryKeySavePoint() == null ? ""
-                        : taskGenerator.getPrimaryKeySavePoint().toSqlString());
-                ps.setString(9, taskGenerator.getPartitionSavePoint());
-                ps.setString(10, JsonUtils.toJson(taskGenerator.getPartName2MinKey()));
-                ps.setString(11, JsonUtils.toJson(taskGenerator.getPartName2MaxKey()));
-                ps.execute();
-            }
+            Object[] row = new Object[] {taskGenerator.getId(), taskGenerator.getJobId(),
+                    taskGenerator.getProcessedDataSize(), taskGenerator.getProcessedRowCount(),
+                    taskGenerator.getGeneratorStatus().name(), "", (long) taskGenerator.getTaskCount(),
+                    taskGenerator.getPrimaryKeySavePoint() == null ? ""
+                            : taskGenerator.getPrimaryKeySavePoint().toSqlString(),
+                    taskGenerator.getPartitionSavePoint(), JsonUtils.toJson(taskGenerator.getPartName2MinKey()),
+                    JsonUtils.toJson(taskGenerator.getPartName2MaxKey())};
+            buffer(this.generatorId2Row, taskGenerator.getId(), row);
         }
     }
 
@@ -166,6 +296,7 @@ public class DLMJobStore implements IJobStore {
 
     @Override
     public void storeJobStatistic(JobStatistic jobStatistic) throws SQLException {
+        DlmTableUnit dlmTableUnit = getDlmTableUnit(jobStatistic.getJobId());
         dlmTableUnit.getStatistic()
                 .setProcessedRowCount(jobStatistic.getRowCount().get());
         dlmTableUnit.getStatistic()
@@ -179,6 +310,7 @@ public class DLMJobStore implements IJobStore {
     @Override
     public List<TaskMeta> loadUnfinishedTask(String generatorId) throws SQLException {
         if (enableBreakpointRecovery) {
+            flush();
             try (Connection conn = dataSource.getConnection();
                     PreparedStatement ps = conn.prepareStatement(
                             "select * from dlm_task_unit where generator_id = ? AND status !='SUCCESS'")) {
@@ -207,28 +339,13 @@ public class DLMJobStore implements IJobStore {
     @Override
     public void storeTaskMeta(TaskMeta taskMeta) throws SQLException {
         if (enableBreakpointRecovery) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("INSERT INTO dlm_task_unit ");
-            sb.append(
-                    "(task_index,job_id,generator_id,status,lower_bound_primary_key,upper_bound_primary_key,primary_key_cursor,partition_name)");
-            sb.append(" VALUES (?,?,?,?,?,?,?,?) ON DUPLICATE KEY UPDATE ");
-            sb.append(
-                    "status=values(status),partition_name=values(partition_name),lower_bound_primary_key=values(lower_bound_primary_key),");
-            sb.append(
-                    "upper_bound_primary_key=values(upper_bound_primary_key),primary_key_cursor=values(primary_key_cursor)");
-            try (Connection conn = dataSource.getConnection();
-                    PreparedStatement ps = conn.prepareStatement(sb.toString())) {
-                ps.setLong(1, taskMeta.getTaskIndex());
-                ps.setString(2, taskMeta.getJobMeta().getJobId());
-                ps.setString(3, taskMeta.getGeneratorId());
-                ps.setString(4, taskMeta.getTaskStatus().name());
-                ps.setString(5, taskMeta.getMinPrimaryKey() == null ? "" : taskMeta.getMinPrimaryKey().toSqlString());
-                ps.setString(6, taskMeta.getMaxPrimaryKey() == null ? "" : taskMeta.getMaxPrimaryKey().toSqlString());
-                ps.setString(7,
-                        taskMeta.getCursorPrimaryKey() == null ? "" : taskMeta.getCursorPrimaryKey().toSqlString());
-                ps.setString(8, taskMeta.getPartitionName());
-                ps.execute();
-            }
+            Object[] row = new Object[] {taskMeta.getTaskIndex(), taskMeta.getJobMeta().getJobId(),
+                    taskMeta.getGeneratorId(), taskMeta.getTaskStatus().name(),
+                    taskMeta.getMinPrimaryKey() == null ? "" : taskMeta.getMinPrimaryKey().toSqlString(),
+                    taskMeta.getMaxPrimaryKey() == null ? "" : taskMeta.getMaxPrimaryKey().toSqlString(),
+                    taskMeta.getCursorPrimaryKey() == null ? "" : taskMeta.getCursorPrimaryKey().toSqlString(),
+                    taskMeta.getPartitionName()};
+            buffer(this.taskKey2Row, taskMeta.getGeneratorId() + "_" + taskMeta.getTaskIndex(), row);
         }
     }
 
@@ -236,6 +353,11 @@ public class DLMJobStore implements IJobStore {
     public long getAbnormalTaskCount(String jobId) {
         long count = 0;
         if (enableBreakpointRecovery) {
+            try {
+                flush();
+            } catch (Exception e) {
+                log.warn("Flush checkpoints failed.jobId={}", jobId, e);
+            }
             try (Connection conn = dataSource.getConnection();
                     PreparedStatement ps = conn.prepareStatement(
                             "select count(1) from dlm_task_unit where job_id=? and (status != 'SUCCESS' or primary_key_cursor is null)")) {
@@ -42,6 +42,9 @@ public class DLMBaseParameters implements ScheduleTaskParameters {
 
     private int writeThreadCount;
 
+    // number of tables processed at the same time
+    private int tableConcurrency;
+
     private int queryTimeout;
 
     private int scanBatchSize;
@@ -15,9 +15,16 @@
  */
 package com.oceanbase.odc.service.flow.task;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,6 +36,7 @@ import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.Validate;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -127,8 +135,7 @@ public class DBStructureComparisonFlowableTask extends BaseODCFlowTaskDelegate<V
             log.info("Start to compare source and target schema, StructureComparisonTaskId={}", taskResult.getTaskId());
             long startTimestamp = System.currentTimeMillis();
 
-            List<DBObjectComparisonResult> results = comparator.compare(srcConfig, tgtConfig);
-            saveComparisonResult(results, tgtConfig.getConnectType().getDialectType());
+            saveComparisonResult(tgtConfig.getConnectType().getDialectType());
 
             taskResult.setStatus(TaskStatus.DONE);
             log.info("Structure comparison task ends, id={}, task status={}, time consuming={} seconds",
@@ -188,33 +195,50 @@ public class DBStructureComparisonFlowableTask extends BaseODCFlowTaskDelegate<V
         }
     }
 
-    private void saveComparisonResult(List<DBObjectComparisonResult> results, DialectType dialectType) {
+    /**
+     * results are saved batch by batch once they are compared, and the change sql scripts are written
+     * to a temporary file, so that the whole results are never held in memory
+     */
+    private void saveComparisonResult(DialectType dialectType) throws IOException, SQLException {
+        File scriptFile = File.createTempFile("structure-comparison-" + taskResult.getTaskId(), ".sql");
+        try {
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(scriptFile), StandardCharsets.UTF_8)) {
+                comparator.compare(srcConfig, tgtConfig, results -> saveComparisonResult(results, dialectType, writer));
+            }
+            if (scriptFile.length() > 0) {
+                String objectId = putTotalChangeSqlScript(scriptFile);
+                if (Objects.nonNull(objectId)) {
+                    structureComparisonTaskRepository.updateStorageObjectIdById(taskResult.getTaskId(), objectId);
+                }
+            }
+        } finally {
+            FileUtils.deleteQuietly(scriptFile);
+        }
+    }
+
+    private void saveComparisonResult(List<DBObjectComparisonResult> results, DialectType dialectType,
+            Writer scriptWriter) {
         List<StructureComparisonTaskResultEntity> entities =
                 structureComparisonService.batchCreateTaskResults(results, dialectType, this.taskResult.getTaskId());
-
-        StringBuilder builder = new StringBuilder();
-        entities.stream().filter(entity -> Objects.nonNull(entity.getChangeSqlScript()))
-                .forEach(entity -> builder.append(entity.getChangeSqlScript()));
-
-        String totalChangeSqlScript = builder.toString();
-        if (!totalChangeSqlScript.isEmpty()) {
-            String objectId = putTotalChangeSqlScript(totalChangeSqlScript);
-            if (Objects.nonNull(objectId)) {
-                structureComparisonTaskRepository.updateStorageObjectIdById(taskResult.getTaskId(), objectId);
+        try {
+            for (StructureComparisonTaskResultEntity entity : entities) {
+                if (Objects.nonNull(entity.getChangeSqlScript())) {
+                    scriptWriter.write(entity.getChangeSqlScript());
+                }
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    private String putTotalChangeSqlScript(String changeSqlScript) {
-        try {
+    private String putTotalChangeSqlScript(File scriptFile) {
+        try (InputStream inputStream = new FileInputStream(scriptFile)) {
             String bucketName =
                     STRUCTURE_COMPARISON_BUCKET_NAME.concat(File.separator)
                             .concat(authenticationFacade.currentUserIdStr());
             objectStorageFacade.createBucketIfNotExists(bucketName);
-            InputStream inputStream = new ByteArrayInputStream(changeSqlScript.getBytes());
-            long totalSize = changeSqlScript.getBytes().length;
             ObjectMetadata metadata = objectStorageFacade.putObject(bucketName, STRUCTURE_COMPARISON_RESULT_FILE_NAME,
-                    totalSize, inputStream);
+                    scriptFile.length(), inputStream);
             return metadata.getObjectId();
         } catch (Exception e) {
             log.warn(
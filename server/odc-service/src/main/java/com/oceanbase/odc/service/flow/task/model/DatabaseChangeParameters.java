@@ -53,6 +53,11 @@ public class DatabaseChangeParameters implements Serializable, TaskParameters {
     private ScheduleType parentScheduleType;
     private Integer retryTimes = 0;
     private Long retryIntervalMillis = 180000L;
+    /**
+     * consecutive dml will be executed in jdbc batches of this size, disabled if null or not greater
+     * than 1
+     */
+    private Integer batchSize;
 
     public void setErrorStrategy(String errorStrategy) {
         this.errorStrategy = TaskErrorStrategy.valueOf(errorStrategy);
@@ -57,6 +57,43 @@ public enum DefaultMeterName implements MeterName {
     CONNECT_SESSION_DELETE_FAILED_COUNT("connect.session.delete.failed.count", "connect session get count"),
     CONNECT_SESSION_GET_FAILED_COUNT("connect.session.get.failed.count", "connect session get failed count"),
 
+    // console execution listener
+    CONSOLE_LISTENER_PENDING_TIMER_COUNT("console.listener.pending.timer.count",
+            "console execution listener pending timer count"),
+    CONSOLE_LISTENER_REJECTED_TIMER_COUNT("console.listener.rejected.timer.count",
+            "console execution listener rejected timer count"),
+    CONSOLE_LISTENER_FIRE_LATENCY_AVG("console.listener.fire.latency.avg",
+            "console execution listener average fire latency in millis"),
+    CONSOLE_LISTENER_ELAPSED_AVG("console.listener.elapsed.avg",
+            "console execution listener average elapsed time in millis"),
+
+    // console statement cache
+    CONSOLE_STATEMENT_CACHE_HIT_COUNT("console.statement.cache.hit.count", "console statement cache hit count"),
+    CONSOLE_STATEMENT_CACHE_MISS_COUNT("console.statement.cache.miss.count", "console statement cache miss count"),
+    CONSOLE_STATEMENT_CACHE_HIT_RATIO("console.statement.cache.hit.ratio", "console statement cache hit ratio"),
+
+    // sql parser cache
+    SQL_PARSER_CACHE_HIT_RATIO("sql.parser.cache.hit.ratio", "sql parser cache hit ratio"),
+    SQL_PARSER_CACHE_EVICTION_COUNT("sql.parser.cache.eviction.count", "sql parser cache eviction count"),
+    SQL_PARSER_CACHE_LOAD_TIME_AVG("sql.parser.cache.load.time.avg",
+            "sql parser cache average load time in millis"),
+    SQL_PARSER_CACHE_WEIGHTED_SIZE("sql.parser.cache.weighted.size",
+            "sql parser cache approximate memory in bytes"),
+
+    // sql parser dfa cache
+    SQL_PARSER_DFA_HIT_COUNT("sql.parser.dfa.hit.count", "sql parser dfa cache hit count"),
+    SQL_PARSER_DFA_MISS_COUNT("sql.parser.dfa.miss.count", "sql parser dfa cache miss count"),
+    SQL_PARSER_DFA_EVICTION_COUNT("sql.parser.dfa.eviction.count", "sql parser dfa cache eviction count"),
+    SQL_PARSER_DFA_STATE_COUNT("sql.parser.dfa.state.count", "sql parser dfa cache state count"),
+    SQL_PARSER_SLL_PARSE_COUNT("sql.parser.sll.parse.count", "sql parser sll stage success count"),
+    SQL_PARSER_LL_FALLBACK_COUNT("sql.parser.ll.fallback.count", "sql parser ll fallback count"),
+
+    // global search index
+    GLOBAL_SEARCH_INDEX_ENTRY_COUNT("global.search.index.entry.count", "global search index entry count"),
+    GLOBAL_SEARCH_INDEX_LOAD_COUNT("global.search.index.load.count", "global search index database load count"),
+    GLOBAL_SEARCH_INDEX_QUERY_LATENCY_AVG("global.search.index.query.latency.avg",
+            "global search index average query latency in millis"),
+
     // datasource
     DATASOURCE_GET_CONNECTION_FAILED_COUNT("datasource.get.connection.failed.count",
             "datasource get connection failed count"),
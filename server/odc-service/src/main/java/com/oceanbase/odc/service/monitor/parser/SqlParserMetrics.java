@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.monitor.parser;
+
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_CACHE_EVICTION_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_CACHE_HIT_RATIO;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_CACHE_LOAD_TIME_AVG;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_CACHE_WEIGHTED_SIZE;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_DFA_EVICTION_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_DFA_HIT_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_DFA_MISS_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_DFA_STATE_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_LL_FALLBACK_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.SQL_PARSER_SLL_PARSE_COUNT;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.oceanbase.odc.service.monitor.MeterKey;
+import com.oceanbase.odc.service.monitor.MeterManager;
+import com.oceanbase.tools.dbbrowser.parser.ParseCache;
+import com.oceanbase.tools.dbbrowser.parser.SqlParser;
+import com.oceanbase.tools.sqlparser.OBMySQLParser;
+import com.oceanbase.tools.sqlparser.OBOracleSQLParser;
+import com.oceanbase.tools.sqlparser.util.ParserDFACache;
+
+import io.micrometer.core.instrument.Tag;
+
+@Component
+@ConditionalOnProperty(value = "odc.system.monitor.actuator.enabled", havingValue = "true")
+public class SqlParserMetrics implements InitializingBean {
+
+    @Autowired
+    private MeterManager meterManager;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        init();
+    }
+
+    public void init() {
+        for (ParseCache<?> cache : SqlParser.getCaches()) {
+            Tag tag = Tag.of("cache", cache.getName());
+            meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_CACHE_HIT_RATIO, tag), cache::getHitRatio);
+            meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_CACHE_EVICTION_COUNT, tag),
+                    cache::getEvictionCount);
+            meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_CACHE_LOAD_TIME_AVG, tag),
+                    cache::getAverageLoadMillis);
+            meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_CACHE_WEIGHTED_SIZE, tag),
+                    cache::getWeightedSize);
+        }
+        registerDFACache("ob-mysql", OBMySQLParser.DFA_CACHE);
+        registerDFACache("ob-oracle", OBOracleSQLParser.DFA_CACHE);
+    }
+
+    private void registerDFACache(String grammar, ParserDFACache cache) {
+        Tag tag = Tag.of("grammar", grammar);
+        meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_DFA_HIT_COUNT, tag), cache::getHitCount);
+        meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_DFA_MISS_COUNT, tag), cache::getMissCount);
+        meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_DFA_EVICTION_COUNT, tag), cache::getEvictionCount);
+        meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_DFA_STATE_COUNT, tag), cache::getStateCount);
+        meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_SLL_PARSE_COUNT, tag), cache::getSllParseCount);
+        meterManager.registerGauge(MeterKey.ofMeter(SQL_PARSER_LL_FALLBACK_COUNT, tag), cache::getLlFallbackCount);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.monitor.schema;
+
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.GLOBAL_SEARCH_INDEX_ENTRY_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.GLOBAL_SEARCH_INDEX_LOAD_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.GLOBAL_SEARCH_INDEX_QUERY_LATENCY_AVG;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.oceanbase.odc.service.db.schema.DBSchemaSearchIndex;
+import com.oceanbase.odc.service.monitor.MeterKey;
+import com.oceanbase.odc.service.monitor.MeterManager;
+
+@Component
+@ConditionalOnProperty(value = "odc.system.monitor.actuator.enabled", havingValue = "true")
+public class GlobalSearchMetrics implements InitializingBean {
+
+    @Autowired
+    private MeterManager meterManager;
+
+    @Autowired
+    private DBSchemaSearchIndex dbSchemaSearchIndex;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        init();
+    }
+
+    public void init() {
+        meterManager.registerGauge(MeterKey.ofMeter(GLOBAL_SEARCH_INDEX_ENTRY_COUNT),
+                dbSchemaSearchIndex::getEntryCount);
+        meterManager.registerGauge(MeterKey.ofMeter(GLOBAL_SEARCH_INDEX_LOAD_COUNT),
+                dbSchemaSearchIndex::getLoadCount);
+        meterManager.registerGauge(MeterKey.ofMeter(GLOBAL_SEARCH_INDEX_QUERY_LATENCY_AVG),
+                dbSchemaSearchIndex::getAverageQueryMillis);
+    }
+}
@@ -16,6 +16,13 @@
 package com.oceanbase.odc.service.monitor.session;
 
 import static com.oceanbase.odc.service.monitor.DefaultMeterName.CONNECT_SESSION_ACTIVE_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.CONSOLE_LISTENER_ELAPSED_AVG;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.CONSOLE_LISTENER_FIRE_LATENCY_AVG;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.CONSOLE_LISTENER_PENDING_TIMER_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.CONSOLE_LISTENER_REJECTED_TIMER_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.CONSOLE_STATEMENT_CACHE_HIT_COUNT;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.CONSOLE_STATEMENT_CACHE_HIT_RATIO;
+import static com.oceanbase.odc.service.monitor.DefaultMeterName.CONSOLE_STATEMENT_CACHE_MISS_COUNT;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +32,8 @@ import org.springframework.stereotype.Component;
 import com.oceanbase.odc.service.monitor.MeterKey;
 import com.oceanbase.odc.service.monitor.MeterManager;
 import com.oceanbase.odc.service.session.ConnectSessionService;
+import com.oceanbase.odc.service.session.ConsoleStatementCache;
+import com.oceanbase.odc.service.session.SqlExecutionListenerTimer;
 
 @Component
 @ConditionalOnProperty(value = "odc.system.monitor.actuator.enabled", havingValue = "true")
@@ -45,5 +54,20 @@ public class SessionMetrics implements InitializingBean {
     public void init() {
         meterManager.registerGauge(MeterKey.ofMeter(CONNECT_SESSION_ACTIVE_COUNT),
                 connectSessionService::getActiveSession);
+        SqlExecutionListenerTimer timer = SqlExecutionListenerTimer.getInstance();
+        meterManager.registerGauge(MeterKey.ofMeter(CONSOLE_LISTENER_PENDING_TIMER_COUNT),
+                timer::getPendingTimerCount);
+        meterManager.registerGauge(MeterKey.ofMeter(CONSOLE_LISTENER_REJECTED_TIMER_COUNT),
+                timer::getRejectedCount);
+        meterManager.registerGauge(MeterKey.ofMeter(CONSOLE_LISTENER_FIRE_LATENCY_AVG),
+                timer::getAverageFireLatencyMillis);
+        meterManager.registerGauge(MeterKey.ofMeter(CONSOLE_LISTENER_ELAPSED_AVG),
+                timer::getAverageListenerElapsedMillis);
+        meterManager.registerGauge(MeterKey.ofMeter(CONSOLE_STATEMENT_CACHE_HIT_COUNT),
+                ConsoleStatementCache::getHitCount);
+        meterManager.registerGauge(MeterKey.ofMeter(CONSOLE_STATEMENT_CACHE_MISS_COUNT),
+                ConsoleStatementCache::getMissCount);
+        meterManager.registerGauge(MeterKey.ofMeter(CONSOLE_STATEMENT_CACHE_HIT_RATIO),
+                ConsoleStatementCache::getHitRatio);
     }
 }
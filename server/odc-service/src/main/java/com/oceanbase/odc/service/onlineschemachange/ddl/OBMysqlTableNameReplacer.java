@@ -32,7 +32,9 @@ import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.shared.PreConditions;
 import com.oceanbase.odc.core.shared.exception.UnsupportedException;
 import com.oceanbase.odc.service.onlineschemachange.model.OnlineSchemaChangeSqlType;
+import com.oceanbase.tools.dbbrowser.parser.SqlParser;
 import com.oceanbase.tools.sqlparser.FastFailErrorListener;
+import com.oceanbase.tools.sqlparser.OBMySQLParser;
 import com.oceanbase.tools.sqlparser.obmysql.OBLexer;
 import com.oceanbase.tools.sqlparser.obmysql.OBParser;
 import com.oceanbase.tools.sqlparser.obmysql.OBParser.Alter_table_stmtContext;
@@ -86,13 +88,18 @@ public class OBMysqlTableNameReplacer implements TableNameReplacer {
 
         CommonTokenStream tokens = new CommonTokenStream(lexer);
         OBParser parser = new OBParser(tokens);
-        parser.getInterpreter().clearDFA();
+        boolean twoStageParse = SqlParser.isTwoStageParse();
+        if (!twoStageParse) {
+            parser.getInterpreter().clearDFA();
+        }
         parser.removeErrorListeners();
         parser.addErrorListener(new FastFailErrorListener());
         parser.setTrace(false);
 
         TokenStreamRewriter tokenStreamRewriter = new TokenStreamRewriter(tokens);
-        new ParseTreeWalker().walk(obParserBaseListenerFunc.apply(tokenStreamRewriter), parser.sql_stmt());
+        ParseTree parseTree =
+                twoStageParse ? OBMySQLParser.DFA_CACHE.parse(parser, OBParser::sql_stmt) : parser.sql_stmt();
+        new ParseTreeWalker().walk(obParserBaseListenerFunc.apply(tokenStreamRewriter), parseTree);
         return tokenStreamRewriter.getText();
     }
 
@@ -33,7 +33,9 @@ import org.apache.commons.collections4.CollectionUtils;
 import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.shared.PreConditions;
 import com.oceanbase.odc.service.onlineschemachange.model.OnlineSchemaChangeSqlType;
+import com.oceanbase.tools.dbbrowser.parser.SqlParser;
 import com.oceanbase.tools.sqlparser.FastFailErrorListener;
+import com.oceanbase.tools.sqlparser.OBOracleSQLParser;
 import com.oceanbase.tools.sqlparser.oboracle.OBLexer;
 import com.oceanbase.tools.sqlparser.oboracle.OBParser;
 import com.oceanbase.tools.sqlparser.oboracle.OBParser.Alter_table_stmtContext;
@@ -108,13 +110,18 @@ public class OBOracleTableNameReplacer implements TableNameReplacer {
 
         CommonTokenStream tokens = new CommonTokenStream(lexer);
         OBParser parser = new OBParser(tokens);
-        parser.getInterpreter().clearDFA();
+        boolean twoStageParse = SqlParser.isTwoStageParse();
+        if (!twoStageParse) {
+            parser.getInterpreter().clearDFA();
+        }
         parser.removeErrorListeners();
         parser.addErrorListener(new FastFailErrorListener());
         parser.setTrace(false);
 
         TokenStreamRewriter tokenStreamRewriter = new TokenStreamRewriter(tokens);
-        new ParseTreeWalker().walk(obParserBaseListenerFunc.apply(tokenStreamRewriter), parser.sql_stmt());
+        ParseTree parseTree =
+                twoStageParse ? OBOracleSQLParser.DFA_CACHE.parse(parser, OBParser::sql_stmt) : parser.sql_stmt();
+        new ParseTreeWalker().walk(obParserBaseListenerFunc.apply(tokenStreamRewriter), parseTree);
         return tokenStreamRewriter.getText();
     }
 
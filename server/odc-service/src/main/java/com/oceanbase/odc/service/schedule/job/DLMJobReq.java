@@ -71,6 +71,8 @@ public class DLMJobReq {
 
     private int writeThreadCount;
 
+    private int tableConcurrency;
+
     private ShardingStrategy shardingStrategy;
 
     private Set<DBObjectType> syncTableStructure;
@@ -78,6 +78,7 @@ public class DataArchiveJob extends AbstractDlmJob {
             parameters.setNeedPrintSqlTrace(dataArchiveParameters.isNeedPrintSqlTrace());
             parameters.setWriteThreadCount(dataArchiveParameters.getWriteThreadCount());
             parameters.setReadThreadCount(dataArchiveParameters.getReadThreadCount());
+            parameters.setTableConcurrency(dataArchiveParameters.getTableConcurrency());
             parameters.setShardingStrategy(dataArchiveParameters.getShardingStrategy());
             parameters.setScanBatchSize(dataArchiveParameters.getScanBatchSize());
             parameters.getSourceDs().setQueryTimeout(dataArchiveParameters.getQueryTimeout());
@@ -65,6 +65,7 @@ public class DataDeleteJob extends AbstractDlmJob {
             parameters.setNeedPrintSqlTrace(dataDeleteParameters.isNeedPrintSqlTrace());
             parameters.setWriteThreadCount(dataDeleteParameters.getWriteThreadCount());
             parameters.setReadThreadCount(dataDeleteParameters.getReadThreadCount());
+            parameters.setTableConcurrency(dataDeleteParameters.getTableConcurrency());
             parameters.setScanBatchSize(dataDeleteParameters.getScanBatchSize());
             parameters.setSourceDs(getDataSourceInfo(dataDeleteParameters.getDatabaseId()));
             parameters.setTargetDs(getDataSourceInfo(dataDeleteParameters.getTargetDatabaseId() == null
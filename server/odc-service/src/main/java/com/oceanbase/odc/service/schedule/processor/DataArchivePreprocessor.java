@@ -91,6 +91,9 @@ public class DataArchivePreprocessor extends AbstractDlmPreprocessor {
                         / (1 + dlmConfiguration.getReadWriteRatio())));
         parameters
                 .setWriteThreadCount(dlmConfiguration.getSingleTaskThreadPoolSize() - parameters.getReadThreadCount());
+        if (parameters.getTableConcurrency() <= 0) {
+            parameters.setTableConcurrency(dlmConfiguration.getDefaultTableConcurrency());
+        }
         parameters.setScanBatchSize(dlmConfiguration.getDefaultScanBatchSize());
         parameters.setQueryTimeout(dlmConfiguration.getTaskConnectionQueryTimeout());
         if (parameters.getShardingStrategy() == null) {
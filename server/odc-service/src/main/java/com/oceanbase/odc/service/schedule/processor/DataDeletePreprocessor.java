@@ -93,6 +93,9 @@ public class DataDeletePreprocessor extends AbstractDlmPreprocessor {
                         / (1 + dlmConfiguration.getReadWriteRatio())));
         parameters
                 .setWriteThreadCount(dlmConfiguration.getSingleTaskThreadPoolSize() - parameters.getReadThreadCount());
+        if (parameters.getTableConcurrency() <= 0) {
+            parameters.setTableConcurrency(dlmConfiguration.getDefaultTableConcurrency());
+        }
         parameters.setScanBatchSize(dlmConfiguration.getDefaultScanBatchSize());
         parameters.setQueryTimeout(dlmConfiguration.getTaskConnectionQueryTimeout());
         if (parameters.getShardingStrategy() == null) {
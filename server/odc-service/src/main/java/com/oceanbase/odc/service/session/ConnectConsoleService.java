@@ -21,11 +21,20 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
@@ -35,15 +44,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oceanbase.odc.common.concurrent.ExecutorUtils;
 import com.oceanbase.odc.common.lang.Holder;
 import com.oceanbase.odc.common.unit.BinarySize;
 import com.oceanbase.odc.common.unit.BinarySizeUnit;
 import com.oceanbase.odc.common.util.ExceptionUtils;
 import com.oceanbase.odc.common.util.LogUtils;
 import com.oceanbase.odc.common.util.StringUtils;
+import com.oceanbase.odc.common.util.SystemUtils;
 import com.oceanbase.odc.common.util.TraceStage;
 import com.oceanbase.odc.common.util.TraceWatch;
 import com.oceanbase.odc.common.util.VersionUtils;
@@ -61,10 +75,12 @@ import com.oceanbase.odc.core.shared.exception.AccessDeniedException;
 import com.oceanbase.odc.core.shared.exception.BadRequestException;
 import com.oceanbase.odc.core.shared.exception.InternalServerError;
 import com.oceanbase.odc.core.shared.exception.NotFoundException;
+import com.oceanbase.odc.core.shared.exception.OverLimitException;
 import com.oceanbase.odc.core.shared.exception.RequestTimeoutException;
 import com.oceanbase.odc.core.sql.execute.FutureResult;
 import com.oceanbase.odc.core.sql.execute.SqlExecuteStages;
 import com.oceanbase.odc.core.sql.execute.cache.BinaryDataManager;
+import com.oceanbase.odc.core.sql.execute.cache.ResultSetCacheQuota;
 import com.oceanbase.odc.core.sql.execute.cache.model.BinaryContentMetaData;
 import com.oceanbase.odc.core.sql.execute.cache.table.ResultSetVirtualTable;
 import com.oceanbase.odc.core.sql.execute.cache.table.VirtualElement;
@@ -75,7 +91,9 @@ import com.oceanbase.odc.core.sql.parser.AbstractSyntaxTree;
 import com.oceanbase.odc.core.sql.parser.AbstractSyntaxTreeFactories;
 import com.oceanbase.odc.core.sql.parser.EmptyAstFactory;
 import com.oceanbase.odc.core.sql.split.OffsetString;
+import com.oceanbase.odc.service.audit.SqlExecuteAuditEventRecorder;
 import com.oceanbase.odc.service.common.util.SqlUtils;
+import com.oceanbase.odc.service.common.util.WebRequestUtils;
 import com.oceanbase.odc.service.common.util.WebResponseUtils;
 import com.oceanbase.odc.service.config.OrganizationConfigUtils;
 import com.oceanbase.odc.service.config.UserConfigFacade;
@@ -103,6 +121,7 @@ import com.oceanbase.odc.service.session.model.QueryTableOrViewDataReq;
 import com.oceanbase.odc.service.session.model.SqlAsyncExecuteReq;
 import com.oceanbase.odc.service.session.model.SqlAsyncExecuteResp;
 import com.oceanbase.odc.service.session.model.SqlExecuteResult;
+import com.oceanbase.odc.service.session.model.SqlExecuteResultRows;
 import com.oceanbase.odc.service.session.util.SqlRewriteUtil;
 import com.oceanbase.tools.dbbrowser.parser.result.BasicResult;
 import com.oceanbase.tools.dbbrowser.parser.result.ParseSqlResult;
@@ -129,6 +148,9 @@ public class ConnectConsoleService {
 
     public static final int DEFAULT_GET_RESULT_TIMEOUT_SECONDS = 1;
     public static final String SHOW_TABLE_COLUMN_INFO = "SHOW_TABLE_COLUMN_INFO";
+    public static final String RESULT_EVENT_NAME = "result";
+    public static final String ROWS_EVENT_NAME = "rows";
+    public static final String FINISHED_EVENT_NAME = "finished";
 
     @Autowired
     private ConnectSessionService sessionService;
@@ -152,6 +174,24 @@ public class ConnectConsoleService {
     private VersionDiffConfigService versionDiffConfigService;
     @Autowired
     private OrganizationConfigUtils organizationConfigUtils;
+    @Autowired(required = false)
+    private SqlExecuteAuditEventRecorder sqlExecuteAuditEventRecorder;
+    private ThreadPoolExecutor resultPushExecutor;
+
+    @PostConstruct
+    public void init() {
+        int maxChannelCount = sessionProperties.getResultPushMaxChannelCount() > 0
+                ? sessionProperties.getResultPushMaxChannelCount()
+                : 4 * SystemUtils.availableProcessors();
+        this.resultPushExecutor = new ThreadPoolExecutor(0, maxChannelCount, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new ThreadFactoryBuilder()
+                        .setNameFormat("console-result-push-%d").setDaemon(true).build());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        ExecutorUtils.gracefulShutdown(resultPushExecutor, "consoleResultPushExecutor", 5);
+    }
 
     public SqlExecuteResult queryTableOrViewData(@NotNull String sessionId,
             @NotNull @Valid QueryTableOrViewDataReq req) throws Exception {
@@ -320,6 +360,10 @@ public class ConnectConsoleService {
         statementCallBack.setFullLinkTraceTimeout(sessionProperties.getFullLinkTraceTimeoutSeconds());
         statementCallBack.setMaxCachedSize(sessionProperties.getResultSetMaxCachedSize());
         statementCallBack.setMaxCachedLines(sessionProperties.getResultSetMaxCachedLines());
+        statementCallBack.setSessionMaxCachedSize(sessionProperties.getResultSetSessionMaxCachedSize());
+        statementCallBack.setFetchSize(sessionProperties.getFetchSize());
+        statementCallBack.setNetworkStatisticsEnabled(sessionProperties.isNetworkStatisticsEnabled());
+        statementCallBack.setStatementCacheSize(sessionProperties.getStatementCacheSize());
         statementCallBack.setLocale(LocaleContextHolder.getLocale());
         if (connectionSession.getDialectType().isOceanbase() && sqlTuples.size() <= 10) {
             statementCallBack.getListeners()
@@ -349,15 +393,7 @@ public class ConnectConsoleService {
         try {
             List<JdbcGeneralResult> resultList =
                     context.getMoreSqlExecutionResults(gettingResultTimeoutSeconds * 1000L);
-            List<SqlExecuteResult> results = resultList.stream().map(jdbcGeneralResult -> {
-                SqlExecuteResult result = generateResult(connectionSession, jdbcGeneralResult, context.getContextMap());
-                try (TraceStage stage = result.getSqlTuple().getSqlWatch().start(SqlExecuteStages.SQL_AFTER_CHECK)) {
-                    sqlInterceptService.afterCompletion(result, connectionSession, context);
-                } catch (Exception e) {
-                    throw new IllegalStateException(e);
-                }
-                return result;
-            }).collect(Collectors.toList());
+            List<SqlExecuteResult> results = generateResults(connectionSession, context, resultList);
             return new AsyncExecuteResultResp(shouldRemoveContext, context, results);
         } catch (Exception e) {
             shouldRemoveContext = true;
@@ -376,6 +412,44 @@ public class ConnectConsoleService {
         }
     }
 
+    /**
+     * Push the results of an async execution to the client as server-sent events instead of polling
+     * {@link #getMoreResults(String, String)}. Each {@link SqlExecuteResult} is pushed as a
+     * {@link #RESULT_EVENT_NAME} event as soon as it is available, its rows are detached and pushed in
+     * order as {@link #ROWS_EVENT_NAME} events, a {@link #FINISHED_EVENT_NAME} event is pushed at last.
+     * The rows are sliced after the result set has been read into memory, they are not streamed while
+     * reading. Each channel holds a thread of the push pool until it is closed.
+     */
+    public SseEmitter pushResults(@NotNull String sessionId, @NotNull String requestId) {
+        ConnectionSession connectionSession = sessionService.nullSafeGet(sessionId);
+        AsyncExecuteContext context =
+                (AsyncExecuteContext) ConnectionSessionUtil.getExecuteContext(connectionSession, requestId);
+        PreConditions.notNull(context, "AsyncExecuteContext");
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(sessionProperties.getTimeoutMins()));
+        AtomicBoolean closed = new AtomicBoolean(false);
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+        Locale locale = LocaleContextHolder.getLocale();
+        // the request stays valid until the emitter completes, results are pushed out of the request thread
+        HttpServletRequest servletRequest = WebRequestUtils.getCurrentRequest();
+        try {
+            resultPushExecutor.execute(new DelegatingSecurityContextRunnable(() -> {
+                LocaleContextHolder.setLocale(locale);
+                try {
+                    doPushResults(sessionId, requestId, connectionSession, context, emitter, closed,
+                            servletRequest);
+                } finally {
+                    LocaleContextHolder.resetLocaleContext();
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            throw new OverLimitException(LimitMetric.RESULT_PUSH_CHANNEL_COUNT,
+                    (double) resultPushExecutor.getMaximumPoolSize(), "Too many result push channels");
+        }
+        return emitter;
+    }
+
     public BinaryContent getBinaryContent(@NotNull String sessionId, @NotNull String sqlId,
             @NotNull Long rowNum, @NotNull Integer colNum, @NotNull Long skip,
             @NotNull Integer len, @NotNull ValueEncodeType format) throws IOException {
@@ -422,7 +496,9 @@ public class ConnectConsoleService {
         ConnectionSession connectionSession = sessionService.nullSafeGet(sessionId);
         VirtualTable virtualTable = ConnectionSessionUtil.getQueryCache(connectionSession, sqlId);
         if (virtualTable == null) {
-            log.warn("VirtualTable is not found, sqlId={}, session={}", sqlId, connectionSession);
+            ResultSetCacheQuota quota = ConnectionSessionUtil.getResultSetCacheQuota(connectionSession);
+            log.warn("VirtualTable is not found, sqlId={}, session={}, sessionCachedSize={}", sqlId,
+                    connectionSession, quota == null ? null : BinarySizeUnit.B.of(quota.getTotalCachedSize()));
             throw new NotFoundException(ResourceType.ODC_ASYNC_SQL_RESULT, "SqlId", sqlId);
         }
         if (virtualTable instanceof ResultSetVirtualTable) {
@@ -547,6 +623,71 @@ public class ConnectConsoleService {
         return false;
     }
 
+    private void recordAuditEvents(List<SqlExecuteResult> results, HttpServletRequest servletRequest) {
+        if (sqlExecuteAuditEventRecorder == null || servletRequest == null) {
+            return;
+        }
+        try {
+            sqlExecuteAuditEventRecorder.record(results, servletRequest);
+        } catch (Exception e) {
+            log.warn("Failed to update audit events of pushed results, reason={}", ExceptionUtils.getSimpleReason(e));
+        }
+    }
+
+    private void doPushResults(String sessionId, String requestId, ConnectionSession connectionSession,
+            AsyncExecuteContext context, SseEmitter emitter, AtomicBoolean closed, HttpServletRequest servletRequest) {
+        int rowChunkSize = sessionProperties.getResultPushRowChunkSize();
+        try {
+            boolean finished;
+            do {
+                finished = context.isFinished();
+                List<JdbcGeneralResult> resultList =
+                        context.getMoreSqlExecutionResults(DEFAULT_GET_RESULT_TIMEOUT_SECONDS * 1000L);
+                List<SqlExecuteResult> results = generateResults(connectionSession, context, resultList);
+                recordAuditEvents(results, servletRequest);
+                for (SqlExecuteResult result : results) {
+                    List<SqlExecuteResultRows> chunks = SqlExecuteResultRows.detachRows(result, rowChunkSize);
+                    emitter.send(SseEmitter.event().name(RESULT_EVENT_NAME)
+                            .data(new AsyncExecuteResultResp(false, context, Collections.singletonList(result))));
+                    for (SqlExecuteResultRows chunk : chunks) {
+                        emitter.send(SseEmitter.event().name(ROWS_EVENT_NAME).data(chunk));
+                    }
+                }
+                if (closed.get()) {
+                    throw new IllegalStateException("Result push channel is closed");
+                }
+            } while (!finished);
+            emitter.send(SseEmitter.event().name(FINISHED_EVENT_NAME)
+                    .data(new AsyncExecuteResultResp(true, context, Collections.emptyList())));
+            emitter.complete();
+        } catch (Exception e) {
+            log.warn("Failed to push results, sessionId={}, requestId={}, reason={}", sessionId, requestId,
+                    ExceptionUtils.getSimpleReason(e));
+            // the client will not receive the left results, the left queries should be killed.
+            try {
+                killCurrentQuery(sessionId);
+            } catch (Exception ex) {
+                log.warn("Failed to kill query. Session id={}. Request id={}", sessionId, requestId);
+            }
+            emitter.completeWithError(e);
+        } finally {
+            ConnectionSessionUtil.removeExecuteContext(connectionSession, requestId);
+        }
+    }
+
+    private List<SqlExecuteResult> generateResults(ConnectionSession connectionSession,
+            AsyncExecuteContext context, List<JdbcGeneralResult> resultList) {
+        return resultList.stream().map(jdbcGeneralResult -> {
+            SqlExecuteResult result = generateResult(connectionSession, jdbcGeneralResult, context.getContextMap());
+            try (TraceStage stage = result.getSqlTuple().getSqlWatch().start(SqlExecuteStages.SQL_AFTER_CHECK)) {
+                sqlInterceptService.afterCompletion(result, connectionSession, context);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return result;
+        }).collect(Collectors.toList());
+    }
+
     private SqlExecuteResult generateResult(@NonNull ConnectionSession connectionSession,
             @NonNull JdbcGeneralResult generalResult, @NonNull Map<String, Object> cxt) {
         SqlExecuteResult result = new SqlExecuteResult(generalResult);
@@ -103,6 +103,7 @@ import com.oceanbase.odc.service.session.factory.DefaultConnectSessionIdGenerato
 import com.oceanbase.odc.service.session.factory.LogicalConnectionSessionFactory;
 import com.oceanbase.odc.service.session.factory.StateHostGenerator;
 import com.oceanbase.tools.dbbrowser.model.DBSession;
+import com.oceanbase.tools.dbbrowser.parser.SqlParser;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -181,6 +182,8 @@ public class ConnectSessionService {
         this.connectionSessionManager.enableAsyncRefreshSessionManager();
         this.connectionSessionManager.addSessionValidator(
                 new SessionValidatorPredicate(sessionProperties.getTimeoutMins(), TimeUnit.MINUTES));
+        SqlParser.setCacheMaximumBytes(sessionProperties.getSqlParserCacheMaxBytes());
+        SqlParser.setTwoStageParse(sessionProperties.isSqlParserTwoStageParse());
         log.info("Initialization of the connection session module is complete");
     }
 
@@ -317,6 +320,8 @@ public class ConnectSessionService {
                 connection, getAutoCommit(connection), factory);
         sessionFactory.setIdGenerator(getIdGenerator(req));
         sessionFactory.setSessionTimeoutMillis(getDefaultSessionTimeoutMillis());
+        sessionFactory.setShareBackendDataSource(sessionProperties.isBackendDataSourceShared());
+        sessionFactory.setMemoryMappedBinaryData(sessionProperties.isBinaryDataMemoryMapped());
         return startConnectionSession(sessionFactory, connection.getDialectType(), connection.getEnvironmentId());
     }
 
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.Validate;
+
+import com.oceanbase.jdbc.OceanBaseConnection;
+import com.oceanbase.odc.core.session.ConnectionSession;
+import com.oceanbase.odc.core.shared.constant.DialectType;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ConsoleStatementCache}
+ *
+ * Cache of the server-side {@link PreparedStatement}s of a console session, keyed by the sql text.
+ * The statements are prepared by {@link OceanBaseConnection#serverPrepareStatement(String)} no
+ * matter whether {@code useServerPrepStmts} is set, so that the queries which are executed again
+ * and again (eg. saved scripts of a dashboard) are parsed and planned by the server only once. The
+ * least recently used statement is closed once the cache is full.
+ *
+ * @author agent
+ * @see OdcStatementCallBack
+ */
+@Slf4j
+public class ConsoleStatementCache implements AutoCloseable {
+
+    public static final String CONSOLE_STATEMENT_CACHE_KEY = "CONSOLE_STATEMENT_CACHE";
+    /**
+     * only queries are cached, other statements may change the state of a session
+     */
+    private static final Pattern QUERY_PATTERN = Pattern.compile("^\\s*(select|with)\\s",
+            Pattern.CASE_INSENSITIVE);
+    private static final AtomicLong HIT_COUNT = new AtomicLong();
+    private static final AtomicLong MISS_COUNT = new AtomicLong();
+    private final Map<String, PreparedStatement> sql2Statement;
+
+    public ConsoleStatementCache(int maxSize) {
+        Validate.isTrue(maxSize > 0, "MaxSize has to be greater than zero");
+        this.sql2Statement = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    public static synchronized ConsoleStatementCache getOrCreate(@NonNull ConnectionSession session, int maxSize) {
+        Object value = session.getAttribute(CONSOLE_STATEMENT_CACHE_KEY);
+        if (value instanceof ConsoleStatementCache) {
+            return (ConsoleStatementCache) value;
+        }
+        ConsoleStatementCache cache = new ConsoleStatementCache(maxSize);
+        session.setAttribute(CONSOLE_STATEMENT_CACHE_KEY, cache);
+        return cache;
+    }
+
+    /**
+     * A sql is cacheable if it is a query without parameter markers and without an {@code INTO} clause,
+     * a bare {@code ?} can not be executed without parameters, a {@code SELECT ... INTO} changes the
+     * variables of the session
+     */
+    public static boolean isCacheable(@NonNull String sql, @NonNull DialectType dialectType) {
+        if (!QUERY_PATTERN.matcher(sql).find()) {
+            return false;
+        }
+        boolean mysql = dialectType.isMysql();
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (!mysql && (c == 'q' || c == 'Q') && i + 2 < length && sql.charAt(i + 1) == '\''
+                    && (i == 0 || !isIdentifierPart(sql.charAt(i - 1), false))) {
+                // oracle quoted literal, eg. q'[it's]'
+                char close = getClosingQuoteDelimiter(sql.charAt(i + 2));
+                int end = sql.indexOf(close + "'", i + 3);
+                i = end < 0 ? length : end + 2;
+            } else if (c == '\'' || c == '"' || c == '`') {
+                i = skipQuoted(sql, i, c, mysql);
+            } else if (isLineCommentStart(sql, i, mysql)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (c == '?') {
+                return false;
+            } else if (isIdentifierPart(c, mysql)) {
+                int start = i;
+                while (i < length && isIdentifierPart(sql.charAt(i), mysql)) {
+                    i++;
+                }
+                if (i - start == 4 && sql.regionMatches(true, start, "into", 0, 4)) {
+                    return false;
+                }
+            } else {
+                i++;
+            }
+        }
+        return true;
+    }
+
+    private static int skipQuoted(String sql, int start, char quote, boolean backslashEscaped) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\' && backslashEscaped && quote != '`') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    private static char getClosingQuoteDelimiter(char open) {
+        switch (open) {
+            case '[':
+                return ']';
+            case '{':
+                return '}';
+            case '(':
+                return ')';
+            case '<':
+                return '>';
+            default:
+                return open;
+        }
+    }
+
+    private static boolean isLineCommentStart(String sql, int i, boolean mysql) {
+        char c = sql.charAt(i);
+        if (!mysql) {
+            return c == '-' && i + 1 < sql.length() && sql.charAt(i + 1) == '-';
+        } else if (c == '#') {
+            return true;
+        }
+        // "--" of mysql has to be followed by a whitespace
+        return c == '-' && i + 1 < sql.length() && sql.charAt(i + 1) == '-'
+                && (i + 2 == sql.length() || Character.isWhitespace(sql.charAt(i + 2)));
+    }
+
+    /**
+     * {@code #} is a part of an identifier of oracle, it starts a comment of mysql
+     */
+    private static boolean isIdentifierPart(char c, boolean mysql) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || (!mysql && c == '#');
+    }
+
+    public static long getHitCount() {
+        return HIT_COUNT.get();
+    }
+
+    public static long getMissCount() {
+        return MISS_COUNT.get();
+    }
+
+    public static double getHitRatio() {
+        long hit = HIT_COUNT.get();
+        long total = hit + MISS_COUNT.get();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * Get a server-side prepared statement of the sql, the statement will be prepared and cached if
+     * absent or it was prepared by another connection (eg. the session reconnected)
+     */
+    public synchronized PreparedStatement getStatement(@NonNull OceanBaseConnection connection,
+            @NonNull String sql) throws SQLException {
+        PreparedStatement statement = this.sql2Statement.get(sql);
+        if (statement != null) {
+            if (!statement.isClosed() && statement.getConnection() == connection) {
+                HIT_COUNT.incrementAndGet();
+                return statement;
+            }
+            this.sql2Statement.remove(sql);
+            closeQuietly(statement);
+        }
+        MISS_COUNT.incrementAndGet();
+        statement = connection.serverPrepareStatement(sql);
+        this.sql2Statement.put(sql, statement);
+        return statement;
+    }
+
+    public synchronized void invalidate(@NonNull String sql) {
+        PreparedStatement statement = this.sql2Statement.remove(sql);
+        if (statement != null) {
+            closeQuietly(statement);
+        }
+    }
+
+    public synchronized int size() {
+        return this.sql2Statement.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        List<PreparedStatement> statements = new ArrayList<>(this.sql2Statement.values());
+        this.sql2Statement.clear();
+        statements.forEach(this::closeQuietly);
+    }
+
+    private void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (Exception e) {
+            log.warn("Failed to close cached statement, reason={}", e.getMessage());
+        }
+    }
+
+}
@@ -30,16 +30,12 @@ import java.sql.SQLTransientConnectionException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
 import java.util.regex.Matcher;
@@ -83,6 +79,7 @@ import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
 import com.oceanbase.odc.core.sql.util.FullLinkTraceUtil;
 import com.oceanbase.odc.core.sql.util.OBUtils;
 import com.oceanbase.odc.service.plugin.ConnectionPluginUtil;
+import com.oceanbase.odc.service.session.SqlExecutionListenerTimer.Timeout;
 import com.oceanbase.odc.service.session.model.AsyncExecuteContext;
 
 import lombok.Getter;
@@ -123,7 +120,6 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
     private final ConnectionSession connectionSession;
     private final AsyncExecuteContext context;
     private final List<SqlExecutionListener> listeners = new ArrayList<>();
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
     @Setter
     private boolean useFullLinkTrace = false;
     @Setter
@@ -134,10 +130,34 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
     private BiPredicate<Integer, ResultSetMetaData> cachePredicate = new CacheColumnPredicate();
     @Setter
     private long maxCachedSize = 1024 * 1024 * 1024; // 1 GB
+    /**
+     * max cached size of all the result sets in the session, negative means unlimited
+     */
+    @Setter
+    private long sessionMaxCachedSize = -1;
     @Setter
     private Integer dbmsoutputMaxRows = null;
     @Setter
     private Locale locale;
+    /**
+     * Number of rows fetched in one round trip, rows are streamed into the result cache instead of
+     * being buffered by the driver. {@code null} or non-positive means the driver buffers the whole
+     * result set
+     */
+    @Setter
+    private Integer fetchSize;
+    /**
+     * Whether to collect the network statistics of oceanbase-client for each statement, the network
+     * consumption of a statement will not be traced if disabled
+     */
+    @Setter
+    private boolean networkStatisticsEnabled = true;
+    /**
+     * Max number of the prepared statements cached by a session, non-positive means queries are not
+     * cached
+     */
+    @Setter
+    private int statementCacheSize = 0;
 
     public OdcStatementCallBack(@NonNull List<SqlTuple> sqls, @NonNull ConnectionSession connectionSession,
             Boolean autoCommit, Integer queryLimit) {
@@ -190,21 +210,17 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
             if (this.autoCommit ^ currentAutoCommit) {
                 statement.getConnection().setAutoCommit(this.autoCommit);
             }
-            Future<Void> handle = null;
+            List<Timeout> timeouts = Collections.emptyList();
             for (SqlTuple sqlTuple : this.sqls) {
-                if (handle != null) {
+                awaitTimeouts(timeouts);
+                onExecutionStart(sqlTuple);
+                if (this.networkStatisticsEnabled) {
                     try {
-                        handle.get();
+                        applyConnectionSettings(statement);
                     } catch (Exception e) {
-                        // eat exception
+                        log.warn("Init driver statistic collect failed, reason={}", e.getMessage());
                     }
                 }
-                onExecutionStart(sqlTuple);
-                try {
-                    applyConnectionSettings(statement);
-                } catch (Exception e) {
-                    log.warn("Init driver statistic collect failed, reason={}", e.getMessage());
-                }
                 List<JdbcGeneralResult> executeResults;
                 if (returnVal.stream().noneMatch(r -> r.getStatus() == SqlExecuteStatus.FAILED) || !stopWhenError) {
                     if (Thread.currentThread().isInterrupted()
@@ -213,8 +229,9 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
                         onExecutionCancelled(sqlTuple, executeResults);
                     } else {
                         CountDownLatch latch = new CountDownLatch(1);
-                        handle = executor.submit(() -> onExecutionStartAfterMillis(sqlTuple, latch));
+                        timeouts = onExecutionStartAfterMillis(sqlTuple, latch);
                         executeResults = doExecuteSql(statement, sqlTuple, latch);
+                        timeouts.forEach(Timeout::cancel);
                         onExecutionEnd(sqlTuple, executeResults);
                     }
                 } else {
@@ -244,7 +261,6 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
                     log.info("Clear dbms_output cache, dbmsInfo={}", dbmsInfo);
                 }
             }
-            executor.shutdownNow();
         }
         return returnVal;
     }
@@ -270,39 +286,69 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
             // statement.setFetchSize((int) this.queryLimit.longValue());
             statement.setMaxRows((int) this.queryLimit.longValue());
         }
+        if (this.fetchSize != null && this.fetchSize > 0) {
+            statement.setFetchSize(getStreamingFetchSize());
+        }
     }
 
-    private List<JdbcGeneralResult> consumeStatement(Statement statement, SqlTuple sqlTuple, boolean isResultSet)
-            throws SQLException, IOException {
+    /**
+     * The fetch size is bounded by {@link #fetchSize} instead of {@link #queryLimit}, so that the
+     * driver never allocates a buffer as large as the query limit. No server-side cursor is opened:
+     *
+     * <pre>
+     *     1. mysql connector/j streams the rows one by one only when the fetch size is {@link Integer#MIN_VALUE}
+     *     2. oceanbase-client streams the rows in batches of the fetch size
+     *     3. oracle driver fetches the rows in batches of the fetch size
+     * </pre>
+     */
+    private int getStreamingFetchSize() {
+        if (this.dialectType == DialectType.MYSQL || this.dialectType == DialectType.DORIS) {
+            return Integer.MIN_VALUE;
+        }
+        if (this.queryLimit == null) {
+            return this.fetchSize;
+        }
+        return Math.min(this.fetchSize, this.queryLimit);
+    }
+
+    /**
+     * @param statement statement of the session, used to query the trace and dbms output
+     * @param executedStatement statement which executed the sql, may be a cached prepared statement
+     */
+    private List<JdbcGeneralResult> consumeStatement(Statement statement, Statement executedStatement,
+            SqlTuple sqlTuple, boolean isResultSet) throws SQLException, IOException {
         boolean existWarnings = false;
         List<JdbcGeneralResult> executeResults = new ArrayList<>();
-        if (connectionSession.getDialectType() == DialectType.OB_ORACLE && Objects.nonNull(statement.getWarnings())) {
+        if (connectionSession.getDialectType() == DialectType.OB_ORACLE
+                && Objects.nonNull(executedStatement.getWarnings())) {
             existWarnings = true;
         }
         TraceWatch traceWatch = sqlTuple.getSqlWatch();
         if (isResultSet) {
             StopWatch stopWatch = StopWatch.createStarted();
             do {
-                try (ResultSet resultSet = statement.getResultSet()) {
+                try (ResultSet resultSet = executedStatement.getResultSet()) {
                     JdbcQueryResult jdbcQueryResult = new JdbcQueryResult(resultSet.getMetaData(), rowDataMapper);
                     SqlTuple copiedTuple = sqlTuple.softCopy();
                     JdbcGeneralResult executeResult = JdbcGeneralResult.successResult(copiedTuple);
                     executeResult.setExistWarnings(existWarnings);
                     executeResult.setQueryResult(jdbcQueryResult);
                     ResultSetVirtualTable virtualTable = new ResultSetVirtualTable(copiedTuple.getSqlId(),
-                            maxCachedLines, maxCachedSize, cachePredicate);
+                            maxCachedLines, maxCachedSize, cachePredicate, ConnectionSessionUtil
+                                    .getOrCreateResultSetCacheQuota(connectionSession, sessionMaxCachedSize));
+                    ResultSetCachedElementFactory elementFactory =
+                            new ResultSetCachedElementFactory(resultSet, binaryDataManager);
                     long line = 0;
                     while (resultSet.next()) {
                         jdbcQueryResult.addLine(resultSet);
-                        virtualTable.addLine((line++), resultSet,
-                                new ResultSetCachedElementFactory(resultSet, binaryDataManager));
+                        virtualTable.addLine((line++), resultSet, elementFactory);
                     }
                     if (virtualTable.count() != 0) {
                         ConnectionSessionUtil.setQueryCache(connectionSession, virtualTable);
                     }
                     executeResults.add(executeResult);
                 }
-            } while (statement.getMoreResults());
+            } while (executedStatement.getMoreResults());
             stopWatch.stop();
             SqlExecTime execDetails = getTraceIdAndAndSetStage(statement, traceWatch);
             try (EditableTraceStage getResultSet = traceWatch.startEditableStage(SqlExecuteStages.GET_RESULT_SET)) {
@@ -319,7 +365,7 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
             // TODO: due to client will return -1 when call procedure
             JdbcGeneralResult executeResult = JdbcGeneralResult.successResult(sqlTuple);
             executeResult.setExistWarnings(existWarnings);
-            executeResult.setAffectRows(Math.max(statement.getUpdateCount(), 0));
+            executeResult.setAffectRows(Math.max(executedStatement.getUpdateCount(), 0));
             SqlExecTime execDetails = getTraceIdAndAndSetStage(statement, traceWatch);
             if (execDetails != null) {
                 executeResult.setTraceId(execDetails.getTraceId());
@@ -341,16 +387,21 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
         try {
             String sql = sqlTuple.getExecutedSql();
             if (!ifFunctionCallExists(sql)) {
-                // use text protocal
+                // use text protocal, queries may be executed by the cached server-side prepared statements
                 try (TraceStage stage = sqlTuple.getSqlWatch().start(SqlExecuteStages.EXECUTE)) {
+                    PreparedStatement cachedStatement = getCachedStatement(statement, sql);
                     boolean isResultSet;
                     try {
-                        isResultSet = statement.execute(sql);
+                        isResultSet = cachedStatement == null ? statement.execute(sql) : cachedStatement.execute();
                     } catch (Exception e) {
+                        if (cachedStatement != null) {
+                            ConsoleStatementCache.getOrCreate(connectionSession, statementCacheSize).invalidate(sql);
+                        }
                         return handleException(e, statement, sqlTuple);
                     }
                     latch.countDown();
-                    return consumeStatement(statement, sqlTuple, isResultSet);
+                    return consumeStatement(statement, cachedStatement == null ? statement : cachedStatement,
+                            sqlTuple, isResultSet);
                 }
             }
             // use ps protocal
@@ -386,7 +437,7 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
                     return handleException(e, statement, sqlTuple);
                 }
                 latch.countDown();
-                return consumeStatement(statement, sqlTuple, isResultSet);
+                return consumeStatement(statement, statement, sqlTuple, isResultSet);
             }
         } catch (Exception e) {
             return Collections.singletonList(JdbcGeneralResult.failedResult(sqlTuple, e));
@@ -395,6 +446,34 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
         }
     }
 
+    /**
+     * Queries of oceanbase are executed by the prepared statements cached in the session, so that the
+     * server-side prepared statements can be reused when the same query is executed again
+     *
+     * @return {@code null} if the sql is not cacheable, text protocol should be used
+     */
+    private PreparedStatement getCachedStatement(Statement statement, String sql) throws SQLException {
+        if (this.statementCacheSize <= 0 || !this.dialectType.isOceanbase()
+                || !(statement.getConnection() instanceof OceanBaseConnection)
+                || !ConsoleStatementCache.isCacheable(sql, this.dialectType)) {
+            return null;
+        }
+        ConsoleStatementCache cache = ConsoleStatementCache.getOrCreate(this.connectionSession,
+                this.statementCacheSize);
+        try {
+            PreparedStatement preparedStatement =
+                    cache.getStatement((OceanBaseConnection) statement.getConnection(), sql);
+            // settings of a cached statement may be left by the last execution
+            preparedStatement.setMaxRows(this.queryLimit == null ? 0 : this.queryLimit);
+            preparedStatement.setFetchSize(this.fetchSize != null && this.fetchSize > 0 ? getStreamingFetchSize() : 0);
+            return preparedStatement;
+        } catch (Exception e) {
+            log.warn("Failed to get cached statement, text protocol is used, reason={}", e.getMessage());
+            cache.invalidate(sql);
+            return null;
+        }
+    }
+
     protected List<JdbcGeneralResult> handleException(Exception exception, Statement statement, SqlTuple sqlTuple) {
         if (exception instanceof SQLTransientConnectionException
                 && ((SQLTransientConnectionException) exception).getErrorCode() == 1094) {
@@ -436,7 +515,7 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
         return definitions;
     }
 
-    private boolean ifFunctionCallExists(String sql) {
+    public static boolean ifFunctionCallExists(String sql) {
         Matcher matcher = OBJECT_VALUE_PATTERN.matcher(sql);
         return matcher.find();
     }
@@ -475,6 +554,11 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
                         useFullLinkTrace ? ErrorCodes.ObFullLinkTraceNotSupported.getLocalizedMessage(null)
                                 : ErrorCodes.ObFullLinkTraceNotEnabled.getLocalizedMessage(null));
             }
+            if (!this.networkStatisticsEnabled) {
+                // statistics of the driver are not collected, timestamps are not reliable
+                executeDetails.setLastPacketSendTimestamp(null);
+                executeDetails.setLastPacketResponseTimestamp(null);
+            }
             cacheTraceSpan(executeDetails.getTraceSpan());
             setExecuteTraceStage(traceWatch, executeDetails, stopWatch);
             return executeDetails;
@@ -609,30 +693,30 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
         });
     }
 
-    private Void onExecutionStartAfterMillis(SqlTuple sqlTuple, CountDownLatch latch) {
-        long startTs = System.currentTimeMillis();
-        List<SqlExecutionListener> sortedListeners = listeners.stream()
-                .filter(listener -> listener.getOnExecutionStartAfterMillis() != null
-                        && listener.getOnExecutionStartAfterMillis() > 0)
-                .sorted(Comparator
-                        .comparingLong(SqlExecutionListener::getOnExecutionStartAfterMillis))
-                .collect(Collectors.toList());
-        for (SqlExecutionListener listener : sortedListeners) {
-            long waitTs = System.currentTimeMillis() - startTs;
-            Long expectedTs = listener.getOnExecutionStartAfterMillis();
+    private List<Timeout> onExecutionStartAfterMillis(SqlTuple sqlTuple, CountDownLatch latch) {
+        List<Timeout> timeouts = new ArrayList<>();
+        for (SqlExecutionListener listener : listeners) {
+            Long afterMillis = listener.getOnExecutionStartAfterMillis();
+            if (afterMillis == null || afterMillis <= 0) {
+                continue;
+            }
+            Timeout timeout = SqlExecutionListenerTimer.getInstance().schedule(listener, sqlTuple, context, latch);
+            if (timeout != null) {
+                timeouts.add(timeout);
+            }
+        }
+        return timeouts;
+    }
+
+    private void awaitTimeouts(List<Timeout> timeouts) {
+        for (Timeout timeout : timeouts) {
             try {
-                if (!latch.await(expectedTs - waitTs, TimeUnit.MILLISECONDS)) {
-                    listener.onExecutionStartAfter(sqlTuple, context);
-                } else {
-                    break;
-                }
+                timeout.await();
             } catch (InterruptedException e) {
-                return null;
-            } catch (Exception e) {
-                log.warn("An error occurred in listener {}.", listener.getClass(), e);
+                Thread.currentThread().interrupt();
+                return;
             }
         }
-        return null;
     }
 
     @Getter
@@ -38,6 +38,13 @@ public class SessionProperties {
     @Value("${odc.session.sql-execute.result-set.max-cached-size:1073741824}")
     private long resultSetMaxCachedSize = 1024 * 1024 * 1024L;
 
+    /**
+     * max cached size of all the result sets in a session, the earliest cached result sets will be
+     * evicted if exceeded, default 2 GB, negative means unlimited
+     */
+    @Value("${odc.session.sql-execute.result-set.session-max-cached-size:2147483648}")
+    private long resultSetSessionMaxCachedSize = 2 * 1024 * 1024 * 1024L;
+
     /**
      * 查询结果集最大行数，默认 100000
      */
@@ -122,4 +129,62 @@ public class SessionProperties {
     @Value("${odc.session.full-link-trace-timeout-seconds:60}")
     private int fullLinkTraceTimeoutSeconds;
 
+    /**
+     * Number of rows in a single chunk when pushing the query results to the client
+     */
+    @Value("${odc.session.sql-execute.result-push.row-chunk-size:500}")
+    private int resultPushRowChunkSize = 500;
+
+    /**
+     * Max number of result push channels opened at the same time, <=0 means 4 * number of processors
+     */
+    @Value("${odc.session.sql-execute.result-push.max-channel-count:0}")
+    private int resultPushMaxChannelCount = 0;
+
+    /**
+     * Number of rows fetched in one round trip when a console query streams its result set, <=0 means
+     * the driver buffers the whole result set
+     */
+    @Value("${odc.session.sql-execute.fetch-size:0}")
+    private int fetchSize = 0;
+
+    /**
+     * Approximate memory budget of the sql parse caches in bytes, 64 MB by default
+     */
+    @Value("${odc.session.sql-parser.cache.max-bytes:67108864}")
+    private long sqlParserCacheMaxBytes = 64 * 1024 * 1024L;
+
+    /**
+     * Whether sqls are parsed with SLL prediction first and re-parsed with full LL only on failure
+     */
+    @Value("${odc.session.sql-parser.two-stage-parse.enabled:false}")
+    private boolean sqlParserTwoStageParse = false;
+
+    /**
+     * Whether the backend datasources of the console sessions are shared by the sessions of the same
+     * datasource, user and initial schema
+     */
+    @Value("${odc.session.backend-datasource.shared:true}")
+    private boolean backendDataSourceShared = true;
+
+    /**
+     * Whether the binary data cached for the result sets is stored in memory-mapped files instead of
+     * heap pages
+     */
+    @Value("${odc.session.sql-execute.binary-data.memory-mapped:false}")
+    private boolean binaryDataMemoryMapped = false;
+
+    /**
+     * Whether to collect the network statistics of oceanbase-client for each console statement
+     */
+    @Value("${odc.session.sql-execute.network-statistics-enabled:true}")
+    private boolean networkStatisticsEnabled = true;
+
+    /**
+     * Max number of prepared statements cached by a console session for the queries executed again, <=0
+     * means disabled
+     */
+    @Value("${odc.session.sql-execute.statement-cache-size:0}")
+    private int statementCacheSize = 0;
+
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
+import com.oceanbase.odc.service.session.model.AsyncExecuteContext;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link SqlExecutionListenerTimer}
+ *
+ * Shared timer used to fire
+ * {@link SqlExecutionListener#onExecutionStartAfter(SqlTuple, AsyncExecuteContext)} for all console
+ * executions, the number of pending timers is bounded so that a burst of executions can not exhaust
+ * the memory.
+ *
+ * @author agent
+ * @see OdcStatementCallBack
+ */
+@Slf4j
+public class SqlExecutionListenerTimer {
+
+    private static final int DEFAULT_CORE_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int DEFAULT_MAX_PENDING_TIMERS = 4096;
+    private static final SqlExecutionListenerTimer INSTANCE =
+            new SqlExecutionListenerTimer(DEFAULT_CORE_POOL_SIZE, DEFAULT_MAX_PENDING_TIMERS);
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final int maxPendingTimers;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong firedCount = new AtomicLong();
+    private final AtomicLong totalFireLatencyMillis = new AtomicLong();
+    private final AtomicLong totalListenerElapsedMillis = new AtomicLong();
+
+    public SqlExecutionListenerTimer(int corePoolSize, int maxPendingTimers) {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("sql-execution-listener-timer-%d")
+                .setDaemon(true)
+                .build();
+        this.scheduler = new ScheduledThreadPoolExecutor(corePoolSize, threadFactory);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.maxPendingTimers = maxPendingTimers;
+    }
+
+    public static SqlExecutionListenerTimer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Fire the listener after {@link SqlExecutionListener#getOnExecutionStartAfterMillis()} if the
+     * execution has not finished yet
+     *
+     * @param executionLatch latch which will be counted down when the execution finished
+     * @return handle of the timer, {@code null} if the timer is rejected
+     */
+    public Timeout schedule(@NonNull SqlExecutionListener listener, @NonNull SqlTuple sqlTuple,
+            AsyncExecuteContext context, @NonNull CountDownLatch executionLatch) {
+        if (this.scheduler.getQueue().size() >= this.maxPendingTimers) {
+            this.rejectedCount.incrementAndGet();
+            log.warn("Too many pending timers, listener is ignored, listener={}, maxPendingTimers={}",
+                    listener.getClass(), this.maxPendingTimers);
+            return null;
+        }
+        long delayMillis = listener.getOnExecutionStartAfterMillis();
+        Timeout timeout = new Timeout(listener, sqlTuple, context, executionLatch,
+                System.currentTimeMillis() + delayMillis);
+        timeout.future = this.scheduler.schedule(timeout, delayMillis, TimeUnit.MILLISECONDS);
+        return timeout;
+    }
+
+    public int getPendingTimerCount() {
+        return this.scheduler.getQueue().size();
+    }
+
+    public int getActiveTimerCount() {
+        return this.scheduler.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return this.rejectedCount.get();
+    }
+
+    public long getFiredCount() {
+        return this.firedCount.get();
+    }
+
+    /**
+     * @return average delay between the expected fire time and the actual fire time
+     */
+    public double getAverageFireLatencyMillis() {
+        long fired = this.firedCount.get();
+        return fired == 0 ? 0 : (double) this.totalFireLatencyMillis.get() / fired;
+    }
+
+    /**
+     * @return average time cost of the listener callbacks
+     */
+    public double getAverageListenerElapsedMillis() {
+        long fired = this.firedCount.get();
+        return fired == 0 ? 0 : (double) this.totalListenerElapsedMillis.get() / fired;
+    }
+
+    public class Timeout implements Runnable {
+
+        private final SqlExecutionListener listener;
+        private final SqlTuple sqlTuple;
+        private final AsyncExecuteContext context;
+        private final CountDownLatch executionLatch;
+        private final long expectedFireTime;
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile ScheduledFuture<?> future;
+
+        private Timeout(SqlExecutionListener listener, SqlTuple sqlTuple, AsyncExecuteContext context,
+                CountDownLatch executionLatch, long expectedFireTime) {
+            this.listener = listener;
+            this.sqlTuple = sqlTuple;
+            this.context = context;
+            this.executionLatch = executionLatch;
+            this.expectedFireTime = expectedFireTime;
+        }
+
+        @Override
+        public void run() {
+            if (!this.claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                if (this.executionLatch.getCount() == 0) {
+                    return;
+                }
+                long startTime = System.currentTimeMillis();
+                totalFireLatencyMillis.addAndGet(Math.max(0, startTime - this.expectedFireTime));
+                try {
+                    this.listener.onExecutionStartAfter(this.sqlTuple, this.context);
+                } catch (Exception e) {
+                    log.warn("An error occurred in listener {}.", this.listener.getClass(), e);
+                } finally {
+                    totalListenerElapsedMillis.addAndGet(System.currentTimeMillis() - startTime);
+                    firedCount.incrementAndGet();
+                }
+            } finally {
+                this.finished.countDown();
+            }
+        }
+
+        /**
+         * Cancel the timer if it is not fired yet
+         */
+        public void cancel() {
+            if (!this.claimed.compareAndSet(false, true)) {
+                return;
+            }
+            ScheduledFuture<?> f = this.future;
+            if (f != null) {
+                f.cancel(false);
+            }
+            this.finished.countDown();
+        }
+
+        /**
+         * Wait for the fired listener to finish
+         */
+        public void await() throws InterruptedException {
+            this.finished.await();
+        }
+    }
+
+}
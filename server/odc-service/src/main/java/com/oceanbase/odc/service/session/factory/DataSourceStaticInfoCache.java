@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session.factory;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oceanbase.odc.common.util.StringUtils;
+import com.oceanbase.odc.service.connection.model.ConnectionConfig;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * {@link DataSourceStaticInfoCache}
+ *
+ * Cache of the facts of a database instance which hardly change, eg. version, architecture and the
+ * version of the proxy, so that sessions to the same instance created in a short time do not have
+ * to query them again.
+ *
+ * @author agent
+ * @see DefaultConnectSessionFactory
+ */
+public class DataSourceStaticInfoCache {
+
+    private static final long DEFAULT_TTL_SECONDS = 600;
+    private static final long DEFAULT_MAXIMUM_SIZE = 10000;
+    private static final DataSourceStaticInfoCache INSTANCE =
+            new DataSourceStaticInfoCache(DEFAULT_TTL_SECONDS, DEFAULT_MAXIMUM_SIZE);
+
+    private final Cache<String, DataSourceStaticInfo> cache;
+
+    public DataSourceStaticInfoCache(long ttlSeconds, long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    public static DataSourceStaticInfoCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return key of the instance the connection points to, {@code null} if the instance can not be
+     *         identified
+     */
+    public static String keyOf(@NonNull ConnectionConfig config) {
+        if (StringUtils.isBlank(config.getHost()) || config.getPort() == null) {
+            return null;
+        }
+        return String.join(":", config.getDialectType().name(), config.getHost(), config.getPort().toString(),
+                StringUtils.defaultString(config.getClusterName()), StringUtils.defaultString(config.getTenantName()),
+                StringUtils.defaultString(config.getSid()), StringUtils.defaultString(config.getServiceName()));
+    }
+
+    public DataSourceStaticInfo get(@NonNull String key) {
+        return this.cache.getIfPresent(key);
+    }
+
+    public void put(@NonNull String key, @NonNull DataSourceStaticInfo info) {
+        this.cache.put(key, info);
+    }
+
+    public void invalidate(@NonNull String key) {
+        this.cache.invalidate(key);
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class DataSourceStaticInfo {
+        private String version;
+        private String architecture;
+        private String odpVersion;
+    }
+
+}
@@ -17,12 +17,19 @@ package com.oceanbase.odc.service.session.factory;
 
 import java.sql.Connection;
 import java.sql.Statement;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.jdbc.core.ConnectionCallback;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.oceanbase.odc.common.event.AbstractEventListener;
 import com.oceanbase.odc.common.event.EventPublisher;
 import com.oceanbase.odc.common.event.LocalEventPublisher;
@@ -46,6 +53,7 @@ import com.oceanbase.odc.service.connection.util.ConnectionInfoUtil;
 import com.oceanbase.odc.service.datasecurity.accessor.DatasourceColumnAccessor;
 import com.oceanbase.odc.service.monitor.datasource.GetConnectionFailedEventListener;
 import com.oceanbase.odc.service.plugin.ConnectionPluginUtil;
+import com.oceanbase.odc.service.session.factory.DataSourceStaticInfoCache.DataSourceStaticInfo;
 import com.oceanbase.odc.service.session.initializer.SwitchSchemaInitializer;
 
 import lombok.NonNull;
@@ -65,6 +73,14 @@ import lombok.extern.slf4j.Slf4j;
 public class DefaultConnectSessionFactory implements ConnectionSessionFactory {
     public static final String DEFAULT_MODULE = "ODC";
     public static final String CONNECT_SESSION_SQL_CONSOLE = "ConnectSession-SqlConsole";
+    private static final String DEFAULT_NLS_FORMAT = "DD-MON-RR";
+    private static final List<String> NLS_FORMAT_VARIABLES =
+            Arrays.asList("nls_date_format", "nls_timestamp_format", "nls_timestamp_tz_format");
+    private static final ThreadPoolExecutor BOOTSTRAP_EXECUTOR = new ThreadPoolExecutor(0,
+            Math.max(8, Runtime.getRuntime().availableProcessors() * 2), 60, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new ThreadFactoryBuilder().setNameFormat("session-bootstrap-%d")
+                    .setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
 
     private final ConnectionConfig connectionConfig;
     private final TaskManagerFactory<SqlExecuteTaskManager> taskManagerFactory;
@@ -76,6 +92,16 @@ public class DefaultConnectSessionFactory implements ConnectionSessionFactory {
     private long sessionTimeoutMillis;
     @Setter
     private ConnectionSessionIdGenerator<CreateSessionReq> idGenerator;
+    /**
+     * lease the backend datasource from a pool shared by sessions of the same datasource
+     */
+    @Setter
+    private boolean shareBackendDataSource = false;
+    /**
+     * store the binary data of the session in memory-mapped files instead of heap pages
+     */
+    @Setter
+    private boolean memoryMappedBinaryData = false;
 
     public DefaultConnectSessionFactory(@NonNull ConnectionConfig connectionConfig,
             Boolean autoCommit, TaskManagerFactory<SqlExecuteTaskManager> taskManagerFactory, boolean autoReconnect,
@@ -136,7 +162,9 @@ public class DefaultConnectSessionFactory implements ConnectionSessionFactory {
     }
 
     private void registerBackendDataSource(ConnectionSession session) {
-        DruidDataSourceFactory dataSourceFactory = new DruidDataSourceFactory(connectionConfig);
+        DruidDataSourceFactory dataSourceFactory = shareBackendDataSource
+                ? new SharedDruidDataSourceFactory(connectionConfig)
+                : new DruidDataSourceFactory(connectionConfig);
         ProxyDataSourceFactory proxyFactory = new ProxyDataSourceFactory(dataSourceFactory);
         session.register(ConnectionSessionConstants.BACKEND_DS_KEY, proxyFactory);
         proxyFactory.setInitializer(new SwitchSchemaInitializer(session));
@@ -151,7 +179,8 @@ public class DefaultConnectSessionFactory implements ConnectionSessionFactory {
         try {
             return new DefaultConnectionSession(idGenerator.generateId(CreateSessionReq.from(connectionConfig)),
                     taskManagerFactory, sessionTimeoutMillis, connectionConfig.getType(), autoCommit,
-                    ConnectionPluginUtil.getSessionExtension(connectionConfig.getDialectType()));
+                    ConnectionPluginUtil.getSessionExtension(connectionConfig.getDialectType()),
+                    memoryMappedBinaryData);
         } catch (Exception e) {
             log.warn("Failed to create connection session", e);
             throw new IllegalStateException(e);
@@ -161,11 +190,7 @@ public class DefaultConnectSessionFactory implements ConnectionSessionFactory {
     private void initSession(ConnectionSession session) {
         this.eventPublisher.addEventListener(new ConsoleConnectionResetListener(session));
         this.eventPublisher.addEventListener(new GetConnectionFailedEventListener());
-        ConnectionSessionUtil.initArchitecture(session);
-        ConnectionInfoUtil.initSessionVersion(session);
         ConnectionSessionUtil.setConsoleSessionResetFlag(session, false);
-        ConnectionInfoUtil.initConsoleConnectionId(session);
-        ConnectionInfoUtil.initOdpVersionIfExists(session);
         ConnectionSessionUtil.setConnectionConfig(session, connectionConfig);
         ConnectionSessionUtil.setColumnAccessor(session, new DatasourceColumnAccessor(session));
         if (StringUtils.isNotBlank(connectionConfig.getTenantName())) {
@@ -174,35 +199,71 @@ public class DefaultConnectSessionFactory implements ConnectionSessionFactory {
         if (StringUtils.isNotBlank(connectionConfig.getClusterName())) {
             ConnectionSessionUtil.setClusterName(session, connectionConfig.getClusterName());
         }
-        setNlsFormat(session);
+        // nls formats are queried through the backend datasource, no need to wait for the console one
+        CompletableFuture<Map<String, String>> nlsFuture = session.getDialectType().isOracle()
+                ? CompletableFuture.supplyAsync(() -> queryNlsFormats(session), BOOTSTRAP_EXECUTOR)
+                : null;
+        initStaticInfo(session);
+        ConnectionInfoUtil.initConsoleConnectionId(session);
         setClientInfo(session);
+        if (nlsFuture != null) {
+            // attributes of a session are not thread-safe, set them in the current thread
+            setNlsFormat(session, joinUnchecked(nlsFuture));
+        }
     }
 
-    private static void setNlsFormat(ConnectionSession session) {
-        if (!session.getDialectType().isOracle()) {
+    private void initStaticInfo(ConnectionSession session) {
+        String key = DataSourceStaticInfoCache.keyOf(connectionConfig);
+        DataSourceStaticInfoCache cache = DataSourceStaticInfoCache.getInstance();
+        DataSourceStaticInfo info = key == null ? null : cache.get(key);
+        if (info != null) {
+            session.setAttribute(ConnectionSessionConstants.OB_VERSION, info.getVersion());
+            if (info.getArchitecture() != null) {
+                session.setAttribute(ConnectionSessionConstants.OB_ARCHITECTURE, info.getArchitecture());
+            }
+            if (info.getOdpVersion() != null) {
+                session.setAttribute(ConnectionSessionConstants.ODP_VERSION, info.getOdpVersion());
+            }
+            log.debug("Init static info from cache completed, sid={}", session.getId());
             return;
         }
-        log.info("Begin to set nls format.");
-        String nlsDateFormat = session.getSyncJdbcExecutor(ConnectionSessionConstants.BACKEND_DS_KEY).execute(
-                (ConnectionCallback<String>) con -> ConnectionPluginUtil
-                        .getSessionExtension(session.getDialectType()).getVariable(con, "nls_date_format"));
-        ConnectionSessionUtil.setNlsDateFormat(session, Objects.isNull(nlsDateFormat) ? "DD-MON-RR" : nlsDateFormat);
-
-        String nlsTimestampFormat = session.getSyncJdbcExecutor(ConnectionSessionConstants.BACKEND_DS_KEY).execute(
-                (ConnectionCallback<String>) con -> ConnectionPluginUtil
-                        .getSessionExtension(session.getDialectType()).getVariable(con, "nls_timestamp_format"));
-        ConnectionSessionUtil.setNlsTimestampFormat(session,
-                Objects.isNull(nlsTimestampFormat) ? "DD-MON-RR" : nlsTimestampFormat);
+        ConnectionSessionUtil.initArchitecture(session);
+        ConnectionInfoUtil.initSessionVersion(session);
+        ConnectionInfoUtil.initOdpVersionIfExists(session);
+        String architecture = ConnectionSessionUtil.getArchitecture(session);
+        if (key != null && (architecture != null || !session.getDialectType().isOracle())) {
+            // a failed query of architecture should not be cached
+            cache.put(key, new DataSourceStaticInfo(ConnectionSessionUtil.getVersion(session), architecture,
+                    ConnectionSessionUtil.getObProxyVersion(session)));
+        }
+    }
 
-        String nlsTimestampTZFormat = session.getSyncJdbcExecutor(ConnectionSessionConstants.BACKEND_DS_KEY).execute(
-                (ConnectionCallback<String>) con -> ConnectionPluginUtil
-                        .getSessionExtension(session.getDialectType()).getVariable(con, "nls_timestamp_tz_format"));
-        ConnectionSessionUtil.setNlsTimestampTZFormat(session,
-                Objects.isNull(nlsTimestampTZFormat) ? "DD-MON-RR" : nlsTimestampTZFormat);
+    private static Map<String, String> queryNlsFormats(ConnectionSession session) {
+        log.info("Begin to query nls format.");
+        return session.getSyncJdbcExecutor(ConnectionSessionConstants.BACKEND_DS_KEY)
+                .execute((ConnectionCallback<Map<String, String>>) con -> ConnectionPluginUtil
+                        .getSessionExtension(session.getDialectType()).getVariables(con, NLS_FORMAT_VARIABLES));
+    }
 
+    private static void setNlsFormat(ConnectionSession session, Map<String, String> variables) {
+        ConnectionSessionUtil.setNlsDateFormat(session,
+                variables.getOrDefault("nls_date_format", DEFAULT_NLS_FORMAT));
+        ConnectionSessionUtil.setNlsTimestampFormat(session,
+                variables.getOrDefault("nls_timestamp_format", DEFAULT_NLS_FORMAT));
+        ConnectionSessionUtil.setNlsTimestampTZFormat(session,
+                variables.getOrDefault("nls_timestamp_tz_format", DEFAULT_NLS_FORMAT));
         log.info("Set nls format completed.");
     }
 
+    private static <T> T joinUnchecked(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        }
+    }
+
     private void setClientInfo(ConnectionSession session) {
         SessionExtensionPoint extensionPoint = ConnectionPluginUtil.getSessionExtension(session.getDialectType());
         String clientInfo = UUID.randomUUID().toString();
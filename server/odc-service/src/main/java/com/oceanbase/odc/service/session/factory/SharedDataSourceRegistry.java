@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session.factory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.alibaba.druid.pool.DruidPooledConnection;
+import com.oceanbase.odc.core.datasource.ConnectionInitializer;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link SharedDataSourceRegistry}
+ *
+ * Registry of the {@link DataSource}s shared by sessions. A session leases a shared datasource
+ * instead of creating one of its own, the datasource is closed when the last lease is closed. The
+ * state of a connection changed by a session is reset before the connection is returned to the
+ * shared datasource, a connection which can not be reset will be discarded.
+ *
+ * @author agent
+ * @see SharedDruidDataSourceFactory
+ */
+@Slf4j
+public class SharedDataSourceRegistry {
+
+    private static final SharedDataSourceRegistry INSTANCE = new SharedDataSourceRegistry();
+
+    private final Map<String, SharedEntry> key2Entry = new HashMap<>();
+
+    public static SharedDataSourceRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param creator used to create the datasource if there is no one for the key
+     * @param resetter used to reset the state of a connection before it is returned
+     */
+    public synchronized Lease lease(@NonNull String key, @NonNull Supplier<DataSource> creator,
+            @NonNull ConnectionInitializer resetter) {
+        SharedEntry entry = this.key2Entry.get(key);
+        if (entry == null) {
+            entry = new SharedEntry(creator.get());
+            this.key2Entry.put(key, entry);
+            log.info("Shared datasource is created, key={}", key);
+        }
+        entry.leaseCount++;
+        return new Lease(key, entry.dataSource, resetter);
+    }
+
+    public synchronized int getLeaseCount(@NonNull String key) {
+        SharedEntry entry = this.key2Entry.get(key);
+        return entry == null ? 0 : entry.leaseCount;
+    }
+
+    public synchronized int getDataSourceCount() {
+        return this.key2Entry.size();
+    }
+
+    private void release(String key) {
+        DataSource toBeClosed = null;
+        synchronized (this) {
+            SharedEntry entry = this.key2Entry.get(key);
+            if (entry == null) {
+                return;
+            }
+            if (--entry.leaseCount <= 0) {
+                this.key2Entry.remove(key);
+                toBeClosed = entry.dataSource;
+            }
+        }
+        if (toBeClosed instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) toBeClosed).close();
+                log.info("Shared datasource is closed, key={}", key);
+            } catch (Exception e) {
+                log.warn("Failed to close shared datasource, key={}", key, e);
+            }
+        }
+    }
+
+    private static class SharedEntry {
+        private final DataSource dataSource;
+        private int leaseCount = 0;
+
+        private SharedEntry(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+
+    /**
+     * A lease of a shared datasource held by a session, the lease should be closed when the session is
+     * closed
+     */
+    public class Lease extends DelegatingDataSource implements AutoCloseable {
+
+        private final String key;
+        private final ConnectionInitializer resetter;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private Lease(String key, DataSource target, ConnectionInitializer resetter) {
+            super(target);
+            this.key = key;
+            this.resetter = resetter;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        @Override
+        public void close() {
+            if (this.closed.compareAndSet(false, true)) {
+                release(this.key);
+            }
+        }
+
+        private Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Lease.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, new ResetOnCloseInvocationHandler(connection, this.resetter));
+        }
+    }
+
+    static class ResetOnCloseInvocationHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final ConnectionInitializer resetter;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        ResetOnCloseInvocationHandler(Connection target, ConnectionInitializer resetter) {
+            this.target = target;
+            this.resetter = resetter;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("equals".equals(method.getName())) {
+                return (proxy == args[0]);
+            } else if ("hashCode".equals(method.getName())) {
+                return System.identityHashCode(proxy);
+            } else if ("close".equals(method.getName())) {
+                if (this.closed.compareAndSet(false, true)) {
+                    resetAndClose();
+                }
+                return null;
+            } else if ("isClosed".equals(method.getName()) && this.closed.get()) {
+                return true;
+            }
+            try {
+                return method.invoke(this.target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+
+        private void resetAndClose() throws SQLException {
+            try {
+                if (!this.target.isClosed()) {
+                    this.resetter.init(this.target);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to reset connection, the connection will be discarded, reason={}", e.getMessage());
+                discard();
+            }
+            this.target.close();
+        }
+
+        /**
+         * a pooled connection whose physical connection is closed will be discarded by the pool
+         */
+        private void discard() {
+            try {
+                if (this.target instanceof DruidPooledConnection) {
+                    ((DruidPooledConnection) this.target).getConnection().close();
+                }
+            } catch (Exception e) {
+                log.warn("Failed to close physical connection", e);
+            }
+        }
+    }
+
+}
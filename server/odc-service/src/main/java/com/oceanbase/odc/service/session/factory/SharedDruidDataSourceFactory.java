@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session.factory;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.oceanbase.odc.common.util.HashUtils;
+import com.oceanbase.odc.common.util.StringUtils;
+import com.oceanbase.odc.core.session.ConnectionSessionUtil;
+import com.oceanbase.odc.service.connection.model.ConnectionConfig;
+import com.oceanbase.odc.service.plugin.ConnectionPluginUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link SharedDruidDataSourceFactory}
+ *
+ * Backend datasource factory which leases a {@link DruidDataSource} shared by all the sessions of
+ * the same datasource, user and initial schema. The current schema of a connection is switched back
+ * to the initial schema when the connection is returned. A private datasource is created if the
+ * connection can not be identified or there is no initial schema to switch back to.
+ *
+ * @author agent
+ * @see SharedDataSourceRegistry
+ */
+@Slf4j
+public class SharedDruidDataSourceFactory extends DruidDataSourceFactory {
+
+    private static final int DEFAULT_MAX_ACTIVE = 32;
+    private static final long DEFAULT_MIN_EVICTABLE_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    public SharedDruidDataSourceFactory(ConnectionConfig connectionConfig) {
+        super(connectionConfig);
+    }
+
+    @Override
+    public DataSource getDataSource() {
+        String initialSchema = getInitialSchema();
+        if (this.connectionConfig.getId() == null || StringUtils.isBlank(initialSchema)) {
+            return super.getDataSource();
+        }
+        // connections are initialized by the session init script once, sessions with different init
+        // scripts can not share connections
+        String key = String.join(":", this.connectionConfig.getId().toString(), getUsername(), initialSchema,
+                HashUtils.md5(getJdbcUrl() + "|" + getPassword() + "|" + this.userRole + "|"
+                        + StringUtils.defaultString(this.connectionConfig.getSessionInitScript())));
+        return SharedDataSourceRegistry.getInstance().lease(key, this::createSharedDataSource,
+                con -> ConnectionPluginUtil.getSessionExtension(getDialectType()).switchSchema(con, initialSchema));
+    }
+
+    private DataSource createSharedDataSource() {
+        DruidDataSource dataSource = (DruidDataSource) super.getDataSource();
+        dataSource.setMaxActive(DEFAULT_MAX_ACTIVE);
+        dataSource.setMinIdle(0);
+        dataSource.setMinEvictableIdleTimeMillis(DEFAULT_MIN_EVICTABLE_IDLE_MILLIS);
+        return dataSource;
+    }
+
+    private String getInitialSchema() {
+        try {
+            String schema = ConnectionPluginUtil.getConnectionExtension(getDialectType())
+                    .getConnectionInfo(getJdbcUrl(), getUsername()).getSchema();
+            return StringUtils.isBlank(schema) ? null
+                    : ConnectionSessionUtil.getUserOrSchemaString(schema, getDialectType());
+        } catch (Exception e) {
+            log.warn("Failed to get initial schema from jdbc url, reason={}", e.getMessage());
+            return null;
+        }
+    }
+
+}
@@ -21,10 +21,15 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.oceanbase.odc.core.sql.execute.model.JdbcGeneralResult;
 import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -37,9 +42,18 @@ import lombok.extern.slf4j.Slf4j;
 @Setter
 @Slf4j
 public class AsyncExecuteContext {
+    /**
+     * the finish of the execution is not signaled, waiters check it at least once per slice
+     */
+    private static final long FINISH_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
     private final List<SqlTuple> sqlTuples;
     private final Queue<JdbcGeneralResult> results = new ConcurrentLinkedQueue<>();
     private final Map<String, Object> contextMap;
+    @Getter(AccessLevel.NONE)
+    private final Lock resultsLock = new ReentrantLock();
+    @Getter(AccessLevel.NONE)
+    private final Condition resultsAvailable = resultsLock.newCondition();
 
     private Future<List<JdbcGeneralResult>> future;
     private String currentExecutingSqlTraceId;
@@ -74,17 +88,34 @@ public class AsyncExecuteContext {
     public List<JdbcGeneralResult> getMoreSqlExecutionResults(long timeoutMillis) {
         List<JdbcGeneralResult> copiedResults = new ArrayList<>();
 
-        long expect = System.currentTimeMillis() + timeoutMillis;
-        while (!isFinished() && System.currentTimeMillis() <= expect && results.isEmpty()) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        resultsLock.lock();
+        try {
+            long remaining = deadline - System.nanoTime();
+            while (!isFinished() && remaining > 0 && results.isEmpty()) {
+                resultsAvailable.awaitNanos(Math.min(remaining, FINISH_CHECK_INTERVAL_NANOS));
+                remaining = deadline - System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            resultsLock.unlock();
         }
-        while (!results.isEmpty()) {
-            copiedResults.add(results.poll());
+        JdbcGeneralResult result;
+        while ((result = results.poll()) != null) {
+            copiedResults.add(result);
         }
         return copiedResults;
     }
 
     public void addSqlExecutionResults(List<JdbcGeneralResult> results) {
         this.results.addAll(results);
+        resultsLock.lock();
+        try {
+            resultsAvailable.signalAll();
+        } finally {
+            resultsLock.unlock();
+        }
     }
 
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * {@link SqlExecuteResultRows}
+ *
+ * A chunk of rows which belongs to a pushed {@link SqlExecuteResult}, the chunks of a result are
+ * pushed in order right after the result itself.
+ *
+ * @author agent
+ */
+@Data
+@NoArgsConstructor
+public class SqlExecuteResultRows {
+    private String sqlId;
+    private int offset;
+    private boolean last;
+    private List<List<Object>> rows;
+
+    public SqlExecuteResultRows(String sqlId, int offset, boolean last, List<List<Object>> rows) {
+        this.sqlId = sqlId;
+        this.offset = offset;
+        this.last = last;
+        this.rows = rows;
+    }
+
+    /**
+     * Detach the rows from the result and split them into chunks, the rows of the result will be empty
+     * after this call
+     */
+    public static List<SqlExecuteResultRows> detachRows(@NonNull SqlExecuteResult result, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size is illegal, " + chunkSize);
+        }
+        List<List<Object>> rows = result.getRows();
+        if (rows == null || rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+        result.setRows(new ArrayList<>());
+        List<SqlExecuteResultRows> chunks = new ArrayList<>((rows.size() + chunkSize - 1) / chunkSize);
+        List<List<Object>> chunk = new ArrayList<>(Math.min(chunkSize, rows.size()));
+        int offset = 0;
+        int count = 0;
+        for (List<Object> row : rows) {
+            chunk.add(row);
+            count++;
+            if (chunk.size() == chunkSize || count == rows.size()) {
+                chunks.add(new SqlExecuteResultRows(result.getSqlId(), offset, count == rows.size(), chunk));
+                offset = count;
+                chunk = new ArrayList<>(Math.min(chunkSize, rows.size() - count));
+            }
+        }
+        return chunks;
+    }
+
+}
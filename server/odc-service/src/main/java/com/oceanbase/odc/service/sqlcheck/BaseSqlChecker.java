@@ -17,6 +17,8 @@ package com.oceanbase.odc.service.sqlcheck;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -46,6 +48,8 @@ import lombok.NonNull;
 abstract class BaseSqlChecker implements SqlChecker {
 
     private final static String DEFAULT_DELIMITER = ";";
+    private final static int PARALLEL_PARSE_THRESHOLD = 64;
+    private final static ForkJoinPool PARSE_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
     private final String delimiter;
     protected final DialectType dialectType;
 
@@ -115,10 +119,7 @@ abstract class BaseSqlChecker implements SqlChecker {
         } else {
             checkContext = new SqlCheckContext();
         }
-        List<Pair<Integer, Statement>> stmts = inputs.stream()
-                .map(function)
-                .filter(stmt -> Objects.nonNull(stmt) && Objects.nonNull(stmt.right))
-                .collect(Collectors.toList());
+        List<Pair<Integer, Statement>> stmts = parse(inputs, function);
         if (checkContext.currentStmtIndex == null) {
             checkContext.currentStmtIndex = 0L;
         }
@@ -138,10 +139,35 @@ abstract class BaseSqlChecker implements SqlChecker {
         }).collect(Collectors.toList());
     }
 
+    /**
+     * statements are parsed in parallel when there are many of them, the order of inputs is kept so
+     * that rules are still applied statement by statement
+     */
+    private <T> List<Pair<Integer, Statement>> parse(List<T> inputs, Function<T, Pair<Integer, Statement>> function) {
+        if (inputs.size() < PARALLEL_PARSE_THRESHOLD) {
+            return inputs.stream().map(function)
+                    .filter(stmt -> Objects.nonNull(stmt) && Objects.nonNull(stmt.right))
+                    .collect(Collectors.toList());
+        }
+        try {
+            return PARSE_POOL.submit(() -> inputs.parallelStream().map(function)
+                    .filter(stmt -> Objects.nonNull(stmt) && Objects.nonNull(stmt.right))
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing sqls", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     private List<OffsetString> splitByCommentProcessor(String sqlScript) {
         SqlCommentProcessor processor = new SqlCommentProcessor(dialectType, true, true);
         processor.setDelimiter(delimiter);
-        StringBuffer buffer = new StringBuffer();
+        StringBuilder buffer = new StringBuilder();
         List<OffsetString> sqls = processor.split(buffer, sqlScript);
         String bufferStr = buffer.toString();
         if (bufferStr.trim().length() != 0) {
@@ -16,7 +16,11 @@
 package com.oceanbase.odc.service.sqlcheck;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.oceanbase.odc.common.lang.Pair;
@@ -44,14 +48,17 @@ public class SqlCheckContext {
     @Setter
     Long currentStmtStartOffset;
     private final List<Pair<Pair<Statement, Integer>, List<CheckViolation>>> stmt2Violations;
+    private final Map<String, Optional<Object>> key2RemoteObject;
 
     public SqlCheckContext() {
         this.stmt2Violations = new ArrayList<>();
+        this.key2RemoteObject = new HashMap<>();
     }
 
     public SqlCheckContext(Long totalStmtCount) {
         this.totalStmtCount = totalStmtCount;
         this.stmt2Violations = new ArrayList<>();
+        this.key2RemoteObject = new HashMap<>();
     }
 
     public void addCheckViolation(@NonNull Statement statement, @NonNull Integer offset,
@@ -64,6 +71,24 @@ public class SqlCheckContext {
     }
 
 
+    /**
+     * get an object loaded from the database, an object is loaded only once in a check even if it is
+     * referred by many statements or rules.
+     *
+     * @param loader returns {@code null} if the object does not exist, which is kept as well. Throws an
+     *        exception if the object failed to load, the exception is thrown to the caller and nothing
+     *        is kept, so the object will be loaded again next time
+     */
+    @SuppressWarnings("all")
+    public <T> T getRemoteObject(@NonNull String key, @NonNull Supplier<T> loader) {
+        Optional<Object> value = this.key2RemoteObject.get(key);
+        if (value == null) {
+            value = Optional.ofNullable(loader.get());
+            this.key2RemoteObject.put(key, value);
+        }
+        return (T) value.orElse(null);
+    }
+
     public List<CheckViolation> getAllCheckViolations() {
         return this.stmt2Violations.stream().flatMap(p -> p.right.stream()).collect(Collectors.toList());
     }
@@ -178,12 +178,8 @@ public class SqlCheckService {
                     () -> SqlCheckUtil.getDbVersion(config, dataSource), config.getDialectType(), jdbc);
             AffectedRowCalculator affectedRowCalculator =
                     new AffectedRowCalculator(config.getDialectType(), affectedRowsRule);
-            List<CheckViolation> checkViolations = new ArrayList<>();
-            for (OffsetString sql : sqls) {
-                List<CheckViolation> violations = sqlChecker.check(Collections.singletonList(sql), checkContext);
-                fullFillRiskLevel(rules, violations);
-                checkViolations.addAll(violations);
-            }
+            List<CheckViolation> checkViolations = sqlChecker.check(sqls, checkContext);
+            fullFillRiskLevel(rules, checkViolations);
             return SqlCheckResponse.of(affectedRowCalculator.getAffectedRows(sqls), checkViolations);
         }
     }
@@ -15,6 +15,7 @@
  */
 package com.oceanbase.odc.service.sqlcheck;
 
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +33,9 @@ import javax.sql.DataSource;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.Validate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.JdbcOperations;
 
 import com.oceanbase.odc.common.util.StringUtils;
@@ -47,10 +51,12 @@ import com.oceanbase.odc.service.sqlcheck.model.CheckResult;
 import com.oceanbase.odc.service.sqlcheck.model.CheckViolation;
 import com.oceanbase.odc.service.sqlcheck.model.SqlCheckRuleType;
 import com.oceanbase.odc.service.sqlcheck.rule.BaseAffectedRowsExceedLimit;
+import com.oceanbase.tools.sqlparser.SQLParser;
 import com.oceanbase.tools.sqlparser.statement.Expression;
 import com.oceanbase.tools.sqlparser.statement.Statement;
 import com.oceanbase.tools.sqlparser.statement.alter.table.AlterTable;
 import com.oceanbase.tools.sqlparser.statement.createtable.ColumnDefinition;
+import com.oceanbase.tools.sqlparser.statement.createtable.CreateTable;
 import com.oceanbase.tools.sqlparser.statement.createtable.SortColumn;
 import com.oceanbase.tools.sqlparser.statement.delete.Delete;
 import com.oceanbase.tools.sqlparser.statement.expression.CollectionExpression;
@@ -63,6 +69,7 @@ import com.oceanbase.tools.sqlparser.statement.select.SelectBody;
 import com.oceanbase.tools.sqlparser.statement.update.Update;
 
 import lombok.NonNull;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -268,7 +275,7 @@ public class SqlCheckUtil {
         }
         SqlCommentProcessor processor = new SqlCommentProcessor(dialectType, true, true);
         processor.setDelimiter(delimiter);
-        StringBuffer buffer = new StringBuffer();
+        StringBuilder buffer = new StringBuilder();
         List<OffsetString> sqls = processor.split(buffer, sqlScript);
         String bufferStr = buffer.toString();
         if (!bufferStr.trim().isEmpty()) {
@@ -300,4 +307,51 @@ public class SqlCheckUtil {
         SqlAffectedRowsFactory sqlAffectedRowsFactory = new SqlAffectedRowsFactory(jdbc);
         return (BaseAffectedRowsExceedLimit) sqlAffectedRowsFactory.generate(sqlCheckRuleContext);
     }
+
+    public static String getRemoteTableKey(String schema, String tableName) {
+        return "CREATE_TABLE:" + schema + "." + tableName;
+    }
+
+    /**
+     * get the definition of a table by {@code SHOW CREATE TABLE}
+     *
+     * @return {@code null} if the table does not exist or its ddl can not be parsed
+     * @throws DataAccessException if failed to query the database, eg. the connection is broken
+     */
+    public static CreateTable getTableFromRemote(@NonNull JdbcOperations jdbcOperations, String schema,
+            @NonNull String tableName, @NonNull SQLParser parser) {
+        String sql = "SHOW CREATE TABLE " + (schema == null ? tableName : (schema + "." + tableName));
+        String ddl;
+        try {
+            ddl = jdbcOperations.queryForObject(sql, (rs, rowNum) -> rs.getString(2));
+        } catch (EmptyResultDataAccessException | BadSqlGrammarException e) {
+            // the table does not exist
+            return null;
+        }
+        if (ddl == null) {
+            return null;
+        }
+        try {
+            Statement statement = parser.parse(new StringReader(ddl));
+            return statement instanceof CreateTable ? (CreateTable) statement : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * affected rows of a statement is estimated only once in a check, rules of affected rows share it
+     */
+    public static long getAffectedRows(@NonNull BaseAffectedRowsExceedLimit rule, @NonNull Statement statement,
+            @NonNull SqlCheckContext context) {
+        Long affectedRows = context.getRemoteObject("AFFECTED_ROWS:" + statement.getText(),
+                () -> estimateAffectedRows(rule, statement));
+        return affectedRows;
+    }
+
+    @SneakyThrows
+    private static Long estimateAffectedRows(BaseAffectedRowsExceedLimit rule, Statement statement) {
+        return rule.getStatementAffectedRows(statement);
+    }
+
 }
@@ -53,7 +53,7 @@ public abstract class BaseAffectedRowsExceedLimit implements SqlCheckRule {
     @Override
     public List<CheckViolation> check(@NonNull Statement statement, @NonNull SqlCheckContext context) {
         try {
-            long affectedRows = getStatementAffectedRows(statement);
+            long affectedRows = SqlCheckUtil.getAffectedRows(this, statement, context);
             if (affectedRows >= 0) {
                 if (affectedRows > maxSqlAffectedRows) {
                     return Collections.singletonList(SqlCheckUtil.buildViolation(statement.getText(),
@@ -50,6 +50,7 @@ import com.oceanbase.tools.sqlparser.statement.expression.ColumnReference;
 import com.oceanbase.tools.sqlparser.statement.expression.RelationReference;
 
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * {@link BaseRestrictPKDataTypes}
@@ -58,6 +59,7 @@ import lombok.NonNull;
  * @date 2023-06-19 16:18
  * @since ODC_release_4.2.0
  */
+@Slf4j
 abstract class BaseRestrictPKDataTypes implements SqlCheckRule {
 
     protected final JdbcOperations jdbcOperations;
@@ -108,11 +110,21 @@ abstract class BaseRestrictPKDataTypes implements SqlCheckRule {
         List<CreateTable> tables = checkContext.getAllCheckedStatements(CreateTable.class).stream().map(p -> p.left)
                 .collect(Collectors.toList());
         if (CollectionUtils.isEmpty(tables)) {
-            return getTableFromRemote(jdbcOperations, schema, tableName);
+            return getRemoteTable(schema, tableName, checkContext);
         }
         Optional<CreateTable> optional = tables.stream().filter(
                 t -> Objects.equals(unquoteIdentifier(t.getTableName()), unquoteIdentifier(tableName))).findAny();
-        return optional.orElseGet(() -> getTableFromRemote(jdbcOperations, schema, tableName));
+        return optional.orElseGet(() -> getRemoteTable(schema, tableName, checkContext));
+    }
+
+    private CreateTable getRemoteTable(String schema, String tableName, SqlCheckContext checkContext) {
+        try {
+            return checkContext.getRemoteObject(SqlCheckUtil.getRemoteTableKey(schema, tableName),
+                    () -> getTableFromRemote(jdbcOperations, schema, tableName));
+        } catch (Exception e) {
+            log.warn("Failed to get the definition of table, schema={}, table={}", schema, tableName, e);
+            return null;
+        }
     }
 
     protected Map<String, String> getColumnName2TypeName(CreateTable createTable) {
@@ -15,7 +15,6 @@
  */
 package com.oceanbase.odc.service.sqlcheck.rule;
 
-import java.io.StringReader;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -60,6 +59,7 @@ import com.oceanbase.tools.sqlparser.statement.expression.ColumnReference;
 import com.oceanbase.tools.sqlparser.statement.truncate.TruncateTable;
 
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * {@link MySQLOfflineDdlExists}
@@ -70,6 +70,7 @@ import lombok.NonNull;
  * @ref https://www.oceanbase.com/docs/common-oceanbase-database-cn-1000000000252799
  * @ref https://www.oceanbase.com/docs/common-oceanbase-database-cn-1000000002017083
  */
+@Slf4j
 public class MySQLOfflineDdlExists implements SqlCheckRule {
     // compatible map
     // array[0] represent ranking
@@ -595,28 +596,28 @@ public class MySQLOfflineDdlExists implements SqlCheckRule {
         if (jdbcOperations == null) {
             return null;
         }
-        String sql = "SHOW CREATE TABLE " + (schema == null ? tableName : (schema + "." + tableName));
-        try {
-            String ddl = jdbcOperations.queryForObject(sql, (rs, rowNum) -> rs.getString(2));
-            if (ddl == null) {
-                return null;
-            }
-            Statement statement = new OBMySQLParser().parse(new StringReader(ddl));
-            return statement instanceof CreateTable ? (CreateTable) statement : null;
-        } catch (Exception e) {
-            return null;
-        }
+        return SqlCheckUtil.getTableFromRemote(jdbcOperations, schema, tableName, new OBMySQLParser());
     }
 
     protected CreateTable getTable(String schema, String tableName, SqlCheckContext checkContext) {
         List<CreateTable> tables = checkContext.getAllCheckedStatements(CreateTable.class).stream().map(p -> p.left)
                 .collect(Collectors.toList());
         if (CollectionUtils.isEmpty(tables)) {
-            return getTableFromRemote(jdbcOperations, schema, tableName);
+            return getRemoteTable(schema, tableName, checkContext);
         }
         Optional<CreateTable> optional = tables.stream().filter(
                 t -> Objects.equals(unquoteIdentifier(t.getTableName()), unquoteIdentifier(tableName))).findAny();
-        return optional.orElseGet(() -> getTableFromRemote(jdbcOperations, schema, tableName));
+        return optional.orElseGet(() -> getRemoteTable(schema, tableName, checkContext));
+    }
+
+    private CreateTable getRemoteTable(String schema, String tableName, SqlCheckContext checkContext) {
+        try {
+            return checkContext.getRemoteObject(SqlCheckUtil.getRemoteTableKey(schema, tableName),
+                    () -> getTableFromRemote(jdbcOperations, schema, tableName));
+        } catch (Exception e) {
+            log.warn("Failed to get the definition of table, schema={}, table={}", schema, tableName, e);
+            return null;
+        }
     }
 
     protected String unquoteIdentifier(String identifier) {
@@ -15,7 +15,6 @@
  */
 package com.oceanbase.odc.service.sqlcheck.rule;
 
-import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,6 +48,7 @@ import com.oceanbase.tools.sqlparser.statement.createtable.SortColumn;
 import com.oceanbase.tools.sqlparser.statement.expression.ColumnReference;
 
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * {@link MySQLRestrictPKAutoIncrement}
@@ -57,6 +57,7 @@ import lombok.NonNull;
  * @date 2023-06-20 18:26
  * @since ODC_release_4.2.0
  */
+@Slf4j
 public class MySQLRestrictPKAutoIncrement implements SqlCheckRule {
 
     private final JdbcOperations jdbcOperations;
@@ -128,29 +129,29 @@ public class MySQLRestrictPKAutoIncrement implements SqlCheckRule {
         List<CreateTable> tables = context.getAllCheckedStatements(CreateTable.class).stream().map(p -> p.left)
                 .collect(Collectors.toList());;
         if (CollectionUtils.isEmpty(tables)) {
-            return getTableFromRemote(jdbcOperations, schema, tableName);
+            return getRemoteTable(schema, tableName, context);
         }
         Optional<CreateTable> optional = tables.stream().filter(
                 t -> Objects.equals(SqlCheckUtil.unquoteMySQLIdentifier(t.getTableName()),
                         SqlCheckUtil.unquoteMySQLIdentifier(tableName)))
                 .findAny();
-        return optional.orElseGet(() -> getTableFromRemote(jdbcOperations, schema, tableName));
+        return optional.orElseGet(() -> getRemoteTable(schema, tableName, context));
     }
 
-    private CreateTable getTableFromRemote(JdbcOperations jdbcOperations, String schema, String tableName) {
-        String sql = "SHOW CREATE TABLE " + (schema == null ? tableName : (schema + "." + tableName));
+    private CreateTable getRemoteTable(String schema, String tableName, SqlCheckContext context) {
         try {
-            String ddl = jdbcOperations.queryForObject(sql, (rs, rowNum) -> rs.getString(2));
-            if (ddl == null) {
-                return null;
-            }
-            Statement statement = new OBMySQLParser().parse(new StringReader(ddl));
-            return statement instanceof CreateTable ? (CreateTable) statement : null;
+            return context.getRemoteObject(SqlCheckUtil.getRemoteTableKey(schema, tableName),
+                    () -> getTableFromRemote(jdbcOperations, schema, tableName));
         } catch (Exception e) {
+            log.warn("Failed to get the definition of table, schema={}, table={}", schema, tableName, e);
             return null;
         }
     }
 
+    private CreateTable getTableFromRemote(JdbcOperations jdbcOperations, String schema, String tableName) {
+        return SqlCheckUtil.getTableFromRemote(jdbcOperations, schema, tableName, new OBMySQLParser());
+    }
+
     private List<CheckViolation> builds(String sql, Map<String, Boolean> col2AutoIncrement,
             Stream<OutOfLineConstraint> stream) {
         return stream.filter(c -> c.isPrimaryKey()
@@ -15,7 +15,6 @@
  */
 package com.oceanbase.odc.service.sqlcheck.rule;
 
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -101,17 +100,7 @@ public class OracleOfflineDdlExists extends MySQLOfflineDdlExists {
         if (jdbcOperations == null) {
             return null;
         }
-        String sql = "SHOW CREATE TABLE " + (schema == null ? tableName : (schema + "." + tableName));
-        try {
-            String ddl = jdbcOperations.queryForObject(sql, (rs, rowNum) -> rs.getString(2));
-            if (ddl == null) {
-                return null;
-            }
-            Statement statement = new OBOracleSQLParser().parse(new StringReader(ddl));
-            return statement instanceof CreateTable ? (CreateTable) statement : null;
-        } catch (Exception e) {
-            return null;
-        }
+        return SqlCheckUtil.getTableFromRemote(jdbcOperations, schema, tableName, new OBOracleSQLParser());
     }
 
     @Override
@@ -15,7 +15,6 @@
  */
 package com.oceanbase.odc.service.sqlcheck.rule;
 
-import java.io.StringReader;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -25,7 +24,6 @@ import org.springframework.jdbc.core.JdbcOperations;
 import com.oceanbase.odc.core.shared.constant.DialectType;
 import com.oceanbase.odc.service.sqlcheck.SqlCheckUtil;
 import com.oceanbase.tools.sqlparser.OBOracleSQLParser;
-import com.oceanbase.tools.sqlparser.statement.Statement;
 import com.oceanbase.tools.sqlparser.statement.createtable.CreateTable;
 
 import lombok.NonNull;
@@ -50,17 +48,7 @@ public class OracleRestrictIndexDataTypes extends BaseRestrictIndexDataTypes {
 
     @Override
     protected CreateTable getTableFromRemote(JdbcOperations jdbcOperations, String schema, String tableName) {
-        String sql = "SHOW CREATE TABLE " + (schema == null ? tableName : (schema + "." + tableName));
-        try {
-            String ddl = jdbcOperations.queryForObject(sql, (rs, rowNum) -> rs.getString(2));
-            if (ddl == null) {
-                return null;
-            }
-            Statement statement = new OBOracleSQLParser().parse(new StringReader(ddl));
-            return statement instanceof CreateTable ? (CreateTable) statement : null;
-        } catch (Exception e) {
-            return null;
-        }
+        return SqlCheckUtil.getTableFromRemote(jdbcOperations, schema, tableName, new OBOracleSQLParser());
     }
 
     @Override
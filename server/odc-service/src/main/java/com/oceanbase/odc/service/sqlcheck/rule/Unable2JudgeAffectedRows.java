@@ -57,7 +57,7 @@ public class Unable2JudgeAffectedRows implements SqlCheckRule {
     @Override
     public List<CheckViolation> check(@NonNull Statement statement, @NonNull SqlCheckContext context) {
         try {
-            long affectedRows = this.targetRule.getStatementAffectedRows(statement);
+            long affectedRows = SqlCheckUtil.getAffectedRows(this.targetRule, statement, context);
             if (affectedRows < 0) {
                 return Collections.singletonList(SqlCheckUtil
                         .buildViolation(statement.getText(), statement, getType(), new Object[] {}));
@@ -15,33 +15,50 @@
  */
 package com.oceanbase.odc.service.structurecompare;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
+import com.google.common.collect.Lists;
 import com.oceanbase.odc.common.util.JdbcOperationsUtil;
+import com.oceanbase.odc.common.util.ListUtils;
 import com.oceanbase.odc.common.util.StringUtils;
+import com.oceanbase.odc.common.util.TopoOrderComparator;
 import com.oceanbase.odc.core.shared.constant.ConnectType;
 import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.core.task.TaskThreadFactory;
 import com.oceanbase.odc.service.db.browser.DBSchemaAccessors;
 import com.oceanbase.odc.service.db.browser.DBTableEditors;
-import com.oceanbase.odc.service.flow.task.model.DBStructureComparisonParameter.ComparisonScope;
 import com.oceanbase.odc.service.plugin.ConnectionPluginUtil;
 import com.oceanbase.odc.service.structurecompare.comparedbobject.DBTableStructureComparator;
 import com.oceanbase.odc.service.structurecompare.model.ComparisonResult;
 import com.oceanbase.odc.service.structurecompare.model.DBObjectComparisonResult;
 import com.oceanbase.odc.service.structurecompare.model.DBStructureComparisonConfig;
+import com.oceanbase.odc.service.task.executor.TraceDecoratorThreadFactory;
 import com.oceanbase.tools.dbbrowser.editor.DBTableEditor;
+import com.oceanbase.tools.dbbrowser.model.DBConstraintType;
 import com.oceanbase.tools.dbbrowser.model.DBObjectType;
 import com.oceanbase.tools.dbbrowser.model.DBTable;
+import com.oceanbase.tools.dbbrowser.model.DBTableConstraint;
 import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessor;
 
-import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,100 +67,261 @@ import lombok.extern.slf4j.Slf4j;
  * @date 2024/1/4
  * @since ODC_release_4.2.4
  */
-@NoArgsConstructor
 @Slf4j
 public class DefaultDBStructureComparator implements DBStructureComparator {
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final int DEFAULT_BATCH_SIZE = 200;
     private final List<DialectType> supportedDialectTypes =
             Arrays.asList(DialectType.MYSQL, DialectType.OB_MYSQL, DialectType.OB_ORACLE);
     private final List<DBObjectType> supportedDBObjectTypes = Arrays.asList(DBObjectType.TABLE);
-    private DBTableStructureComparator tableComparator;
-    private ComparisonScope scope;
-    private Integer totalObjectCount = null;
-    private Integer completedObjectCount = 0;
+    private final int parallelism;
+    private final int batchSize;
+    private volatile Integer totalObjectCount = null;
+    private volatile int completedObjectCount = 0;
+
+    public DefaultDBStructureComparator() {
+        this(DEFAULT_PARALLELISM, DEFAULT_BATCH_SIZE);
+    }
+
+    public DefaultDBStructureComparator(int parallelism, int batchSize) {
+        if (parallelism <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Parallelism and batch size must be positive");
+        }
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+    }
 
     @Override
     public List<DBObjectComparisonResult> compare(@NonNull DBStructureComparisonConfig srcConfig,
             @NonNull DBStructureComparisonConfig tgtConfig) throws SQLException {
         List<DBObjectComparisonResult> returnVal = new ArrayList<>();
-        if (srcConfig.getBlackListMap().isEmpty()) {
-            this.scope = ComparisonScope.ALL;
-        } else {
-            this.scope = ComparisonScope.PART;
-        }
+        compare(srcConfig, tgtConfig, returnVal::addAll);
+        return returnVal;
+    }
+
+    /**
+     * Compare database objects between two schema, the results are handed to the consumer batch by
+     * batch. Tables are loaded and compared in batches on a worker pool, so only a few batches are kept
+     * in memory. Tables to be created or dropped are ordered by foreign key dependencies before they
+     * are split into batches, the dependencies are read from the constraints of the schema.
+     *
+     * @param srcConfig {@link DBStructureComparisonConfig}
+     * @param tgtConfig {@link DBStructureComparisonConfig}
+     * @param resultConsumer consumer of the results, called in the order of created, compared, dropped
+     *        and missing tables
+     */
+    public void compare(@NonNull DBStructureComparisonConfig srcConfig,
+            @NonNull DBStructureComparisonConfig tgtConfig,
+            @NonNull Consumer<List<DBObjectComparisonResult>> resultConsumer) throws SQLException {
         checkUnsupportedConfiguration(srcConfig, tgtConfig);
 
         String srcDbVersion = getDBVersion(srcConfig.getConnectType(), srcConfig.getDataSource());
         String tgtDbVersion = getDBVersion(tgtConfig.getConnectType(), tgtConfig.getDataSource());
 
-        DBSchemaAccessor srcAccessor =
-                getDBSchemaAccessor(srcConfig.getConnectType(), srcConfig.getDataSource(), srcDbVersion);
-        DBSchemaAccessor tgtAccessor =
-                getDBSchemaAccessor(tgtConfig.getConnectType(), tgtConfig.getDataSource(), tgtDbVersion);
-
-        DBTableEditor tgtTableEditor = getDBTableEditor(tgtConfig.getConnectType(), tgtDbVersion);
-
         log.info(
-                "DefaultDBStructureComparator start to build source and target schema tables, source schema name={}, target schema name={}",
+                "DefaultDBStructureComparator start to list source and target schema tables, source schema name={}, target schema name={}",
                 srcConfig.getSchemaName(), tgtConfig.getSchemaName());
         long startTimestamp = System.currentTimeMillis();
-        Map<String, DBTable> srcTableName2Table = srcAccessor.getTables(srcConfig.getSchemaName(), null);
-        Map<String, DBTable> tgtTableName2Table = tgtAccessor.getTables(tgtConfig.getSchemaName(), null);
-
-        if (srcConfig.getConnectType().getDialectType().isMysql()) {
-            srcTableName2Table.values().forEach(StringUtils::quoteColumnDefaultValuesForMySQL);
-            tgtTableName2Table.values().forEach(StringUtils::quoteColumnDefaultValuesForMySQL);
-        }
-        log.info(
-                "DefaultDBStructureComparator build source and target schema tables success, time consuming={} seconds",
-                (System.currentTimeMillis() - startTimestamp) / 1000);
+        Set<String> srcTableNames = new HashSet<>(showTables(srcConfig, srcDbVersion));
+        Set<String> tgtTableNames = new HashSet<>(showTables(tgtConfig, tgtDbVersion));
 
-        tableComparator = new DBTableStructureComparator(tgtTableEditor,
-                tgtConfig.getConnectType().getDialectType(),
-                srcConfig.getSchemaName(), tgtConfig.getSchemaName());
-
-        if (srcConfig.getBlackListMap().get(DBObjectType.TABLE) == null) {
+        List<String> toCreatedNames = new ArrayList<>();
+        List<String> toComparedNames = new ArrayList<>();
+        List<String> toDroppedNames = new ArrayList<>();
+        List<String> missingNames = new ArrayList<>();
+        Set<String> tableNamesToBeCompared = srcConfig.getBlackListMap().get(DBObjectType.TABLE);
+        if (tableNamesToBeCompared == null) {
             /**
              * Compare all the tables between source database and target database.
              */
-            returnVal =
-                    tableComparator.compare(new ArrayList<>(srcTableName2Table.values()),
-                            new ArrayList<>(tgtTableName2Table.values()));
+            for (String tableName : srcTableNames) {
+                (tgtTableNames.contains(tableName) ? toComparedNames : toCreatedNames).add(tableName);
+            }
+            tgtTableNames.stream().filter(tableName -> !srcTableNames.contains(tableName))
+                    .forEach(toDroppedNames::add);
         } else {
             /**
              * Compare specified tables between source database and target database.
              */
-            Set<String> tableNamesToBeCompared = srcConfig.getBlackListMap().get(DBObjectType.TABLE);
-            this.totalObjectCount = tableNamesToBeCompared.size();
             for (String tableName : tableNamesToBeCompared) {
-                if (srcTableName2Table.containsKey(tableName)) {
-                    returnVal.add(tableComparator.compare(srcTableName2Table.get(tableName),
-                            tgtTableName2Table.get(tableName)));
-                    this.completedObjectCount++;
+                if (!srcTableNames.contains(tableName)) {
+                    missingNames.add(tableName);
                 } else {
-                    DBObjectComparisonResult result = new DBObjectComparisonResult(DBObjectType.TABLE, tableName,
-                            srcConfig.getSchemaName(), tgtConfig.getSchemaName());
-                    result.setComparisonResult(ComparisonResult.MISSING_IN_SOURCE);
-                    this.completedObjectCount++;
-                    returnVal.add(result);
+                    (tgtTableNames.contains(tableName) ? toComparedNames : toCreatedNames).add(tableName);
                 }
             }
         }
+        this.totalObjectCount =
+                toCreatedNames.size() + toComparedNames.size() + toDroppedNames.size() + missingNames.size();
+
+        ExecutorService executor = Executors.newFixedThreadPool(this.parallelism,
+                new TraceDecoratorThreadFactory(new TaskThreadFactory("Structure-Comparison")));
+        try {
+            List<String> orderedToCreatedNames = getTableNamesByDependencyOrder(srcConfig, srcDbVersion,
+                    toCreatedNames);
+            compareInBatches(executor, orderedToCreatedNames, batch -> {
+                Map<String, DBTable> srcTableName2Table = getTables(srcConfig, srcDbVersion, batch);
+                DBTableStructureComparator tableComparator = getTableComparator(srcConfig, tgtConfig, tgtDbVersion);
+                return batch.stream().filter(srcTableName2Table::containsKey)
+                        .map(name -> tableComparator.compare(srcTableName2Table.get(name), null))
+                        .collect(Collectors.toList());
+            }, resultConsumer);
+            compareInBatches(executor, toComparedNames, batch -> {
+                Map<String, DBTable> srcTableName2Table = getTables(srcConfig, srcDbVersion, batch);
+                Map<String, DBTable> tgtTableName2Table = getTables(tgtConfig, tgtDbVersion, batch);
+                DBTableStructureComparator tableComparator = getTableComparator(srcConfig, tgtConfig, tgtDbVersion);
+                return batch.stream()
+                        .filter(name -> srcTableName2Table.containsKey(name) || tgtTableName2Table.containsKey(name))
+                        .map(name -> tableComparator.compare(srcTableName2Table.get(name),
+                                tgtTableName2Table.get(name)))
+                        .collect(Collectors.toList());
+            }, resultConsumer);
+            // tables depending on others are dropped first
+            List<String> orderedToDroppedNames = getTableNamesByDependencyOrder(tgtConfig, tgtDbVersion,
+                    toDroppedNames);
+            Collections.reverse(orderedToDroppedNames);
+            compareInBatches(executor, orderedToDroppedNames, batch -> {
+                Map<String, DBTable> tgtTableName2Table = getTables(tgtConfig, tgtDbVersion, batch);
+                DBTableStructureComparator tableComparator = getTableComparator(srcConfig, tgtConfig, tgtDbVersion);
+                return batch.stream().filter(tgtTableName2Table::containsKey)
+                        .map(name -> tableComparator.compare(null, tgtTableName2Table.get(name)))
+                        .collect(Collectors.toList());
+            }, resultConsumer);
+        } finally {
+            executor.shutdownNow();
+        }
+        consume(missingNames.stream().map(tableName -> {
+            DBObjectComparisonResult result = new DBObjectComparisonResult(DBObjectType.TABLE, tableName,
+                    srcConfig.getSchemaName(), tgtConfig.getSchemaName());
+            result.setComparisonResult(ComparisonResult.MISSING_IN_SOURCE);
+            return result;
+        }).collect(Collectors.toList()), resultConsumer);
+        log.info("DefaultDBStructureComparator compare source and target schema tables success, "
+                + "table count={}, time consuming={} seconds", this.totalObjectCount,
+                (System.currentTimeMillis() - startTimestamp) / 1000);
+    }
+
+    private void compareInBatches(ExecutorService executor, List<String> tableNames,
+            BatchComparison batchComparison, Consumer<List<DBObjectComparisonResult>> resultConsumer)
+            throws SQLException {
+        // at most parallelism batches are in flight, results are consumed in the order of batches
+        Deque<Future<List<DBObjectComparisonResult>>> futures = new ArrayDeque<>();
+        try {
+            for (List<String> batch : Lists.partition(tableNames, this.batchSize)) {
+                if (futures.size() >= this.parallelism) {
+                    consume(getResults(futures.poll()), resultConsumer);
+                }
+                futures.offer(executor.submit(() -> batchComparison.compare(batch)));
+            }
+            while (!futures.isEmpty()) {
+                consume(getResults(futures.poll()), resultConsumer);
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Construct a topology graph based on the foreign keys of the schema and obtain a list of table
+     * names sorted by the topology graph, referenced tables come first.
+     */
+    private List<String> getTableNamesByDependencyOrder(DBStructureComparisonConfig config, String dbVersion,
+            List<String> tableNames) throws SQLException {
+        List<String> returnVal = new ArrayList<>(tableNames);
+        if (returnVal.size() <= 1) {
+            return returnVal;
+        }
+        Map<String, List<DBTableConstraint>> tableName2Constraints;
+        try (Connection connection = config.getDataSource().getConnection()) {
+            tableName2Constraints = getDBSchemaAccessor(config.getConnectType(), connection, dbVersion)
+                    .listTableConstraints(config.getSchemaName());
+        }
+        Set<String> tableNameSet = new HashSet<>(tableNames);
+        Map<String, Set<String>> dependencyGraph = new HashMap<>();
+        tableName2Constraints.forEach((tableName, constraints) -> {
+            if (!tableNameSet.contains(tableName)) {
+                return;
+            }
+            for (DBTableConstraint constraint : constraints) {
+                String referenceTableName = constraint.getReferenceTableName();
+                if (constraint.getType() == DBConstraintType.FOREIGN_KEY
+                        && config.getSchemaName().equals(constraint.getReferenceSchemaName())
+                        && tableNameSet.contains(referenceTableName) && !tableName.equals(referenceTableName)) {
+                    dependencyGraph.computeIfAbsent(referenceTableName, k -> new HashSet<>()).add(tableName);
+                }
+            }
+        });
+        if (!dependencyGraph.isEmpty()) {
+            ListUtils.sortByTopoOrder(returnVal, new TopoOrderComparator<>(dependencyGraph));
+        }
         return returnVal;
     }
 
-    private DBSchemaAccessor getDBSchemaAccessor(ConnectType connectType, DataSource dataSource, String dbVersion)
+    private List<DBObjectComparisonResult> getResults(Future<List<DBObjectComparisonResult>> future)
             throws SQLException {
-        return DBSchemaAccessors.create(JdbcOperationsUtil.getJdbcOperations(dataSource.getConnection()), null,
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Structure comparison is interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void consume(List<DBObjectComparisonResult> results,
+            Consumer<List<DBObjectComparisonResult>> resultConsumer) {
+        if (results.isEmpty()) {
+            return;
+        }
+        resultConsumer.accept(results);
+        this.completedObjectCount += results.size();
+    }
+
+    private List<String> showTables(DBStructureComparisonConfig config, String dbVersion) throws SQLException {
+        try (Connection connection = config.getDataSource().getConnection()) {
+            return getDBSchemaAccessor(config.getConnectType(), connection, dbVersion)
+                    .showTables(config.getSchemaName());
+        }
+    }
+
+    private Map<String, DBTable> getTables(DBStructureComparisonConfig config, String dbVersion,
+            List<String> tableNames) throws SQLException {
+        Map<String, DBTable> tableName2Table;
+        try (Connection connection = config.getDataSource().getConnection()) {
+            tableName2Table = getDBSchemaAccessor(config.getConnectType(), connection, dbVersion)
+                    .getTables(config.getSchemaName(), tableNames);
+        }
+        if (config.getConnectType().getDialectType().isMysql()) {
+            tableName2Table.values().forEach(StringUtils::quoteColumnDefaultValuesForMySQL);
+        }
+        return tableName2Table;
+    }
+
+    private DBTableStructureComparator getTableComparator(DBStructureComparisonConfig srcConfig,
+            DBStructureComparisonConfig tgtConfig, String tgtDbVersion) {
+        return new DBTableStructureComparator(getDBTableEditor(tgtConfig.getConnectType(), tgtDbVersion),
+                tgtConfig.getConnectType().getDialectType(), srcConfig.getSchemaName(), tgtConfig.getSchemaName());
+    }
+
+    DBSchemaAccessor getDBSchemaAccessor(ConnectType connectType, Connection connection, String dbVersion) {
+        return DBSchemaAccessors.create(JdbcOperationsUtil.getJdbcOperations(connection), null,
                 connectType, dbVersion, null);
     }
 
-    private DBTableEditor getDBTableEditor(ConnectType connectType, String dbVersion) {
+    DBTableEditor getDBTableEditor(ConnectType connectType, String dbVersion) {
         return DBTableEditors.create(connectType, dbVersion);
     }
 
-    private String getDBVersion(ConnectType connectType, DataSource dataSource) throws SQLException {
-        return ConnectionPluginUtil.getInformationExtension(connectType.getDialectType())
-                .getDBVersion(dataSource.getConnection());
+    String getDBVersion(ConnectType connectType, DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return ConnectionPluginUtil.getInformationExtension(connectType.getDialectType()).getDBVersion(connection);
+        }
     }
 
     private void checkUnsupportedConfiguration(DBStructureComparisonConfig srcConfig,
@@ -166,21 +344,18 @@ public class DefaultDBStructureComparator implements DBStructureComparator {
 
     @Override
     public Double getProgress() {
-        if (this.scope == ComparisonScope.ALL) {
-            if (tableComparator != null) {
-                return tableComparator.getProgress();
-            } else {
-                return 0.0D;
-            }
-        } else {
-            if (totalObjectCount == null) {
-                return 0.0D;
-            } else if (totalObjectCount == 0) {
-                return 100.0D;
-            } else {
-                double progress = completedObjectCount * 100D / totalObjectCount;
-                return Math.min(progress, 100.0D);
-            }
+        Integer total = this.totalObjectCount;
+        if (total == null) {
+            return 0.0D;
+        } else if (total == 0) {
+            return 100.0D;
         }
+        double progress = this.completedObjectCount * 100D / total;
+        return Math.min(progress, 100.0D);
     }
+
+    private interface BatchComparison {
+        List<DBObjectComparisonResult> compare(List<String> tableNames) throws SQLException;
+    }
+
 }
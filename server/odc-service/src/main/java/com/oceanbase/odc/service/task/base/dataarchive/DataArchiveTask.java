@@ -22,6 +22,14 @@ import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections.CollectionUtils;
@@ -29,6 +37,7 @@ import org.apache.commons.collections.CollectionUtils;
 import com.oceanbase.odc.common.json.JsonUtils;
 import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.shared.constant.TaskStatus;
+import com.oceanbase.odc.core.task.TaskThreadFactory;
 import com.oceanbase.odc.service.dlm.DLMJobFactory;
 import com.oceanbase.odc.service.dlm.DLMJobStore;
 import com.oceanbase.odc.service.dlm.DLMTableStructureSynchronizer;
@@ -41,6 +50,7 @@ import com.oceanbase.odc.service.schedule.model.DlmTableUnitStatistic;
 import com.oceanbase.odc.service.task.base.TaskBase;
 import com.oceanbase.odc.service.task.caller.JobContext;
 import com.oceanbase.odc.service.task.constants.JobParametersKeyConstants;
+import com.oceanbase.odc.service.task.executor.TraceDecoratorThreadFactory;
 import com.oceanbase.odc.service.task.util.JobUtils;
 import com.oceanbase.tools.migrator.common.configure.JoinCondition;
 import com.oceanbase.tools.migrator.common.enums.JobType;
@@ -62,10 +72,15 @@ public class DataArchiveTask extends TaskBase<List<DlmTableUnit>> {
     private DLMJobFactory jobFactory;
     private DLMJobStore jobStore;
     private double progress = 0.0;
-    private Job job;
+    // migrator jobs in flight, key is the id of the table unit
+    private final Map<String, Job> runningJobs = new ConcurrentHashMap<>();
     private List<DlmTableUnit> toDoList;
     private int currentIndex = -1;
-    private boolean isToStop = false;
+    private volatile boolean isToStop = false;
+    // number of tables processed at the same time, the rate limit is shared by them
+    private int tableConcurrency = 1;
+    // table units submitted to be processed concurrently, pending ones are canceled when stopping
+    private final List<Future<?>> tableFutures = new CopyOnWriteArrayList<>();
 
     public DataArchiveTask() {}
 
@@ -79,6 +94,8 @@ public class DataArchiveTask extends TaskBase<List<DlmTableUnit>> {
                             jobContext.getJobParameters().get(JobParametersKeyConstants.META_TASK_PARAMETER_JSON),
                             DLMJobReq.class);
             log.info("Start to init dlm job,tables={}", parameters.getTables());
+            // no more tables can be processed at the same time than there are
+            tableConcurrency = Math.max(1, Math.min(parameters.getTableConcurrency(), parameters.getTables().size()));
             initTableUnit(parameters);
             currentIndex = -1;
             log.info(buildToDoTableInfo());
@@ -91,44 +108,86 @@ public class DataArchiveTask extends TaskBase<List<DlmTableUnit>> {
 
     @Override
     public boolean start() throws Exception {
-        while (!isToStop) {
-            DlmTableUnit dlmTableUnit = getNextTableUnit();
-            if (dlmTableUnit == null) {
-                break;
+        if (tableConcurrency <= 1) {
+            DlmTableUnit dlmTableUnit;
+            while (!isToStop && (dlmTableUnit = getNextTableUnit()) != null) {
+                runTableUnit(dlmTableUnit);
             }
-            syncTableStructure(dlmTableUnit);
-            try {
-                jobStore.setDlmTableUnit(dlmTableUnit);
-                job = jobFactory.createJob(dlmTableUnit);
-            } catch (Throwable e) {
-                log.error("Failed to create job,dlmTableUnitId={}", dlmTableUnit.getDlmTableUnitId(), e);
-                dlmTableUnit.setStatus(isToStop ? TaskStatus.CANCELED : TaskStatus.FAILED);
-                continue;
+        } else {
+            runTableUnitsConcurrently();
+        }
+        log.info("All tables have been processed,jobIdentity={}.\n{}", jobContext.getJobIdentity(), buildReport());
+        return true;
+    }
+
+    private void runTableUnitsConcurrently() throws InterruptedException {
+        log.info("Start to process tables concurrently,tableConcurrency={}", tableConcurrency);
+        ExecutorService executor = Executors.newFixedThreadPool(tableConcurrency, new TraceDecoratorThreadFactory(
+                new TaskThreadFactory("DLM-Table-" + jobContext.getJobIdentity().getId())));
+        try {
+            DlmTableUnit dlmTableUnit;
+            while (!isToStop && (dlmTableUnit = getNextTableUnit()) != null) {
+                DlmTableUnit tableUnit = dlmTableUnit;
+                tableFutures.add(executor.submit(() -> runTableUnit(tableUnit)));
             }
-            log.info("Init {} job succeed,dlmTableUnitId={}", dlmTableUnit.getType(), dlmTableUnit.getDlmTableUnitId());
-            try {
-                if (!isToStop && dlmTableUnit.getStatus() == TaskStatus.PREPARING) {
-                    dlmTableUnit.setStatus(TaskStatus.RUNNING);
-                    dlmTableUnit.setStartTime(new Date());
-                    job.run();
-                    log.info("{} job finished,dlmTableUnitId={}", dlmTableUnit.getType(),
-                            dlmTableUnit.getDlmTableUnitId());
-                    dlmTableUnit.setStatus(TaskStatus.DONE);
-                } else {
-                    log.warn("Job is canceled,dlmTableUnitId={},status={}", dlmTableUnit.getDlmTableUnitId(),
-                            dlmTableUnit.getStatus());
+            for (Future<?> future : tableFutures) {
+                try {
+                    future.get();
+                } catch (CancellationException e) {
+                    log.info("Table processing is canceled,jobIdentity={}", jobContext.getJobIdentity());
+                } catch (ExecutionException e) {
+                    log.warn("Failed to process table,jobIdentity={}", jobContext.getJobIdentity(), e.getCause());
                 }
-            } catch (Throwable e) {
-                dlmTableUnit.setStatus(isToStop ? TaskStatus.CANCELED : TaskStatus.FAILED);
-                context.getExceptionListener().onException(e);
             }
-            dlmTableUnit.setEndTime(new Date());
+        } finally {
+            executor.shutdownNow();
         }
-        log.info("All tables have been processed,jobIdentity={}.\n{}", jobContext.getJobIdentity(), buildReport());
-        return true;
     }
 
-    private DlmTableUnit getNextTableUnit() {
+    private void runTableUnit(DlmTableUnit dlmTableUnit) {
+        if (isToStop) {
+            log.info("Task is stopping, skip table,dlmTableUnitId={}", dlmTableUnit.getDlmTableUnitId());
+            if (!dlmTableUnit.getStatus().isTerminated()) {
+                dlmTableUnit.setStatus(TaskStatus.CANCELED);
+            }
+            return;
+        }
+        syncTableStructure(dlmTableUnit);
+        Job job;
+        try {
+            jobStore.setDlmTableUnit(dlmTableUnit);
+            synchronized (jobFactory) {
+                job = jobFactory.createJob(dlmTableUnit);
+            }
+        } catch (Throwable e) {
+            log.error("Failed to create job,dlmTableUnitId={}", dlmTableUnit.getDlmTableUnitId(), e);
+            dlmTableUnit.setStatus(isToStop ? TaskStatus.CANCELED : TaskStatus.FAILED);
+            return;
+        }
+        log.info("Init {} job succeed,dlmTableUnitId={}", dlmTableUnit.getType(), dlmTableUnit.getDlmTableUnitId());
+        runningJobs.put(dlmTableUnit.getDlmTableUnitId(), job);
+        try {
+            if (!isToStop && dlmTableUnit.getStatus() == TaskStatus.PREPARING) {
+                dlmTableUnit.setStatus(TaskStatus.RUNNING);
+                dlmTableUnit.setStartTime(new Date());
+                job.run();
+                log.info("{} job finished,dlmTableUnitId={}", dlmTableUnit.getType(),
+                        dlmTableUnit.getDlmTableUnitId());
+                dlmTableUnit.setStatus(TaskStatus.DONE);
+            } else {
+                log.warn("Job is canceled,dlmTableUnitId={},status={}", dlmTableUnit.getDlmTableUnitId(),
+                        dlmTableUnit.getStatus());
+            }
+        } catch (Throwable e) {
+            dlmTableUnit.setStatus(isToStop ? TaskStatus.CANCELED : TaskStatus.FAILED);
+            context.getExceptionListener().onException(e);
+        } finally {
+            runningJobs.remove(dlmTableUnit.getDlmTableUnitId());
+        }
+        dlmTableUnit.setEndTime(new Date());
+    }
+
+    private synchronized DlmTableUnit getNextTableUnit() {
         if (CollectionUtils.isEmpty(toDoList)) {
             log.warn("The table list is empty,the task will exit.");
             return null;
@@ -217,8 +276,8 @@ public class DataArchiveTask extends TaskBase<List<DlmTableUnit>> {
             dlmTableUnit.setStatistic(new DlmTableUnitStatistic());
             dlmTableUnit.setSyncTableStructure(req.getSyncTableStructure());
             LimiterConfig limiterConfig = new LimiterConfig();
-            limiterConfig.setDataSizeLimit(req.getRateLimit().getDataSizeLimit());
-            limiterConfig.setRowLimit(req.getRateLimit().getRowLimit());
+            limiterConfig.setDataSizeLimit(shareLimit(req.getRateLimit().getDataSizeLimit()));
+            limiterConfig.setRowLimit(shareLimit(req.getRateLimit().getRowLimit()));
             dlmTableUnit.setSourceLimitConfig(limiterConfig);
             dlmTableUnit.setTargetLimitConfig(limiterConfig);
             if (StringUtils.isNotEmpty(table.getTempTableName())) {
@@ -246,6 +305,13 @@ public class DataArchiveTask extends TaskBase<List<DlmTableUnit>> {
         toDoList = Collections.unmodifiableList(dlmTableUnits);
     }
 
+    /**
+     * the rate limit is shared by the tables processed at the same time
+     */
+    private long shareLimit(long limit) {
+        return limit <= 0 ? limit : Math.max(1, limit / tableConcurrency);
+    }
+
     private String buildReport() {
         StringBuilder sb = new StringBuilder();
         sb.append("Job report:\n");
@@ -280,13 +346,15 @@ public class DataArchiveTask extends TaskBase<List<DlmTableUnit>> {
     @Override
     public void stop() throws Exception {
         isToStop = true;
-        if (job != null) {
+        // running table units are stopped by their jobs below
+        tableFutures.forEach(future -> future.cancel(false));
+        runningJobs.forEach((id, job) -> {
             try {
                 job.stop();
             } catch (Exception e) {
-                log.warn("Update dlm table unit status failed,DlmTableUnitId={}", job.getJobMeta().getJobId());
+                log.warn("Update dlm table unit status failed,DlmTableUnitId={}", id);
             }
-        }
+        });
         if (toDoList != null) {
             toDoList.forEach(t -> {
                 if (!t.getStatus().isTerminated()) {
@@ -295,6 +363,11 @@ public class DataArchiveTask extends TaskBase<List<DlmTableUnit>> {
             });
             log.info("Stop all table success.");
         }
+        try {
+            jobStore.flush();
+        } catch (Exception e) {
+            log.warn("Flush checkpoints failed when stopping,errorMsg={}", e.getMessage());
+        }
     }
 
     @Override
@@ -312,7 +385,8 @@ public class DataArchiveTask extends TaskBase<List<DlmTableUnit>> {
     }
 
     public void updateLimiter(Map<String, String> jobParameters) {
-        JobMeta jobMeta = job != null && job.getJobMeta() != null ? job.getJobMeta() : null;
+        List<JobMeta> jobMetas = runningJobs.values().stream().map(Job::getJobMeta).filter(Objects::nonNull)
+                .collect(Collectors.toList());
         try {
             RateLimitConfiguration params;
             if (jobParameters.containsKey(JobParametersKeyConstants.DLM_RATE_LIMIT_CONFIG)) {
@@ -326,24 +400,26 @@ public class DataArchiveTask extends TaskBase<List<DlmTableUnit>> {
                 params = dlmJobReq.getRateLimit();
             }
             if (params.getDataSizeLimit() != null) {
-                if (jobMeta != null) {
-                    jobMeta.getSourceLimiterConfig().setDataSizeLimit(params.getDataSizeLimit());
-                    jobMeta.getTargetLimiterConfig().setDataSizeLimit(params.getDataSizeLimit());
-                }
+                long dataSizeLimit = shareLimit(params.getDataSizeLimit());
+                jobMetas.forEach(jobMeta -> {
+                    jobMeta.getSourceLimiterConfig().setDataSizeLimit(dataSizeLimit);
+                    jobMeta.getTargetLimiterConfig().setDataSizeLimit(dataSizeLimit);
+                });
                 toDoList.forEach(t -> {
-                    t.getSourceLimitConfig().setDataSizeLimit(params.getDataSizeLimit());
-                    t.getTargetLimitConfig().setDataSizeLimit(params.getDataSizeLimit());
+                    t.getSourceLimitConfig().setDataSizeLimit(dataSizeLimit);
+                    t.getTargetLimitConfig().setDataSizeLimit(dataSizeLimit);
                 });
                 log.info("Update rate limit success,dataSizeLimit={}", params.getDataSizeLimit());
             }
             if (params.getRowLimit() != null) {
-                if (jobMeta != null) {
-                    jobMeta.getSourceLimiterConfig().setRowLimit(params.getRowLimit());
-                    jobMeta.getTargetLimiterConfig().setRowLimit(params.getRowLimit());
-                }
+                long rowLimit = shareLimit(params.getRowLimit());
+                jobMetas.forEach(jobMeta -> {
+                    jobMeta.getSourceLimiterConfig().setRowLimit(rowLimit);
+                    jobMeta.getTargetLimiterConfig().setRowLimit(rowLimit);
+                });
                 toDoList.forEach(t -> {
-                    t.getSourceLimitConfig().setRowLimit(params.getRowLimit());
-                    t.getTargetLimitConfig().setRowLimit(params.getRowLimit());
+                    t.getSourceLimitConfig().setRowLimit(rowLimit);
+                    t.getTargetLimitConfig().setRowLimit(rowLimit);
                 });
                 log.info("Update rate limit success,rowLimit={}", params.getRowLimit());
             }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.task.base.databasechange;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oceanbase.odc.common.json.JacksonFactory;
+import com.oceanbase.odc.common.util.CSVUtils;
+import com.oceanbase.odc.service.session.model.SqlExecuteResult;
+
+import lombok.Data;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link DatabaseChangeResultWriter}
+ *
+ * Writer of the query results of a database change task. The JSON file and the zip file of CSVs are
+ * kept open for the whole task, every result is streamed to them once it is available, so the
+ * memory used does not grow with the number of queries.
+ *
+ * @author agent
+ * @see DatabaseChangeTask
+ */
+@Slf4j
+public class DatabaseChangeResultWriter implements Closeable {
+
+    private static final ObjectMapper OBJECT_MAPPER = JacksonFactory.jsonMapper();
+    private static final String CSV_EXECUTE_RESULT_FILE_NAME = "csv_execute_result.json";
+
+    private final File jsonFile;
+    private final File zipFile;
+    private final List<CSVExecuteResult> csvFileMappers = new ArrayList<>();
+    private JsonGenerator jsonGenerator;
+    private ZipArchiveOutputStream zipOutputStream;
+    private int csvFileIndex = 0;
+
+    public DatabaseChangeResultWriter(@NonNull File jsonFile, @NonNull File zipFile) {
+        this.jsonFile = jsonFile;
+        this.zipFile = zipFile;
+    }
+
+    /**
+     * append results to the JSON array, the JSON file is created even if there is no result
+     */
+    public void appendJson(@NonNull List<SqlExecuteResult> results) throws IOException {
+        if (this.jsonGenerator == null) {
+            this.jsonGenerator = OBJECT_MAPPER.getFactory().createGenerator(
+                    new BufferedOutputStream(new FileOutputStream(this.jsonFile, true)), JsonEncoding.UTF8);
+            this.jsonGenerator.writeStartArray();
+        }
+        for (SqlExecuteResult result : results) {
+            this.jsonGenerator.writeObject(result);
+        }
+        this.jsonGenerator.flush();
+    }
+
+    /**
+     * each result with rows is written as a CSV entry of the zip file
+     */
+    public void appendCsv(@NonNull List<SqlExecuteResult> results) throws IOException {
+        for (SqlExecuteResult result : results) {
+            this.csvFileIndex++;
+            if (Objects.isNull(result.getRows()) || result.getRows().isEmpty()) {
+                continue;
+            }
+            String fileName = String.format("%s.csv", this.csvFileIndex);
+            ZipArchiveOutputStream outputStream = getZipOutputStream();
+            outputStream.putArchiveEntry(new ZipArchiveEntry(fileName));
+            try (Writer writer = new OutputStreamWriter(new CloseShieldOutputStream(outputStream),
+                    StandardCharsets.UTF_8)) {
+                CSVUtils.writeCSVFormatData(writer, result.getColumns(), result.getRows());
+            }
+            outputStream.closeArchiveEntry();
+            this.csvFileMappers.add(new CSVExecuteResult(this.csvFileIndex, result.getExecuteSql(), fileName));
+        }
+    }
+
+    public void finishJson() throws IOException {
+        if (this.jsonGenerator == null || this.jsonGenerator.isClosed()) {
+            return;
+        }
+        this.jsonGenerator.writeEndArray();
+        this.jsonGenerator.close();
+    }
+
+    /**
+     * write the mapping of CSV files and sqls, then close the zip file
+     */
+    public File finishZip() throws IOException {
+        ZipArchiveOutputStream outputStream = getZipOutputStream();
+        outputStream.putArchiveEntry(new ZipArchiveEntry(CSV_EXECUTE_RESULT_FILE_NAME));
+        outputStream.write(OBJECT_MAPPER.writerWithDefaultPrettyPrinter()
+                .writeValueAsBytes(this.csvFileMappers));
+        outputStream.closeArchiveEntry();
+        outputStream.close();
+        this.zipOutputStream = null;
+        return this.zipFile;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (this.jsonGenerator != null && !this.jsonGenerator.isClosed()) {
+                this.jsonGenerator.close();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to close JSON file, file={}", this.jsonFile, e);
+        }
+        try {
+            if (this.zipOutputStream != null) {
+                this.zipOutputStream.close();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to close zip file, file={}", this.zipFile, e);
+        }
+    }
+
+    private ZipArchiveOutputStream getZipOutputStream() throws IOException {
+        if (this.zipOutputStream == null) {
+            this.zipOutputStream =
+                    new ZipArchiveOutputStream(new BufferedOutputStream(new FileOutputStream(this.zipFile)));
+        }
+        return this.zipOutputStream;
+    }
+
+    /**
+     * Record CSVFile name with its corresponding sql
+     */
+    @Data
+    private static class CSVExecuteResult {
+        private int sequence;
+        private String sql;
+        private String fileName;
+
+        CSVExecuteResult(int sequence, String sql, String fileName) {
+            this.sequence = sequence;
+            this.sql = sql;
+            this.fileName = fileName;
+        }
+    }
+
+}
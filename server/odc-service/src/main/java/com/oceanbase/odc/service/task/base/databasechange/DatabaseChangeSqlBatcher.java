@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.task.base.databasechange;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.time.StopWatch;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import com.oceanbase.odc.common.util.TraceWatch;
+import com.oceanbase.odc.common.util.TraceWatch.EditableTraceStage;
+import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.core.sql.execute.SqlExecuteStages;
+import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
+import com.oceanbase.odc.core.sql.parser.AbstractSyntaxTreeFactories;
+import com.oceanbase.odc.core.sql.parser.AbstractSyntaxTreeFactory;
+import com.oceanbase.odc.service.session.OdcStatementCallBack;
+import com.oceanbase.tools.dbbrowser.parser.constant.SqlType;
+
+import lombok.NonNull;
+
+/**
+ * {@link DatabaseChangeSqlBatcher}
+ *
+ * Groups the consecutive batchable sqls of a database change task into jdbc batches of at most
+ * {@code batchSize} sqls. A sql which can not be batched flushes the pending batch first, a batch
+ * which is not executed is replayed one by one with the indexes of its sqls in the script.
+ *
+ * @author agent
+ * @see DatabaseChangeTask
+ */
+class DatabaseChangeSqlBatcher {
+
+    private final int batchSize;
+    private final Predicate<String> batchable;
+    private final Callback callback;
+    private final List<String> batch = new ArrayList<>();
+    private int startIndex;
+
+    DatabaseChangeSqlBatcher(int batchSize, @NonNull Predicate<String> batchable, @NonNull Callback callback) {
+        this.batchSize = batchSize;
+        this.batchable = batchable;
+        this.callback = callback;
+    }
+
+    /**
+     * @param index index of the sql in the script, starts from 1
+     * @return {@code false} if the task should not go on
+     */
+    boolean add(int index, @NonNull String sql) {
+        if (this.batchSize > 1 && this.batchable.test(sql)) {
+            if (this.batch.isEmpty()) {
+                this.startIndex = index;
+            }
+            this.batch.add(sql);
+            return this.batch.size() < this.batchSize || flush();
+        }
+        return flush() && this.callback.executeStatement(index, sql);
+    }
+
+    /**
+     * @return {@code false} if the task should not go on
+     */
+    boolean flush() {
+        if (this.batch.isEmpty()) {
+            return true;
+        }
+        List<String> sqls = new ArrayList<>(this.batch);
+        this.batch.clear();
+        if (this.callback.executeBatch(this.startIndex, sqls)) {
+            return true;
+        }
+        for (int i = 0; i < sqls.size(); i++) {
+            if (!this.callback.executeStatement(this.startIndex + i, sqls.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Only plain dml without result sets or binary parameters can be executed in batch
+     */
+    static boolean isBatchable(@NonNull String sql, @NonNull DialectType dialectType) {
+        if (OdcStatementCallBack.ifFunctionCallExists(sql)) {
+            return false;
+        }
+        AbstractSyntaxTreeFactory factory = AbstractSyntaxTreeFactories.getAstFactory(dialectType, 0);
+        if (factory == null) {
+            return false;
+        }
+        try {
+            SqlType sqlType = factory.buildAst(sql).getParseResult().getSqlType();
+            return sqlType == SqlType.INSERT || sqlType == SqlType.UPDATE
+                    || sqlType == SqlType.DELETE || sqlType == SqlType.REPLACE;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Timeouts less than one second are rounded up, otherwise they would become 0 which means no limit
+     */
+    static int toQueryTimeoutSeconds(long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (timeoutMillis + 999) / 1000);
+    }
+
+    /**
+     * Execute the sqls in one jdbc batch within a transaction of its own, the duration of the batch is
+     * recorded as the execute stage of every sql.
+     *
+     * @param afterExecute called with the statement once the batch is executed successfully
+     * @return update counts of the sqls, {@code null} if the batch is rolled back or can not be
+     *         executed in a transaction of its own
+     */
+    static int[] executeBatch(@NonNull JdbcOperations executor, @NonNull List<SqlTuple> sqlTuples,
+            int queryTimeoutSeconds, @NonNull Consumer<Statement> afterExecute) {
+        List<String> sqls = sqlTuples.stream().map(SqlTuple::getExecutedSql).collect(Collectors.toList());
+        return executor.execute((ConnectionCallback<int[]>) con -> {
+            if (!con.getAutoCommit()) {
+                // the script has opened a transaction itself, do not commit it on its behalf
+                return null;
+            }
+            con.setAutoCommit(false);
+            try (Statement stmt = con.createStatement()) {
+                stmt.setQueryTimeout(queryTimeoutSeconds);
+                for (String sql : sqls) {
+                    stmt.addBatch(sql);
+                }
+                StopWatch stopWatch = StopWatch.createStarted();
+                int[] counts = stmt.executeBatch();
+                stopWatch.stop();
+                if (counts.length != sqls.size()
+                        || Arrays.stream(counts).anyMatch(c -> c == Statement.EXECUTE_FAILED)) {
+                    con.rollback();
+                    return null;
+                }
+                con.commit();
+                for (SqlTuple sqlTuple : sqlTuples) {
+                    TraceWatch traceWatch = sqlTuple.getSqlWatch();
+                    try (EditableTraceStage stage = traceWatch.startEditableStage(SqlExecuteStages.EXECUTE)) {
+                        stage.adapt(stopWatch);
+                    }
+                }
+                afterExecute.accept(stmt);
+                return counts;
+            } catch (SQLException e) {
+                con.rollback();
+                throw e;
+            } finally {
+                con.setAutoCommit(true);
+            }
+        });
+    }
+
+    interface Callback {
+        /**
+         * @param startIndex index of the first sql of the batch in the script
+         * @return {@code false} if the batch is not executed and has to be replayed one by one
+         */
+        boolean executeBatch(int startIndex, List<String> sqls);
+
+        /**
+         * @return {@code false} if the task should not go on
+         */
+        boolean executeStatement(int index, String sql);
+    }
+
+}
@@ -35,14 +35,12 @@ import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.io.FileUtils;
 import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.StatementCallback;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.oceanbase.odc.common.json.JsonUtils;
-import com.oceanbase.odc.common.util.CSVUtils;
 import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.datamasking.algorithm.Algorithm;
 import com.oceanbase.odc.core.datamasking.algorithm.AlgorithmEnum;
@@ -62,6 +60,7 @@ import com.oceanbase.odc.core.shared.exception.UnexpectedException;
 import com.oceanbase.odc.core.shared.exception.UnsupportedException;
 import com.oceanbase.odc.core.sql.execute.model.JdbcColumnMetaData;
 import com.oceanbase.odc.core.sql.execute.model.JdbcGeneralResult;
+import com.oceanbase.odc.core.sql.execute.model.SqlExecTime;
 import com.oceanbase.odc.core.sql.execute.model.SqlExecuteStatus;
 import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
 import com.oceanbase.odc.core.sql.parser.AbstractSyntaxTreeFactories;
@@ -89,6 +88,7 @@ import com.oceanbase.odc.service.flow.task.model.DatabaseChangeResult;
 import com.oceanbase.odc.service.flow.task.model.SizeAwareInputStream;
 import com.oceanbase.odc.service.objectstorage.cloud.CloudObjectStorageService;
 import com.oceanbase.odc.service.objectstorage.util.ObjectStorageUtils;
+import com.oceanbase.odc.service.plugin.ConnectionPluginUtil;
 import com.oceanbase.odc.service.session.OdcStatementCallBack;
 import com.oceanbase.odc.service.session.factory.DefaultConnectSessionFactory;
 import com.oceanbase.odc.service.session.initializer.ConsoleTimeoutInitializer;
@@ -129,12 +129,10 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
     private String fileRootDir;
     private String jsonFileName;
     private String jsonFilePath;
-    private File jsonFile;
+    private DatabaseChangeResultWriter resultWriter;
     private String zipFileId;
     private String zipFileRootPath;
     private String zipFileDownloadUrl;
-    private int csvFileIndex = 0;
-    private final List<CSVExecuteResult> csvFileMappers = new ArrayList<>();
     private final List<SqlExecuteResult> queryResultSetBuffer = new ArrayList<>();
     private boolean containQuery = false;
     private volatile boolean aborted = false;
@@ -179,9 +177,10 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
             fileRootDir = FileManager.generateDir(FileBucket.ASYNC);
             jsonFileName = StringUtils.uuid();
             jsonFilePath = String.format("%s/%s.json", fileRootDir, jsonFileName);
-            jsonFile = new File(jsonFilePath);
             zipFileId = StringUtils.uuid();
             zipFileRootPath = String.format("%s/%s", fileRootDir, zipFileId);
+            resultWriter = new DatabaseChangeResultWriter(new File(jsonFilePath),
+                    new File(String.format("%s.zip", zipFileRootPath)));
             zipFileDownloadUrl =
                     String.format("/api/v2/flow/flowInstances/%s/tasks/download", this.parameters.getFlowInstanceId());
         } catch (Exception exception) {
@@ -192,6 +191,19 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
     @Override
     public boolean start() throws JobException {
         try {
+            DatabaseChangeSqlBatcher batcher = new DatabaseChangeSqlBatcher(getBatchSize(),
+                    sql -> DatabaseChangeSqlBatcher.isBatchable(sql, connectionSession.getDialectType()),
+                    new DatabaseChangeSqlBatcher.Callback() {
+                        @Override
+                        public boolean executeBatch(int startIndex, List<String> sqls) {
+                            return DatabaseChangeTask.this.executeBatch(startIndex, sqls);
+                        }
+
+                        @Override
+                        public boolean executeStatement(int index, String sql) {
+                            return DatabaseChangeTask.this.executeStatement(index, sql);
+                        }
+                    });
             int index = 0;
             while (sqlIterator.hasNext()) {
                 if (canceled) {
@@ -201,58 +213,14 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
                 String sql = sqlIterator.next().getStr();
                 sqlReadBytes = sqlIterator.iteratedBytes();
                 index++;
-                log.info("Database change sql: {}", sql);
-                try {
-                    List<SqlTuple> sqlTuples = Collections.singletonList(SqlTuple.newTuple(sql));
-                    OrganizationConfigUtils configUtils = SpringContextUtil.getBean(OrganizationConfigUtils.class);
-                    configUtils.checkQueryLimitValidity(this.databaseChangeParameters);
-                    OdcStatementCallBack statementCallback = new OdcStatementCallBack(sqlTuples, connectionSession,
-                            true, this.databaseChangeParameters.getQueryLimit());
-                    statementCallback.setMaxCachedLines(0);
-                    statementCallback.setMaxCachedSize(0);
-                    statementCallback.setDbmsoutputMaxRows(0);
-                    JdbcOperations executor =
-                            connectionSession.getSyncJdbcExecutor(ConnectionSessionConstants.CONSOLE_DS_KEY);
-                    long timeoutUs = TimeUnit.MILLISECONDS.toMicros(this.databaseChangeParameters.getTimeoutMillis());
-                    if (timeoutUs < 0) {
-                        throw new IllegalArgumentException(
-                                "Timeout settings is too large, " + this.databaseChangeParameters.getTimeoutMillis());
-                    }
-                    ConnectionInitializer initializer =
-                            new ConsoleTimeoutInitializer(timeoutUs, connectionSession.getDialectType());
-                    executor.execute((ConnectionCallback<Void>) con -> {
-                        initializer.init(con);
-                        return null;
-                    });
-
-                    RetryResult result = new RetryResult();
-                    retryStatement(result, executor, statementCallback, sql);
-                    appendResultToJsonFile(queryResultSetBuffer, index == 1, !sqlIterator.hasNext());
-                    writeCsvFiles(queryResultSetBuffer);
-                    queryResultSetBuffer.clear();
-
-                    if (result.success) {
-                        successCount++;
-                    } else {
-                        failCount++;
-                        addErrorRecordsToFile(index, sql, result.track);
-                        if (TaskErrorStrategy.ABORT.equals(databaseChangeParameters.getErrorStrategy())) {
-                            aborted = true;
-                            break;
-                        }
-                    }
-                } catch (Exception e) {
-                    failCount++;
-                    log.warn("Error occurs when executing sql={} :", sql, e);
-                    // only record info of failed sql
-                    addErrorRecordsToFile(index, sql, e.getMessage());
-                    if (TaskErrorStrategy.ABORT.equals(this.databaseChangeParameters.getErrorStrategy())) {
-                        aborted = true;
-                        break;
-                    }
-                    context.getExceptionListener().onException(e);
+                if (!batcher.add(index, sql)) {
+                    break;
                 }
             }
+            if (!aborted && !canceled) {
+                batcher.flush();
+            }
+            finishJsonFile();
             writeZipFile();
             if (aborted) {
                 throw new JobException("There exists error sql, and the task is aborted");
@@ -261,6 +229,7 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
         } finally {
             tryExpireConnectionSession();
             tryCloseInputStream();
+            tryCloseResultWriter();
         }
         return true;
     }
@@ -276,6 +245,7 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
     public void close() throws Exception {
         tryExpireConnectionSession();
         tryCloseInputStream();
+        tryCloseResultWriter();
     }
 
     @Override
@@ -302,6 +272,134 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
         return taskResult;
     }
 
+    /**
+     * @return {@code false} if the task should not go on
+     */
+    private boolean executeStatement(int index, String sql) {
+        if (canceled) {
+            return false;
+        }
+        log.info("Database change sql: {}", sql);
+        try {
+            List<SqlTuple> sqlTuples = Collections.singletonList(SqlTuple.newTuple(sql));
+            OdcStatementCallBack statementCallback = new OdcStatementCallBack(sqlTuples, connectionSession,
+                    true, this.databaseChangeParameters.getQueryLimit());
+            statementCallback.setMaxCachedLines(0);
+            statementCallback.setMaxCachedSize(0);
+            statementCallback.setDbmsoutputMaxRows(0);
+            JdbcOperations executor = initConsoleSession();
+
+            RetryResult result = new RetryResult();
+            retryStatement(result, executor, statementCallback, sql);
+            appendResultToJsonFile(queryResultSetBuffer);
+            writeCsvFiles(queryResultSetBuffer);
+            queryResultSetBuffer.clear();
+
+            if (result.success) {
+                successCount++;
+            } else {
+                failCount++;
+                addErrorRecordsToFile(index, sql, result.track);
+                if (TaskErrorStrategy.ABORT.equals(databaseChangeParameters.getErrorStrategy())) {
+                    aborted = true;
+                    return false;
+                }
+            }
+        } catch (Exception e) {
+            failCount++;
+            log.warn("Error occurs when executing sql={} :", sql, e);
+            // only record info of failed sql
+            addErrorRecordsToFile(index, sql, e.getMessage());
+            if (TaskErrorStrategy.ABORT.equals(this.databaseChangeParameters.getErrorStrategy())) {
+                aborted = true;
+                return false;
+            }
+            context.getExceptionListener().onException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Execute the sqls in one jdbc batch within a transaction. If any of the sqls fails the transaction
+     * will be rolled back and the sqls will be executed one by one, so that the failed sql can be
+     * located and the error strategy and retry settings work as usual.
+     *
+     * @return {@code false} if the batch is not executed
+     */
+    private boolean executeBatch(int startIndex, List<String> sqls) {
+        List<SqlTuple> sqlTuples = sqls.stream().map(SqlTuple::newTuple).collect(Collectors.toList());
+        SqlExecTime[] executeDetails = new SqlExecTime[1];
+        int[] counts;
+        try {
+            counts = DatabaseChangeSqlBatcher.executeBatch(initConsoleSession(), sqlTuples,
+                    getQueryTimeoutSeconds(), stmt -> executeDetails[0] = getExecuteDetail(stmt));
+        } catch (Exception e) {
+            log.warn("Failed to execute sqls in batch, taskId={}, startIndex={}, reason={}",
+                    taskId, startIndex, e.getMessage());
+            counts = null;
+        }
+        if (counts == null) {
+            log.info("Database change sqls will be executed one by one, taskId={}, startIndex={}, count={}",
+                    taskId, startIndex, sqls.size());
+            return false;
+        }
+        log.info("Database change sqls are executed in batch, taskId={}, startIndex={}, count={}",
+                taskId, startIndex, sqls.size());
+        List<SqlExecuteResult> results = new ArrayList<>(sqlTuples.size());
+        for (int i = 0; i < sqlTuples.size(); i++) {
+            JdbcGeneralResult result = JdbcGeneralResult.successResult(sqlTuples.get(i));
+            result.setAffectRows(Math.max(counts[i], 0));
+            if (i == sqlTuples.size() - 1 && executeDetails[0] != null) {
+                // the trace id can only be queried for the last sql of the batch
+                result.setTraceId(executeDetails[0].getTraceId());
+                result.setTraceEmptyReason(executeDetails[0].getTraceEmptyReason());
+            }
+            results.add(new SqlExecuteResult(result));
+        }
+        appendResultToJsonFile(results);
+        writeCsvFiles(results);
+        successCount += sqls.size();
+        return true;
+    }
+
+    private SqlExecTime getExecuteDetail(java.sql.Statement statement) {
+        try {
+            return ConnectionPluginUtil.getTraceExtension(connectionSession.getDialectType())
+                    .getExecuteDetail(statement, ConnectionSessionUtil.getVersion(connectionSession));
+        } catch (Exception e) {
+            log.warn("Failed to query the execute detail of the batch, taskId={}, reason={}", taskId,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    private int getQueryTimeoutSeconds() {
+        return DatabaseChangeSqlBatcher.toQueryTimeoutSeconds(databaseChangeParameters.getTimeoutMillis());
+    }
+
+    private JdbcOperations initConsoleSession() {
+        OrganizationConfigUtils configUtils = SpringContextUtil.getBean(OrganizationConfigUtils.class);
+        configUtils.checkQueryLimitValidity(this.databaseChangeParameters);
+        JdbcOperations executor = connectionSession.getSyncJdbcExecutor(ConnectionSessionConstants.CONSOLE_DS_KEY);
+        long timeoutUs = TimeUnit.MILLISECONDS.toMicros(this.databaseChangeParameters.getTimeoutMillis());
+        if (timeoutUs < 0) {
+            throw new IllegalArgumentException(
+                    "Timeout settings is too large, " + this.databaseChangeParameters.getTimeoutMillis());
+        }
+        ConnectionInitializer initializer =
+                new ConsoleTimeoutInitializer(timeoutUs, connectionSession.getDialectType());
+        executor.execute((ConnectionCallback<Void>) con -> {
+            initializer.init(con);
+            return null;
+        });
+        return executor;
+    }
+
+    private int getBatchSize() {
+        Integer batchSize = this.databaseChangeParameters.getBatchSize();
+        return batchSize == null ? 0 : batchSize;
+    }
+
     private void retryStatement(RetryResult retryResult, JdbcOperations executor,
             StatementCallback<List<JdbcGeneralResult>> statementCallback, String sql) {
         boolean success = true;
@@ -312,8 +410,7 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
                 queryResultSetBuffer.clear();
                 List<JdbcGeneralResult> results =
                         executor.execute((StatementCallback<List<JdbcGeneralResult>>) stmt -> {
-                            stmt.setQueryTimeout(
-                                    (int) TimeUnit.MILLISECONDS.toSeconds(databaseChangeParameters.getTimeoutMillis()));
+                            stmt.setQueryTimeout(getQueryTimeoutSeconds());
                             return statementCallback.doInStatement(stmt);
                         });
                 Verify.notEmpty(results, "resultList");
@@ -372,22 +469,9 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
         return connectionSession;
     }
 
-    private void appendResultToJsonFile(List<SqlExecuteResult> results, boolean start, boolean end) {
+    private void appendResultToJsonFile(List<SqlExecuteResult> results) {
         try {
-            if (start) {
-                FileUtils.writeStringToFile(jsonFile, "[", StandardCharsets.UTF_8, true);
-            }
-            if (!results.isEmpty()) {
-                if (!start) {
-                    FileUtils.writeStringToFile(jsonFile, ",", StandardCharsets.UTF_8, true);
-                }
-                String jsonString = JsonUtils.toJson(results);
-                FileUtils.writeStringToFile(jsonFile, jsonString.substring(1, jsonString.length() - 1),
-                        StandardCharsets.UTF_8, true);
-            }
-            if (end) {
-                FileUtils.writeStringToFile(jsonFile, "]", StandardCharsets.UTF_8, true);
-            }
+            resultWriter.appendJson(results);
             log.info("Database change task result set was saved as JSON file successfully, file name={}", jsonFilePath);
         } catch (IOException e) {
             log.warn("Build JSON file failed, errorMessage={}", e.getMessage());
@@ -395,21 +479,18 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
         }
     }
 
+    private void finishJsonFile() {
+        try {
+            resultWriter.finishJson();
+        } catch (IOException e) {
+            log.warn("Build JSON file failed, errorMessage={}", e.getMessage());
+            throw new UnexpectedException("build JSON file failed");
+        }
+    }
+
     private void writeCsvFiles(List<SqlExecuteResult> results) {
         try {
-            for (SqlExecuteResult result : results) {
-                csvFileIndex++;
-                if (Objects.isNull(result.getRows()) || result.getRows().isEmpty()) {
-                    continue;
-                }
-                String csv = CSVUtils.buildCSVFormatData(result.getColumns(), result.getRows());
-                String filePath = String.format("%s/%s.csv", zipFileRootPath, csvFileIndex);
-                FileUtils.writeStringToFile(new File(filePath), csv, StandardCharsets.UTF_8, true);
-                String executeSql = result.getExecuteSql();
-                String fileName = String.format("%s.csv", csvFileIndex);
-                CSVExecuteResult csvExecuteResult = new CSVExecuteResult(csvFileIndex, executeSql, fileName);
-                csvFileMappers.add(csvExecuteResult);
-            }
+            resultWriter.appendCsv(results);
         } catch (IOException ex) {
             throw new UnexpectedException("Write csv file failed");
         }
@@ -429,15 +510,11 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
 
     private void writeZipFile() {
         try {
-            String jsonString = JsonUtils.prettyToJson(csvFileMappers);
-            FileUtils.writeStringToFile(new File(String.format("%s/csv_execute_result.json", zipFileRootPath)),
-                    jsonString, StandardCharsets.UTF_8, true);
-            OdcFileUtil.zip(String.format(zipFileRootPath), String.format("%s.zip", zipFileRootPath));
+            File tempZipFile = resultWriter.finishZip();
             log.info("Database change task result set was saved as local zip file, file name={}", zipFileId);
             // Public cloud scenario, need to upload files to OSS
             CloudObjectStorageService cloudObjectStorageService = context.getSharedStorage();
             if (Objects.nonNull(cloudObjectStorageService) && cloudObjectStorageService.supported()) {
-                File tempZipFile = new File(String.format("%s.zip", zipFileRootPath));
                 try {
                     String objectName = cloudObjectStorageService.uploadTemp(zipFileId + ".zip", tempZipFile);
                     zipFileDownloadUrl = cloudObjectStorageService.getBucketName() + "/" + objectName;
@@ -451,7 +528,6 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
                     OdcFileUtil.deleteFiles(tempZipFile);
                 }
             }
-            FileUtils.deleteDirectory(new File(zipFileRootPath));
         } catch (IOException ex) {
             throw new UnexpectedException("Build zip file failed");
         }
@@ -477,6 +553,12 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
         }
     }
 
+    private void tryCloseResultWriter() {
+        if (resultWriter != null) {
+            resultWriter.close();
+        }
+    }
+
     private void tryExpireConnectionSession() {
         if (connectionSession != null && !connectionSession.isExpired()) {
             try {
@@ -632,22 +714,6 @@ public class DatabaseChangeTask extends TaskBase<FlowTaskResult> {
         }
     }
 
-    /**
-     * Record CSVFile name with its corresponding sql
-     */
-    @Data
-    private static class CSVExecuteResult {
-        private int sequence;
-        private String sql;
-        private String fileName;
-
-        CSVExecuteResult(int sequence, String sql, String fileName) {
-            this.sequence = sequence;
-            this.sql = sql;
-            this.fileName = fileName;
-        }
-    }
-
     private static class RetryResult {
         boolean success;
         String track;
@@ -263,12 +263,8 @@ public class PreCheckTask extends TaskBase<FlowTaskResult> {
             this.affectedRowCalculator = new AffectedRowCalculator(config.getDialectType(),
                     SqlCheckUtil.getAffectedRowsRule(() -> SqlCheckUtil.getDbVersion(config, dataSource),
                             config.getDialectType(), jdbc));
-            List<CheckViolation> checkViolations = new ArrayList<>();
-            for (OffsetString sql : sqls) {
-                List<CheckViolation> violations = sqlChecker.check(Collections.singletonList(sql), checkContext);
-                fullFillRiskLevel(rules, violations);
-                checkViolations.addAll(violations);
-            }
+            List<CheckViolation> checkViolations = sqlChecker.check(sqls, checkContext);
+            fullFillRiskLevel(rules, checkViolations);
             return checkViolations;
         }
     }
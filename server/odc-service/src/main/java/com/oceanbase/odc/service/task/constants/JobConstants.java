@@ -54,6 +54,11 @@ public class JobConstants {
 
     public static final int REPORT_TASK_HEART_DELAY_SECONDS = 1;
 
+    /**
+     * executor in push mode which has not reported for this period will be pulled by odc server
+     */
+    public static final int REPORT_TASK_SILENT_THRESHOLD_SECONDS = 60;
+
     public static final String ODC_SERVER_CLASS_NAME = "com.oceanbase.odc.server.OdcServer";
 
     public static final String ODC_AGENT_CLASS_NAME = "com.oceanbase.odc.agent.OdcAgent";
@@ -48,7 +48,6 @@ import com.oceanbase.odc.service.task.config.JobConfigurationHolder;
 import com.oceanbase.odc.service.task.config.TaskFrameworkProperties;
 import com.oceanbase.odc.service.task.constants.JobConstants;
 import com.oceanbase.odc.service.task.enums.JobStatus;
-import com.oceanbase.odc.service.task.enums.TaskMonitorMode;
 import com.oceanbase.odc.service.task.enums.TaskRunMode;
 import com.oceanbase.odc.service.task.exception.JobException;
 import com.oceanbase.odc.service.task.exception.TaskRuntimeException;
@@ -285,11 +284,10 @@ public class StdJobScheduler implements JobScheduler {
                 CheckRunningJob.class, scheduler);
     }
 
+    /**
+     * in push mode, this job only pulls the result of executors which go silent
+     */
     private void initPullTaskResultJob() {
-        TaskMonitorMode monitorMode = taskFrameworkProperties.getMonitorMode();
-        if (monitorMode == TaskMonitorMode.PUSH) {
-            return;
-        }
         String key = "pullTaskResultJob";
         initCronJob(key,
                 configuration.getTaskFrameworkProperties().getPullTaskResultJobCronExpression(),
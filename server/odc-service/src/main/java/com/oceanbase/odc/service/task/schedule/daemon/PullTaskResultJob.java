@@ -25,13 +25,16 @@ import com.oceanbase.odc.metadb.task.JobEntity;
 import com.oceanbase.odc.service.task.config.JobConfiguration;
 import com.oceanbase.odc.service.task.config.JobConfigurationHolder;
 import com.oceanbase.odc.service.task.config.TaskFrameworkProperties;
+import com.oceanbase.odc.service.task.constants.JobConstants;
+import com.oceanbase.odc.service.task.enums.TaskMonitorMode;
 import com.oceanbase.odc.service.task.service.TaskFrameworkService;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * pull task result, update heartbeatTime and taskResult. <br>
- * as pull task result means the task is active, we also update heartbeatTime here.
+ * as pull task result means the task is active, we also update heartbeatTime here. <br>
+ * in push mode, only jobs whose executor has not reported for a while are pulled.
  */
 @Slf4j
 @DisallowConcurrentExecution
@@ -47,7 +50,13 @@ public class PullTaskResultJob implements Job {
         this.taskFrameworkService = configuration.getTaskFrameworkService();
 
         int singlePullResultJobRows = taskFrameworkProperties.getSinglePullResultJobRows();
-        Page<JobEntity> runningJobs = taskFrameworkService.findRunningJobs(0, singlePullResultJobRows);
+        Page<JobEntity> runningJobs;
+        if (taskFrameworkProperties.getMonitorMode() == TaskMonitorMode.PUSH) {
+            runningJobs = taskFrameworkService.findHeartTimeTimeoutJobs(
+                    JobConstants.REPORT_TASK_SILENT_THRESHOLD_SECONDS, 0, singlePullResultJobRows);
+        } else {
+            runningJobs = taskFrameworkService.findRunningJobs(0, singlePullResultJobRows);
+        }
         runningJobs.forEach(job -> taskFrameworkService.refreshResult(job.getId()));
     }
 }
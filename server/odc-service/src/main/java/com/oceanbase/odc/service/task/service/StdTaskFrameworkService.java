@@ -17,12 +17,15 @@
 package com.oceanbase.odc.service.task.service;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
@@ -579,6 +582,93 @@ public class StdTaskFrameworkService implements TaskFrameworkService {
         }
     }
 
+    @Override
+    public void handleResults(@NonNull List<TaskResult> taskResults) {
+        if (taskResults.isEmpty()) {
+            return;
+        }
+        if (taskFrameworkProperties.isEnableTaskSupervisorAgent()) {
+            taskResults.forEach(this::handleResult);
+            return;
+        }
+        List<Long> ids = taskResults.stream().filter(r -> r.getJobIdentity() != null)
+                .map(r -> r.getJobIdentity().getId()).filter(Objects::nonNull).collect(Collectors.toList());
+        Map<Long, JobEntity> id2Job = jobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(JobEntity::getId, Function.identity()));
+        List<TaskResult> progressResults = new ArrayList<>();
+        List<JobEntity> progresses = new ArrayList<>();
+        Date currentDate = JobDateUtils.getCurrentDate();
+        for (TaskResult result : taskResults) {
+            JobEntity je = result.getJobIdentity() == null ? null : id2Job.get(result.getJobIdentity().getId());
+            if (je == null || !isProgressOnly(je, result)) {
+                handleResult(result);
+                continue;
+            }
+            propagateTaskResult(je.getJobType(), result);
+            JobEntity progress = new JobEntity();
+            progress.setId(je.getId());
+            progress.setStatus(je.getStatus());
+            progress.setProgressPercentage(result.getProgress());
+            progress.setResultJson(JsonUtils.toJson(result));
+            progress.setLastReportTime(currentDate);
+            progress.setLastHeartTime(currentDate);
+            progressResults.add(result);
+            progresses.add(progress);
+        }
+        if (progresses.isEmpty()) {
+            return;
+        }
+        int[] rows = jobRepository.batchUpdateReportProgress(progresses);
+        for (int i = 0; i < rows.length; i++) {
+            JobEntity je = id2Job.get(progresses.get(i).getId());
+            if (rows[i] == 0) {
+                log.warn("Update task result failed, the job may finished or deleted already, jobId={}", je.getId());
+                continue;
+            }
+            publishEvent(progressResults.get(i), je, je.getStatus());
+        }
+        log.info("Batch update task results, count={}", progresses.size());
+    }
+
+    /**
+     * a result which neither changes the job status, the executor endpoint nor the log metadata
+     */
+    private boolean isProgressOnly(JobEntity je, TaskResult result) {
+        return je.getStatus() == JobStatus.RUNNING
+                && result.getStatus() != null
+                && !result.getStatus().isTerminated()
+                && result.getStatus() != TaskStatus.CANCELED
+                && MapUtils.isEmpty(result.getLogMetadata())
+                && StringUtils.equals(je.getExecutorEndpoint(), result.getExecutorEndpoint())
+                && jobStatusFsm.determinateJobStatus(je.getStatus(), result.getStatus()) == je.getStatus();
+    }
+
+    @Override
+    public void handleHearts(@NonNull List<HeartbeatRequest> hearts) {
+        Date currentDate = JobDateUtils.getCurrentDate();
+        List<JobEntity> heartbeats = hearts.stream()
+                .filter(h -> h.getJobIdentity() != null && h.getJobIdentity().getId() != null
+                        && StringUtils.isNotBlank(h.getExecutorEndpoint()))
+                .map(h -> {
+                    JobEntity heartbeat = new JobEntity();
+                    heartbeat.setId(h.getJobIdentity().getId());
+                    heartbeat.setExecutorEndpoint(h.getExecutorEndpoint());
+                    heartbeat.setLastHeartTime(currentDate);
+                    return heartbeat;
+                }).collect(Collectors.toList());
+        if (heartbeats.isEmpty()) {
+            return;
+        }
+        int[] rows = jobRepository.batchUpdateHeartbeatTime(heartbeats);
+        long failed = Arrays.stream(rows).filter(row -> row == 0).count();
+        if (failed > 0) {
+            log.warn("Batch update heartbeat partially failed, count={}, failedCount={}", heartbeats.size(),
+                    failed);
+        } else {
+            log.info("Batch update heartbeat success, count={}", heartbeats.size());
+        }
+    }
+
     private int updateExecutorEndpoint(Long id, String executorEndpoint, JobEntity currentJob) {
         return jobRepository.updateExecutorEndpoint(id, executorEndpoint, currentJob.getStatus());
     }
@@ -50,6 +50,17 @@ public interface TaskFrameworkService {
 
     void handleHeart(HeartbeatRequest heart);
 
+    /**
+     * handle results reported in a period, results which only carry the progress of running jobs are
+     * written in one batch, others are handled one by one by {@link #handleResult(TaskResult)}
+     */
+    void handleResults(List<TaskResult> taskResults);
+
+    /**
+     * handle heartbeats reported in a period in one batch
+     */
+    void handleHearts(List<HeartbeatRequest> hearts);
+
     JobEntity find(Long id);
 
     Page<JobEntity> findCancelingJob(int page, int size);
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.task.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.collections4.MapUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.oceanbase.odc.common.util.ExceptionUtils;
+import com.oceanbase.odc.service.task.executor.HeartbeatRequest;
+import com.oceanbase.odc.service.task.executor.TaskResult;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link TaskReportBuffer}
+ *
+ * Buffer of the results and heartbeats pushed by executors. Only the latest result and heartbeat of
+ * a job are kept, and all of them are written to metadb in batch when the buffer is flushed. A
+ * result which may finish the job is handled at once, so that executor can retry if it fails.
+ * Reports which fail to be flushed are put back unless newer ones of the same jobs have arrived.
+ *
+ * @author agent
+ * @see TaskFrameworkService#handleResults(List)
+ */
+@Slf4j
+@Component
+public class TaskReportBuffer {
+
+    private final Map<Long, TaskResult> id2Result = new ConcurrentHashMap<>();
+    private final Map<Long, HeartbeatRequest> id2Heart = new ConcurrentHashMap<>();
+    @Lazy
+    @Autowired
+    private TaskFrameworkService taskFrameworkService;
+
+    public void offerResult(@NonNull TaskResult taskResult) {
+        if (taskResult.getJobIdentity() == null || taskResult.getJobIdentity().getId() == null
+                || taskResult.getStatus() == null || taskResult.getStatus().isTerminated()
+                || MapUtils.isNotEmpty(taskResult.getLogMetadata())) {
+            taskFrameworkService.handleResult(taskResult);
+            return;
+        }
+        Long id = taskResult.getJobIdentity().getId();
+        this.id2Result.put(id, taskResult);
+        // result implies a heartbeat
+        HeartbeatRequest heart = new HeartbeatRequest();
+        heart.setJobIdentity(taskResult.getJobIdentity());
+        heart.setExecutorEndpoint(taskResult.getExecutorEndpoint());
+        this.id2Heart.put(id, heart);
+    }
+
+    public void offerHeart(@NonNull HeartbeatRequest heart) {
+        if (heart.getJobIdentity() == null || heart.getJobIdentity().getId() == null) {
+            taskFrameworkService.handleHeart(heart);
+            return;
+        }
+        this.id2Heart.put(heart.getJobIdentity().getId(), heart);
+    }
+
+    @Scheduled(fixedDelayString = "${odc.task-framework.report-flush-interval-millis:1000}")
+    public void flush() {
+        // results first, the executor endpoint may be updated by them
+        List<TaskResult> results = drain(this.id2Result);
+        if (!results.isEmpty()) {
+            try {
+                taskFrameworkService.handleResults(results);
+            } catch (Exception e) {
+                log.warn("Failed to handle task results, count={}, reason={}", results.size(),
+                        ExceptionUtils.getRootCauseReason(e));
+                results.forEach(r -> this.id2Result.putIfAbsent(r.getJobIdentity().getId(), r));
+            }
+        }
+        List<HeartbeatRequest> hearts = drain(this.id2Heart);
+        if (!hearts.isEmpty()) {
+            try {
+                taskFrameworkService.handleHearts(hearts);
+            } catch (Exception e) {
+                log.warn("Failed to handle heartbeats, count={}, reason={}", hearts.size(),
+                        ExceptionUtils.getRootCauseReason(e));
+                hearts.forEach(h -> this.id2Heart.putIfAbsent(h.getJobIdentity().getId(), h));
+            }
+        }
+    }
+
+    private <T> List<T> drain(Map<Long, T> id2Value) {
+        List<T> values = new ArrayList<>();
+        for (Long id : new ArrayList<>(id2Value.keySet())) {
+            T value = id2Value.remove(id);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.db.schema;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.oceanbase.odc.metadb.dbobject.DBColumnEntity;
+import com.oceanbase.odc.metadb.dbobject.DBColumnRepository;
+import com.oceanbase.odc.metadb.dbobject.DBObjectEntity;
+import com.oceanbase.odc.metadb.dbobject.DBObjectRepository;
+import com.oceanbase.odc.service.connection.database.model.Database;
+import com.oceanbase.tools.dbbrowser.model.DBObjectType;
+
+/**
+ * Test cases for {@link DBSchemaSearchIndex}
+ *
+ * @author agent
+ */
+public class DBSchemaSearchIndexTest {
+
+    private static final Long DATABASE_ID = 1L;
+    private DBObjectRepository dbObjectRepository;
+    private DBColumnRepository dbColumnRepository;
+    private DBSchemaSearchIndex index;
+
+    @Before
+    public void setUp() {
+        this.dbObjectRepository = Mockito.mock(DBObjectRepository.class);
+        this.dbColumnRepository = Mockito.mock(DBColumnRepository.class);
+        Mockito.when(dbObjectRepository.findByDatabaseId(DATABASE_ID)).thenReturn(Arrays.asList(
+                getObject(1L, "t_order", DBObjectType.TABLE),
+                getObject(2L, "T_ORDER_ITEM", DBObjectType.TABLE),
+                getObject(3L, "v_order", DBObjectType.VIEW),
+                getObject(4L, "t_user", DBObjectType.TABLE)));
+        Mockito.when(dbColumnRepository.findByDatabaseId(DATABASE_ID)).thenReturn(Arrays.asList(
+                getColumn(11L, "id", 1L), getColumn(12L, "order_id", 2L), getColumn(13L, "user_id", 4L)));
+        this.index = getIndex(2000000);
+        this.index.refresh(getDatabases(null).get(0));
+    }
+
+    @Test
+    public void searchObjects_keyInMiddle_matchedIgnoreCase() {
+        Map<DBObjectType, List<Long>> actual = index.searchObjects(getDatabases(null), "ORDER", null, 200);
+        Assert.assertEquals(Arrays.asList(1L, 2L), actual.get(DBObjectType.TABLE));
+        Assert.assertEquals(Collections.singletonList(3L), actual.get(DBObjectType.VIEW));
+    }
+
+    @Test
+    public void searchObjects_typeFiltered_onlyTypeReturned() {
+        Map<DBObjectType, List<Long>> actual = index.searchObjects(getDatabases(null), "order",
+                Collections.singletonList(DBObjectType.VIEW), 200);
+        Assert.assertEquals(Collections.singletonMap(DBObjectType.VIEW, Collections.singletonList(3L)), actual);
+    }
+
+    @Test
+    public void searchColumns_shortKey_scannedAndLimited() {
+        List<Long> actual = index.searchColumns(getDatabases(null), "id", 2);
+        Assert.assertEquals(Arrays.asList(11L, 13L), actual);
+    }
+
+    @Test
+    public void removeObjects_objectRemoved_columnsRemovedToo() {
+        index.removeObjects(DATABASE_ID, Collections.singletonList(4L));
+        Assert.assertFalse(index.searchObjects(getDatabases(null), "user", null, 200).containsKey(DBObjectType.TABLE));
+        Assert.assertEquals(Arrays.asList(11L, 12L), index.searchColumns(getDatabases(null), "id", 200));
+        Assert.assertEquals(5, index.getEntryCount());
+    }
+
+    @Test
+    public void addObjects_indexRefreshed_searchedWithoutReload() {
+        index.addObjects(DATABASE_ID, Collections.singletonList(getObject(5L, "p_order", DBObjectType.PROCEDURE)));
+        Map<DBObjectType, List<Long>> actual = index.searchObjects(getDatabases(null), "order", null, 200);
+        Assert.assertEquals(Collections.singletonList(5L), actual.get(DBObjectType.PROCEDURE));
+        Mockito.verify(dbObjectRepository, Mockito.times(1)).findByDatabaseId(DATABASE_ID);
+    }
+
+    @Test
+    public void addObjects_indexNotRefreshed_ignored() {
+        index.addObjects(2L, Collections.singletonList(getObject(5L, "p_order", DBObjectType.PROCEDURE)));
+        Assert.assertEquals(7, index.getEntryCount());
+    }
+
+    @Test
+    public void addObjects_indexGrowsOverMaxEntries_evicted() {
+        DBSchemaSearchIndex index = getIndex(8);
+        index.refresh(getDatabases(null).get(0));
+        Assert.assertEquals(7, index.getEntryCount());
+        index.addObjects(DATABASE_ID, Arrays.asList(getObject(5L, "p_order", DBObjectType.PROCEDURE),
+                getObject(6L, "f_order", DBObjectType.FUNCTION)));
+        Assert.assertEquals(0, index.getEntryCount());
+    }
+
+    @Test
+    public void searchObjects_notRefreshed_searchedInMetadb() {
+        DBSchemaSearchIndex index = getIndex(2000000);
+        Mockito.when(dbObjectRepository.findAll(ArgumentMatchers.<Specification<DBObjectEntity>>any(),
+                ArgumentMatchers.any(Pageable.class))).thenReturn(
+                        new PageImpl<>(Collections.singletonList(getObject(1L, "t_order", DBObjectType.TABLE))));
+        Map<DBObjectType, List<Long>> actual = index.searchObjects(getDatabases(null), "order", null, 200);
+        Assert.assertEquals(Collections.singletonMap(DBObjectType.TABLE, Collections.singletonList(1L)), actual);
+        Assert.assertEquals(0, index.getLoadCount());
+    }
+
+    @Test
+    public void searchColumns_syncedByOtherNode_searchedInMetadb() {
+        Mockito.when(dbColumnRepository.findAll(ArgumentMatchers.<Specification<DBColumnEntity>>any(),
+                ArgumentMatchers.any(Pageable.class))).thenReturn(
+                        new PageImpl<>(Collections.singletonList(getColumn(12L, "order_id", 2L))));
+        List<Long> actual = index.searchColumns(getDatabases(new Date(System.currentTimeMillis() + 60000)), "id", 200);
+        Assert.assertEquals(Collections.singletonList(12L), actual);
+        Assert.assertEquals(1, index.getLoadCount());
+    }
+
+    @Test
+    public void refresh_syncedByOtherNode_reloaded() {
+        index.refresh(getDatabases(null).get(0));
+        Assert.assertEquals(1, index.getLoadCount());
+        index.refresh(getDatabases(new Date(System.currentTimeMillis() + 60000)).get(0));
+        Mockito.verify(dbObjectRepository, Mockito.times(2)).findByDatabaseId(DATABASE_ID);
+        Assert.assertEquals(2, index.getLoadCount());
+        Assert.assertEquals(7, index.getEntryCount());
+    }
+
+    private DBSchemaSearchIndex getIndex(long maxEntries) {
+        GlobalSearchProperties properties = new GlobalSearchProperties();
+        properties.setIndexMaxEntries(maxEntries);
+        return new DBSchemaSearchIndex(dbObjectRepository, dbColumnRepository, properties);
+    }
+
+    private List<Database> getDatabases(Date syncTime) {
+        Database database = new Database();
+        database.setId(DATABASE_ID);
+        database.setObjectLastSyncTime(syncTime);
+        return Collections.singletonList(database);
+    }
+
+    private DBObjectEntity getObject(Long id, String name, DBObjectType type) {
+        DBObjectEntity entity = new DBObjectEntity();
+        entity.setId(id);
+        entity.setName(name);
+        entity.setType(type);
+        entity.setDatabaseId(DATABASE_ID);
+        return entity;
+    }
+
+    private DBColumnEntity getColumn(Long id, String name, Long objectId) {
+        DBColumnEntity entity = new DBColumnEntity();
+        entity.setId(id);
+        entity.setName(name);
+        entity.setObjectId(objectId);
+        entity.setDatabaseId(DATABASE_ID);
+        return entity;
+    }
+
+}
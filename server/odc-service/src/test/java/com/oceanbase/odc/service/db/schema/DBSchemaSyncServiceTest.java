@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.db.schema;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.ListableBeanFactory;
+
+import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.metadb.connection.DatabaseRepository;
+import com.oceanbase.odc.service.connection.database.model.Database;
+import com.oceanbase.odc.service.db.schema.model.DBObjectSyncStatus;
+import com.oceanbase.odc.service.db.schema.syncer.DBSchemaChangeDetector;
+import com.oceanbase.odc.service.db.schema.syncer.DBSchemaSyncProperties;
+import com.oceanbase.odc.service.db.schema.syncer.DBSchemaSyncer;
+import com.oceanbase.tools.dbbrowser.model.DBObjectType;
+
+/**
+ * Test cases for {@link DBSchemaSyncService}
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DBSchemaSyncServiceTest {
+
+    private static final DialectType DIALECT_TYPE = DialectType.OB_MYSQL;
+
+    @Mock
+    private ListableBeanFactory beanFactory;
+    @Mock
+    private DBSchemaSyncProperties syncProperties;
+    @Mock
+    private DBSchemaChangeDetector changeDetector;
+    @Mock
+    private DatabaseRepository databaseRepository;
+    @InjectMocks
+    private DBSchemaSyncService syncService;
+
+    private final Connection connection = Mockito.mock(Connection.class);
+    private final Database database = new Database();
+    private final Map<DBObjectType, String> fingerprints = new HashMap<>();
+    private DBSchemaSyncer tableSyncer;
+    private DBSchemaSyncer functionSyncer;
+    private DBSchemaSyncer columnSyncer;
+    /**
+     * object_last_sync_time of the database in metadb
+     */
+    private Date lastSyncTime;
+
+    @Before
+    public void setUp() {
+        this.database.setId(1L);
+        this.tableSyncer = getSyncer(DBObjectType.TABLE, 1);
+        this.functionSyncer = getSyncer(DBObjectType.FUNCTION, 2);
+        this.columnSyncer = getSyncer(DBObjectType.COLUMN, 3);
+        Map<String, DBSchemaSyncer> beans = new LinkedHashMap<>();
+        beans.put("column", this.columnSyncer);
+        beans.put("table", this.tableSyncer);
+        beans.put("function", this.functionSyncer);
+        Mockito.when(beanFactory.getBeansOfType(DBSchemaSyncer.class)).thenReturn(beans);
+        Mockito.when(syncProperties.isIncrementalSyncEnabled()).thenReturn(true);
+        Mockito.when(changeDetector.getFingerprints(connection, database, DIALECT_TYPE))
+                .thenAnswer(invocation -> new HashMap<>(this.fingerprints));
+        this.fingerprints.put(DBObjectType.TABLE, "t1");
+        this.fingerprints.put(DBObjectType.FUNCTION, "f1");
+        this.fingerprints.put(DBObjectType.COLUMN, "c1");
+        Mockito.when(databaseRepository.setObjectLastSyncTimeAndStatusById(ArgumentMatchers.eq(1L),
+                ArgumentMatchers.any(Date.class), ArgumentMatchers.any(DBObjectSyncStatus.class)))
+                .thenAnswer(invocation -> {
+                    this.lastSyncTime = invocation.getArgument(1);
+                    return 1;
+                });
+        this.syncService.init();
+    }
+
+    @Test
+    public void syncObjects_nothingChanged_allSkipped() {
+        Assert.assertTrue(syncObjects());
+        Assert.assertTrue(syncObjects());
+        verifySynced(tableSyncer, 1);
+        verifySynced(functionSyncer, 1);
+        verifySynced(columnSyncer, 1);
+    }
+
+    @Test
+    public void syncObjects_onlyFunctionChanged_onlyFunctionSynced() {
+        syncObjects();
+        fingerprints.put(DBObjectType.FUNCTION, "f2");
+        Assert.assertTrue(syncObjects());
+        verifySynced(tableSyncer, 1);
+        verifySynced(functionSyncer, 2);
+        verifySynced(columnSyncer, 1);
+    }
+
+    @Test
+    public void syncObjects_tableChanged_columnsSyncedAgain() {
+        syncObjects();
+        fingerprints.put(DBObjectType.TABLE, "t2");
+        Assert.assertTrue(syncObjects());
+        verifySynced(tableSyncer, 2);
+        verifySynced(columnSyncer, 2);
+    }
+
+    @Test
+    public void syncObjects_tableFailed_tableAndColumnsSyncedNextTime() {
+        Mockito.doThrow(new IllegalStateException("failed")).doNothing().when(tableSyncer)
+                .sync(connection, database, DIALECT_TYPE);
+        Assert.assertFalse(syncObjects());
+        Assert.assertTrue(syncObjects());
+        Assert.assertTrue(syncObjects());
+        verifySynced(tableSyncer, 2);
+        verifySynced(functionSyncer, 1);
+        verifySynced(columnSyncer, 2);
+    }
+
+    @Test
+    public void syncObjects_incrementalSyncDisabled_allSynced() {
+        Mockito.when(syncProperties.isIncrementalSyncEnabled()).thenReturn(false);
+        syncObjects();
+        syncObjects();
+        verifySynced(tableSyncer, 2);
+        verifySynced(functionSyncer, 2);
+        verifySynced(columnSyncer, 2);
+    }
+
+    @Test
+    public void syncObjects_syncedByAnotherNode_allSyncedAgain() {
+        syncObjects();
+        // another node synced the database after this node
+        lastSyncTime = new Date(lastSyncTime.getTime() + 1000);
+        Assert.assertTrue(syncObjects());
+        verifySynced(tableSyncer, 2);
+        verifySynced(functionSyncer, 2);
+        verifySynced(columnSyncer, 2);
+    }
+
+    @Test
+    public void syncObjects_tableFailed_failedStatusWritten() {
+        Mockito.doThrow(new IllegalStateException("failed")).when(tableSyncer).sync(connection, database, DIALECT_TYPE);
+        syncObjects();
+        Mockito.verify(databaseRepository).setObjectLastSyncTimeAndStatusById(1L, lastSyncTime,
+                DBObjectSyncStatus.FAILED);
+    }
+
+    @Test
+    public void getNextSyncTime_lastSyncTimeInSameSecond_afterLastSyncTime() {
+        Date lastSyncTime = new Date(System.currentTimeMillis() + 500);
+        Date syncTime = DBSchemaSyncService.getNextSyncTime(lastSyncTime);
+        Assert.assertTrue(syncTime.after(lastSyncTime));
+        Assert.assertEquals(0, syncTime.getTime() % 1000);
+    }
+
+    @Test
+    public void removeFingerprints_databaseDeleted_syncedAgain() {
+        syncObjects();
+        syncService.removeFingerprints(Collections.singletonList(database.getId()));
+        syncObjects();
+        verifySynced(tableSyncer, 2);
+        verifySynced(functionSyncer, 2);
+        verifySynced(columnSyncer, 2);
+    }
+
+    private boolean syncObjects() {
+        return syncService.syncObjects(connection, database, DIALECT_TYPE, lastSyncTime);
+    }
+
+    private void verifySynced(DBSchemaSyncer syncer, int times) {
+        Mockito.verify(syncer, Mockito.times(times)).sync(connection, database, DIALECT_TYPE);
+    }
+
+    private DBSchemaSyncer getSyncer(DBObjectType objectType, int order) {
+        DBSchemaSyncer syncer = Mockito.mock(DBSchemaSyncer.class);
+        Mockito.when(syncer.getObjectType()).thenReturn(objectType);
+        Mockito.when(syncer.getOrder()).thenReturn(order);
+        Mockito.when(syncer.supports(ArgumentMatchers.eq(DIALECT_TYPE), ArgumentMatchers.any())).thenReturn(true);
+        return syncer;
+    }
+
+}
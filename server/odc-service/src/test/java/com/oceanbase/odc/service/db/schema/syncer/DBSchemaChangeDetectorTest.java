@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.db.schema.syncer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.service.connection.database.model.Database;
+import com.oceanbase.tools.dbbrowser.model.DBObjectType;
+
+/**
+ * Test cases for {@link DBSchemaChangeDetector}
+ *
+ * @author agent
+ */
+public class DBSchemaChangeDetectorTest {
+
+    @Test
+    public void getFingerprints_mysql_everyPartRead() throws Exception {
+        Connection connection = getConnection(null);
+        Map<DBObjectType, String> fingerprints =
+                new DBSchemaChangeDetector().getFingerprints(connection, getDatabase(), DialectType.MYSQL);
+        Assert.assertEquals("10:12345", fingerprints.get(DBObjectType.TABLE));
+        Assert.assertEquals("10:12345", fingerprints.get(DBObjectType.COLUMN));
+        Assert.assertEquals("10:12345", fingerprints.get(DBObjectType.TRIGGER));
+        Assert.assertFalse(fingerprints.containsKey(DBObjectType.SEQUENCE));
+    }
+
+    @Test
+    public void getFingerprints_columnPartFailed_columnAbsent() throws Exception {
+        Connection connection = getConnection("ALL_TAB_COLUMNS");
+        Map<DBObjectType, String> fingerprints =
+                new DBSchemaChangeDetector().getFingerprints(connection, getDatabase(), DialectType.OB_ORACLE);
+        Assert.assertFalse(fingerprints.containsKey(DBObjectType.COLUMN));
+        Assert.assertEquals("10:12345", fingerprints.get(DBObjectType.SYNONYM));
+    }
+
+    @Test
+    public void getFingerprints_unsupportedDialect_empty() throws Exception {
+        Connection connection = getConnection(null);
+        Assert.assertTrue(new DBSchemaChangeDetector()
+                .getFingerprints(connection, getDatabase(), DialectType.DORIS).isEmpty());
+        Mockito.verify(connection, Mockito.never()).prepareStatement(Mockito.anyString());
+    }
+
+    private Connection getConnection(String failedTable) throws SQLException {
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(connection.prepareStatement(Mockito.anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (failedTable != null && sql.contains(failedTable)) {
+                throw new SQLException("table not exists");
+            }
+            return statement;
+        });
+        Mockito.when(statement.executeQuery()).thenReturn(resultSet);
+        Mockito.when(resultSet.next()).thenReturn(true, false, true, false, true, false, true, false);
+        Mockito.when(resultSet.getLong(1)).thenReturn(10L);
+        Mockito.when(resultSet.getString(2)).thenReturn("12345");
+        return connection;
+    }
+
+    private Database getDatabase() {
+        Database database = new Database();
+        database.setId(1L);
+        database.setName("test_db");
+        return database;
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.dlm;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.alibaba.druid.pool.DruidPooledConnection;
+import com.oceanbase.odc.service.connection.model.ConnectionConfig;
+import com.oceanbase.odc.service.dlm.model.DlmTableUnit;
+import com.oceanbase.odc.service.schedule.model.DlmTableUnitStatistic;
+import com.oceanbase.tools.migrator.common.dto.JobStatistic;
+import com.oceanbase.tools.migrator.common.enums.TaskStatus;
+import com.oceanbase.tools.migrator.core.meta.JobMeta;
+import com.oceanbase.tools.migrator.core.meta.TaskMeta;
+
+/**
+ * Test cases for {@link DLMJobStore}
+ *
+ * @author agent
+ */
+public class DLMJobStoreTest {
+
+    @Test
+    public void storeJobStatistic_concurrentTableUnits_storedToOwnUnit() throws Exception {
+        DLMJobStore jobStore = new DLMJobStore(getMetaDBConfig());
+        DlmTableUnit t1 = getTableUnit("unit_1");
+        DlmTableUnit t2 = getTableUnit("unit_2");
+        jobStore.setDlmTableUnit(t1);
+        jobStore.setDlmTableUnit(t2);
+        jobStore.storeJobStatistic(getJobStatistic("unit_1", 10L));
+        jobStore.storeJobStatistic(getJobStatistic("unit_2", 20L));
+        Assert.assertEquals(10L, (long) t1.getStatistic().getProcessedRowCount());
+        Assert.assertEquals(20L, (long) t2.getStatistic().getProcessedRowCount());
+    }
+
+    @Test
+    public void storeJobStatistic_jobIdAbsent_storedToLastUnit() throws Exception {
+        DLMJobStore jobStore = new DLMJobStore(getMetaDBConfig());
+        DlmTableUnit t1 = getTableUnit("unit_1");
+        jobStore.setDlmTableUnit(t1);
+        jobStore.storeJobStatistic(getJobStatistic(null, 10L));
+        Assert.assertEquals(10L, (long) t1.getStatistic().getProcessedRowCount());
+    }
+
+    @Test
+    public void storeTaskMeta_sameTaskStoredTwice_coalescedUntilFlush() throws Exception {
+        DruidDataSource dataSource = Mockito.mock(DruidDataSource.class);
+        DruidPooledConnection connection = Mockito.mock(DruidPooledConnection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+        Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(statement);
+        DLMJobStore jobStore = new DLMJobStore(dataSource);
+        try {
+            jobStore.storeTaskMeta(getTaskMeta(1, TaskStatus.RUNNING));
+            jobStore.storeTaskMeta(getTaskMeta(1, TaskStatus.SUCCESS));
+            jobStore.storeTaskMeta(getTaskMeta(2, TaskStatus.RUNNING));
+            Mockito.verify(statement, Mockito.never()).executeBatch();
+            jobStore.flush();
+            Mockito.verify(statement, Mockito.times(2)).addBatch();
+            Mockito.verify(statement).setObject(4, TaskStatus.SUCCESS.name());
+            Mockito.verify(statement).executeBatch();
+        } finally {
+            jobStore.destroy();
+        }
+    }
+
+    @Test
+    public void destroy_checkpointBuffered_flushedBeforeClose() throws Exception {
+        DruidDataSource dataSource = Mockito.mock(DruidDataSource.class);
+        DruidPooledConnection connection = Mockito.mock(DruidPooledConnection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+        Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(statement);
+        DLMJobStore jobStore = new DLMJobStore(dataSource);
+        jobStore.storeTaskMeta(getTaskMeta(1, TaskStatus.SUCCESS));
+        jobStore.destroy();
+        InOrder inOrder = Mockito.inOrder(statement, dataSource);
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(dataSource).close();
+    }
+
+    @Test
+    public void destroy_scheduledFlushRunning_notInterrupted() throws Exception {
+        DruidDataSource dataSource = Mockito.mock(DruidDataSource.class);
+        DruidPooledConnection connection = Mockito.mock(DruidPooledConnection.class);
+        PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(dataSource.getConnection()).thenReturn(connection);
+        Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(statement);
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean(false);
+        Mockito.when(statement.executeBatch()).thenAnswer(invocation -> {
+            flushStarted.countDown();
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return new int[0];
+        });
+        DLMJobStore jobStore = new DLMJobStore(dataSource);
+        jobStore.storeTaskMeta(getTaskMeta(1, TaskStatus.SUCCESS));
+        Assert.assertTrue(flushStarted.await(5, TimeUnit.SECONDS));
+        jobStore.destroy();
+        Assert.assertFalse(interrupted.get());
+        Mockito.verify(statement).executeBatch();
+        Mockito.verify(dataSource).close();
+    }
+
+    private TaskMeta getTaskMeta(long index, TaskStatus status) {
+        JobMeta jobMeta = new JobMeta();
+        jobMeta.setJobId("job_1");
+        TaskMeta taskMeta = new TaskMeta();
+        taskMeta.setJobMeta(jobMeta);
+        taskMeta.setGeneratorId("generator_1");
+        taskMeta.setTaskIndex(index);
+        taskMeta.setTaskStatus(status);
+        return taskMeta;
+    }
+
+    private ConnectionConfig getMetaDBConfig() {
+        ConnectionConfig config = new ConnectionConfig();
+        config.setDefaultSchema("odc_job");
+        return config;
+    }
+
+    private DlmTableUnit getTableUnit(String id) {
+        DlmTableUnit tableUnit = new DlmTableUnit();
+        tableUnit.setDlmTableUnitId(id);
+        tableUnit.setStatistic(new DlmTableUnitStatistic());
+        return tableUnit;
+    }
+
+    private JobStatistic getJobStatistic(String jobId, long rowCount) {
+        JobStatistic statistic = new JobStatistic();
+        statistic.setJobId(jobId);
+        statistic.setRowCount(rowCount);
+        statistic.setReadRowCount(rowCount);
+        return statistic;
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session;
+
+import java.sql.PreparedStatement;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.oceanbase.jdbc.OceanBaseConnection;
+import com.oceanbase.jdbc.ServerSidePreparedStatement;
+import com.oceanbase.odc.core.shared.constant.DialectType;
+
+/**
+ * Test cases for {@link ConsoleStatementCache}
+ *
+ * @author agent
+ */
+public class ConsoleStatementCacheTest {
+
+    @Test
+    public void getStatement_sameSql_preparedOnServerOnce() throws Exception {
+        OceanBaseConnection connection = getConnection();
+        ConsoleStatementCache cache = new ConsoleStatementCache(2);
+        long hitCount = ConsoleStatementCache.getHitCount();
+        PreparedStatement s1 = cache.getStatement(connection, "select 1 from dual");
+        PreparedStatement s2 = cache.getStatement(connection, "select 1 from dual");
+        Assert.assertSame(s1, s2);
+        Assert.assertTrue(ConsoleStatementCache.getHitCount() > hitCount);
+        Mockito.verify(connection).serverPrepareStatement("select 1 from dual");
+        Mockito.verify(connection, Mockito.never()).prepareStatement(Mockito.anyString());
+    }
+
+    @Test
+    public void getStatement_cacheFull_eldestClosed() throws Exception {
+        OceanBaseConnection connection = getConnection();
+        ConsoleStatementCache cache = new ConsoleStatementCache(1);
+        PreparedStatement s1 = cache.getStatement(connection, "select 1 from dual");
+        cache.getStatement(connection, "select 2 from dual");
+        Mockito.verify(s1).close();
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void getStatement_connectionChanged_preparedAgain() throws Exception {
+        OceanBaseConnection c1 = getConnection();
+        OceanBaseConnection c2 = getConnection();
+        ConsoleStatementCache cache = new ConsoleStatementCache(2);
+        PreparedStatement s1 = cache.getStatement(c1, "select 1 from dual");
+        PreparedStatement s2 = cache.getStatement(c2, "select 1 from dual");
+        Assert.assertNotSame(s1, s2);
+        Mockito.verify(s1).close();
+    }
+
+    @Test
+    public void isCacheable_query_returnTrue() {
+        Assert.assertTrue(ConsoleStatementCache.isCacheable("  SELECT * from t", DialectType.OB_MYSQL));
+        Assert.assertTrue(ConsoleStatementCache.isCacheable("with a as (select 1) select * from a",
+                DialectType.OB_MYSQL));
+        Assert.assertTrue(ConsoleStatementCache.isCacheable("select '?', `into` from t -- ?\n", DialectType.OB_MYSQL));
+        Assert.assertTrue(ConsoleStatementCache.isCacheable("select a from t # into @a", DialectType.OB_MYSQL));
+        Assert.assertTrue(ConsoleStatementCache.isCacheable("select q'[it's ?]', \"INTO\" from t /* into */",
+                DialectType.OB_ORACLE));
+        Assert.assertTrue(ConsoleStatementCache.isCacheable("select into_date, c#into from t", DialectType.OB_ORACLE));
+    }
+
+    @Test
+    public void isCacheable_dml_returnFalse() {
+        Assert.assertFalse(ConsoleStatementCache.isCacheable("update t set c = 1", DialectType.OB_MYSQL));
+        Assert.assertFalse(ConsoleStatementCache.isCacheable("set autocommit = 1", DialectType.OB_MYSQL));
+    }
+
+    @Test
+    public void isCacheable_parameterMarker_returnFalse() {
+        Assert.assertFalse(ConsoleStatementCache.isCacheable("select * from t where id = ?", DialectType.OB_MYSQL));
+        Assert.assertFalse(ConsoleStatementCache.isCacheable("select 'a\\'', ? from t", DialectType.OB_MYSQL));
+        Assert.assertFalse(ConsoleStatementCache.isCacheable("select 'C:\\', ? from dual", DialectType.OB_ORACLE));
+    }
+
+    @Test
+    public void isCacheable_selectInto_returnFalse() {
+        Assert.assertFalse(ConsoleStatementCache.isCacheable("select 1 into @a", DialectType.OB_MYSQL));
+        Assert.assertFalse(ConsoleStatementCache.isCacheable("select c1 INTO v1 from t", DialectType.OB_ORACLE));
+        Assert.assertFalse(ConsoleStatementCache.isCacheable("select a from t into outfile '/tmp/a'",
+                DialectType.OB_MYSQL));
+    }
+
+    private OceanBaseConnection getConnection() throws Exception {
+        OceanBaseConnection connection = Mockito.mock(OceanBaseConnection.class);
+        Mockito.when(connection.serverPrepareStatement(Mockito.anyString())).thenAnswer(invocation -> {
+            ServerSidePreparedStatement statement = Mockito.mock(ServerSidePreparedStatement.class);
+            Mockito.when(statement.getConnection()).thenReturn(connection);
+            return statement;
+        });
+        return connection;
+    }
+
+}
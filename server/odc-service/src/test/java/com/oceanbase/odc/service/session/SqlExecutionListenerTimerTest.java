@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.sql.execute.model.JdbcGeneralResult;
+import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
+import com.oceanbase.odc.service.session.SqlExecutionListenerTimer.Timeout;
+import com.oceanbase.odc.service.session.model.AsyncExecuteContext;
+
+/**
+ * Test cases for {@link SqlExecutionListenerTimer}
+ *
+ * @author agent
+ */
+public class SqlExecutionListenerTimerTest {
+
+    @Test
+    public void schedule_executionNotFinished_listenerFired() throws InterruptedException {
+        SqlExecutionListenerTimer timer = new SqlExecutionListenerTimer(1, 10);
+        CounterListener listener = new CounterListener(10L);
+        Timeout timeout = timer.schedule(listener, SqlTuple.newTuple("select 1 from dual"), null,
+                new CountDownLatch(1));
+        Assert.assertNotNull(timeout);
+        timeout.await();
+        Assert.assertEquals(1, listener.counter.get());
+        Assert.assertEquals(1, timer.getFiredCount());
+    }
+
+    @Test
+    public void schedule_executionFinished_listenerNotFired() throws InterruptedException {
+        SqlExecutionListenerTimer timer = new SqlExecutionListenerTimer(1, 10);
+        CounterListener listener = new CounterListener(10L);
+        CountDownLatch latch = new CountDownLatch(1);
+        latch.countDown();
+        Timeout timeout = timer.schedule(listener, SqlTuple.newTuple("select 1 from dual"), null, latch);
+        Assert.assertNotNull(timeout);
+        timeout.await();
+        Assert.assertEquals(0, listener.counter.get());
+    }
+
+    @Test
+    public void cancel_notFired_listenerNotFiredAndTimerRemoved() throws InterruptedException {
+        SqlExecutionListenerTimer timer = new SqlExecutionListenerTimer(1, 10);
+        CounterListener listener = new CounterListener(60000L);
+        Timeout timeout = timer.schedule(listener, SqlTuple.newTuple("select 1 from dual"), null,
+                new CountDownLatch(1));
+        Assert.assertEquals(1, timer.getPendingTimerCount());
+        timeout.cancel();
+        timeout.await();
+        Assert.assertEquals(0, timer.getPendingTimerCount());
+        Assert.assertEquals(0, listener.counter.get());
+    }
+
+    @Test
+    public void schedule_tooManyPendingTimers_rejected() {
+        SqlExecutionListenerTimer timer = new SqlExecutionListenerTimer(1, 1);
+        CounterListener listener = new CounterListener(60000L);
+        CountDownLatch latch = new CountDownLatch(1);
+        Assert.assertNotNull(timer.schedule(listener, SqlTuple.newTuple("select 1 from dual"), null, latch));
+        Assert.assertNull(timer.schedule(listener, SqlTuple.newTuple("select 2 from dual"), null, latch));
+        Assert.assertEquals(1, timer.getRejectedCount());
+    }
+
+    private static class CounterListener implements SqlExecutionListener {
+
+        private final AtomicInteger counter = new AtomicInteger();
+        private final Long afterMillis;
+
+        private CounterListener(Long afterMillis) {
+            this.afterMillis = afterMillis;
+        }
+
+        @Override
+        public void onExecutionStart(SqlTuple sqlTuple, AsyncExecuteContext context) {}
+
+        @Override
+        public void onExecutionEnd(SqlTuple sqlTuple, List<JdbcGeneralResult> results,
+                AsyncExecuteContext context) {}
+
+        @Override
+        public void onExecutionCancelled(SqlTuple sqlTuple, List<JdbcGeneralResult> results,
+                AsyncExecuteContext context) {}
+
+        @Override
+        public void onExecutionStartAfter(SqlTuple sqlTuple, AsyncExecuteContext context) {
+            counter.incrementAndGet();
+        }
+
+        @Override
+        public Long getOnExecutionStartAfterMillis() {
+            return afterMillis;
+        }
+    }
+
+}
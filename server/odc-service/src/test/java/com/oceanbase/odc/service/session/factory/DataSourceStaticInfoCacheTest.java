@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session.factory;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.shared.constant.ConnectType;
+import com.oceanbase.odc.service.connection.model.ConnectionConfig;
+import com.oceanbase.odc.service.session.factory.DataSourceStaticInfoCache.DataSourceStaticInfo;
+
+/**
+ * Test cases for {@link DataSourceStaticInfoCache}
+ *
+ * @author agent
+ */
+public class DataSourceStaticInfoCacheTest {
+
+    @Test
+    public void keyOf_sameInstanceDifferentUser_sameKey() {
+        ConnectionConfig c1 = getConnectionConfig("user1");
+        ConnectionConfig c2 = getConnectionConfig("user2");
+        Assert.assertEquals(DataSourceStaticInfoCache.keyOf(c1), DataSourceStaticInfoCache.keyOf(c2));
+    }
+
+    @Test
+    public void keyOf_differentTenant_differentKey() {
+        ConnectionConfig c1 = getConnectionConfig("user1");
+        ConnectionConfig c2 = getConnectionConfig("user1");
+        c2.setTenantName("another_tenant");
+        Assert.assertNotEquals(DataSourceStaticInfoCache.keyOf(c1), DataSourceStaticInfoCache.keyOf(c2));
+    }
+
+    @Test
+    public void keyOf_hostAbsent_returnNull() {
+        ConnectionConfig config = getConnectionConfig("user1");
+        config.setHost(null);
+        Assert.assertNull(DataSourceStaticInfoCache.keyOf(config));
+    }
+
+    @Test
+    public void get_infoPut_returnInfo() {
+        DataSourceStaticInfoCache cache = new DataSourceStaticInfoCache(60, 10);
+        String key = DataSourceStaticInfoCache.keyOf(getConnectionConfig("user1"));
+        DataSourceStaticInfo expect = new DataSourceStaticInfo("4.2.1.0", null, "4.2.1.0");
+        cache.put(key, expect);
+        Assert.assertEquals(expect, cache.get(key));
+    }
+
+    @Test
+    public void get_infoInvalidated_returnNull() {
+        DataSourceStaticInfoCache cache = new DataSourceStaticInfoCache(60, 10);
+        String key = DataSourceStaticInfoCache.keyOf(getConnectionConfig("user1"));
+        cache.put(key, new DataSourceStaticInfo("4.2.1.0", null, null));
+        cache.invalidate(key);
+        Assert.assertNull(cache.get(key));
+    }
+
+    private ConnectionConfig getConnectionConfig(String username) {
+        ConnectionConfig config = new ConnectionConfig();
+        config.setType(ConnectType.OB_MYSQL);
+        config.setHost("127.0.0.1");
+        config.setPort(2883);
+        config.setClusterName("cluster");
+        config.setTenantName("tenant");
+        config.setUsername(username);
+        return config;
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session.factory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.oceanbase.odc.common.util.StringUtils;
+import com.oceanbase.odc.service.session.factory.SharedDataSourceRegistry.Lease;
+
+/**
+ * Test cases for {@link SharedDataSourceRegistry}
+ *
+ * @author agent
+ */
+public class SharedDataSourceRegistryTest {
+
+    @Test
+    public void lease_sameKey_dataSourceCreatedOnce() throws Exception {
+        SharedDataSourceRegistry registry = new SharedDataSourceRegistry();
+        String key = StringUtils.uuid();
+        AtomicInteger counter = new AtomicInteger();
+        DataSource dataSource = Mockito.mock(DataSource.class);
+        try (Lease l1 = registry.lease(key, () -> {
+            counter.incrementAndGet();
+            return dataSource;
+        }, con -> {
+        }); Lease l2 = registry.lease(key, () -> {
+            counter.incrementAndGet();
+            return dataSource;
+        }, con -> {
+        })) {
+            Assert.assertEquals(1, counter.get());
+            Assert.assertEquals(2, registry.getLeaseCount(key));
+            Assert.assertSame(dataSource, l1.getTargetDataSource());
+            Assert.assertSame(dataSource, l2.getTargetDataSource());
+        }
+    }
+
+    @Test
+    public void close_lastLeaseClosed_dataSourceClosed() throws Exception {
+        SharedDataSourceRegistry registry = new SharedDataSourceRegistry();
+        String key = StringUtils.uuid();
+        CloseableDataSource dataSource = Mockito.mock(CloseableDataSource.class);
+        Lease l1 = registry.lease(key, () -> dataSource, con -> {
+        });
+        Lease l2 = registry.lease(key, () -> dataSource, con -> {
+        });
+        l1.close();
+        l1.close();
+        Mockito.verify(dataSource, Mockito.never()).close();
+        l2.close();
+        Mockito.verify(dataSource).close();
+        Assert.assertEquals(0, registry.getDataSourceCount());
+    }
+
+    @Test
+    public void getConnection_connectionClosed_resetBeforeReturned() throws Exception {
+        SharedDataSourceRegistry registry = new SharedDataSourceRegistry();
+        DataSource dataSource = Mockito.mock(DataSource.class);
+        Connection target = Mockito.mock(Connection.class);
+        Mockito.when(dataSource.getConnection()).thenReturn(target);
+        AtomicInteger counter = new AtomicInteger();
+        try (Lease lease = registry.lease(StringUtils.uuid(), () -> dataSource, con -> {
+            Assert.assertSame(target, con);
+            counter.incrementAndGet();
+        })) {
+            Connection connection = lease.getConnection();
+            connection.close();
+            connection.close();
+            Assert.assertEquals(1, counter.get());
+            Assert.assertTrue(connection.isClosed());
+            Mockito.verify(target).close();
+        }
+    }
+
+    @Test
+    public void getConnection_resetFailed_connectionStillClosed() throws Exception {
+        SharedDataSourceRegistry registry = new SharedDataSourceRegistry();
+        DataSource dataSource = Mockito.mock(DataSource.class);
+        Connection target = Mockito.mock(Connection.class);
+        Mockito.when(dataSource.getConnection()).thenReturn(target);
+        try (Lease lease = registry.lease(StringUtils.uuid(), () -> dataSource, con -> {
+            throw new SQLException("reset failed");
+        })) {
+            lease.getConnection().close();
+            Mockito.verify(target).close();
+        }
+    }
+
+    interface CloseableDataSource extends DataSource, AutoCloseable {
+        @Override
+        void close();
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.sql.execute.FutureResult;
+import com.oceanbase.odc.core.sql.execute.model.JdbcGeneralResult;
+import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
+
+/**
+ * Test cases for {@link AsyncExecuteContext}
+ *
+ * @author agent
+ */
+public class AsyncExecuteContextTest {
+
+    @Test
+    public void getMoreSqlExecutionResults_resultsAdded_returnBeforeTimeout() {
+        SqlTuple sqlTuple = SqlTuple.newTuple("select 1 from dual");
+        AsyncExecuteContext context =
+                new AsyncExecuteContext(Collections.singletonList(sqlTuple), new HashMap<>());
+        context.setFuture(new CompletableFuture<>());
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> context.addSqlExecutionResults(
+                    Collections.singletonList(JdbcGeneralResult.successResult(sqlTuple))), 100,
+                    TimeUnit.MILLISECONDS);
+            long start = System.currentTimeMillis();
+            List<JdbcGeneralResult> actual = context.getMoreSqlExecutionResults(10000);
+            Assert.assertEquals(1, actual.size());
+            Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getMoreSqlExecutionResults_noResults_returnEmptyAfterTimeout() {
+        AsyncExecuteContext context = new AsyncExecuteContext(
+                Collections.singletonList(SqlTuple.newTuple("select 1 from dual")), new HashMap<>());
+        context.setFuture(new CompletableFuture<>());
+        Assert.assertTrue(context.getMoreSqlExecutionResults(100).isEmpty());
+    }
+
+    @Test
+    public void getMoreSqlExecutionResults_finished_returnAllResults() {
+        SqlTuple sqlTuple = SqlTuple.newTuple("select 1 from dual");
+        AsyncExecuteContext context =
+                new AsyncExecuteContext(Collections.singletonList(sqlTuple), new HashMap<>());
+        context.setFuture(FutureResult.successResultList(JdbcGeneralResult.successResult(sqlTuple)));
+        context.addSqlExecutionResults(Collections.singletonList(JdbcGeneralResult.successResult(sqlTuple)));
+        Assert.assertEquals(1, context.getMoreSqlExecutionResults(10000).size());
+        Assert.assertTrue(context.getMoreSqlExecutionResults(10000).isEmpty());
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
+
+/**
+ * Test cases for {@link SqlExecuteResultRows}
+ *
+ * @author agent
+ */
+public class SqlExecuteResultRowsTest {
+
+    @Test
+    public void detachRows_fiveRowsChunkSizeTwo_threeChunksReturned() {
+        SqlExecuteResult result = getResult(5);
+        List<SqlExecuteResultRows> actual = SqlExecuteResultRows.detachRows(result, 2);
+        Assert.assertEquals(3, actual.size());
+        Assert.assertEquals(Arrays.asList(0, 2, 4), Arrays.asList(actual.get(0).getOffset(),
+                actual.get(1).getOffset(), actual.get(2).getOffset()));
+        Assert.assertEquals(1, actual.get(2).getRows().size());
+        Assert.assertFalse(actual.get(1).isLast());
+        Assert.assertTrue(actual.get(2).isLast());
+        Assert.assertEquals(result.getSqlId(), actual.get(0).getSqlId());
+        Assert.assertTrue(result.getRows().isEmpty());
+    }
+
+    @Test
+    public void detachRows_rowsEqualsToChunkSize_oneChunkReturned() {
+        List<SqlExecuteResultRows> actual = SqlExecuteResultRows.detachRows(getResult(2), 2);
+        Assert.assertEquals(1, actual.size());
+        Assert.assertTrue(actual.get(0).isLast());
+    }
+
+    @Test
+    public void detachRows_noRows_emptyReturned() {
+        Assert.assertTrue(SqlExecuteResultRows.detachRows(getResult(0), 2).isEmpty());
+    }
+
+    private SqlExecuteResult getResult(int rowCount) {
+        SqlExecuteResult result = new SqlExecuteResult();
+        result.setSqlTuple(SqlTuple.newTuple("select * from tab"));
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(Arrays.asList(i, "row" + i));
+        }
+        result.setRows(rows);
+        return result;
+    }
+
+}
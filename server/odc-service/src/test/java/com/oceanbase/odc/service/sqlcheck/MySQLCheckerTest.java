@@ -15,6 +15,8 @@
  */
 package com.oceanbase.odc.service.sqlcheck;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -27,6 +29,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 
@@ -1898,6 +1902,73 @@ public class MySQLCheckerTest {
         Assert.assertEquals(0, actualInsert.size());
     }
 
+    @Test
+    public void check_manyAlterSameTable_remoteTableLoadedOnceAndOrderKept() {
+        List<OffsetString> sqls = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            sqls.add(new OffsetString(i * 100, "alter table t1 add column c" + i + " int after id"));
+        }
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.any(RowMapper.class)))
+                .thenReturn("create table t1 (id int primary key)");
+        DefaultSqlChecker sqlChecker = new DefaultSqlChecker(DialectType.OB_MYSQL,
+                null, Collections.singletonList(new MySQLOfflineDdlExists(() -> "3.2.1", jdbcTemplate)));
+        List<CheckViolation> actual = sqlChecker.check(sqls, null);
+
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).queryForObject(Mockito.anyString(),
+                Mockito.any(RowMapper.class));
+        Assert.assertEquals(sqls.stream().map(OffsetString::getOffset).collect(Collectors.toList()),
+                actual.stream().map(CheckViolation::getOffset).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void check_remoteTableFailedToLoad_loadedAgain() {
+        List<OffsetString> sqls = Arrays.asList(new OffsetString(0, "alter table t1 add column c1 int after id"),
+                new OffsetString(100, "alter table t1 add column c2 int after id"));
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.any(RowMapper.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection is broken"))
+                .thenReturn("create table t1 (id int primary key)");
+        DefaultSqlChecker sqlChecker = new DefaultSqlChecker(DialectType.OB_MYSQL,
+                null, Collections.singletonList(new MySQLOfflineDdlExists(() -> "3.2.1", jdbcTemplate)));
+        sqlChecker.check(sqls, null);
+
+        Mockito.verify(jdbcTemplate, Mockito.times(2)).queryForObject(Mockito.anyString(),
+                Mockito.any(RowMapper.class));
+    }
+
+    @Test
+    public void check_remoteTableNotExists_loadedOnce() {
+        List<OffsetString> sqls = Arrays.asList(new OffsetString(0, "alter table t1 add column c1 int after id"),
+                new OffsetString(100, "alter table t1 add column c2 int after id"));
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.any(RowMapper.class)))
+                .thenThrow(new BadSqlGrammarException("show create table", "SHOW CREATE TABLE t1",
+                        new SQLException("Table 't1' doesn't exist", "42S02", 1146)));
+        DefaultSqlChecker sqlChecker = new DefaultSqlChecker(DialectType.OB_MYSQL,
+                null, Collections.singletonList(new MySQLOfflineDdlExists(() -> "3.2.1", jdbcTemplate)));
+        sqlChecker.check(sqls, null);
+
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).queryForObject(Mockito.anyString(),
+                Mockito.any(RowMapper.class));
+    }
+
+    @Test
+    public void check_affectedRowsRulesOnSameSql_explainedOnce() {
+        String delete = "delete from t1 where id > 10";
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.query(Mockito.anyString(), Mockito.any(RowMapper.class)))
+                .thenReturn(Collections.singletonList(100L));
+        MySQLAffectedRowsExceedLimit rule = new MySQLAffectedRowsExceedLimit(10L, DialectType.MYSQL, jdbcTemplate);
+        DefaultSqlChecker sqlChecker = new DefaultSqlChecker(DialectType.MYSQL, null,
+                Arrays.asList(rule, new Unable2JudgeAffectedRows(rule)));
+        List<CheckViolation> actual = sqlChecker.check(delete);
+
+        Mockito.verify(jdbcTemplate, Mockito.times(1)).query(Mockito.anyString(), Mockito.any(RowMapper.class));
+        Assert.assertEquals(1, actual.size());
+        Assert.assertEquals(SqlCheckRuleType.RESTRICT_SQL_AFFECTED_ROWS, actual.get(0).getType());
+    }
+
     private String joinAndAppend(String[] sqls, String delimiter) {
         return String.join(delimiter, sqls) + delimiter;
     }
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.structurecompare;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.oceanbase.odc.core.shared.constant.ConnectType;
+import com.oceanbase.odc.service.structurecompare.model.ComparisonResult;
+import com.oceanbase.odc.service.structurecompare.model.DBObjectComparisonResult;
+import com.oceanbase.odc.service.structurecompare.model.DBStructureComparisonConfig;
+import com.oceanbase.tools.dbbrowser.model.DBConstraintType;
+import com.oceanbase.tools.dbbrowser.model.DBObjectType;
+import com.oceanbase.tools.dbbrowser.model.DBTable;
+import com.oceanbase.tools.dbbrowser.model.DBTableConstraint;
+import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessor;
+
+/**
+ * Test cases for {@link DefaultDBStructureComparator}, the schemas are read from mocked
+ * {@link DBSchemaAccessor}s
+ *
+ * @author agent
+ */
+public class DefaultDBStructureComparatorTest {
+
+    private static final String SRC_SCHEMA = "src";
+    private static final String TGT_SCHEMA = "tgt";
+    private final Map<DBSchemaAccessor, DataSource> accessor2DataSource = new HashMap<>();
+    private final Map<Connection, DBSchemaAccessor> connection2Accessor = new ConcurrentHashMap<>();
+
+    @Test
+    public void compare_tablesToBeCreated_referencedTablesFirstAndInBatchOrder() throws SQLException {
+        // t5 -> t4 -> t3 -> t2 -> t1, the first batch is the slowest one
+        DBSchemaAccessor src = getAccessor(SRC_SCHEMA, getChain(SRC_SCHEMA), Arrays.asList("t1", "t2"));
+        DBSchemaAccessor tgt = getAccessor(TGT_SCHEMA, Collections.emptyMap(), null);
+        List<List<DBObjectComparisonResult>> batches = new ArrayList<>();
+
+        getComparator(3, 2).compare(getConfig(SRC_SCHEMA, src), getConfig(TGT_SCHEMA, tgt), batches::add);
+        Assert.assertEquals(Arrays.asList(Arrays.asList("t1", "t2"), Arrays.asList("t3", "t4"),
+                Collections.singletonList("t5")), getNames(batches));
+        Assert.assertTrue(batches.stream().flatMap(List::stream)
+                .allMatch(r -> r.getComparisonResult() == ComparisonResult.ONLY_IN_SOURCE));
+        Mockito.verify(src).listTableConstraints(SRC_SCHEMA);
+    }
+
+    @Test
+    public void compare_tablesToBeDropped_dependentTablesFirst() throws SQLException {
+        DBSchemaAccessor src = getAccessor(SRC_SCHEMA, Collections.emptyMap(), null);
+        DBSchemaAccessor tgt = getAccessor(TGT_SCHEMA, getChain(TGT_SCHEMA), null);
+        List<List<DBObjectComparisonResult>> batches = new ArrayList<>();
+
+        getComparator(2, 2).compare(getConfig(SRC_SCHEMA, src), getConfig(TGT_SCHEMA, tgt), batches::add);
+        Assert.assertEquals(Arrays.asList(Arrays.asList("t5", "t4"), Arrays.asList("t3", "t2"),
+                Collections.singletonList("t1")), getNames(batches));
+        Assert.assertTrue(batches.stream().flatMap(List::stream)
+                .allMatch(r -> r.getComparisonResult() == ComparisonResult.ONLY_IN_TARGET));
+    }
+
+    @Test
+    public void compare_workerFailed_exceptionThrown() {
+        Map<String, List<DBTableConstraint>> tables = getChain(SRC_SCHEMA);
+        DBSchemaAccessor src = getAccessor(SRC_SCHEMA, tables, null);
+        DBSchemaAccessor tgt = getAccessor(TGT_SCHEMA, tables, null);
+        Mockito.when(tgt.getTables(ArgumentMatchers.eq(TGT_SCHEMA), ArgumentMatchers.anyList()))
+                .thenThrow(new IllegalStateException("failed to load tables"));
+        DefaultDBStructureComparator comparator = getComparator(2, 2);
+        try {
+            comparator.compare(getConfig(SRC_SCHEMA, src), getConfig(TGT_SCHEMA, tgt));
+            Assert.fail();
+        } catch (Exception e) {
+            Assert.assertTrue(e instanceof IllegalStateException);
+            Assert.assertEquals("failed to load tables", e.getMessage());
+        }
+    }
+
+    @Test
+    public void getProgress_tablesCompared_increasedBatchByBatch() throws SQLException {
+        DBSchemaAccessor src = getAccessor(SRC_SCHEMA, getChain(SRC_SCHEMA), null);
+        DBSchemaAccessor tgt = getAccessor(TGT_SCHEMA, Collections.emptyMap(), null);
+        DefaultDBStructureComparator comparator = getComparator(2, 2);
+        List<Double> progresses = new ArrayList<>();
+
+        Assert.assertEquals(0D, comparator.getProgress(), 0);
+        comparator.compare(getConfig(SRC_SCHEMA, src), getConfig(TGT_SCHEMA, tgt),
+                results -> progresses.add(comparator.getProgress()));
+        Assert.assertEquals(Arrays.asList(0D, 40D, 80D), progresses);
+        Assert.assertEquals(100D, comparator.getProgress(), 0);
+    }
+
+    @Test
+    public void getProgress_noTable_completed() throws SQLException {
+        DBSchemaAccessor src = getAccessor(SRC_SCHEMA, Collections.emptyMap(), null);
+        DBSchemaAccessor tgt = getAccessor(TGT_SCHEMA, Collections.emptyMap(), null);
+        DefaultDBStructureComparator comparator = getComparator(2, 2);
+
+        Assert.assertTrue(comparator.compare(getConfig(SRC_SCHEMA, src), getConfig(TGT_SCHEMA, tgt)).isEmpty());
+        Assert.assertEquals(100D, comparator.getProgress(), 0);
+    }
+
+    private List<List<String>> getNames(List<List<DBObjectComparisonResult>> batches) {
+        return batches.stream().map(batch -> batch.stream().map(DBObjectComparisonResult::getDbObjectName)
+                .collect(Collectors.toList())).collect(Collectors.toList());
+    }
+
+    /**
+     * tables t1 to t5, each table references the previous one, listed in the reversed order
+     */
+    private Map<String, List<DBTableConstraint>> getChain(String schemaName) {
+        Map<String, List<DBTableConstraint>> tableName2Constraints = new LinkedHashMap<>();
+        for (int i = 5; i >= 1; i--) {
+            List<DBTableConstraint> constraints = new ArrayList<>();
+            if (i > 1) {
+                DBTableConstraint constraint = new DBTableConstraint();
+                constraint.setName("fk_t" + i);
+                constraint.setType(DBConstraintType.FOREIGN_KEY);
+                constraint.setColumnNames(Collections.singletonList("c1"));
+                constraint.setReferenceSchemaName(schemaName);
+                constraint.setReferenceTableName("t" + (i - 1));
+                constraint.setReferenceColumnNames(Collections.singletonList("c1"));
+                constraints.add(constraint);
+            }
+            tableName2Constraints.put("t" + i, constraints);
+        }
+        return tableName2Constraints;
+    }
+
+    /**
+     * @param slowBatch loading of this batch of tables is delayed
+     */
+    private DBSchemaAccessor getAccessor(String schemaName, Map<String, List<DBTableConstraint>> tables,
+            List<String> slowBatch) {
+        DBSchemaAccessor accessor = Mockito.mock(DBSchemaAccessor.class);
+        Mockito.when(accessor.showTables(schemaName)).thenReturn(new ArrayList<>(tables.keySet()));
+        Mockito.when(accessor.listTableConstraints(schemaName)).thenReturn(tables);
+        Mockito.when(accessor.getTables(ArgumentMatchers.eq(schemaName), ArgumentMatchers.anyList()))
+                .thenAnswer(invocation -> {
+                    List<String> tableNames = invocation.getArgument(1);
+                    if (tableNames.equals(slowBatch)) {
+                        Thread.sleep(200);
+                    }
+                    Map<String, DBTable> tableName2Table = new HashMap<>();
+                    tableNames.forEach(name -> tableName2Table.put(name, getTable(schemaName, name)));
+                    return tableName2Table;
+                });
+        return accessor;
+    }
+
+    private DBTable getTable(String schemaName, String name) {
+        DBTable table = new DBTable();
+        table.setSchemaName(schemaName);
+        table.setName(name);
+        table.setDDL("create table " + name + "(c1 int)");
+        table.setColumns(new ArrayList<>());
+        table.setIndexes(new ArrayList<>());
+        table.setConstraints(new ArrayList<>());
+        return table;
+    }
+
+    private DBStructureComparisonConfig getConfig(String schemaName, DBSchemaAccessor accessor) {
+        DBStructureComparisonConfig config = new DBStructureComparisonConfig();
+        config.setSchemaName(schemaName);
+        config.setConnectType(ConnectType.OB_MYSQL);
+        config.setToComparedObjectTypes(Collections.singleton(DBObjectType.TABLE));
+        config.setBlackListMap(new HashMap<>());
+        config.setDataSource(this.accessor2DataSource.computeIfAbsent(accessor, a -> {
+            Connection connection = Mockito.mock(Connection.class);
+            this.connection2Accessor.put(connection, a);
+            DataSource dataSource = Mockito.mock(DataSource.class);
+            try {
+                Mockito.when(dataSource.getConnection()).thenReturn(connection);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return dataSource;
+        }));
+        return config;
+    }
+
+    private DefaultDBStructureComparator getComparator(int parallelism, int batchSize) {
+        return new DefaultDBStructureComparator(parallelism, batchSize) {
+            @Override
+            DBSchemaAccessor getDBSchemaAccessor(ConnectType connectType, Connection connection, String dbVersion) {
+                return connection2Accessor.get(connection);
+            }
+
+            @Override
+            String getDBVersion(ConnectType connectType, DataSource dataSource) {
+                return "4.2.0";
+            }
+        };
+    }
+
+}
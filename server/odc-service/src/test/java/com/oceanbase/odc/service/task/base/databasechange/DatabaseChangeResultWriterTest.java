@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.task.base.databasechange;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.oceanbase.odc.common.json.JacksonFactory;
+import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
+import com.oceanbase.odc.service.session.model.SqlExecuteResult;
+
+/**
+ * Test cases for {@link DatabaseChangeResultWriter}
+ *
+ * @author agent
+ */
+public class DatabaseChangeResultWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void appendJson_appendTwice_jsonArrayWritten() throws Exception {
+        File jsonFile = new File(folder.getRoot(), "result.json");
+        try (DatabaseChangeResultWriter writer =
+                new DatabaseChangeResultWriter(jsonFile, new File(folder.getRoot(), "result.zip"))) {
+            writer.appendJson(Collections.singletonList(getResult("select 1", 1)));
+            writer.appendJson(Arrays.asList(getResult("select 2", 2), getResult("select 3", 3)));
+            writer.finishJson();
+        }
+        JsonNode node = JacksonFactory.jsonMapper().readTree(jsonFile);
+        Assert.assertTrue(node.isArray());
+        Assert.assertEquals(3, node.size());
+    }
+
+    @Test
+    public void finishJson_noResult_emptyArrayWritten() throws Exception {
+        File jsonFile = new File(folder.getRoot(), "result.json");
+        try (DatabaseChangeResultWriter writer =
+                new DatabaseChangeResultWriter(jsonFile, new File(folder.getRoot(), "result.zip"))) {
+            writer.appendJson(Collections.emptyList());
+            writer.finishJson();
+        }
+        Assert.assertEquals("[]", FileUtils.readFileToString(jsonFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void finishZip_resultWithoutRowsSkipped_csvEntriesWritten() throws Exception {
+        File zipFile = new File(folder.getRoot(), "result.zip");
+        try (DatabaseChangeResultWriter writer =
+                new DatabaseChangeResultWriter(new File(folder.getRoot(), "result.json"), zipFile)) {
+            writer.appendCsv(Arrays.asList(getResult("select 1", 1), getResult("update t set c = 1", 0)));
+            writer.appendCsv(Collections.singletonList(getResult("select 3", 3)));
+            Assert.assertEquals(zipFile, writer.finishZip());
+        }
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            List<String> names = new ArrayList<>();
+            zip.stream().map(ZipEntry::getName).forEach(names::add);
+            Assert.assertEquals(Arrays.asList("1.csv", "3.csv", "csv_execute_result.json"), names);
+            JsonNode mappers = JacksonFactory.jsonMapper().readTree(zip.getInputStream(zip.getEntry(
+                    "csv_execute_result.json")));
+            Assert.assertEquals("select 3", mappers.get(1).get("sql").asText());
+        }
+    }
+
+    private SqlExecuteResult getResult(String sql, int rowCount) {
+        SqlExecuteResult result = new SqlExecuteResult();
+        result.setSqlTuple(SqlTuple.newTuple(sql));
+        result.setColumns(Collections.singletonList("c1"));
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(Collections.singletonList(i));
+        }
+        result.setRows(rows);
+        return result;
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.task.base.databasechange;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.core.sql.execute.SqlExecuteStages;
+import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
+
+/**
+ * Test cases for {@link DatabaseChangeSqlBatcher}
+ *
+ * @author agent
+ */
+public class DatabaseChangeSqlBatcherTest {
+
+    private static final String INSERT = "insert into t values(1)";
+    private static final String SELECT = "select * from t";
+
+    @Test
+    public void add_mixedStatements_indexesMapped() {
+        RecordingCallback callback = new RecordingCallback(true, Integer.MAX_VALUE);
+        DatabaseChangeSqlBatcher batcher = new DatabaseChangeSqlBatcher(2, INSERT::equals, callback);
+        List<String> sqls = Arrays.asList(INSERT, INSERT, INSERT, SELECT, INSERT);
+        for (int i = 0; i < sqls.size(); i++) {
+            Assert.assertTrue(batcher.add(i + 1, sqls.get(i)));
+        }
+        Assert.assertTrue(batcher.flush());
+        Assert.assertEquals(Arrays.asList("batch:1x2", "batch:3x1", "statement:4", "batch:5x1"), callback.calls);
+    }
+
+    @Test
+    public void flush_batchNotExecuted_replayedOneByOne() {
+        RecordingCallback callback = new RecordingCallback(false, Integer.MAX_VALUE);
+        DatabaseChangeSqlBatcher batcher = new DatabaseChangeSqlBatcher(3, INSERT::equals, callback);
+        Assert.assertTrue(batcher.add(1, SELECT));
+        Assert.assertTrue(batcher.add(2, INSERT));
+        Assert.assertTrue(batcher.add(3, INSERT));
+        Assert.assertTrue(batcher.flush());
+        Assert.assertEquals(Arrays.asList("statement:1", "batch:2x2", "statement:2", "statement:3"), callback.calls);
+    }
+
+    @Test
+    public void add_replayedStatementAborted_restNotExecuted() {
+        RecordingCallback callback = new RecordingCallback(false, 2);
+        DatabaseChangeSqlBatcher batcher = new DatabaseChangeSqlBatcher(3, INSERT::equals, callback);
+        Assert.assertTrue(batcher.add(1, INSERT));
+        Assert.assertTrue(batcher.add(2, INSERT));
+        Assert.assertFalse(batcher.add(3, INSERT));
+        Assert.assertEquals(Arrays.asList("batch:1x3", "statement:1", "statement:2"), callback.calls);
+    }
+
+    @Test
+    public void add_batchSizeOne_notBatched() {
+        RecordingCallback callback = new RecordingCallback(true, Integer.MAX_VALUE);
+        DatabaseChangeSqlBatcher batcher = new DatabaseChangeSqlBatcher(1, INSERT::equals, callback);
+        Assert.assertTrue(batcher.add(1, INSERT));
+        Assert.assertTrue(batcher.flush());
+        Assert.assertEquals(Collections.singletonList("statement:1"), callback.calls);
+    }
+
+    @Test
+    public void isBatchable_differentStatements_onlyPlainDmlBatchable() {
+        Assert.assertTrue(DatabaseChangeSqlBatcher.isBatchable(INSERT, DialectType.OB_MYSQL));
+        Assert.assertTrue(DatabaseChangeSqlBatcher.isBatchable("update t set c1 = 1", DialectType.OB_MYSQL));
+        Assert.assertTrue(DatabaseChangeSqlBatcher.isBatchable("delete from t", DialectType.OB_MYSQL));
+        Assert.assertFalse(DatabaseChangeSqlBatcher.isBatchable(SELECT, DialectType.OB_MYSQL));
+        Assert.assertFalse(DatabaseChangeSqlBatcher.isBatchable("create table t(c1 int)", DialectType.OB_MYSQL));
+        Assert.assertFalse(DatabaseChangeSqlBatcher.isBatchable(
+                "insert into t values(load_file('a.txt'))", DialectType.OB_MYSQL));
+    }
+
+    @Test
+    public void toQueryTimeoutSeconds_lessThanOneSecond_roundedUp() {
+        Assert.assertEquals(1, DatabaseChangeSqlBatcher.toQueryTimeoutSeconds(1));
+        Assert.assertEquals(1, DatabaseChangeSqlBatcher.toQueryTimeoutSeconds(1000));
+        Assert.assertEquals(2, DatabaseChangeSqlBatcher.toQueryTimeoutSeconds(1001));
+        Assert.assertEquals(0, DatabaseChangeSqlBatcher.toQueryTimeoutSeconds(0));
+    }
+
+    @Test
+    public void executeBatch_allSucceed_committedAndTraced() throws SQLException {
+        Statement statement = Mockito.mock(Statement.class);
+        Mockito.when(statement.executeBatch()).thenReturn(new int[] {1, 2});
+        Connection connection = getConnection(statement, true);
+        List<SqlTuple> sqlTuples = getSqlTuples(INSERT, INSERT);
+        AtomicReference<Statement> executed = new AtomicReference<>();
+
+        int[] actual = DatabaseChangeSqlBatcher.executeBatch(getExecutor(connection), sqlTuples, 1, executed::set);
+        Assert.assertArrayEquals(new int[] {1, 2}, actual);
+        Assert.assertSame(statement, executed.get());
+        Mockito.verify(statement).setQueryTimeout(1);
+        Mockito.verify(connection).commit();
+        Mockito.verify(connection).setAutoCommit(true);
+        for (SqlTuple sqlTuple : sqlTuples) {
+            Assert.assertEquals(1, sqlTuple.getSqlWatch().getStageList().stream()
+                    .filter(stage -> SqlExecuteStages.EXECUTE.equals(stage.getMessage())).count());
+        }
+    }
+
+    @Test
+    public void executeBatch_failedInMiddle_rolledBackAndThrown() throws SQLException {
+        Statement statement = Mockito.mock(Statement.class);
+        Mockito.when(statement.executeBatch()).thenThrow(new BatchUpdateException(new int[] {1}));
+        Connection connection = getConnection(statement, true);
+        try {
+            DatabaseChangeSqlBatcher.executeBatch(getExecutor(connection), getSqlTuples(INSERT, INSERT, INSERT), 1,
+                    s -> Assert.fail());
+            Assert.fail();
+        } catch (Exception e) {
+            Assert.assertTrue(e instanceof BatchUpdateException);
+        }
+        Mockito.verify(connection).rollback();
+        Mockito.verify(connection, Mockito.never()).commit();
+        Mockito.verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    public void executeBatch_entryFailedAndDriverGoesOn_rolledBack() throws SQLException {
+        Statement statement = Mockito.mock(Statement.class);
+        Mockito.when(statement.executeBatch()).thenReturn(new int[] {1, Statement.EXECUTE_FAILED, 1});
+        Connection connection = getConnection(statement, true);
+        Assert.assertNull(DatabaseChangeSqlBatcher.executeBatch(getExecutor(connection),
+                getSqlTuples(INSERT, INSERT, INSERT), 1, s -> Assert.fail()));
+        Mockito.verify(connection).rollback();
+        Mockito.verify(connection, Mockito.never()).commit();
+    }
+
+    @Test
+    public void executeBatch_transactionOpenedByScript_notExecuted() throws SQLException {
+        Statement statement = Mockito.mock(Statement.class);
+        Connection connection = getConnection(statement, false);
+        Assert.assertNull(DatabaseChangeSqlBatcher.executeBatch(getExecutor(connection),
+                getSqlTuples(INSERT), 1, s -> Assert.fail()));
+        Mockito.verify(statement, Mockito.never()).executeBatch();
+        Mockito.verify(connection, Mockito.never()).setAutoCommit(ArgumentMatchers.anyBoolean());
+    }
+
+    private Connection getConnection(Statement statement, boolean autoCommit) throws SQLException {
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.getAutoCommit()).thenReturn(autoCommit);
+        Mockito.when(connection.createStatement()).thenReturn(statement);
+        return connection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private JdbcOperations getExecutor(Connection connection) {
+        JdbcOperations executor = Mockito.mock(JdbcOperations.class);
+        Mockito.when(executor.execute(ArgumentMatchers.any(ConnectionCallback.class))).thenAnswer(
+                invocation -> ((ConnectionCallback<Object>) invocation.getArgument(0)).doInConnection(connection));
+        return executor;
+    }
+
+    private List<SqlTuple> getSqlTuples(String... sqls) {
+        return Arrays.stream(sqls).map(SqlTuple::newTuple).collect(Collectors.toList());
+    }
+
+    private static class RecordingCallback implements DatabaseChangeSqlBatcher.Callback {
+
+        private final boolean batchExecuted;
+        private final int abortAtIndex;
+        private final List<String> calls = new ArrayList<>();
+
+        RecordingCallback(boolean batchExecuted, int abortAtIndex) {
+            this.batchExecuted = batchExecuted;
+            this.abortAtIndex = abortAtIndex;
+        }
+
+        @Override
+        public boolean executeBatch(int startIndex, List<String> sqls) {
+            this.calls.add("batch:" + startIndex + "x" + sqls.size());
+            return this.batchExecuted;
+        }
+
+        @Override
+        public boolean executeStatement(int index, String sql) {
+            this.calls.add("statement:" + index);
+            return index < this.abortAtIndex;
+        }
+    }
+
+}
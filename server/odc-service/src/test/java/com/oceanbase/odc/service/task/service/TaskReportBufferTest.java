@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.task.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.oceanbase.odc.core.shared.constant.TaskStatus;
+import com.oceanbase.odc.service.task.executor.HeartbeatRequest;
+import com.oceanbase.odc.service.task.executor.TaskResult;
+import com.oceanbase.odc.service.task.schedule.JobIdentity;
+
+/**
+ * Test cases for {@link TaskReportBuffer}
+ *
+ * @author agent
+ */
+public class TaskReportBufferTest {
+
+    private static final Long JOB_ID = 1L;
+
+    @InjectMocks
+    private TaskReportBuffer buffer;
+    @Mock
+    private TaskFrameworkService taskFrameworkService;
+    private final List<List<TaskResult>> handledResults = new ArrayList<>();
+    private AutoCloseable mocks;
+
+    @Before
+    public void setUp() {
+        this.mocks = MockitoAnnotations.openMocks(this);
+        Mockito.doAnswer(invocation -> {
+            this.handledResults.add(new ArrayList<>(invocation.getArgument(0)));
+            return null;
+        }).when(taskFrameworkService).handleResults(ArgumentMatchers.anyList());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.mocks.close();
+    }
+
+    @Test
+    public void flush_handleResultsFailed_resultsRequeued() {
+        TaskResult result = getResult(10);
+        buffer.offerResult(result);
+        Mockito.doThrow(new IllegalStateException("metadb unavailable")).doAnswer(invocation -> {
+            this.handledResults.add(new ArrayList<>(invocation.getArgument(0)));
+            return null;
+        }).when(taskFrameworkService).handleResults(ArgumentMatchers.anyList());
+        buffer.flush();
+        buffer.flush();
+        Assert.assertEquals(Collections.singletonList(Collections.singletonList(result)), this.handledResults);
+    }
+
+    @Test
+    public void flush_newerResultOfferedDuringFailure_newerResultKept() {
+        buffer.offerResult(getResult(10));
+        TaskResult newer = getResult(20);
+        Mockito.doAnswer(invocation -> {
+            buffer.offerResult(newer);
+            throw new IllegalStateException("metadb unavailable");
+        }).doAnswer(invocation -> {
+            this.handledResults.add(new ArrayList<>(invocation.getArgument(0)));
+            return null;
+        }).when(taskFrameworkService).handleResults(ArgumentMatchers.anyList());
+        buffer.flush();
+        buffer.flush();
+        Assert.assertEquals(Collections.singletonList(Collections.singletonList(newer)), this.handledResults);
+    }
+
+    @Test
+    public void flush_handleHeartsFailed_heartsRequeued() {
+        HeartbeatRequest heart = new HeartbeatRequest();
+        heart.setJobIdentity(JobIdentity.of(JOB_ID));
+        heart.setExecutorEndpoint("http://127.0.0.1:8989");
+        buffer.offerHeart(heart);
+        Mockito.doThrow(new IllegalStateException("metadb unavailable")).doNothing()
+                .when(taskFrameworkService).handleHearts(ArgumentMatchers.anyList());
+        buffer.flush();
+        buffer.flush();
+        buffer.flush();
+        Mockito.verify(taskFrameworkService, Mockito.times(2))
+                .handleHearts(Collections.singletonList(heart));
+    }
+
+    private TaskResult getResult(double progress) {
+        TaskResult result = new TaskResult();
+        result.setJobIdentity(JobIdentity.of(JOB_ID));
+        result.setStatus(TaskStatus.RUNNING);
+        result.setExecutorEndpoint("http://127.0.0.1:8989");
+        result.setProgress(progress);
+        return result;
+    }
+
+}
@@ -17,6 +17,9 @@ package com.oceanbase.odc.plugin.connect.api;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.pf4j.ExtensionPoint;
 
@@ -36,6 +39,22 @@ public interface SessionExtensionPoint extends ExtensionPoint, SessionOperations
 
     String getVariable(Connection connection, String variableName);
 
+    /**
+     * Get several variables at once, a variable is absent in the result if its value can not be got
+     *
+     * @return variable name to its value, the names are the same as the given ones
+     */
+    default Map<String, String> getVariables(Connection connection, Collection<String> variableNames) {
+        Map<String, String> variables = new HashMap<>();
+        for (String variableName : variableNames) {
+            String value = getVariable(connection, variableName);
+            if (value != null) {
+                variables.put(variableName, value);
+            }
+        }
+        return variables;
+    }
+
     String getAlterVariableStatement(String variableScope, String variableName, String variableValue);
 
     boolean setClientInfo(Connection connection, DBClientInfo clientInfo);
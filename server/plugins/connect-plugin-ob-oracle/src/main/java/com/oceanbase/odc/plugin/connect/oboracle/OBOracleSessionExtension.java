@@ -18,7 +18,12 @@ package com.oceanbase.odc.plugin.connect.oboracle;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.pf4j.Extension;
 
@@ -119,6 +124,34 @@ public class OBOracleSessionExtension implements SessionExtensionPoint {
         return null;
     }
 
+    @Override
+    public Map<String, String> getVariables(Connection connection, Collection<String> variableNames) {
+        if (variableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> lowerCaseName2Name = variableNames.stream()
+                .collect(Collectors.toMap(String::toLowerCase, name -> name, (n1, n2) -> n1));
+        String querySql = "SHOW SESSION VARIABLES WHERE VARIABLE_NAME IN ("
+                + lowerCaseName2Name.keySet().stream().map(name -> "'" + name.replace("'", "''") + "'")
+                        .collect(Collectors.joining(","))
+                + ")";
+        try {
+            return JdbcOperationsUtil.getJdbcOperations(connection).query(querySql, rs -> {
+                Map<String, String> variables = new HashMap<>();
+                while (rs.next()) {
+                    String name = lowerCaseName2Name.get(rs.getString(1).toLowerCase());
+                    if (name != null && rs.getString(2) != null) {
+                        variables.put(name, rs.getString(2));
+                    }
+                }
+                return variables;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to get variables {}, message={}", variableNames, e.getMessage());
+        }
+        return SessionExtensionPoint.super.getVariables(connection, variableNames);
+    }
+
     @Override
     public String getAlterVariableStatement(String variableScope, String variableName, String variableValue) {
         return String.format("set %s %s=%s", variableScope, variableName, variableValue);
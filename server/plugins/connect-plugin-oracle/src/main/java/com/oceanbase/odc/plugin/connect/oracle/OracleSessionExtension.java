@@ -20,6 +20,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import org.pf4j.Extension;
@@ -102,6 +105,18 @@ public class OracleSessionExtension extends OBOracleSessionExtension {
         return value;
     }
 
+    @Override
+    public Map<String, String> getVariables(Connection connection, Collection<String> variableNames) {
+        Map<String, String> variables = new HashMap<>();
+        for (String variableName : variableNames) {
+            String value = getVariable(connection, variableName);
+            if (value != null) {
+                variables.put(variableName, value);
+            }
+        }
+        return variables;
+    }
+
     @Override
     public String getAlterVariableStatement(String variableScope, String variableName, String variableValue) {
         if ("system".equals(variableScope) || "global".equals(variableScope)) {